@@ -0,0 +1,63 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import com.spiga.mission.AllocateurMissions;
+import com.spiga.mission.Mission;
+import com.spiga.mission.MissionReconnaissance;
+import com.spiga.mission.ResultatAllocation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one batch allocation by {@link AllocateurMissions} with as many
+ * missions as assets, targets spread uniformly over the zone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationBenchmark {
+
+    @Param({ "500", "5000" })
+    public int taille;
+
+    private AllocateurMissions allocateur;
+    private List<Mission> missions;
+    private List<ActifMobile> flotte;
+
+    @Setup
+    public void preparer() {
+        ZoneOperation zone = Scenarios.creerZone();
+        flotte = Scenarios.creerFlotte(zone, taille);
+        allocateur = new AllocateurMissions();
+        Random rnd = new Random(Scenarios.GRAINE + 5);
+        missions = new ArrayList<>(taille);
+        for (int j = 0; j < taille; j++) {
+            Mission mission = new MissionReconnaissance("M" + j);
+            mission.setCible(new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000, 0));
+            missions.add(mission);
+        }
+    }
+
+    @Benchmark
+    public ResultatAllocation allouer() {
+        return allocateur.allouer(missions, flotte);
+    }
+}
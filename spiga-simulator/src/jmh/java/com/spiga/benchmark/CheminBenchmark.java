@@ -0,0 +1,75 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.Point3D;
+import com.spiga.env.ModeRecherche;
+import com.spiga.env.ZoneOperation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link ZoneOperation#findPath} on the application zone.
+ * Routes: a short one in open water, a long one around both islands, and an
+ * unreachable one (a sea route ending on an island) that floods the whole
+ * water area. With {@code cache=false} the path cache is cleared before each
+ * call so the search itself is measured. {@code mode} compares A* with Jump
+ * Point Search.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheminBenchmark {
+
+    @Param({ "COURT", "LONG", "INACCESSIBLE" })
+    public String route;
+
+    @Param({ "false", "true" })
+    public boolean cache;
+
+    @Param({ "A_ETOILE", "JPS" })
+    public ModeRecherche mode;
+
+    private ZoneOperation zone;
+    private Point3D depart;
+    private Point3D arrivee;
+
+    @Setup
+    public void preparer() {
+        zone = Scenarios.creerZone();
+        switch (route) {
+            case "COURT":
+                depart = new Point3D(50, 50, 0);
+                arrivee = new Point3D(120, 90, 0);
+                break;
+            case "LONG":
+                depart = new Point3D(20, 300, 0);
+                arrivee = new Point3D(980, 700, 0);
+                break;
+            default:
+                depart = new Point3D(50, 50, 0);
+                arrivee = new Point3D(300, 300, 0);
+                break;
+        }
+    }
+
+    @Benchmark
+    public List<Point3D> findPath() {
+        if (!cache) {
+            zone.getCacheChemins().vider();
+        }
+        return zone.findPath(depart, arrivee, true, mode);
+    }
+}
@@ -0,0 +1,71 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a long sea route on a 10 000 x 10 000-cell zone with 300 islands,
+ * searched hierarchically. The path cache is cleared before each call; the
+ * cluster abstraction built by earlier calls is kept, as in a running
+ * simulation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheminHierarchiqueBenchmark {
+
+    private static final double COTE = 200000;
+
+    private ZoneOperation zone;
+    private Point3D[] departs;
+    private Point3D[] arrivees;
+    private int i;
+
+    @Setup
+    public void preparer() {
+        zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(COTE, COTE, 1000));
+        Random rnd = new Random(Scenarios.GRAINE);
+        for (int k = 0; k < 300; k++) {
+            zone.addIsland(new ZoneOperation.Island(rnd.nextDouble() * COTE, rnd.nextDouble() * COTE,
+                    1000 + rnd.nextDouble() * 6000, 1000 + rnd.nextDouble() * 8000, rnd.nextBoolean()));
+        }
+        departs = new Point3D[64];
+        arrivees = new Point3D[departs.length];
+        for (int k = 0; k < departs.length; k++) {
+            departs[k] = pointEnMer(rnd);
+            arrivees[k] = pointEnMer(rnd);
+        }
+    }
+
+    private Point3D pointEnMer(Random rnd) {
+        while (true) {
+            Point3D p = new Point3D(rnd.nextDouble() * COTE, rnd.nextDouble() * COTE, 0);
+            if (!zone.isLand(p)) {
+                return p;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Point3D> findPath() {
+        zone.getCacheChemins().vider();
+        int k = i++ & 63;
+        return zone.findPath(departs[k], arrivees[k], true);
+    }
+}
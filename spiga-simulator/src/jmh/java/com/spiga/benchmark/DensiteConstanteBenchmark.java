@@ -0,0 +1,71 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one collision-checked move for every asset of a fleet spread at
+ * constant density (one drone per 20 x 20 square), the zone growing with the
+ * fleet. With the spatial hash the time per asset stays roughly flat; divide
+ * the score by {@code taille} to compare sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DensiteConstanteBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    public int taille;
+
+    private ZoneOperation zone;
+    private List<ActifMobile> flotte;
+    private double decalage = 1;
+
+    @Setup
+    public void preparer() {
+        int cote = (int) Math.ceil(Math.sqrt(taille));
+        double espacement = 20;
+        zone = new ZoneOperation(new Point3D(0, 0, 0),
+                new Point3D(cote * espacement + 100, cote * espacement + 100, 1000));
+        flotte = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            ActifMobile drone = new DroneReconnaissance("D" + i,
+                    new Point3D(50 + (i % cote) * espacement, 50 + (i / cote) * espacement, 50));
+            flotte.add(drone);
+            zone.addCollidable(drone);
+        }
+    }
+
+    @Benchmark
+    public int deplacerFlotte() {
+        decalage = -decalage; // Back and forth, so the layout stays the same
+        int deplaces = 0;
+        for (ActifMobile actif : flotte) {
+            Point3D suivant = new Point3D(actif.getX() + decalage, actif.getY(), actif.getZ());
+            if (!zone.isCollision(suivant, actif)) {
+                actif.setPosition(suivant);
+                deplaces++;
+            }
+        }
+        return deplaces;
+    }
+}
@@ -0,0 +1,72 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one {@link ActifMobile#deplacer} step for each asset type, inside a
+ * zone holding a background fleet. The asset shuttles between two points of
+ * its terrain and is refuelled on every step so it never breaks down.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeplacerBenchmark {
+    private static final int FLOTTE_DE_FOND = 1000;
+    private static final List<String> TYPES = List.of("DroneReconnaissance", "DroneLogistique",
+            "VehiculeSurface", "VehiculeSousMarin", "VehiculeTerrestre");
+
+    @Param({ "DroneReconnaissance", "DroneLogistique", "VehiculeSurface", "VehiculeSousMarin",
+            "VehiculeTerrestre" })
+    public String type;
+
+    private ZoneOperation zone;
+    private ActifMobile actif;
+    private Point3D[] cibles;
+    private int cible;
+
+    @Setup
+    public void preparer() {
+        zone = Scenarios.creerZone();
+        Scenarios.creerFlotte(zone, FLOTTE_DE_FOND);
+        Random rnd = new Random(Scenarios.GRAINE + 2);
+        actif = Scenarios.creerActif(zone, TYPES.indexOf(type), "BENCH", rnd);
+        zone.addCollidable(actif);
+        cibles = new Point3D[] { Scenarios.cibleDePatrouille(zone, actif, rnd),
+                Scenarios.cibleDePatrouille(zone, actif, rnd) };
+        actif.setTarget(cibles[0]);
+    }
+
+    @Benchmark
+    public ActifMobile deplacer() {
+        Point3D c = cibles[cible];
+        double dx = c.getX() - actif.getX();
+        double dy = c.getY() - actif.getY();
+        if (dx * dx + dy * dy < 25) {
+            cible ^= 1;
+            c = cibles[cible];
+            actif.setTarget(c);
+        }
+        actif.setAutonomieActuelle(actif.getAutonomieMax());
+        actif.deplacer(c, zone);
+        return actif;
+    }
+}
@@ -0,0 +1,88 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifAerien;
+import com.spiga.core.ActifMobile;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import com.spiga.mission.GestionnaireEssaim;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the dispatch queries of {@link GestionnaireEssaim} on a fleet where
+ * a third of the assets are in mission: lookup by ID, best-fit autonomy and
+ * nearest available asset.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int taille;
+
+    private GestionnaireEssaim gestionnaire;
+    private Point3D[] points;
+    private double[] autonomies;
+    private String[] ids;
+    private int i;
+
+    @Setup
+    public void preparer() {
+        ZoneOperation zone = Scenarios.creerZone();
+        List<ActifMobile> flotte = Scenarios.creerFlotte(zone, taille);
+        gestionnaire = new GestionnaireEssaim();
+        Random rnd = new Random(Scenarios.GRAINE + 4);
+        for (ActifMobile actif : flotte) {
+            actif.setAutonomieActuelle(rnd.nextDouble() * actif.getAutonomieMax());
+            gestionnaire.ajouterActif(actif);
+            if (rnd.nextInt(3) == 0) {
+                actif.setEtat(EtatOperationnel.EN_MISSION);
+            }
+        }
+        points = new Point3D[1024];
+        autonomies = new double[points.length];
+        ids = new String[points.length];
+        for (int j = 0; j < points.length; j++) {
+            points[j] = new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000, 0);
+            autonomies[j] = rnd.nextDouble() * 100;
+            ids[j] = "A" + rnd.nextInt(taille);
+        }
+    }
+
+    @Benchmark
+    public ActifMobile trouverActif() {
+        return gestionnaire.trouverActif(ids[i++ & 1023]);
+    }
+
+    @Benchmark
+    public ActifMobile suggererActif() {
+        return gestionnaire.suggererActif(autonomies[i++ & 1023]);
+    }
+
+    @Benchmark
+    public ActifMobile plusProcheDisponible() {
+        return gestionnaire.plusProcheDisponible(points[i++ & 1023], ActifAerien.class);
+    }
+
+    @Benchmark
+    public List<ActifMobile> cinqPlusProches() {
+        return gestionnaire.plusProches(points[i++ & 1023], 5, null, EtatOperationnel.AU_SOL);
+    }
+}
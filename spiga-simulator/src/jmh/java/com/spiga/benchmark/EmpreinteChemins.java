@@ -0,0 +1,79 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.Point3D;
+import com.spiga.env.Trajet;
+import com.spiga.env.ZoneOperation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Manual harness printing the heap retained per waypoint by marine routes
+ * held as lists of points and as {@link Trajet}s. The routes are searched
+ * once; each layout is then built from an empty heap and measured end to end.
+ * Heap figures depend on the JVM and its collector, which is why this runs
+ * outside the test suite:
+ *
+ * <pre>
+ * mvn -Pjmh compile
+ * java -cp target/classes com.spiga.benchmark.EmpreinteChemins [routes]
+ * </pre>
+ */
+public final class EmpreinteChemins {
+
+    private EmpreinteChemins() {
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4_000;
+        ZoneOperation zone = Scenarios.creerZone();
+        zone.setLissageChemins(false); // Routes stay on grid cells
+        Random rnd = new Random(Scenarios.GRAINE);
+        List<Trajet> trajets = new ArrayList<>(n);
+        long points = 0;
+        long octetsCellules = 0;
+        for (int i = 0; i < n; i++) {
+            Trajet trajet = Trajet.de(zone.findPath(Scenarios.pointSurTerrain(zone, false, 0, rnd),
+                    Scenarios.pointSurTerrain(zone, false, 0, rnd), true));
+            trajets.add(trajet);
+            points += trajet.size();
+            octetsCellules += trajet.getTailleOctets();
+        }
+        zone.getCacheChemins().vider();
+        MemoryMXBean memoire = ManagementFactory.getMemoryMXBean();
+
+        long avant = tasUtilise(memoire);
+        List<List<Point3D>> objets = new ArrayList<>(n);
+        for (Trajet trajet : trajets) {
+            objets.add(new ArrayList<>(trajet));
+        }
+        long octetsObjets = tasUtilise(memoire) - avant;
+        Reference.reachabilityFence(objets);
+        objets = null;
+
+        avant = tasUtilise(memoire);
+        List<Trajet> coordonnees = new ArrayList<>(n);
+        for (Trajet trajet : trajets) {
+            coordonnees.add(Trajet.de(new ArrayList<>(trajet))); // Packed as coordinates, not cells
+        }
+        long octetsCoordonnees = tasUtilise(memoire) - avant;
+        Reference.reachabilityFence(coordonnees);
+
+        System.out.printf("Route footprint for %d routes, %d waypoints (%s):%n", n, points,
+                System.getProperty("java.vm.name"));
+        System.out.printf("  List<Point3D>:          %.1f bytes/waypoint%n", (double) octetsObjets / points);
+        System.out.printf("  Trajet of coordinates:  %.1f bytes/waypoint%n", (double) octetsCoordonnees / points);
+        System.out.printf("  Trajet of cells:        %.1f bytes/waypoint (array only)%n",
+                (double) octetsCellules / points);
+    }
+
+    private static long tasUtilise(MemoryMXBean memoire) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoire.getHeapMemoryUsage().getUsed();
+    }
+}
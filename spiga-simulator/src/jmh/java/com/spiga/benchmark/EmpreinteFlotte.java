@@ -0,0 +1,76 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.StockageFlotte;
+import com.spiga.env.ZoneOperation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Manual harness printing the heap retained per asset by a mixed fleet, with
+ * the hot state held by the assets and with a {@link StockageFlotte}
+ * attached. Each configuration is built from an empty heap and measured end
+ * to end: attached assets drop their own copy of the hot state, so the
+ * second figure is the assets' remaining fields plus the columns. Heap
+ * figures depend on the JVM and its collector, which is why this runs outside
+ * the test suite:
+ *
+ * <pre>
+ * mvn -Pjmh compile
+ * java -cp target/classes com.spiga.benchmark.EmpreinteFlotte [assets]
+ * </pre>
+ */
+public final class EmpreinteFlotte {
+
+    private EmpreinteFlotte() {
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        ZoneOperation zone = Scenarios.creerZone();
+        creerActifs(zone, 100); // Builds the terrain map before measuring
+        MemoryMXBean memoire = ManagementFactory.getMemoryMXBean();
+
+        long avant = tasUtilise(memoire);
+        List<ActifMobile> objets = creerActifs(zone, n);
+        long octetsObjets = tasUtilise(memoire) - avant;
+        Reference.reachabilityFence(objets);
+        objets = null;
+
+        avant = tasUtilise(memoire);
+        List<ActifMobile> flotte = creerActifs(zone, n);
+        StockageFlotte stockage = new StockageFlotte(n);
+        for (ActifMobile actif : flotte) {
+            stockage.attacher(actif);
+        }
+        long octetsAvecColonnes = tasUtilise(memoire) - avant;
+        Reference.reachabilityFence(flotte);
+        Reference.reachabilityFence(stockage);
+
+        System.out.printf("Fleet footprint for %d assets (%s):%n", n, System.getProperty("java.vm.name"));
+        System.out.printf("  assets only:          %.1f bytes/asset%n", (double) octetsObjets / n);
+        System.out.printf("  assets + columns:     %.1f bytes/asset%n", (double) octetsAvecColonnes / n);
+        System.out.printf("  of which the columns: %d bytes/asset (references counted as 8 bytes)%n",
+                StockageFlotte.getOctetsParLigne());
+    }
+
+    private static List<ActifMobile> creerActifs(ZoneOperation zone, int n) {
+        Random rnd = new Random(Scenarios.GRAINE);
+        List<ActifMobile> actifs = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            actifs.add(Scenarios.creerActif(zone, i % 5, "A" + i, rnd));
+        }
+        return actifs;
+    }
+
+    private static long tasUtilise(MemoryMXBean memoire) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoire.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,69 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of routing 1 000 boats from scattered positions to one rally point, as
+ * a group order does. With {@code champ=false} every boat searches its own
+ * route; with {@code champ=true} one flow field is built for the rally point
+ * and every boat reads its route from it. Caches are cleared before each
+ * operation so the searches are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RallyeBenchmark {
+
+    private static final int BATEAUX = 1000;
+
+    @Param({ "false", "true" })
+    public boolean champ;
+
+    private ZoneOperation zone;
+    private Point3D[] departs;
+    private final Point3D rallye = new Point3D(980, 700, 0);
+
+    @Setup
+    public void preparer() {
+        zone = Scenarios.creerZone();
+        Random random = new Random(Scenarios.GRAINE);
+        departs = new Point3D[BATEAUX];
+        for (int i = 0; i < BATEAUX;) {
+            Point3D p = new Point3D(random.nextDouble() * 1000, random.nextDouble() * 1000, 0);
+            if (!zone.isLand(p)) {
+                departs[i++] = p;
+            }
+        }
+    }
+
+    @Benchmark
+    public int routerLeGroupe() {
+        zone.getCacheChemins().vider();
+        zone.getCacheChampsFlux().vider();
+        if (champ) {
+            zone.preparerChampFlux(rallye, true);
+        }
+        int points = 0;
+        for (Point3D depart : departs) {
+            points += zone.findPath(depart, rallye, true).size();
+        }
+        return points;
+    }
+}
@@ -0,0 +1,119 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneLogistique;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSousMarin;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.core.VehiculeTerrestre;
+import com.spiga.env.ZoneOperation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible zones and fleets shared by the benchmarks.
+ * The zone is the one used by the application (1000 x 1000 with the two
+ * default islands); fleets mix every asset type and place each one on a
+ * terrain it can use.
+ */
+final class Scenarios {
+    static final long GRAINE = 42;
+
+    private Scenarios() {
+    }
+
+    /**
+     * Creates the application zone.
+     *
+     * @return A zone with the default islands.
+     */
+    static ZoneOperation creerZone() {
+        return new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+    }
+
+    /**
+     * Creates one asset of a given kind at a random valid spot.
+     *
+     * @param zone  The zone, used to pick land or water.
+     * @param type  0: recon drone, 1: logistics drone, 2: surface, 3: submarine,
+     *              4: land vehicle.
+     * @param id    The asset ID.
+     * @param rnd   Random source.
+     * @return The asset, not registered anywhere.
+     */
+    static ActifMobile creerActif(ZoneOperation zone, int type, String id, Random rnd) {
+        switch (type) {
+            case 0:
+                return new DroneReconnaissance(id, new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000,
+                        10 + rnd.nextDouble() * 900));
+            case 1:
+                return new DroneLogistique(id, new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000,
+                        10 + rnd.nextDouble() * 900));
+            case 2:
+                return new VehiculeSurface(id, pointSurTerrain(zone, false, 0, rnd));
+            case 3:
+                return new VehiculeSousMarin(id, pointSurTerrain(zone, false, -10 - rnd.nextDouble() * 900, rnd));
+            default:
+                return new VehiculeTerrestre(id, pointSurTerrain(zone, true, 0, rnd));
+        }
+    }
+
+    /**
+     * Creates a mixed fleet, registers it with the zone and gives every asset
+     * a patrol target on its own terrain.
+     *
+     * @param zone   The zone.
+     * @param taille Number of assets.
+     * @return The fleet.
+     */
+    static List<ActifMobile> creerFlotte(ZoneOperation zone, int taille) {
+        Random rnd = new Random(GRAINE);
+        List<ActifMobile> flotte = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            ActifMobile actif = creerActif(zone, i % 5, "A" + i, rnd);
+            actif.setTarget(cibleDePatrouille(zone, actif, rnd));
+            flotte.add(actif);
+            zone.addCollidable(actif);
+        }
+        return flotte;
+    }
+
+    /**
+     * Picks a new target on the asset's terrain, at the asset's altitude.
+     *
+     * @param zone  The zone.
+     * @param actif The asset.
+     * @param rnd   Random source.
+     * @return The target.
+     */
+    static Point3D cibleDePatrouille(ZoneOperation zone, ActifMobile actif, Random rnd) {
+        if (actif instanceof VehiculeTerrestre) {
+            return pointSurTerrain(zone, true, 0, rnd);
+        }
+        if (actif instanceof VehiculeSurface || actif instanceof VehiculeSousMarin) {
+            return pointSurTerrain(zone, false, actif.getZ(), rnd);
+        }
+        return new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000, actif.getZ());
+    }
+
+    /**
+     * Draws random points until one lies on the requested terrain.
+     *
+     * @param zone  The zone.
+     * @param terre True for land, false for water.
+     * @param z     Altitude of the point.
+     * @param rnd   Random source.
+     * @return The point.
+     */
+    static Point3D pointSurTerrain(ZoneOperation zone, boolean terre, double z, Random rnd) {
+        while (true) {
+            double x = rnd.nextDouble() * 1000;
+            double y = rnd.nextDouble() * 1000;
+            if (zone.isLand(x, y) == terre) {
+                return new Point3D(x, y, z);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.env.ZoneOperation;
+import com.spiga.simulation.InstantaneSimulation;
+import com.spiga.simulation.TickParallele;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a full simulation tick: every asset moves one step and a snapshot
+ * is published, as in {@code MoteurSimulation.tick()}. Assets patrol: on
+ * arrival they get a new target on their terrain, and they are refuelled when
+ * half empty, so the workload stays steady over the whole run.
+ * {@code parallelisme=0} uses every available core.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int taille;
+
+    @Param({ "1", "0" })
+    public int parallelisme;
+
+    private ZoneOperation zone;
+    private List<ActifMobile> flotte;
+    private TickParallele tick;
+    private Consumer<ActifMobile> patrouille;
+    private long numeroTick;
+
+    @Setup
+    public void preparer() {
+        zone = Scenarios.creerZone();
+        flotte = Scenarios.creerFlotte(zone, taille);
+        tick = parallelisme == 0 ? TickParallele.parDefaut() : new TickParallele(parallelisme);
+        Random rnd = new Random(Scenarios.GRAINE + 3);
+        patrouille = actif -> {
+            double dx = actif.getTarget().getX() - actif.getX();
+            double dy = actif.getTarget().getY() - actif.getY();
+            if (dx * dx + dy * dy < 25) {
+                actif.setTarget(Scenarios.cibleDePatrouille(zone, actif, rnd));
+            }
+            if (actif.getAutonomieActuelle() < actif.getAutonomieMax() / 2) {
+                actif.setAutonomieActuelle(actif.getAutonomieMax());
+            }
+        };
+    }
+
+    @TearDown
+    public void fermer() {
+        tick.fermer();
+    }
+
+    @Benchmark
+    public InstantaneSimulation tick() {
+        tick.executer(flotte, zone, ActifMobile::getTarget, patrouille);
+        numeroTick++;
+        return new InstantaneSimulation(numeroTick, System.nanoTime(), zone.getVersionGeometrie(), flotte);
+    }
+}
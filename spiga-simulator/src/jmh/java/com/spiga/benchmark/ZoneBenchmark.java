@@ -0,0 +1,66 @@
+package com.spiga.benchmark;
+
+import com.spiga.core.Point3D;
+import com.spiga.env.ZoneOperation;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the per-move zone queries, {@link ZoneOperation#isCollision} and
+ * {@link ZoneOperation#isLand}, against fleets of growing size. Query points
+ * are drawn at the altitudes the fleet uses so collision candidates are
+ * really compared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneBenchmark {
+    private static final int POINTS = 4096; // Power of two
+
+    @Param({ "100", "1000", "10000", "100000" })
+    public int taille;
+
+    private ZoneOperation zone;
+    private Point3D[] points;
+    private int suivant;
+
+    @Setup
+    public void preparer() {
+        zone = Scenarios.creerZone();
+        Scenarios.creerFlotte(zone, taille);
+        Random rnd = new Random(Scenarios.GRAINE + 1);
+        points = new Point3D[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            // Surface level: shared by boats and land vehicles
+            points[i] = new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000, 0);
+        }
+    }
+
+    private Point3D prochainPoint() {
+        return points[suivant++ & (POINTS - 1)];
+    }
+
+    @Benchmark
+    public boolean isCollision() {
+        return zone.isCollision(prochainPoint(), null);
+    }
+
+    @Benchmark
+    public boolean isLand() {
+        return zone.isLand(prochainPoint());
+    }
+}
@@ -0,0 +1,69 @@
+package com.spiga.ui;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.simulation.InstantaneSimulation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of sorting one snapshot into render batches and clusters for the
+ * default view (the whole 1000 x 1000 zone in 900 x 900 pixels), to compare
+ * against a 16 ms frame. Lives in the UI package since {@link LotsRendu} is
+ * package-private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LotsRenduBenchmark {
+
+    @Param({ "5000", "50000" })
+    public int taille;
+
+    private InstantaneSimulation instantane;
+    private double[] x;
+    private double[] y;
+    private LotsRendu lots;
+
+    @Setup
+    public void preparer() {
+        Random rnd = new Random(42);
+        List<ActifMobile> flotte = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            Point3D p = new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000, 0);
+            flotte.add(i % 2 == 0 ? new VehiculeSurface("S" + i, p) : new DroneReconnaissance("D" + i, p));
+        }
+        instantane = new InstantaneSimulation(1, 0, 0, flotte);
+        x = new double[taille];
+        y = new double[taille];
+        for (int i = 0; i < taille; i++) {
+            x[i] = instantane.getX(i);
+            y[i] = instantane.getY(i);
+        }
+        lots = new LotsRendu();
+    }
+
+    @Benchmark
+    public int trier() {
+        lots.trier(instantane, x, y, 0, 0, 0.9, 900, 900, 24);
+        return lots.getNombreAmas();
+    }
+}
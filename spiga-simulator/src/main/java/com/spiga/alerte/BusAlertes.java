@@ -0,0 +1,351 @@
+package com.spiga.alerte;
+
+import com.spiga.core.TypeAlerte;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous alert pipeline.
+ * Publishing only filters the alert and pushes an {@link EvenementAlerte}
+ * into a bounded lock-free ring; it never blocks and never does I/O. A
+ * background thread drains the ring and hands events to the subscribers.
+ * Filtering happens before anything is queued:
+ * <ul>
+ * <li>deduplication: an asset repeating the same alert type inside the
+ * type's window is dropped;</li>
+ * <li>rate limiting: beyond the configured rate, alerts are dropped;</li>
+ * <li>overflow: when the ring is full, alerts are dropped.</li>
+ * </ul>
+ * Every drop is counted.
+ */
+public class BusAlertes {
+    /** Default deduplication window for every alert type. */
+    public static final long FENETRE_PAR_DEFAUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** Default ring capacity. */
+    public static final int CAPACITE_PAR_DEFAUT = 8192;
+
+    private static final TypeAlerte[] TYPES = TypeAlerte.values();
+    private static volatile BusAlertes defaut;
+
+    private final TamponCirculaire<EvenementAlerte> tampon;
+    private final long[] fenetres; // Deduplication window per alert type, in ns
+    private final Map<String, long[]> dernieresEmissions; // Per asset, last time per alert type
+    private final Map<TypeAlerte, List<Consumer<EvenementAlerte>>> abonnesParType;
+    private final List<Consumer<EvenementAlerte>> abonnesTous;
+    private final AtomicLong prochaineAutorisation = new AtomicLong(Long.MIN_VALUE);
+    private volatile long intervalleNanos; // 0 when the rate is not limited
+    private volatile long rafaleNanos;
+    private volatile boolean enMarche;
+    private Thread consommateur;
+
+    private final LongAdder publiees = new LongAdder();
+    private final LongAdder dedupliquees = new LongAdder();
+    private final LongAdder limitees = new LongAdder();
+    private final LongAdder perdues = new LongAdder();
+    private final LongAdder distribuees = new LongAdder();
+
+    /**
+     * Constructor for BusAlertes. The consumer thread is not started.
+     *
+     * @param capacite Ring capacity, rounded up to a power of two.
+     */
+    public BusAlertes(int capacite) {
+        this.tampon = new TamponCirculaire<>(capacite);
+        this.fenetres = new long[TYPES.length];
+        Arrays.fill(fenetres, FENETRE_PAR_DEFAUT_NANOS);
+        this.dernieresEmissions = new ConcurrentHashMap<>();
+        this.abonnesParType = new EnumMap<>(TypeAlerte.class);
+        for (TypeAlerte type : TYPES) {
+            abonnesParType.put(type, new CopyOnWriteArrayList<>());
+        }
+        this.abonnesTous = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Gets the bus used by assets that belong to no simulation engine.
+     * Created on first use with a console subscriber and a running consumer
+     * thread.
+     *
+     * @return The shared bus.
+     */
+    public static BusAlertes getDefaut() {
+        BusAlertes bus = defaut;
+        if (bus == null) {
+            synchronized (BusAlertes.class) {
+                bus = defaut;
+                if (bus == null) {
+                    bus = new BusAlertes(CAPACITE_PAR_DEFAUT);
+                    bus.abonner(e -> System.out.println(e.formater()));
+                    bus.demarrer();
+                    defaut = bus;
+                }
+            }
+        }
+        return bus;
+    }
+
+    /**
+     * Sets the deduplication window of an alert type.
+     *
+     * @param type    The alert type.
+     * @param fenetre Window length, 0 to forward every alert.
+     * @param unite   Unit of the window.
+     */
+    public void setFenetreDeduplication(TypeAlerte type, long fenetre, TimeUnit unite) {
+        if (fenetre < 0) {
+            throw new IllegalArgumentException("Window must be positive or zero: " + fenetre);
+        }
+        fenetres[type.ordinal()] = unite.toNanos(fenetre);
+    }
+
+    /**
+     * Limits the number of alerts queued per second, all assets together.
+     *
+     * @param alertesParSeconde Sustained rate, 0 to disable the limit.
+     * @param rafale            Alerts accepted at once after a quiet period.
+     */
+    public void setDebitMax(double alertesParSeconde, int rafale) {
+        if (alertesParSeconde < 0 || Double.isNaN(alertesParSeconde) || rafale < 1) {
+            throw new IllegalArgumentException("Invalid rate " + alertesParSeconde + " / burst " + rafale);
+        }
+        long intervalle = alertesParSeconde == 0 ? 0 : Math.max(1, Math.round(1e9 / alertesParSeconde));
+        this.rafaleNanos = intervalle * (rafale - 1);
+        this.intervalleNanos = intervalle;
+    }
+
+    /**
+     * Registers a subscriber for one alert type.
+     *
+     * @param type   The alert type.
+     * @param abonne Called on the consumer thread for each alert of that type.
+     */
+    public void abonner(TypeAlerte type, Consumer<EvenementAlerte> abonne) {
+        abonnesParType.get(type).add(abonne);
+    }
+
+    /**
+     * Registers a subscriber for every alert type.
+     *
+     * @param abonne Called on the consumer thread for each alert.
+     */
+    public void abonner(Consumer<EvenementAlerte> abonne) {
+        abonnesTous.add(abonne);
+    }
+
+    /**
+     * Unregisters a subscriber from every alert type.
+     *
+     * @param abonne The subscriber to remove.
+     */
+    public void desabonner(Consumer<EvenementAlerte> abonne) {
+        abonnesTous.remove(abonne);
+        for (List<Consumer<EvenementAlerte>> abonnes : abonnesParType.values()) {
+            abonnes.remove(abonne);
+        }
+    }
+
+    /**
+     * Publishes an alert raised outside any simulation tick, stamped with
+     * tick 0. Never blocks; safe to call from any thread.
+     *
+     * @param idActif   ID of the asset.
+     * @param categorie Kind of asset shown in messages, or null.
+     * @param type      The alert type.
+     * @param x         X coordinate of the asset.
+     * @param y         Y coordinate of the asset.
+     * @param z         Z coordinate of the asset.
+     * @return True if the alert was queued, false if it was filtered out or
+     *         the ring was full.
+     */
+    public boolean publier(String idActif, String categorie, TypeAlerte type, double x, double y, double z) {
+        return publier(idActif, categorie, type, 0, x, y, z);
+    }
+
+    /**
+     * Publishes an alert. Never blocks; safe to call from any thread.
+     *
+     * @param idActif    ID of the asset.
+     * @param categorie  Kind of asset shown in messages, or null.
+     * @param type       The alert type.
+     * @param numeroTick Simulation tick at which the alert was raised.
+     * @param x          X coordinate of the asset.
+     * @param y          Y coordinate of the asset.
+     * @param z          Z coordinate of the asset.
+     * @return True if the alert was queued, false if it was filtered out or
+     *         the ring was full.
+     */
+    public boolean publier(String idActif, String categorie, TypeAlerte type, long numeroTick,
+            double x, double y, double z) {
+        long maintenant = System.nanoTime();
+        if (estDoublon(idActif, type, maintenant)) {
+            dedupliquees.increment();
+            return false;
+        }
+        if (!autoriser(maintenant)) {
+            limitees.increment();
+            return false;
+        }
+        if (!tampon.offer(new EvenementAlerte(idActif, categorie, type, numeroTick, maintenant, x, y, z))) {
+            perdues.increment();
+            return false;
+        }
+        publiees.increment();
+        return true;
+    }
+
+    /**
+     * Forgets the deduplication state of an asset, e.g. when it leaves the
+     * fleet.
+     *
+     * @param idActif ID of the asset.
+     */
+    public void oublier(String idActif) {
+        dernieresEmissions.remove(idActif);
+    }
+
+    /**
+     * Delivers every queued alert on the calling thread.
+     *
+     * @return The number of delivered alerts.
+     */
+    public int drainer() {
+        int n = 0;
+        EvenementAlerte evenement;
+        while ((evenement = tampon.poll()) != null) {
+            distribuer(evenement, abonnesParType.get(evenement.getType()));
+            distribuer(evenement, abonnesTous);
+            distribuees.increment();
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Starts the background consumer thread.
+     */
+    public synchronized void demarrer() {
+        if (enMarche) {
+            return;
+        }
+        enMarche = true;
+        consommateur = new Thread(this::boucle, "spiga-alertes");
+        consommateur.setDaemon(true);
+        consommateur.start();
+    }
+
+    /**
+     * Stops the consumer thread after it delivered the queued alerts.
+     */
+    public synchronized void arreter() {
+        enMarche = false;
+        if (consommateur != null) {
+            LockSupport.unpark(consommateur);
+            try {
+                consommateur.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consommateur = null;
+        }
+        drainer();
+    }
+
+    public boolean isEnMarche() {
+        return enMarche;
+    }
+
+    public long getPubliees() {
+        return publiees.sum();
+    }
+
+    public long getDedupliquees() {
+        return dedupliquees.sum();
+    }
+
+    public long getLimitees() {
+        return limitees.sum();
+    }
+
+    public long getPerdues() {
+        return perdues.sum();
+    }
+
+    public long getDistribuees() {
+        return distribuees.sum();
+    }
+
+    private void boucle() {
+        while (enMarche) {
+            if (drainer() == 0) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    /**
+     * Checks the deduplication window and records the emission. Concurrent
+     * alerts from the same asset may both pass; assets normally raise alerts
+     * from a single thread.
+     */
+    private boolean estDoublon(String idActif, TypeAlerte type, long maintenant) {
+        long fenetre = fenetres[type.ordinal()];
+        if (fenetre == 0) {
+            return false;
+        }
+        long[] dernieres = dernieresEmissions.get(idActif);
+        if (dernieres == null) {
+            dernieres = new long[TYPES.length];
+            Arrays.fill(dernieres, Long.MIN_VALUE);
+            long[] existantes = dernieresEmissions.putIfAbsent(idActif, dernieres);
+            if (existantes != null) {
+                dernieres = existantes;
+            }
+        }
+        long derniere = dernieres[type.ordinal()];
+        if (derniere != Long.MIN_VALUE && maintenant - derniere < fenetre) {
+            return true;
+        }
+        dernieres[type.ordinal()] = maintenant;
+        return false;
+    }
+
+    /**
+     * Token bucket expressed as the earliest time the next alert is allowed
+     * (generic cell rate algorithm), updated with a compare-and-set.
+     */
+    private boolean autoriser(long maintenant) {
+        long intervalle = intervalleNanos;
+        if (intervalle == 0) {
+            return true;
+        }
+        while (true) {
+            long prevue = prochaineAutorisation.get();
+            long base = prevue == Long.MIN_VALUE ? maintenant : Math.max(prevue, maintenant);
+            if (base - maintenant > rafaleNanos) {
+                return false;
+            }
+            if (prochaineAutorisation.compareAndSet(prevue, base + intervalle)) {
+                return true;
+            }
+        }
+    }
+
+    private static void distribuer(EvenementAlerte evenement, List<Consumer<EvenementAlerte>> abonnes) {
+        for (Consumer<EvenementAlerte> abonne : abonnes) {
+            try {
+                abonne.accept(evenement);
+            } catch (Exception e) {
+                System.err.println("Error in alert subscriber: " + e.getMessage());
+            }
+        }
+    }
+}
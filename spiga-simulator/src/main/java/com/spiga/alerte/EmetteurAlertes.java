@@ -0,0 +1,59 @@
+package com.spiga.alerte;
+
+import com.spiga.core.TypeAlerte;
+
+/**
+ * Publishes the alerts of one simulation on a {@link BusAlertes}, stamped with
+ * the tick that simulation is computing. The tick lives here rather than on
+ * the bus, so several engines can share a bus without overwriting each
+ * other's stamps.
+ */
+public class EmetteurAlertes {
+    private final BusAlertes bus;
+    private volatile long numeroTick;
+
+    /**
+     * Constructor for EmetteurAlertes.
+     *
+     * @param bus The bus receiving the alerts.
+     */
+    public EmetteurAlertes(BusAlertes bus) {
+        if (bus == null) {
+            throw new IllegalArgumentException("Bus cannot be null");
+        }
+        this.bus = bus;
+    }
+
+    public BusAlertes getBus() {
+        return bus;
+    }
+
+    public long getNumeroTick() {
+        return numeroTick;
+    }
+
+    /**
+     * Sets the tick stamped on the next alerts. Called by the simulation
+     * engine at each tick.
+     *
+     * @param numeroTick The tick being computed.
+     */
+    public void setNumeroTick(long numeroTick) {
+        this.numeroTick = numeroTick;
+    }
+
+    /**
+     * Publishes an alert stamped with the current tick. Never blocks.
+     *
+     * @param idActif   ID of the asset.
+     * @param categorie Kind of asset shown in messages, or null.
+     * @param type      The alert type.
+     * @param x         X coordinate of the asset.
+     * @param y         Y coordinate of the asset.
+     * @param z         Z coordinate of the asset.
+     * @return True if the alert was queued.
+     */
+    public boolean publier(String idActif, String categorie, TypeAlerte type, double x, double y, double z) {
+        return bus.publier(idActif, categorie, type, numeroTick, x, y, z);
+    }
+}
@@ -0,0 +1,91 @@
+package com.spiga.alerte;
+
+import com.spiga.core.TypeAlerte;
+
+/**
+ * Immutable record of an alert raised by an asset.
+ */
+public final class EvenementAlerte {
+    private final String idActif;
+    private final String categorie;
+    private final TypeAlerte type;
+    private final long numeroTick;
+    private final long horodatage;
+    private final double x;
+    private final double y;
+    private final double z;
+
+    /**
+     * Constructor for EvenementAlerte.
+     *
+     * @param idActif    ID of the asset raising the alert.
+     * @param categorie  Kind of asset shown in messages, e.g. "TERRESTRE", or
+     *                   null for a generic asset.
+     * @param type       The alert type.
+     * @param numeroTick Simulation tick at which the alert was raised.
+     * @param horodatage Time of the alert, from {@link System#nanoTime()}.
+     * @param x          X coordinate of the asset.
+     * @param y          Y coordinate of the asset.
+     * @param z          Z coordinate of the asset.
+     */
+    public EvenementAlerte(String idActif, String categorie, TypeAlerte type, long numeroTick, long horodatage,
+            double x, double y, double z) {
+        this.idActif = idActif;
+        this.categorie = categorie;
+        this.type = type;
+        this.numeroTick = numeroTick;
+        this.horodatage = horodatage;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public String getIdActif() {
+        return idActif;
+    }
+
+    public String getCategorie() {
+        return categorie;
+    }
+
+    public TypeAlerte getType() {
+        return type;
+    }
+
+    public long getNumeroTick() {
+        return numeroTick;
+    }
+
+    public long getHorodatage() {
+        return horodatage;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Formats the alert as the console line assets used to print.
+     *
+     * @return For example "ALERTE TERRESTRE C1: COLLISION_IMMINENTE".
+     */
+    public String formater() {
+        if (categorie == null) {
+            return "ALERTE [" + idActif + "]: " + type;
+        }
+        return "ALERTE " + categorie + " " + idActif + ": " + type;
+    }
+
+    @Override
+    public String toString() {
+        return formater() + " (tick " + numeroTick + ", x=" + x + ", y=" + y + ", z=" + z + ")";
+    }
+}
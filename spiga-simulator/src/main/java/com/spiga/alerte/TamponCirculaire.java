@@ -0,0 +1,115 @@
+package com.spiga.alerte;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer multi-consumer queue on a ring of slots.
+ * Every slot carries a sequence number telling producers and consumers whose
+ * turn it is, so neither side ever takes a lock or blocks: {@link #offer}
+ * fails immediately when the ring is full and {@link #poll} returns null when
+ * it is empty.
+ *
+ * @param <E> Type of the queued elements.
+ */
+public class TamponCirculaire<E> {
+    private final int masque;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLong positionEcriture = new AtomicLong();
+    private final AtomicLong positionLecture = new AtomicLong();
+
+    /**
+     * Constructor for TamponCirculaire.
+     *
+     * @param capacite Number of slots, rounded up to a power of two.
+     */
+    public TamponCirculaire(int capacite) {
+        if (capacite <= 0 || capacite > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacite);
+        }
+        int taille = Integer.highestOneBit(capacite);
+        if (taille < capacite) {
+            taille <<= 1;
+        }
+        this.masque = taille - 1;
+        this.sequences = new AtomicLongArray(taille);
+        this.elements = new AtomicReferenceArray<>(taille);
+        for (int i = 0; i < taille; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element without blocking.
+     *
+     * @param element The element, not null.
+     * @return False if the ring is full and the element was not added.
+     */
+    public boolean offer(E element) {
+        long position = positionEcriture.get();
+        while (true) {
+            int i = (int) position & masque;
+            long ecart = sequences.get(i) - position;
+            if (ecart == 0) {
+                if (positionEcriture.compareAndSet(position, position + 1)) {
+                    elements.lazySet(i, element);
+                    sequences.set(i, position + 1); // Publishes the element
+                    return true;
+                }
+                position = positionEcriture.get();
+            } else if (ecart < 0) {
+                return false; // Slot not yet freed by a consumer: full
+            } else {
+                position = positionEcriture.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element without blocking.
+     *
+     * @return The element, or null if the ring is empty.
+     */
+    public E poll() {
+        long position = positionLecture.get();
+        while (true) {
+            int i = (int) position & masque;
+            long ecart = sequences.get(i) - (position + 1);
+            if (ecart == 0) {
+                if (positionLecture.compareAndSet(position, position + 1)) {
+                    E element = elements.get(i);
+                    elements.lazySet(i, null);
+                    sequences.set(i, position + masque + 1); // Frees the slot for the next lap
+                    return element;
+                }
+                position = positionLecture.get();
+            } else if (ecart < 0) {
+                return null; // Slot not yet written: empty
+            } else {
+                position = positionLecture.get();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return The capacity.
+     */
+    public int capacite() {
+        return masque + 1;
+    }
+
+    /**
+     * Gets an estimate of the number of queued elements. Exact only when no
+     * other thread is using the queue.
+     *
+     * @return The element count.
+     */
+    public int taille() {
+        long n = positionEcriture.get() - positionLecture.get();
+        return (int) Math.max(0, Math.min(n, masque + 1));
+    }
+}
@@ -23,14 +23,15 @@ public abstract class ActifAerien extends ActifMobile {
     }
 
     /**
-     * Moves the aerial asset towards a target coordinate.
+     * Prepares a move of the aerial asset towards a target coordinate.
      * Considers wind effects and precipitation for energy consumption.
      * 
      * @param cible The target 3D point.
      * @param zone  The simulation zone containing environmental data.
      */
     @Override
-    public void deplacer(Point3D cible, ZoneOperation zone) {
+    public void preparerDeplacement(Point3D cible, ZoneOperation zone) {
+        reinitialiserIntention();
         try {
             if (getEtat() == EtatOperationnel.EN_PANNE || getAutonomieActuelle() <= 0) {
                 return;
@@ -38,7 +39,7 @@ public abstract class ActifAerien extends ActifMobile {
 
             // Auto-switch to EN_MISSION if moving
             if (getEtat() == EtatOperationnel.AU_SOL) {
-                setEtat(EtatOperationnel.EN_MISSION);
+                demanderActivation();
             }
 
             // Simple movement logic
@@ -47,55 +48,24 @@ public abstract class ActifAerien extends ActifMobile {
             // Wind affects speed or consumption? "augmenter la consommation d'énergie et
             // perturber le cap"
 
-            // Calculate direction
-            double dx = cible.getX() - getPosition().getX();
-            double dy = cible.getY() - getPosition().getY();
-            double dz = cible.getZ() - getPosition().getZ();
-            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
-
-            if (distance == 0)
+            Point3D ici = positionActuelle();
+            if (ici.distanceSquared(cible) == 0)
                 return;
 
-            // Normalize
-            double nx = dx / distance;
-            double ny = dy / distance;
-            double nz = dz / distance;
-
-            // Apply speed (simplified)
-            double speed = getVitesseMax();
-
-            // Prevent overshooting
-            if (speed > distance) {
-                speed = distance;
-            }
-
             // Wind effect (simplified: subtract wind vector from movement vector? Or add
             // wind to position?)
             // If wind is strong, it pushes the drone.
             // Let's say effective movement = desired_movement + wind * factor
 
-            double moveX = nx * speed;
-            double moveY = ny * speed;
-            double moveZ = nz * speed;
+            // Step at full speed without overshooting, written in place
+            Point3D newPos = ici.stepToward(cible, getVitesseMax(), getPositionProposee())
+                    .translate(ici.getX(), ici.getY(), ici.getZ());
 
-            // Update position
-            Point3D newPos = new Point3D(
-                    getPosition().getX() + moveX,
-                    getPosition().getY() + moveY,
-                    getPosition().getZ() + moveZ);
-
-            // Check collision/bounds
+            // Check bounds (collisions are checked when the move is committed)
             if (!zone.isInside(newPos)) {
                 // System.out.println(getId() + " : Sortie de zone !");
                 return;
             }
-            if (zone.isCollision(newPos, this)) {
-                // System.out.println(getId() + " : Collision détectée !");
-                notifierEtatCritique(TypeAlerte.COLLISION_IMMINENTE);
-                return;
-            }
-
-            setPosition(newPos);
 
             // Consume energy
             // Base consumption + wind factor + rain factor
@@ -109,19 +79,14 @@ public abstract class ActifAerien extends ActifMobile {
                 consumption += 0.5;
             }
 
-            setAutonomieActuelle(getAutonomieActuelle() - consumption);
-            if (getAutonomieActuelle() <= 0) {
-                setAutonomieActuelle(0);
-                setEtat(EtatOperationnel.EN_PANNE); // Or forced landing
-                notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
-            }
+            proposerDeplacement(consumption, false);
 
             // System.out.println(getId() + " moved to " + getPosition() + ". Autonomy: " +
             // getAutonomieActuelle());
         } catch (Exception e) {
             System.err.println("Error moving aerial asset " + getId() + ": " + e.getMessage());
             e.printStackTrace();
-            setEtat(EtatOperationnel.EN_PANNE);
+            signalerPanne();
         }
     }
 
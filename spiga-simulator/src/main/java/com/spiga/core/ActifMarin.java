@@ -23,7 +23,7 @@ public abstract class ActifMarin extends ActifMobile {
     }
 
     /**
-     * Moves the marine asset towards a target coordinate.
+     * Prepares a move of the marine asset towards a target coordinate.
      * Considers ocean currents for movement and energy consumption.
      * Uses pathfinding to navigate around land obstacles.
      * 
@@ -31,88 +31,48 @@ public abstract class ActifMarin extends ActifMobile {
      * @param zone  The simulation zone containing environmental data and obstacles.
      */
     @Override
-    public void deplacer(Point3D cible, ZoneOperation zone) {
+    public void preparerDeplacement(Point3D cible, ZoneOperation zone) {
+        reinitialiserIntention();
         try {
             if (getEtat() == EtatOperationnel.EN_PANNE || getAutonomieActuelle() <= 0) {
                 return;
             }
 
             if (getEtat() == EtatOperationnel.AU_SOL) {
-                setEtat(EtatOperationnel.EN_MISSION);
+                demanderActivation();
             }
 
             // Pathfinding Logic
-            if (getCurrentPath().isEmpty()) {
-                // Calculate path if empty
-                List<Point3D> path = zone.findPath(getPosition(), cible, true); // true = isMarine
-                setCurrentPath(path);
-            }
-
-            // Get next waypoint
-            Point3D nextPoint = cible;
-            if (!getCurrentPath().isEmpty()) {
-                nextPoint = getCurrentPath().get(0);
+            planifierChemin(cible, zone, true); // Plans or repairs the route to cible
+
+            // Skip reached waypoints and head for the next one in the same tick
+            Point3D ici = positionActuelle();
+            while (!isCheminTermine() && ici.distance(getProchainWaypoint()) < 5.0) {
+                avancerWaypoint();
+                if (isCheminTermine())
+                    return; // Reached final target
             }
+            Point3D nextPoint = isCheminTermine() ? cible : getProchainWaypoint();
 
             // Similar logic but with currents
             Point3D courant = zone.getCourantMarin();
 
-            double dx = nextPoint.getX() - getPosition().getX();
-            double dy = nextPoint.getY() - getPosition().getY();
-            double dz = nextPoint.getZ() - getPosition().getZ();
-            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
-
-            if (distance < 5.0) { // Reached waypoint
-                if (!getCurrentPath().isEmpty()) {
-                    getCurrentPath().remove(0); // Remove reached point
-                    if (getCurrentPath().isEmpty())
-                        return; // Reached final target
-                    // Recurse or wait for next update to move to next point
-                    return;
-                }
-            }
-
-            double nx = dx / distance;
-            double ny = dy / distance;
-            double nz = dz / distance;
-
-            double speed = getVitesseMax();
-
-            if (speed > distance) {
-                speed = distance;
-            }
-
-            double moveX = nx * speed;
-            double moveY = ny * speed;
-            double moveZ = nz * speed;
-
-            // Apply current
-            moveX += courant.getX();
-            moveY += courant.getY();
-            moveZ += courant.getZ();
+            double distance = ici.distance(nextPoint);
+            if (distance == 0)
+                return;
 
-            Point3D newPos = new Point3D(
-                    getPosition().getX() + moveX,
-                    getPosition().getY() + moveY,
-                    getPosition().getZ() + moveZ);
+            // Step at full speed plus the current, written in place
+            Point3D newPos = ici.stepToward(nextPoint, getVitesseMax(), getPositionProposee())
+                    .add(courant, getPositionProposee())
+                    .translate(ici.getX(), ici.getY(), ici.getZ());
 
             if (!zone.isInside(newPos)) {
                 // System.out.println(getId() + " : Sortie de zone !");
                 return;
             }
-            if (zone.isCollision(newPos, this)) {
-                // System.out.println(getId() + " : Collision !");
-                notifierEtatCritique(TypeAlerte.COLLISION_IMMINENTE);
-                return;
-            }
 
-            // Check Land Collision (for Marine)
-            if (zone.isLand(newPos)) {
-                // System.out.println("Marine vehicle hit land!");
-                return;
-            }
-
-            setPosition(newPos);
+            // Check Land Collision (for Marine), applied after the collision check
+            boolean surTerre = zone.isLand(newPos);
 
             double consumption = 1.0;
             // Current opposition
@@ -121,19 +81,14 @@ public abstract class ActifMarin extends ActifMobile {
                 consumption += 0.5;
             }
 
-            setAutonomieActuelle(getAutonomieActuelle() - consumption);
-            if (getAutonomieActuelle() <= 0) {
-                setAutonomieActuelle(0);
-                setEtat(EtatOperationnel.EN_PANNE);
-                notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
-            }
+            proposerDeplacement(consumption, surTerre);
 
             // System.out.println(getId() + " moved to " + getPosition() + ". Autonomy: " +
             // getAutonomieActuelle());
         } catch (Exception e) {
             System.err.println("Error moving marine asset " + getId() + ": " + e.getMessage());
             e.printStackTrace();
-            setEtat(EtatOperationnel.EN_PANNE);
+            signalerPanne();
         }
     }
 
@@ -7,7 +7,11 @@ import com.spiga.env.ZoneOperation;
  * Implements core interfaces for movement, energy management, communication,
  * and piloting.
  */
+import com.spiga.alerte.BusAlertes;
+import com.spiga.alerte.EmetteurAlertes;
 import com.spiga.env.Collidable;
+import com.spiga.env.ObservateurCollidable;
+import com.spiga.env.Trajet;
 
 /**
  * Abstract base class for all mobile assets in the simulation.
@@ -16,14 +20,50 @@ import com.spiga.env.Collidable;
  */
 public abstract class ActifMobile implements Deplacable, Rechargeable, Communicable, Pilotable, Alertable, Collidable {
     private String id;
-    private Point3D position;
-    private double vitesseMax;
-    private double autonomieMax;
-    private double autonomieActuelle;
-    private EtatOperationnel etat;
+    private EtatPropre propre; // Own hot state, null while a store row holds it
     private Point3D target; // Individual target for movement
-    private java.util.List<Point3D> currentPath; // Path to follow
+    private Trajet currentPath; // Path to follow, possibly shared with other assets
+    private int indexChemin; // Next waypoint of currentPath
+    private Point3D waypointLu; // Reused by getProchainWaypoint, created on first use
+    private com.spiga.env.ItineraireIncremental itineraire; // Route state, repaired when islands change
     private double radius = 5.0; // Default collision radius
+    private java.util.List<ObservateurCollidable> observateurs; // Created on first registration
+    private java.util.List<ObservateurActif> observateursActif; // Created on first registration
+    private StockageFlotte stockage; // Columnar store holding the hot state, or null
+    private int ligneStockage = -1; // Row in stockage
+
+    // Movement intention computed by preparerDeplacement, applied by validerDeplacement
+    private boolean intentionActivation; // Switch AU_SOL -> EN_MISSION
+    private boolean intentionPanne; // Preparation failed, asset breaks down
+    private boolean intentionDeplacement; // A new position is proposed
+    private boolean intentionTerrainInterdit; // Proposed position is on the wrong terrain
+    private final Point3D positionProposee = new Point3D(0, 0, 0); // Reused every move
+    private double intentionConsommation;
+    private EmetteurAlertes emetteurAlertes; // Alerts of the owning simulation, or null
+
+    /** Scratch copy of a row for {@link #positionActuelle()}, one per thread. */
+    private static final ThreadLocal<Point3D> POSITION_LUE = ThreadLocal.withInitial(() -> new Point3D(0, 0, 0));
+
+    /**
+     * Hot state of an asset that is not attached to a {@link StockageFlotte}.
+     * Dropped on attach, so attached assets do not hold it twice.
+     */
+    private static final class EtatPropre {
+        final Point3D position;
+        final double vitesseMax;
+        final double autonomieMax;
+        double autonomieActuelle;
+        EtatOperationnel etat;
+
+        EtatPropre(Point3D position, double vitesseMax, double autonomieMax, double autonomieActuelle,
+                EtatOperationnel etat) {
+            this.position = position;
+            this.vitesseMax = vitesseMax;
+            this.autonomieMax = autonomieMax;
+            this.autonomieActuelle = autonomieActuelle;
+            this.etat = etat;
+        }
+    }
 
     /**
      * Constructor for ActifMobile.
@@ -35,13 +75,10 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
      */
     public ActifMobile(String id, Point3D position, double vitesseMax, double autonomieMax) {
         this.id = id;
-        this.position = position;
-        this.vitesseMax = vitesseMax;
-        this.autonomieMax = autonomieMax;
-        this.autonomieActuelle = autonomieMax;
-        this.etat = EtatOperationnel.AU_SOL; // Default state
+        this.propre = new EtatPropre(new Point3D(position.getX(), position.getY(), position.getZ()), vitesseMax,
+                autonomieMax, autonomieMax, EtatOperationnel.AU_SOL); // Default state
         this.target = null; // No target initially
-        this.currentPath = new java.util.ArrayList<>();
+        this.currentPath = Trajet.VIDE;
     }
 
     @Override
@@ -51,6 +88,37 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
 
     public void setRadius(double radius) {
         this.radius = radius;
+        notifierObservateurs();
+    }
+
+    @Override
+    public boolean ajouterObservateur(ObservateurCollidable observateur) {
+        if (observateurs == null) {
+            observateurs = new java.util.ArrayList<>(1);
+        }
+        if (!observateurs.contains(observateur)) {
+            observateurs.add(observateur);
+        }
+        return true;
+    }
+
+    @Override
+    public void retirerObservateur(ObservateurCollidable observateur) {
+        if (observateurs != null) {
+            observateurs.remove(observateur);
+        }
+    }
+
+    /**
+     * Notifies registered listeners that the position or radius changed.
+     */
+    private void notifierObservateurs() {
+        if (observateurs == null) {
+            return;
+        }
+        for (int i = 0; i < observateurs.size(); i++) {
+            observateurs.get(i).collidableModifie(this);
+        }
     }
 
     // ... (rest of the class)
@@ -62,58 +130,291 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
     public void setTarget(Point3D target) {
         this.target = target;
         // Path calculation will be triggered by subclasses or manually
-        // For now, clear path so it recalculates
-        this.currentPath.clear();
+        // For now, drop path so it recalculates (never clear it: it may be shared)
+        setCurrentPath(java.util.Collections.emptyList());
     }
 
+    /**
+     * Gets the waypoints that remain to be reached.
+     * 
+     * @return An unmodifiable view of the remaining path.
+     */
     public java.util.List<Point3D> getCurrentPath() {
-        return currentPath;
+        return java.util.Collections.unmodifiableList(currentPath.subList(indexChemin, currentPath.size()));
     }
 
+    /**
+     * Sets the path to follow. Packed paths handed out by the zone are shared
+     * between assets without copying; other lists are packed first.
+     * 
+     * @param path The waypoints to follow.
+     */
     public void setCurrentPath(java.util.List<Point3D> path) {
-        this.currentPath = path;
+        this.currentPath = Trajet.de(path);
+        this.indexChemin = 0;
+    }
+
+    /**
+     * Checks whether waypoints remain on the current path.
+     * 
+     * @return True if the path is consumed or empty.
+     */
+    public boolean isCheminTermine() {
+        return indexChemin >= currentPath.size();
+    }
+
+    /**
+     * Gets the next waypoint to reach, without allocating. The returned point
+     * is reused and must not be kept or modified.
+     * 
+     * @return The waypoint, or null if the path is consumed.
+     */
+    public Point3D getProchainWaypoint() {
+        if (isCheminTermine()) {
+            return null;
+        }
+        if (waypointLu == null) {
+            waypointLu = new Point3D(0, 0, 0);
+        }
+        return currentPath.lire(indexChemin, waypointLu);
+    }
+
+    /**
+     * Marks the next waypoint as reached.
+     */
+    public void avancerWaypoint() {
+        if (!isCheminTermine()) {
+            indexChemin++;
+        }
+    }
+
+    /**
+     * Keeps the path towards a target up to date: plans it once the current
+     * one is consumed, and repairs it when the zone's islands changed since,
+     * instead of dropping it and searching again.
+     * 
+     * @param cible    The target point.
+     * @param zone     The zone to route in.
+     * @param isMarine True for marine assets, false for land vehicles.
+     */
+    protected void planifierChemin(Point3D cible, ZoneOperation zone, boolean isMarine) {
+        if (itineraire == null || !itineraire.mene(zone, cible, isMarine)) {
+            itineraire = new com.spiga.env.ItineraireIncremental(zone, cible, isMarine);
+        }
+        if (isCheminTermine()) {
+            setCurrentPath(itineraire.chemin(positionActuelle()));
+        } else if (itineraire.estPerime()) {
+            java.util.List<Point3D> repare = itineraire.reparer(positionActuelle(), getCurrentPath());
+            if (repare != null) {
+                setCurrentPath(repare);
+            }
+        }
+    }
+
+    /**
+     * Gets the route state of the current target.
+     * 
+     * @return The route, or null before the first path was planned.
+     */
+    public com.spiga.env.ItineraireIncremental getItineraire() {
+        return itineraire;
     }
 
     public String getId() {
         return id;
     }
 
+    /**
+     * Gets a copy of the position. The asset moves in place, so the returned
+     * point does not follow later moves and may be kept; prefer
+     * {@link #getX()}, {@link #getY()} and {@link #getZ()} in loops.
+     * 
+     * @return The position.
+     */
     public Point3D getPosition() {
-        return position;
+        if (stockage != null) {
+            return new Point3D(stockage.getX(ligneStockage), stockage.getY(ligneStockage),
+                    stockage.getZ(ligneStockage));
+        }
+        Point3D position = propre.position;
+        return new Point3D(position.getX(), position.getY(), position.getZ());
     }
 
+    /**
+     * Moves the asset. The coordinates are copied, the given point is not
+     * kept.
+     * 
+     * @param position The new position.
+     */
     public void setPosition(Point3D position) {
-        this.position = position;
+        setPosition(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Moves the asset in place, without allocating.
+     * Subclasses constraining the position override this method.
+     * 
+     * @param x X coordinate.
+     * @param y Y coordinate.
+     * @param z Z coordinate.
+     */
+    public void setPosition(double x, double y, double z) {
+        if (stockage != null) {
+            stockage.setPosition(ligneStockage, x, y, z);
+        } else {
+            propre.position.set(x, y, z);
+        }
+        notifierObservateurs();
+    }
+
+    /**
+     * Gets the current position for read-only use in movement code, without
+     * allocating. The returned point is reused and must not be kept or
+     * modified; for an attached asset it is shared by every asset read on the
+     * same thread, so it is only valid until the position of another asset is
+     * read.
+     * 
+     * @return The current position.
+     */
+    protected Point3D positionActuelle() {
+        if (stockage == null) {
+            return propre.position;
+        }
+        return POSITION_LUE.get().set(stockage.getX(ligneStockage), stockage.getY(ligneStockage),
+                stockage.getZ(ligneStockage));
+    }
+
+    @Override
+    public double getX() {
+        return stockage != null ? stockage.getX(ligneStockage) : propre.position.getX();
+    }
+
+    @Override
+    public double getY() {
+        return stockage != null ? stockage.getY(ligneStockage) : propre.position.getY();
+    }
+
+    @Override
+    public double getZ() {
+        return stockage != null ? stockage.getZ(ligneStockage) : propre.position.getZ();
     }
 
     public double getVitesseMax() {
-        return vitesseMax;
+        return stockage != null ? stockage.getVitesseMax(ligneStockage) : propre.vitesseMax;
     }
 
     public double getAutonomieMax() {
-        return autonomieMax;
+        return stockage != null ? stockage.getAutonomieMax(ligneStockage) : propre.autonomieMax;
     }
 
     public double getAutonomieActuelle() {
-        return autonomieActuelle;
+        return stockage != null ? stockage.getAutonomie(ligneStockage) : propre.autonomieActuelle;
     }
 
     public void setAutonomieActuelle(double autonomieActuelle) {
-        this.autonomieActuelle = autonomieActuelle;
+        double ancienne = getAutonomieActuelle();
+        if (stockage != null) {
+            stockage.setAutonomie(ligneStockage, autonomieActuelle);
+        } else {
+            propre.autonomieActuelle = autonomieActuelle;
+        }
+        if (ancienne != autonomieActuelle && observateursActif != null) {
+            for (int i = 0; i < observateursActif.size(); i++) {
+                observateursActif.get(i).autonomieModifiee(this, ancienne, autonomieActuelle);
+            }
+        }
     }
 
     public EtatOperationnel getEtat() {
-        return etat;
+        return stockage != null ? stockage.getEtat(ligneStockage) : propre.etat;
     }
 
     public void setEtat(EtatOperationnel etat) {
-        this.etat = etat;
+        EtatOperationnel ancien = getEtat();
+        if (stockage != null) {
+            stockage.setEtat(ligneStockage, etat);
+        } else {
+            propre.etat = etat;
+        }
+        if (ancien != etat && observateursActif != null) {
+            for (int i = 0; i < observateursActif.size(); i++) {
+                observateursActif.get(i).etatModifie(this, ancien, etat);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener notified when the operational state or the
+     * autonomy changes.
+     * 
+     * @param observateur The listener.
+     */
+    public void ajouterObservateurActif(ObservateurActif observateur) {
+        if (observateursActif == null) {
+            observateursActif = new java.util.ArrayList<>(1);
+        }
+        if (!observateursActif.contains(observateur)) {
+            observateursActif.add(observateur);
+        }
+    }
+
+    /**
+     * Unregisters a state or autonomy listener.
+     * 
+     * @param observateur The listener.
+     */
+    public void retirerObservateurActif(ObservateurActif observateur) {
+        if (observateursActif != null) {
+            observateursActif.remove(observateur);
+        }
+    }
+
+    /**
+     * Gets the columnar store holding this asset's state.
+     * 
+     * @return The store, or null if the asset holds its own state.
+     */
+    public StockageFlotte getStockage() {
+        return stockage;
+    }
+
+    /**
+     * Gets the row of this asset in its store. Rows change when other assets
+     * are detached.
+     * 
+     * @return The row, or -1 if the asset is not attached.
+     */
+    public int getLigneStockage() {
+        return ligneStockage;
+    }
+
+    /**
+     * Binds the asset to a row, or unbinds it. Used by {@link StockageFlotte},
+     * which has copied the asset's state into the row beforehand: the asset's
+     * own copy is dropped.
+     */
+    void lierStockage(StockageFlotte stockage, int ligne) {
+        this.stockage = stockage;
+        this.ligneStockage = ligne;
+        if (stockage != null) {
+            this.propre = null;
+        }
+    }
+
+    /**
+     * Gives the asset its own state again, copied from its row. Used by
+     * {@link StockageFlotte} on detach.
+     */
+    void restaurerEtat(double x, double y, double z, double vitesseMax, double autonomieMax, double autonomie,
+            EtatOperationnel etat) {
+        this.propre = new EtatPropre(new Point3D(x, y, z), vitesseMax, autonomieMax, autonomie, etat);
     }
 
     // Implementations of interfaces can be abstract or default here
 
     @Override
     public void demarrer() {
+        EtatOperationnel etat = getEtat();
         if (etat == EtatOperationnel.EN_PANNE || etat == EtatOperationnel.EN_MAINTENANCE) {
             System.out.println("Impossible de démarrer : " + id + " est en " + etat);
             return;
@@ -124,12 +425,42 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
     @Override
     public void arreter() {
         System.out.println(id + " s'arrête.");
-        this.etat = EtatOperationnel.AU_SOL;
+        setEtat(EtatOperationnel.AU_SOL);
     }
 
+    /**
+     * Publishes the alert through the emitter of the owning simulation, or on
+     * the shared {@link BusAlertes} when there is none. Never blocks: the
+     * alert is delivered later by the bus consumer thread, and repeats inside
+     * the deduplication window are dropped.
+     */
     @Override
     public void notifierEtatCritique(TypeAlerte type) {
-        System.out.println("ALERTE [" + id + "]: " + type);
+        EmetteurAlertes emetteur = emetteurAlertes;
+        if (emetteur != null) {
+            emetteur.publier(id, getCategorieAlerte(), type, getX(), getY(), getZ());
+        } else {
+            BusAlertes.getDefaut().publier(id, getCategorieAlerte(), type, getX(), getY(), getZ());
+        }
+    }
+
+    /**
+     * Sets where the asset publishes its alerts. Called by the fleet manager.
+     * 
+     * @param emetteurAlertes The emitter of the owning simulation, or null
+     *                        for the shared bus.
+     */
+    public void setEmetteurAlertes(EmetteurAlertes emetteurAlertes) {
+        this.emetteurAlertes = emetteurAlertes;
+    }
+
+    /**
+     * Gets the kind of asset shown in alert messages.
+     * 
+     * @return The category, or null for the generic "ALERTE [id]" format.
+     */
+    protected String getCategorieAlerte() {
+        return null;
     }
 
     @Override
@@ -139,19 +470,140 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
 
     @Override
     public void recharger(double quantite) {
-        this.autonomieActuelle = Math.min(this.autonomieMax, this.autonomieActuelle + quantite);
-        System.out.println(id + " rechargé de " + quantite + ". Niveau: " + this.autonomieActuelle);
+        setAutonomieActuelle(Math.min(getAutonomieMax(), getAutonomieActuelle() + quantite));
+        System.out.println(id + " rechargé de " + quantite + ". Niveau: " + getAutonomieActuelle());
     }
 
     @Override
     public void ravitailler() {
-        this.autonomieActuelle = this.autonomieMax;
+        setAutonomieActuelle(getAutonomieMax());
         System.out.println(id + " ravitaillé complètement.");
     }
 
-    // Abstract methods for movement to be implemented by subclasses
+    /**
+     * Moves the asset one step towards a target.
+     * Equivalent to {@link #preparerDeplacement(Point3D, ZoneOperation)}
+     * immediately followed by {@link #validerDeplacement(ZoneOperation)}.
+     * 
+     * @param cible The target 3D point.
+     * @param zone  The simulation zone.
+     */
     @Override
-    public abstract void deplacer(Point3D cible, ZoneOperation zone);
+    public void deplacer(Point3D cible, ZoneOperation zone) {
+        preparerDeplacement(cible, zone);
+        validerDeplacement(zone);
+    }
+
+    /**
+     * First phase of a move: computes the proposed position and energy use.
+     * Implementations only read the zone and only modify the asset's own path,
+     * so different assets can be prepared concurrently. The result is recorded
+     * with {@link #demanderActivation()}, {@link #getPositionProposee()} and
+     * {@link #proposerDeplacement}, or {@link #signalerPanne()}.
+     * 
+     * @param cible The target 3D point.
+     * @param zone  The simulation zone.
+     */
+    public abstract void preparerDeplacement(Point3D cible, ZoneOperation zone);
+
+    /**
+     * Second phase of a move: applies the prepared intention.
+     * The collision test against other assets happens here, so when a fleet is
+     * committed in a fixed order the outcome does not depend on how the
+     * preparation phase was scheduled. Must not run concurrently with other
+     * assets' commits.
+     * 
+     * @param zone The simulation zone.
+     * @return True if the asset moved, false if there was nothing to move or
+     *         the move was refused by a collision or the terrain.
+     */
+    public boolean validerDeplacement(ZoneOperation zone) {
+        try {
+            if (intentionActivation) {
+                setEtat(EtatOperationnel.EN_MISSION);
+            }
+            if (intentionPanne) {
+                setEtat(EtatOperationnel.EN_PANNE);
+                return false;
+            }
+            if (!intentionDeplacement) {
+                return false;
+            }
+            if (zone.isCollision(positionProposee, this)) {
+                notifierEtatCritique(TypeAlerte.COLLISION_IMMINENTE);
+                return false;
+            }
+            if (intentionTerrainInterdit) {
+                return false;
+            }
+
+            setPosition(positionProposee.getX(), positionProposee.getY(), positionProposee.getZ());
+
+            setAutonomieActuelle(getAutonomieActuelle() - intentionConsommation);
+            if (getAutonomieActuelle() <= 0) {
+                setAutonomieActuelle(0);
+                setEtat(EtatOperationnel.EN_PANNE); // Or forced landing
+                notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error committing move of " + id + ": " + e.getMessage());
+            e.printStackTrace();
+            setEtat(EtatOperationnel.EN_PANNE);
+            return false;
+        } finally {
+            reinitialiserIntention();
+        }
+    }
+
+    /**
+     * Clears the pending intention.
+     */
+    protected void reinitialiserIntention() {
+        intentionActivation = false;
+        intentionPanne = false;
+        intentionDeplacement = false;
+        intentionTerrainInterdit = false;
+    }
+
+    /**
+     * Records that the asset leaves the ground for this move.
+     */
+    protected void demanderActivation() {
+        intentionActivation = true;
+    }
+
+    /**
+     * Records that preparing the move failed and the asset must break down.
+     */
+    protected void signalerPanne() {
+        intentionPanne = true;
+    }
+
+    /**
+     * Gets the point in which preparation writes the proposed position.
+     * It is owned by the asset and reused on every move.
+     * 
+     * @return The proposed position.
+     */
+    protected Point3D getPositionProposee() {
+        return positionProposee;
+    }
+
+    /**
+     * Records that the position written in {@link #getPositionProposee()} is
+     * proposed for this move.
+     * 
+     * @param consommation     Energy consumed if the move is applied.
+     * @param terrainInterdit  True if the position is on a terrain the asset
+     *                         cannot enter; the move is then only checked for
+     *                         collisions and never applied.
+     */
+    protected void proposerDeplacement(double consommation, boolean terrainInterdit) {
+        intentionDeplacement = true;
+        intentionConsommation = consommation;
+        intentionTerrainInterdit = terrainInterdit;
+    }
 
     @Override
     public abstract java.util.List<Point3D> calculerTrajet(Point3D cible);
@@ -0,0 +1,83 @@
+package com.spiga.core;
+
+/**
+ * Kind of an asset as shown and constrained by user interfaces, with the
+ * medium it moves in. Resolved once per asset from its class, so readers of
+ * snapshots never match class names.
+ */
+public enum CategorieActif {
+    /** Reconnaissance drone. */
+    RECONNAISSANCE(Milieu.AERIEN),
+    /** Logistics drone. */
+    LOGISTIQUE(Milieu.AERIEN),
+    /** Any other aerial asset. */
+    AERIEN(Milieu.AERIEN),
+    /** Surface vessel. */
+    SURFACE(Milieu.MARIN),
+    /** Submarine. */
+    SOUS_MARIN(Milieu.MARIN),
+    /** Any other marine asset. */
+    MARIN(Milieu.MARIN),
+    /** Land vehicle. */
+    TERRESTRE(Milieu.TERRESTRE),
+    /** Any other asset. */
+    AUTRE(null);
+
+    /**
+     * Medium an asset moves in.
+     */
+    public enum Milieu {
+        /** Flies over land and water. */
+        AERIEN,
+        /** Stays on water. */
+        MARIN,
+        /** Stays on land. */
+        TERRESTRE
+    }
+
+    private final Milieu milieu;
+
+    CategorieActif(Milieu milieu) {
+        this.milieu = milieu;
+    }
+
+    /**
+     * Gets the medium of this kind of asset.
+     *
+     * @return The medium, or null if unknown.
+     */
+    public Milieu getMilieu() {
+        return milieu;
+    }
+
+    /**
+     * Resolves the kind of an asset from its class hierarchy.
+     *
+     * @param actif The asset.
+     * @return The most specific matching kind.
+     */
+    public static CategorieActif de(ActifMobile actif) {
+        if (actif instanceof DroneReconnaissance) {
+            return RECONNAISSANCE;
+        }
+        if (actif instanceof DroneLogistique) {
+            return LOGISTIQUE;
+        }
+        if (actif instanceof ActifAerien) {
+            return AERIEN;
+        }
+        if (actif instanceof VehiculeSurface) {
+            return SURFACE;
+        }
+        if (actif instanceof VehiculeSousMarin) {
+            return SOUS_MARIN;
+        }
+        if (actif instanceof ActifMarin) {
+            return MARIN;
+        }
+        if (actif instanceof VehiculeTerrestre) {
+            return TERRESTRE;
+        }
+        return AUTRE;
+    }
+}
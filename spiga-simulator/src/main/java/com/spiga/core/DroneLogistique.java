@@ -66,7 +66,7 @@ public class DroneLogistique extends ActifAerien {
     }
 
     @Override
-    public void notifierEtatCritique(TypeAlerte type) {
-        System.out.println("ALERTE LOGISTIQUE " + getId() + ": " + type);
+    protected String getCategorieAlerte() {
+        return "LOGISTIQUE";
     }
 }
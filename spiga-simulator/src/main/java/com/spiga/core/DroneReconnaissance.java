@@ -66,7 +66,7 @@ public class DroneReconnaissance extends ActifAerien {
     }
 
     @Override
-    public void notifierEtatCritique(TypeAlerte type) {
-        System.out.println("ALERTE RECONNAISSANCE " + getId() + ": " + type);
+    protected String getCategorieAlerte() {
+        return "RECONNAISSANCE";
     }
 }
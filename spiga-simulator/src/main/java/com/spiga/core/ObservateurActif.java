@@ -0,0 +1,29 @@
+package com.spiga.core;
+
+/**
+ * Listener notified when the operational state or the autonomy of an asset
+ * changes. Used by fleet indexes to stay up to date without scanning the
+ * fleet.
+ */
+@FunctionalInterface
+public interface ObservateurActif {
+    /**
+     * Called after the state of an asset has changed.
+     * 
+     * @param source The asset.
+     * @param ancien The previous state.
+     * @param nouveau The new state.
+     */
+    void etatModifie(ActifMobile source, EtatOperationnel ancien, EtatOperationnel nouveau);
+
+    /**
+     * Called after the current autonomy of an asset has changed. Does nothing
+     * by default.
+     * 
+     * @param source The asset.
+     * @param ancienne The previous autonomy.
+     * @param nouvelle The new autonomy.
+     */
+    default void autonomieModifiee(ActifMobile source, double ancienne, double nouvelle) {
+    }
+}
@@ -50,6 +50,239 @@ public class Point3D {
         this.z = z;
     }
 
+    /**
+     * Sets all three coordinates.
+     * 
+     * @param x X coordinate.
+     * @param y Y coordinate.
+     * @param z Z coordinate.
+     * @return This point.
+     */
+    public Point3D set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Copies the coordinates of another point.
+     * 
+     * @param p The point to copy.
+     * @return This point.
+     */
+    public Point3D set(Point3D p) {
+        return set(p.x, p.y, p.z);
+    }
+
+    /**
+     * Adds a vector.
+     * 
+     * @param v The vector to add.
+     * @return A new point.
+     */
+    public Point3D add(Point3D v) {
+        return add(v, new Point3D(0, 0, 0));
+    }
+
+    /**
+     * Adds a vector and writes the result into a destination.
+     * 
+     * @param v    The vector to add.
+     * @param dest Receives the result; may be this point or {@code v}.
+     * @return The destination.
+     */
+    public Point3D add(Point3D v, Point3D dest) {
+        return dest.set(x + v.x, y + v.y, z + v.z);
+    }
+
+    /**
+     * Adds a vector given by its components, in place.
+     * 
+     * @param dx X component.
+     * @param dy Y component.
+     * @param dz Z component.
+     * @return This point.
+     */
+    public Point3D translate(double dx, double dy, double dz) {
+        return set(x + dx, y + dy, z + dz);
+    }
+
+    /**
+     * Subtracts a vector.
+     * 
+     * @param v The vector to subtract.
+     * @return A new point.
+     */
+    public Point3D sub(Point3D v) {
+        return sub(v, new Point3D(0, 0, 0));
+    }
+
+    /**
+     * Subtracts a vector and writes the result into a destination.
+     * 
+     * @param v    The vector to subtract.
+     * @param dest Receives the result; may be this point or {@code v}.
+     * @return The destination.
+     */
+    public Point3D sub(Point3D v, Point3D dest) {
+        return dest.set(x - v.x, y - v.y, z - v.z);
+    }
+
+    /**
+     * Multiplies by a scalar.
+     * 
+     * @param k The factor.
+     * @return A new point.
+     */
+    public Point3D scale(double k) {
+        return scale(k, new Point3D(0, 0, 0));
+    }
+
+    /**
+     * Multiplies by a scalar and writes the result into a destination.
+     * 
+     * @param k    The factor.
+     * @param dest Receives the result; may be this point.
+     * @return The destination.
+     */
+    public Point3D scale(double k, Point3D dest) {
+        return dest.set(x * k, y * k, z * k);
+    }
+
+    /**
+     * Computes the dot product.
+     * 
+     * @param v The other vector.
+     * @return The dot product.
+     */
+    public double dot(Point3D v) {
+        return x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Gets the squared length, avoiding the square root.
+     * 
+     * @return The squared length.
+     */
+    public double lengthSquared() {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Gets the length.
+     * 
+     * @return The length.
+     */
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    /**
+     * Scales the vector to unit length.
+     * 
+     * @return A new point; the zero vector stays zero.
+     */
+    public Point3D normalize() {
+        return normalize(new Point3D(0, 0, 0));
+    }
+
+    /**
+     * Scales the vector to unit length and writes the result into a
+     * destination.
+     * 
+     * @param dest Receives the result; may be this point.
+     * @return The destination; the zero vector stays zero.
+     */
+    public Point3D normalize(Point3D dest) {
+        double longueur = length();
+        if (longueur == 0) {
+            return dest.set(0, 0, 0);
+        }
+        return dest.set(x / longueur, y / longueur, z / longueur);
+    }
+
+    /**
+     * Gets the squared distance to another point, avoiding the square root.
+     * 
+     * @param p The other point.
+     * @return The squared distance.
+     */
+    public double distanceSquared(Point3D p) {
+        double dx = p.x - x;
+        double dy = p.y - y;
+        double dz = p.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Gets the distance to another point.
+     * 
+     * @param p The other point.
+     * @return The distance.
+     */
+    public double distance(Point3D p) {
+        return Math.sqrt(distanceSquared(p));
+    }
+
+    /**
+     * Gets the distance to another point in the horizontal plane, ignoring Z.
+     * 
+     * @param p The other point.
+     * @return The horizontal distance.
+     */
+    public double distanceXY(Point3D p) {
+        double dx = p.x - x;
+        double dy = p.y - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Interpolates linearly towards another point.
+     * 
+     * @param p The other point.
+     * @param t 0 gives this point, 1 gives {@code p}.
+     * @return A new point.
+     */
+    public Point3D lerp(Point3D p, double t) {
+        return lerp(p, t, new Point3D(0, 0, 0));
+    }
+
+    /**
+     * Interpolates linearly towards another point and writes the result into
+     * a destination.
+     * 
+     * @param p    The other point.
+     * @param t    0 gives this point, 1 gives {@code p}.
+     * @param dest Receives the result; may be this point or {@code p}.
+     * @return The destination.
+     */
+    public Point3D lerp(Point3D p, double t, Point3D dest) {
+        return dest.set(x + (p.x - x) * t, y + (p.y - y) * t, z + (p.z - z) * t);
+    }
+
+    /**
+     * Computes one step of straight-line movement towards a target, without
+     * overshooting it. This is the step every mobile asset takes.
+     * 
+     * @param target  The target.
+     * @param maxStep The step length (speed per tick).
+     * @param dest    Receives the displacement vector, not the new position;
+     *                may be this point or {@code target}.
+     * @return The destination; the zero vector if the target is reached.
+     */
+    public Point3D stepToward(Point3D target, double maxStep, Point3D dest) {
+        double dx = target.x - x;
+        double dy = target.y - y;
+        double dz = target.z - z;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance == 0) {
+            return dest.set(0, 0, 0);
+        }
+        double step = Math.min(maxStep, distance); // Prevent overshooting
+        return dest.set(dx / distance * step, dy / distance * step, dz / distance * step);
+    }
+
     @Override
     public String toString() {
         return "Point3D{" +
@@ -0,0 +1,245 @@
+package com.spiga.core;
+
+import java.util.Arrays;
+
+/**
+ * Columnar store for the hot state of a fleet.
+ * Positions, autonomy, maximum speed and operational state of every attached
+ * asset live in primitive arrays indexed by row, so sweeps over the whole
+ * fleet (movement, energy, rendering snapshots) read contiguous memory
+ * instead of chasing one object graph per asset. An attached
+ * {@link ActifMobile} becomes a thin view: it drops its own copy of that
+ * state, and its getters and setters read and write its row. Detaching copies
+ * the row back into the asset.
+ * Rows are kept dense: detaching an asset moves the last row into the freed
+ * slot, so the row of an asset may change and must not be kept by callers.
+ * Not thread-safe; rows may be read concurrently while nothing writes.
+ */
+public class StockageFlotte {
+    private static final EtatOperationnel[] ETATS = EtatOperationnel.values();
+
+    private ActifMobile[] actifs;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private double[] autonomies;
+    private double[] autonomiesMax;
+    private double[] vitessesMax;
+    private byte[] etats; // EtatOperationnel ordinals
+    private int taille;
+
+    /**
+     * Constructor for StockageFlotte.
+     *
+     * @param capaciteInitiale Number of rows allocated up front.
+     */
+    public StockageFlotte(int capaciteInitiale) {
+        if (capaciteInitiale < 0) {
+            throw new IllegalArgumentException("Capacity must be positive or zero: " + capaciteInitiale);
+        }
+        int capacite = Math.max(capaciteInitiale, 16);
+        this.actifs = new ActifMobile[capacite];
+        this.x = new double[capacite];
+        this.y = new double[capacite];
+        this.z = new double[capacite];
+        this.autonomies = new double[capacite];
+        this.autonomiesMax = new double[capacite];
+        this.vitessesMax = new double[capacite];
+        this.etats = new byte[capacite];
+    }
+
+    /**
+     * Moves an asset's state into a new row. From then on the asset reads and
+     * writes that row.
+     *
+     * @param actif The asset to attach.
+     * @return The row of the asset.
+     */
+    public int attacher(ActifMobile actif) {
+        if (actif.getStockage() != null) {
+            throw new IllegalStateException("Asset " + actif.getId() + " is already attached to a store");
+        }
+        if (taille == actifs.length) {
+            agrandir();
+        }
+        int ligne = taille++;
+        actifs[ligne] = actif;
+        x[ligne] = actif.getX();
+        y[ligne] = actif.getY();
+        z[ligne] = actif.getZ();
+        autonomies[ligne] = actif.getAutonomieActuelle();
+        autonomiesMax[ligne] = actif.getAutonomieMax();
+        vitessesMax[ligne] = actif.getVitesseMax();
+        etats[ligne] = (byte) actif.getEtat().ordinal();
+        actif.lierStockage(this, ligne);
+        return ligne;
+    }
+
+    /**
+     * Copies an asset's row back into the asset and frees the row.
+     *
+     * @param actif The asset to detach.
+     * @return True if the asset was attached to this store.
+     */
+    public boolean detacher(ActifMobile actif) {
+        if (actif.getStockage() != this) {
+            return false;
+        }
+        int ligne = actif.getLigneStockage();
+        actif.lierStockage(null, -1);
+        actif.restaurerEtat(x[ligne], y[ligne], z[ligne], vitessesMax[ligne], autonomiesMax[ligne], autonomies[ligne],
+                ETATS[etats[ligne]]);
+
+        int derniere = --taille;
+        if (ligne != derniere) {
+            actifs[ligne] = actifs[derniere];
+            x[ligne] = x[derniere];
+            y[ligne] = y[derniere];
+            z[ligne] = z[derniere];
+            autonomies[ligne] = autonomies[derniere];
+            autonomiesMax[ligne] = autonomiesMax[derniere];
+            vitessesMax[ligne] = vitessesMax[derniere];
+            etats[ligne] = etats[derniere];
+            actifs[ligne].lierStockage(this, ligne);
+        }
+        actifs[derniere] = null;
+        return true;
+    }
+
+    /**
+     * Gets the number of attached assets.
+     *
+     * @return The row count.
+     */
+    public int taille() {
+        return taille;
+    }
+
+    public ActifMobile getActif(int ligne) {
+        return actifs[ligne];
+    }
+
+    public double getX(int ligne) {
+        return x[ligne];
+    }
+
+    public double getY(int ligne) {
+        return y[ligne];
+    }
+
+    public double getZ(int ligne) {
+        return z[ligne];
+    }
+
+    /**
+     * Writes a position. Only {@link ActifMobile} writes rows, so that its
+     * listeners and collision index see every change.
+     *
+     * @param ligne The row.
+     * @param px    X coordinate.
+     * @param py    Y coordinate.
+     * @param pz    Z coordinate.
+     */
+    void setPosition(int ligne, double px, double py, double pz) {
+        x[ligne] = px;
+        y[ligne] = py;
+        z[ligne] = pz;
+    }
+
+    public double getAutonomie(int ligne) {
+        return autonomies[ligne];
+    }
+
+    void setAutonomie(int ligne, double autonomie) {
+        autonomies[ligne] = autonomie;
+    }
+
+    public double getAutonomieMax(int ligne) {
+        return autonomiesMax[ligne];
+    }
+
+    public double getVitesseMax(int ligne) {
+        return vitessesMax[ligne];
+    }
+
+    public EtatOperationnel getEtat(int ligne) {
+        return ETATS[etats[ligne]];
+    }
+
+    void setEtat(int ligne, EtatOperationnel etat) {
+        etats[ligne] = (byte) etat.ordinal();
+    }
+
+    /**
+     * Copies the position columns of the first rows.
+     *
+     * @param dx Destination for X coordinates, at least {@link #taille()} long.
+     * @param dy Destination for Y coordinates.
+     * @param dz Destination for Z coordinates.
+     */
+    public void copierPositions(double[] dx, double[] dy, double[] dz) {
+        System.arraycopy(x, 0, dx, 0, taille);
+        System.arraycopy(y, 0, dy, 0, taille);
+        System.arraycopy(z, 0, dz, 0, taille);
+    }
+
+    /**
+     * Copies the autonomy columns of the first rows.
+     *
+     * @param dActuelle Destination for current autonomy.
+     * @param dMax      Destination for maximum autonomy.
+     */
+    public void copierAutonomies(double[] dActuelle, double[] dMax) {
+        System.arraycopy(autonomies, 0, dActuelle, 0, taille);
+        System.arraycopy(autonomiesMax, 0, dMax, 0, taille);
+    }
+
+    /**
+     * Counts the assets in a given state with one pass over the state column.
+     *
+     * @param etat The state to count.
+     * @return The number of assets in that state.
+     */
+    public int compter(EtatOperationnel etat) {
+        byte ordinal = (byte) etat.ordinal();
+        int n = 0;
+        for (int i = 0; i < taille; i++) {
+            if (etats[i] == ordinal) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Gets the memory used by the columns per row, not counting the assets
+     * themselves.
+     *
+     * @return Bytes per row: six doubles, one state byte and one reference
+     *         counted as 8 bytes.
+     */
+    public static int getOctetsParLigne() {
+        return 6 * Double.BYTES + 1 + 8;
+    }
+
+    /**
+     * Gets the memory allocated by the columns, including spare capacity.
+     *
+     * @return The size in bytes.
+     */
+    public long getTailleOctets() {
+        return (long) actifs.length * getOctetsParLigne();
+    }
+
+    private void agrandir() {
+        int capacite = actifs.length * 2;
+        actifs = Arrays.copyOf(actifs, capacite);
+        x = Arrays.copyOf(x, capacite);
+        y = Arrays.copyOf(y, capacite);
+        z = Arrays.copyOf(z, capacite);
+        autonomies = Arrays.copyOf(autonomies, capacite);
+        autonomiesMax = Arrays.copyOf(autonomiesMax, capacite);
+        vitessesMax = Arrays.copyOf(vitessesMax, capacite);
+        etats = Arrays.copyOf(etats, capacite);
+    }
+}
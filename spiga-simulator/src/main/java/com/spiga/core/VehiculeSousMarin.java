@@ -43,7 +43,7 @@ public class VehiculeSousMarin extends ActifMarin {
     }
 
     @Override
-    public void notifierEtatCritique(TypeAlerte type) {
-        System.out.println("ALERTE SOUS-MARIN " + getId() + ": " + type);
+    protected String getCategorieAlerte() {
+        return "SOUS-MARIN";
     }
 }
@@ -43,13 +43,13 @@ public class VehiculeSurface extends ActifMarin {
     }
 
     @Override
-    public void notifierEtatCritique(TypeAlerte type) {
-        System.out.println("ALERTE SURFACE " + getId() + ": " + type);
+    protected String getCategorieAlerte() {
+        return "SURFACE";
     }
 
     @Override
-    public void setPosition(Point3D position) {
+    public void setPosition(double x, double y, double z) {
         // Ensure Z is always 0
-        super.setPosition(new Point3D(position.getX(), position.getY(), 0));
+        super.setPosition(x, y, 0);
     }
 }
@@ -19,13 +19,13 @@ public class VehiculeTerrestre extends ActifMobile {
     public VehiculeTerrestre(String id, Point3D position) {
         super(id, position, 50.0, 120.0); // Medium speed, good autonomy
         // Force Z to be 0 (ground)
-        position.setZ(0);
+        setPosition(getX(), getY(), 0);
     }
 
     @Override
-    public void setPosition(Point3D position) {
+    public void setPosition(double x, double y, double z) {
         // Ensure Z is always 0
-        super.setPosition(new Point3D(position.getX(), position.getY(), 0));
+        super.setPosition(x, y, 0);
     }
 
     @Override
@@ -55,102 +55,66 @@ public class VehiculeTerrestre extends ActifMobile {
     }
 
     @Override
-    public void notifierEtatCritique(TypeAlerte type) {
-        System.out.println("ALERTE TERRESTRE " + getId() + ": " + type);
+    protected String getCategorieAlerte() {
+        return "TERRESTRE";
     }
 
     /**
-     * Moves the land vehicle towards a target.
+     * Prepares a move of the land vehicle towards a target.
      * Enforces land-only movement and uses pathfinding.
      * 
      * @param cible The target point.
      * @param zone  The simulation zone.
      */
     @Override
-    public void deplacer(Point3D cible, ZoneOperation zone) {
+    public void preparerDeplacement(Point3D cible, ZoneOperation zone) {
+        reinitialiserIntention();
         try {
             if (getEtat() == EtatOperationnel.EN_PANNE || getAutonomieActuelle() <= 0) {
                 return;
             }
 
             if (getEtat() == EtatOperationnel.AU_SOL) {
-                setEtat(EtatOperationnel.EN_MISSION);
+                demanderActivation();
             }
 
             // Pathfinding Logic
-            if (getCurrentPath().isEmpty()) {
-                // Calculate path if empty
-                List<Point3D> path = zone.findPath(getPosition(), cible, false); // false = isLand (not Marine)
-                setCurrentPath(path);
-            }
-
-            // Get next waypoint
-            Point3D nextPoint = cible;
-            if (!getCurrentPath().isEmpty()) {
-                nextPoint = getCurrentPath().get(0);
+            planifierChemin(cible, zone, false); // Plans or repairs the route to cible
+
+            // Skip reached waypoints and head for the next one in the same tick
+            Point3D ici = positionActuelle();
+            while (!isCheminTermine() && ici.distanceXY(getProchainWaypoint()) < 5.0) {
+                avancerWaypoint();
+                if (isCheminTermine())
+                    return; // Reached final target
             }
+            Point3D nextPoint = isCheminTermine() ? cible : getProchainWaypoint();
 
             // Simple movement logic on ground (2D)
-            double dx = nextPoint.getX() - getPosition().getX();
-            double dy = nextPoint.getY() - getPosition().getY();
             // Ignore Z difference for movement direction, we stay on ground
+            double distance = ici.distanceXY(nextPoint);
+            if (distance == 0)
+                return;
 
-            double distance = Math.sqrt(dx * dx + dy * dy);
-
-            if (distance < 5.0) { // Reached waypoint
-                if (!getCurrentPath().isEmpty()) {
-                    getCurrentPath().remove(0); // Remove reached point
-                    if (getCurrentPath().isEmpty())
-                        return; // Reached final target
-                    return;
-                }
-            }
-
-            double nx = dx / distance;
-            double ny = dy / distance;
-
-            double speed = getVitesseMax();
-            if (speed > distance) {
-                speed = distance;
-            }
-
-            double moveX = nx * speed;
-            double moveY = ny * speed;
-
-            Point3D newPos = new Point3D(
-                    getPosition().getX() + moveX,
-                    getPosition().getY() + moveY,
-                    0 // Stay on ground
-            );
+            // Step towards the waypoint projected on the ground, written in place
+            Point3D newPos = getPositionProposee().set(nextPoint.getX(), nextPoint.getY(), ici.getZ());
+            ici.stepToward(newPos, getVitesseMax(), newPos)
+                    .translate(ici.getX(), ici.getY(), 0); // Stay on ground
 
             if (!zone.isInside(newPos)) {
                 return;
             }
-            if (zone.isCollision(newPos, this)) {
-                notifierEtatCritique(TypeAlerte.COLLISION_IMMINENTE);
-                return;
-            }
 
-            // Check Water Collision (for Land Vehicle)
-            if (!zone.isLand(newPos)) {
-                // System.out.println("Car hit water!");
-                return;
-            }
-
-            setPosition(newPos);
+            // Check Water Collision (for Land Vehicle), applied after the collision check
+            boolean surEau = !zone.isLand(newPos);
 
             // Consumption
             double consumption = 1.0;
-            setAutonomieActuelle(getAutonomieActuelle() - consumption);
-            if (getAutonomieActuelle() <= 0) {
-                setAutonomieActuelle(0);
-                setEtat(EtatOperationnel.EN_PANNE);
-                notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
-            }
+            proposerDeplacement(consumption, surEau);
         } catch (Exception e) {
             System.err.println("Error moving land vehicle " + getId() + ": " + e.getMessage());
             e.printStackTrace();
-            setEtat(EtatOperationnel.EN_PANNE);
+            signalerPanne();
         }
     }
 
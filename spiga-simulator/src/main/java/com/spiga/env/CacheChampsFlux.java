@@ -0,0 +1,117 @@
+package com.spiga.env;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of flow fields keyed by (goal cell, medium).
+ * Fields are large (two ints per grid cell), so only a few rally points are
+ * kept; the least recently sampled one is evicted first. All methods are
+ * synchronized so the cache can be used from parallel ticks.
+ */
+public class CacheChampsFlux {
+    private final LinkedHashMap<Long, ChampFlux> entrees;
+    private int capacite;
+    private long succes;
+    private long constructions;
+
+    /**
+     * Constructor for CacheChampsFlux.
+     *
+     * @param capacite Maximum number of cached fields.
+     */
+    public CacheChampsFlux(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacite);
+        }
+        this.capacite = capacite;
+        this.entrees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ChampFlux> eldest) {
+                return size() > CacheChampsFlux.this.capacite;
+            }
+        };
+    }
+
+    /**
+     * Builds the cache key of a field.
+     *
+     * @param arrivee  Goal cell index.
+     * @param isMarine True for marine fields, false for land fields.
+     * @return The key.
+     */
+    static long cle(int arrivee, boolean isMarine) {
+        return ((long) arrivee << 1) | (isMarine ? 1 : 0);
+    }
+
+    /**
+     * Looks a field up, counting a hit if found. Misses are not counted since
+     * most routes have no field.
+     *
+     * @param cle The field key.
+     * @return The field, or null.
+     */
+    synchronized ChampFlux obtenir(long cle) {
+        ChampFlux champ = entrees.get(cle);
+        if (champ != null) {
+            succes++;
+        }
+        return champ;
+    }
+
+    /**
+     * Stores a newly built field, evicting the least recently used one if full.
+     *
+     * @param cle   The field key.
+     * @param champ The field.
+     */
+    synchronized void stocker(long cle, ChampFlux champ) {
+        entrees.put(cle, champ);
+        constructions++;
+    }
+
+    /**
+     * Drops every cached field. Counters are kept.
+     */
+    public synchronized void vider() {
+        entrees.clear();
+    }
+
+    /**
+     * Changes the capacity, evicting the oldest fields if needed.
+     *
+     * @param capacite The new maximum number of fields.
+     */
+    public synchronized void setCapacite(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacite);
+        }
+        this.capacite = capacite;
+        while (entrees.size() > capacite) {
+            Long plusAncienne = entrees.keySet().iterator().next();
+            entrees.remove(plusAncienne);
+        }
+    }
+
+    public synchronized int getCapacite() {
+        return capacite;
+    }
+
+    public synchronized int taille() {
+        return entrees.size();
+    }
+
+    /**
+     * Gets the number of lookups served by a cached field.
+     */
+    public synchronized long getSucces() {
+        return succes;
+    }
+
+    /**
+     * Gets the number of fields built, each costing one search of the grid.
+     */
+    public synchronized long getConstructions() {
+        return constructions;
+    }
+}
@@ -0,0 +1,131 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of pathfinding results keyed by (start cell, goal cell,
+ * medium, search mode).
+ * Cached paths are unmodifiable lists shared by every asset that requests the
+ * same route; their waypoints must be treated as read-only. All methods are
+ * synchronized so the cache can be used from parallel ticks.
+ */
+public class CacheChemins {
+    /** Marker stored for routes known to be unreachable. */
+    static final List<Point3D> INACCESSIBLE = List.of();
+
+    private final LinkedHashMap<Long, List<Point3D>> entrees;
+    private int capacite;
+    private long succes;
+    private long echecs;
+
+    /**
+     * Constructor for CacheChemins.
+     *
+     * @param capacite Maximum number of cached routes.
+     */
+    public CacheChemins(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacite);
+        }
+        this.capacite = capacite;
+        this.entrees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<Point3D>> eldest) {
+                return size() > CacheChemins.this.capacite;
+            }
+        };
+    }
+
+    /**
+     * Builds the cache key of an A* route.
+     *
+     * @param depart   Start cell index.
+     * @param arrivee  Goal cell index.
+     * @param isMarine True for marine routes, false for land routes.
+     * @return The key.
+     */
+    static long cle(int depart, int arrivee, boolean isMarine) {
+        return cle(depart, arrivee, isMarine, ModeRecherche.A_ETOILE);
+    }
+
+    /**
+     * Builds the cache key of a route.
+     *
+     * @param depart   Start cell index.
+     * @param arrivee  Goal cell index.
+     * @param isMarine True for marine routes, false for land routes.
+     * @param mode     The search algorithm that produced the route.
+     * @return The key.
+     */
+    static long cle(int depart, int arrivee, boolean isMarine, ModeRecherche mode) {
+        return ((long) depart << 33) | ((long) arrivee << 2) | ((long) mode.ordinal() << 1) | (isMarine ? 1 : 0);
+    }
+
+    /**
+     * Looks a route up and counts the hit or miss.
+     *
+     * @param cle The route key.
+     * @return The shared path, {@link #INACCESSIBLE}, or null on a miss.
+     */
+    synchronized List<Point3D> obtenir(long cle) {
+        List<Point3D> chemin = entrees.get(cle);
+        if (chemin == null) {
+            echecs++;
+        } else {
+            succes++;
+        }
+        return chemin;
+    }
+
+    /**
+     * Stores a route, evicting the least recently used one if full.
+     *
+     * @param cle    The route key.
+     * @param chemin The unmodifiable path, or {@link #INACCESSIBLE}.
+     */
+    synchronized void stocker(long cle, List<Point3D> chemin) {
+        entrees.put(cle, chemin);
+    }
+
+    /**
+     * Drops every cached route. Counters are kept.
+     */
+    public synchronized void vider() {
+        entrees.clear();
+    }
+
+    /**
+     * Changes the capacity, evicting the oldest routes if needed.
+     *
+     * @param capacite The new maximum number of routes.
+     */
+    public synchronized void setCapacite(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacite);
+        }
+        this.capacite = capacite;
+        while (entrees.size() > capacite) {
+            Long plusAncienne = entrees.keySet().iterator().next();
+            entrees.remove(plusAncienne);
+        }
+    }
+
+    public synchronized int getCapacite() {
+        return capacite;
+    }
+
+    public synchronized int taille() {
+        return entrees.size();
+    }
+
+    public synchronized long getSucces() {
+        return succes;
+    }
+
+    public synchronized long getEchecs() {
+        return echecs;
+    }
+}
@@ -0,0 +1,171 @@
+package com.spiga.env;
+
+import java.util.List;
+
+/**
+ * Land/water raster of the operational zone.
+ * Islands are rasterised once into two bitsets: cells entirely on land, and
+ * cells crossed by a coastline. A lookup is then a single bit test; only
+ * coastal cells and points outside the raster need the exact island geometry.
+ * The raster is immutable and rebuilt by {@link ZoneOperation} whenever the
+ * island set changes.
+ */
+public class CarteTerrain {
+    /** Land or water could not be decided from the raster. */
+    public static final int INCONNU = -1;
+    /** The point is in the sea. */
+    public static final int EAU = 0;
+    /** The point is on land. */
+    public static final int TERRE = 1;
+
+    /** Upper bound on raster cells, the resolution is coarsened beyond it. */
+    static final long CELLULES_MAX = 1L << 26;
+
+    private final double minX;
+    private final double minY;
+    private final double resolution;
+    private final int largeur;
+    private final int hauteur;
+    private final long[] terre;
+    private final long[] cote;
+
+    /**
+     * Rasterises the islands over a rectangle.
+     *
+     * @param islands    The islands to rasterise.
+     * @param minX       Minimum X of the covered area.
+     * @param minY       Minimum Y of the covered area.
+     * @param maxX       Maximum X of the covered area.
+     * @param maxY       Maximum Y of the covered area.
+     * @param resolution Requested cell side, in world units.
+     */
+    public CarteTerrain(List<ZoneOperation.Island> islands, double minX, double minY, double maxX, double maxY,
+            double resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        double aire = Math.max(maxX - minX, 0) * Math.max(maxY - minY, 0);
+        this.resolution = Math.max(resolution, Math.sqrt(aire / CELLULES_MAX));
+        this.minX = minX;
+        this.minY = minY;
+        this.largeur = Math.max(1, (int) Math.ceil((maxX - minX) / this.resolution));
+        this.hauteur = Math.max(1, (int) Math.ceil((maxY - minY) / this.resolution));
+        int mots = (int) (((long) largeur * hauteur + 63) >>> 6);
+        this.terre = new long[mots];
+        this.cote = new long[mots];
+        for (ZoneOperation.Island island : islands) {
+            rasteriser(island);
+        }
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+
+    public int getLargeur() {
+        return largeur;
+    }
+
+    public int getHauteur() {
+        return hauteur;
+    }
+
+    /**
+     * Gets the memory used by the two bitsets.
+     *
+     * @return The size in bytes.
+     */
+    public long getTailleOctets() {
+        return 16L * terre.length;
+    }
+
+    /**
+     * Classifies a planar position from the raster alone.
+     *
+     * @param x X coordinate.
+     * @param y Y coordinate.
+     * @return {@link #TERRE}, {@link #EAU}, or {@link #INCONNU} for coastal
+     *         cells and points outside the raster.
+     */
+    public int classer(double x, double y) {
+        double fx = (x - minX) / resolution;
+        double fy = (y - minY) / resolution;
+        if (!(fx >= 0 && fx < largeur && fy >= 0 && fy < hauteur)) {
+            return INCONNU;
+        }
+        int bit = (int) fy * largeur + (int) fx;
+        int mot = bit >>> 6;
+        long masque = 1L << bit;
+        if ((cote[mot] & masque) != 0) {
+            return INCONNU;
+        }
+        return (terre[mot] & masque) != 0 ? TERRE : EAU;
+    }
+
+    private void rasteriser(ZoneOperation.Island island) {
+        double gauche;
+        double droite;
+        double bas;
+        double haut;
+        if (island.isCircle()) {
+            gauche = island.getX() - island.getW();
+            droite = island.getX() + island.getW();
+            bas = island.getY() - island.getW();
+            haut = island.getY() + island.getW();
+        } else {
+            gauche = island.getX() - island.getW() / 2;
+            droite = island.getX() + island.getW() / 2;
+            bas = island.getY() - island.getH() / 2;
+            haut = island.getY() + island.getH() / 2;
+        }
+        int cx0 = Math.max(0, (int) Math.floor((gauche - minX) / resolution));
+        int cx1 = Math.min(largeur - 1, (int) Math.floor((droite - minX) / resolution));
+        int cy0 = Math.max(0, (int) Math.floor((bas - minY) / resolution));
+        int cy1 = Math.min(hauteur - 1, (int) Math.floor((haut - minY) / resolution));
+        for (int cy = cy0; cy <= cy1; cy++) {
+            double y0 = minY + cy * resolution;
+            double y1 = y0 + resolution;
+            for (int cx = cx0; cx <= cx1; cx++) {
+                double x0 = minX + cx * resolution;
+                double x1 = x0 + resolution;
+                int bit = cy * largeur + cx;
+                int mot = bit >>> 6;
+                long masque = 1L << bit;
+                if (contientCellule(island, x0, y0, x1, y1)) {
+                    terre[mot] |= masque;
+                    cote[mot] &= ~masque;
+                } else if ((terre[mot] & masque) == 0 && touche(island, x0, y0, x1, y1)) {
+                    cote[mot] |= masque;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the closed cell [x0, x1] x [y0, y1] lies entirely on the island.
+     */
+    private static boolean contientCellule(ZoneOperation.Island island, double x0, double y0, double x1,
+            double y1) {
+        if (island.isCircle()) {
+            double dx = Math.max(Math.abs(x0 - island.getX()), Math.abs(x1 - island.getX()));
+            double dy = Math.max(Math.abs(y0 - island.getY()), Math.abs(y1 - island.getY()));
+            return dx * dx + dy * dy <= island.getW() * island.getW();
+        }
+        return x0 >= island.getX() - island.getW() / 2 && x1 <= island.getX() + island.getW() / 2
+                && y0 >= island.getY() - island.getH() / 2 && y1 <= island.getY() + island.getH() / 2;
+    }
+
+    /**
+     * Checks if the closed cell [x0, x1] x [y0, y1] shares any point with the
+     * island.
+     */
+    private static boolean touche(ZoneOperation.Island island, double x0, double y0, double x1, double y1) {
+        if (island.isCircle()) {
+            double dx = Math.max(Math.max(x0 - island.getX(), 0), island.getX() - x1);
+            double dy = Math.max(Math.max(y0 - island.getY(), 0), island.getY() - y1);
+            return dx * dx + dy * dy <= island.getW() * island.getW();
+        }
+        return x1 >= island.getX() - island.getW() / 2 && x0 <= island.getX() + island.getW() / 2
+                && y1 >= island.getY() - island.getH() / 2 && y0 <= island.getY() + island.getH() / 2;
+    }
+}
@@ -0,0 +1,154 @@
+package com.spiga.env;
+
+import java.util.Arrays;
+
+/**
+ * Flow field towards one goal cell for one medium.
+ * A single breadth-first pass from the goal gives every cell its distance in
+ * steps and the neighbour to move to next, so any number of assets heading
+ * to the goal read their route instead of searching. Moves and costs are
+ * those of {@link PlanificateurAStar}; the routes are shortest paths.
+ * Immutable once built, and safe to share between threads.
+ */
+class ChampFlux {
+    /** Distance of cells that cannot reach the goal. */
+    static final int INACCESSIBLE = -1;
+
+    private final int largeur;
+    private final int hauteur;
+    private final int arrivee;
+    private final int[] distance;
+    private final int[] suivant;
+
+    /**
+     * Builds the field.
+     *
+     * @param grille  Passability of the grid for the medium.
+     * @param arrivee Goal cell index; if blocked, no cell reaches it.
+     */
+    ChampFlux(GrillePassage grille, int arrivee) {
+        this.largeur = grille.getLargeur();
+        this.hauteur = grille.getHauteur();
+        this.arrivee = arrivee;
+        int n = largeur * hauteur;
+        this.distance = new int[n];
+        this.suivant = new int[n];
+        Arrays.fill(distance, INACCESSIBLE);
+        Arrays.fill(suivant, -1);
+        if (!grille.estLibre(arrivee)) {
+            return;
+        }
+
+        int[] file = new int[n];
+        int tete = 0;
+        int queue = 0;
+        distance[arrivee] = 0;
+        file[queue++] = arrivee;
+        while (tete < queue) {
+            int c = file[tete++];
+            int cx = c % largeur;
+            int cy = c / largeur;
+            for (int i = 0; i < 8; i++) {
+                int nx = cx + PlanificateurAStar.DX[i];
+                int ny = cy + PlanificateurAStar.DY[i];
+                if (grille.estLibre(nx, ny)) {
+                    int v = ny * largeur + nx;
+                    if (distance[v] == INACCESSIBLE) {
+                        distance[v] = distance[c] + 1;
+                        file[queue++] = v;
+                    }
+                }
+            }
+        }
+        for (int k = 0; k < queue; k++) {
+            suivant[file[k]] = meilleurVoisin(file[k]);
+        }
+    }
+
+    /**
+     * Picks, among the neighbours one step closer to the goal, the one nearest
+     * to the goal in straight line, which keeps routes from zigzagging.
+     *
+     * @return The neighbour, or -1 for the goal itself or a cell with no
+     *         reachable neighbour.
+     */
+    private int meilleurVoisin(int c) {
+        int cx = c % largeur;
+        int cy = c / largeur;
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+        int meilleur = -1;
+        int meilleureDistance = distance[c] == INACCESSIBLE ? Integer.MAX_VALUE : distance[c];
+        long meilleurEcart = Long.MAX_VALUE;
+        for (int i = 0; i < 8; i++) {
+            int nx = cx + PlanificateurAStar.DX[i];
+            int ny = cy + PlanificateurAStar.DY[i];
+            if (nx < 0 || nx >= largeur || ny < 0 || ny >= hauteur) {
+                continue;
+            }
+            int v = ny * largeur + nx;
+            int d = distance[v];
+            if (d == INACCESSIBLE || d > meilleureDistance || (d == meilleureDistance && meilleur == -1)) {
+                continue;
+            }
+            long ecart = (long) (nx - ax) * (nx - ax) + (long) (ny - ay) * (ny - ay);
+            if (d < meilleureDistance || ecart < meilleurEcart) {
+                meilleur = v;
+                meilleureDistance = d;
+                meilleurEcart = ecart;
+            }
+        }
+        return meilleur;
+    }
+
+    int getArrivee() {
+        return arrivee;
+    }
+
+    /**
+     * Gets the number of steps from a cell to the goal.
+     *
+     * @param cellule Cell index.
+     * @return The distance, or {@link #INACCESSIBLE}.
+     */
+    int distance(int cellule) {
+        return distance[cellule];
+    }
+
+    /**
+     * Gets the cell to move to from a given cell. A blocked cell, such as a
+     * boat stranded on a coastal cell, steps to its best reachable neighbour.
+     *
+     * @param cellule Cell index.
+     * @return The next cell, or -1 at the goal or if the goal is unreachable.
+     */
+    int suivant(int cellule) {
+        if (distance[cellule] == INACCESSIBLE) {
+            return meilleurVoisin(cellule);
+        }
+        return suivant[cellule];
+    }
+
+    /**
+     * Reads the route from a cell by following the field.
+     *
+     * @param depart Start cell index.
+     * @return Every cell from start to goal, or null if unreachable.
+     */
+    int[] chemin(int depart) {
+        if (depart == arrivee) {
+            return distance[arrivee] == INACCESSIBLE ? null : new int[] { depart };
+        }
+        int premier = suivant(depart);
+        if (premier < 0) {
+            return null;
+        }
+        int[] cellules = new int[distance[premier] + 2];
+        cellules[0] = depart;
+        int n = 1;
+        for (int c = premier; c >= 0; c = suivant[c]) {
+            cellules[n++] = c;
+        }
+        return cellules;
+    }
+}
@@ -13,6 +13,33 @@ public interface Collidable {
      */
     Point3D getPosition();
 
+    /**
+     * Gets the X coordinate without going through {@link #getPosition()}.
+     * 
+     * @return The X coordinate.
+     */
+    default double getX() {
+        return getPosition().getX();
+    }
+
+    /**
+     * Gets the Y coordinate without going through {@link #getPosition()}.
+     * 
+     * @return The Y coordinate.
+     */
+    default double getY() {
+        return getPosition().getY();
+    }
+
+    /**
+     * Gets the Z coordinate without going through {@link #getPosition()}.
+     * 
+     * @return The Z coordinate.
+     */
+    default double getZ() {
+        return getPosition().getZ();
+    }
+
     /**
      * Gets the collision radius of the object.
      * 
@@ -26,4 +53,25 @@ public interface Collidable {
      * @return The ID.
      */
     String getId();
+
+    /**
+     * Registers a listener notified after every position or radius change.
+     * Implementations that cannot report their moves keep the default and
+     * return false, so the caller falls back to polling them.
+     * 
+     * @param observateur The listener to register.
+     * @return True if the listener will be notified.
+     */
+    default boolean ajouterObservateur(ObservateurCollidable observateur) {
+        return false;
+    }
+
+    /**
+     * Unregisters a listener previously added with
+     * {@link #ajouterObservateur(ObservateurCollidable)}.
+     * 
+     * @param observateur The listener to remove.
+     */
+    default void retirerObservateur(ObservateurCollidable observateur) {
+    }
 }
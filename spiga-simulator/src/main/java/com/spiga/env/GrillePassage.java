@@ -0,0 +1,173 @@
+package com.spiga.env;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Passability of a pathfinding grid as bitsets, for one medium.
+ * Blocked cells are stored four times, row-major and column-major, each
+ * forwards and mirrored, so a straight scan in any of the four directions
+ * reads 64 consecutive cells with two word loads. Rows are padded with
+ * blocked cells, so the grid border stops every scan. Immutable; rebuilt by
+ * {@link ZoneOperation} when the islands change.
+ */
+class GrillePassage {
+    /** Scan directions, in the orientation of the stored bitsets. */
+    static final int EST = 0;
+    static final int OUEST = 1;
+    static final int NORD = 2;
+    static final int SUD = 3;
+
+    private final int largeur;
+    private final int hauteur;
+    private final long[][] bloques = new long[4][];
+    private final int[] motsParLigne = new int[4];
+
+    /**
+     * Reads the passability of every cell.
+     *
+     * @param largeur    Number of grid columns.
+     * @param hauteur    Number of grid rows.
+     * @param praticable Passability test on cell indices ({@code y * largeur + x}).
+     */
+    GrillePassage(int largeur, int hauteur, IntPredicate praticable) {
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+        for (int sens = 0; sens < 4; sens++) {
+            int longueur = sens < NORD ? largeur : hauteur;
+            int lignes = sens < NORD ? hauteur : largeur;
+            // One spare word so a 64-cell window never reads past the row
+            motsParLigne[sens] = (longueur + 64) / 64 + 1;
+            bloques[sens] = new long[lignes * motsParLigne[sens]];
+            java.util.Arrays.fill(bloques[sens], -1L);
+        }
+        for (int y = 0; y < hauteur; y++) {
+            for (int x = 0; x < largeur; x++) {
+                if (praticable.test(y * largeur + x)) {
+                    liberer(EST, y, x);
+                    liberer(OUEST, y, largeur - 1 - x);
+                    liberer(NORD, x, y);
+                    liberer(SUD, x, hauteur - 1 - y);
+                }
+            }
+        }
+    }
+
+    private void liberer(int sens, int ligne, int position) {
+        bloques[sens][ligne * motsParLigne[sens] + (position >>> 6)] &= ~(1L << position);
+    }
+
+    int getLargeur() {
+        return largeur;
+    }
+
+    int getHauteur() {
+        return hauteur;
+    }
+
+    /**
+     * Checks a cell; cells outside the grid are blocked.
+     *
+     * @param x Column.
+     * @param y Row.
+     * @return True if passable.
+     */
+    boolean estLibre(int x, int y) {
+        if (x < 0 || x >= largeur || y < 0 || y >= hauteur) {
+            return false;
+        }
+        return (bloques[EST][y * motsParLigne[EST] + (x >>> 6)] & (1L << x)) == 0;
+    }
+
+    /**
+     * Checks a cell by index.
+     *
+     * @param cellule Cell index inside the grid.
+     * @return True if passable.
+     */
+    boolean estLibre(int cellule) {
+        return estLibre(cellule % largeur, cellule / largeur);
+    }
+
+    /**
+     * Scans a straight line for Jump Point Search, 63 cells per step. Stops at
+     * the first cell that is blocked, is the goal, or has a forced neighbour:
+     * a side cell blocked with the next side cell free.
+     *
+     * @param sens     {@link #EST}, {@link #OUEST}, {@link #NORD} or {@link #SUD}.
+     * @param x        Column of the cell the scan leaves.
+     * @param y        Row of the cell the scan leaves.
+     * @param arrivee  Goal cell index.
+     * @return The number of steps to the jump point, or -1 if the scan hits an
+     *         obstacle or the border first.
+     */
+    int balayer(int sens, int x, int y, int arrivee) {
+        int ligne;
+        int position;
+        int lignes;
+        int ligneArrivee;
+        int positionArrivee;
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+        switch (sens) {
+            case EST:
+                ligne = y;
+                position = x;
+                lignes = hauteur;
+                ligneArrivee = ay;
+                positionArrivee = ax;
+                break;
+            case OUEST:
+                ligne = y;
+                position = largeur - 1 - x;
+                lignes = hauteur;
+                ligneArrivee = ay;
+                positionArrivee = largeur - 1 - ax;
+                break;
+            case NORD:
+                ligne = x;
+                position = y;
+                lignes = largeur;
+                ligneArrivee = ax;
+                positionArrivee = ay;
+                break;
+            default:
+                ligne = x;
+                position = hauteur - 1 - y;
+                lignes = largeur;
+                ligneArrivee = ax;
+                positionArrivee = hauteur - 1 - ay;
+                break;
+        }
+        long[] bits = bloques[sens];
+        int mots = motsParLigne[sens];
+        for (int debut = position + 1;; debut += 63) {
+            long courante = fenetre(bits, mots, ligne, debut);
+            long avant = ligne + 1 < lignes ? fenetre(bits, mots, ligne + 1, debut) : -1L;
+            long apres = ligne > 0 ? fenetre(bits, mots, ligne - 1, debut) : -1L;
+            // Bit 63 cannot see its next side cell, it is examined in the next window
+            long forces = ((avant & ~(avant >>> 1)) | (apres & ~(apres >>> 1))) & Long.MAX_VALUE;
+            int bloc = Long.numberOfTrailingZeros(courante);
+            int force = Long.numberOfTrailingZeros(forces);
+            int but = ligne == ligneArrivee ? positionArrivee - debut : -1;
+            if (but >= 0 && but < 63 && but < bloc && but <= force) {
+                return debut + but - position;
+            }
+            if (bloc < 63 && bloc <= force) {
+                return -1;
+            }
+            if (force < 63) {
+                return debut + force - position;
+            }
+        }
+    }
+
+    /**
+     * Gets the blocked flags of 64 cells of a row, from a position on.
+     */
+    private static long fenetre(long[] bits, int mots, int ligne, int debut) {
+        int base = ligne * mots + (debut >>> 6);
+        int decalage = debut & 63;
+        long bas = bits[base] >>> decalage;
+        return decalage == 0 ? bas : bas | (bits[base + 1] << (64 - decalage));
+    }
+}
@@ -0,0 +1,571 @@
+package com.spiga.env;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Uniform-grid spatial hash over the (X, Y) plane.
+ * Each element is stored in exactly one square cell, so insertion, move and
+ * removal are O(1) and a neighbourhood query only visits the cells overlapping
+ * the requested range.
+ *
+ * @param <T> Type of the indexed elements (compared by identity).
+ */
+public class GrilleSpatiale<T> {
+    private double tailleCellule;
+    private final TableCellules<T> cellules;
+    private final Map<T, Emplacement> emplacements;
+    // Bounds of the cells ever occupied since the last clear; they only grow
+    private int minCx = Integer.MAX_VALUE;
+    private int maxCx = Integer.MIN_VALUE;
+    private int minCy = Integer.MAX_VALUE;
+    private int maxCy = Integer.MIN_VALUE;
+
+    /**
+     * Location of an element inside the grid.
+     */
+    private static class Emplacement {
+        long cle;
+        Cellule<?> cellule;
+        int index;
+        double x;
+        double y;
+    }
+
+    /**
+     * Elements of one cell, with their coordinates stored alongside so
+     * distance tests scan contiguous arrays instead of chasing pointers.
+     */
+    private static final class Cellule<T> {
+        private Object[] elements = new Object[4];
+        private double[] xs = new double[4];
+        private double[] ys = new double[4];
+        private int taille;
+
+        @SuppressWarnings("unchecked")
+        T get(int i) {
+            return (T) elements[i];
+        }
+
+        int ajouter(T element, double x, double y) {
+            if (taille == elements.length) {
+                int capacite = taille * 2;
+                elements = Arrays.copyOf(elements, capacite);
+                xs = Arrays.copyOf(xs, capacite);
+                ys = Arrays.copyOf(ys, capacite);
+            }
+            elements[taille] = element;
+            xs[taille] = x;
+            ys[taille] = y;
+            return taille++;
+        }
+
+        /** Swap-remove; returns the element moved into the freed slot, or null. */
+        T retirer(int index) {
+            int dernier = --taille;
+            T deplace = null;
+            if (index != dernier) {
+                deplace = get(dernier);
+                elements[index] = deplace;
+                xs[index] = xs[dernier];
+                ys[index] = ys[dernier];
+            }
+            elements[dernier] = null;
+            return deplace;
+        }
+    }
+
+    /**
+     * Constructor for GrilleSpatiale.
+     *
+     * @param tailleCellule Side length of a cell, in world units.
+     */
+    public GrilleSpatiale(double tailleCellule) {
+        if (tailleCellule <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + tailleCellule);
+        }
+        this.tailleCellule = tailleCellule;
+        this.cellules = new TableCellules<>();
+        this.emplacements = new IdentityHashMap<>();
+    }
+
+    public double getTailleCellule() {
+        return tailleCellule;
+    }
+
+    /**
+     * Gets the number of indexed elements.
+     *
+     * @return The element count.
+     */
+    public int taille() {
+        return emplacements.size();
+    }
+
+    public boolean contient(T element) {
+        return emplacements.containsKey(element);
+    }
+
+    /**
+     * Inserts an element, or moves it if it is already indexed.
+     *
+     * @param element The element.
+     * @param x       X coordinate.
+     * @param y       Y coordinate.
+     */
+    public void inserer(T element, double x, double y) {
+        Emplacement e = emplacements.get(element);
+        if (e != null) {
+            deplacer(e, element, x, y);
+            return;
+        }
+        e = new Emplacement();
+        e.x = x;
+        e.y = y;
+        e.cle = cle(x, y);
+        ajouterDansCellule(e, element);
+        emplacements.put(element, e);
+    }
+
+    /**
+     * Updates the position of an indexed element. Unknown elements are ignored.
+     *
+     * @param element The element.
+     * @param x       New X coordinate.
+     * @param y       New Y coordinate.
+     */
+    public void deplacer(T element, double x, double y) {
+        Emplacement e = emplacements.get(element);
+        if (e != null) {
+            deplacer(e, element, x, y);
+        }
+    }
+
+    /**
+     * Removes an element from the grid.
+     *
+     * @param element The element to remove.
+     * @return True if the element was indexed.
+     */
+    public boolean retirer(T element) {
+        Emplacement e = emplacements.remove(element);
+        if (e == null) {
+            return false;
+        }
+        retirerDeCellule(e);
+        return true;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void vider() {
+        cellules.clear();
+        emplacements.clear();
+        reinitialiserBornes();
+    }
+
+    /**
+     * Re-buckets every element with a new cell size.
+     *
+     * @param nouvelleTaille The new cell side length.
+     */
+    public void redimensionner(double nouvelleTaille) {
+        if (nouvelleTaille <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + nouvelleTaille);
+        }
+        this.tailleCellule = nouvelleTaille;
+        cellules.clear();
+        reinitialiserBornes();
+        for (Map.Entry<T, Emplacement> entry : emplacements.entrySet()) {
+            Emplacement e = entry.getValue();
+            e.cle = cle(e.x, e.y);
+            ajouterDansCellule(e, entry.getKey());
+        }
+    }
+
+    /**
+     * Visits the elements of every cell overlapping the square of half-side
+     * {@code portee} centred on (x, y), stopping at the first accepted element.
+     * Elements outside the square may be visited; the predicate does the exact
+     * test.
+     *
+     * @param x      X coordinate of the query centre.
+     * @param y      Y coordinate of the query centre.
+     * @param portee Half-side of the query square.
+     * @param test   Predicate evaluated on candidates.
+     * @return True if the predicate accepted a candidate.
+     */
+    public boolean chercher(double x, double y, double portee, Predicate<? super T> test) {
+        int minCx = indice(x - portee);
+        int maxCx = indice(x + portee);
+        int minCy = indice(y - portee);
+        int maxCy = indice(y + portee);
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                Cellule<T> cellule = cellules.get(cle(cx, cy));
+                if (cellule == null) {
+                    continue;
+                }
+                for (int i = 0; i < cellule.taille; i++) {
+                    if (test.test(cellule.get(i))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the k elements nearest to a point in the (X, Y) plane.
+     * Cells are visited in rings of growing radius around the point, and the
+     * search stops as soon as no unvisited cell can hold a closer element, so
+     * the cost depends on the local density rather than on the grid size.
+     *
+     * @param x         X coordinate of the query point.
+     * @param y         Y coordinate of the query point.
+     * @param k         Maximum number of elements.
+     * @param porteeMax Elements farther than this are ignored; use
+     *                  {@link Double#POSITIVE_INFINITY} for no limit.
+     * @param filtre    Only accepted elements are returned.
+     * @return Up to k elements, nearest first.
+     */
+    public List<T> plusProches(double x, double y, int k, double porteeMax, Predicate<? super T> filtre) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive or zero: " + k);
+        }
+        TasBorne<T> tas = new TasBorne<>(k);
+        if (k == 0 || emplacements.isEmpty()) {
+            return tas.trier();
+        }
+        int cx0 = indice(x);
+        int cy0 = indice(y);
+        long dernierAnneau = Math.max(Math.max((long) cx0 - minCx, (long) maxCx - cx0),
+                Math.max((long) cy0 - minCy, (long) maxCy - cy0));
+        if (porteeMax < Double.POSITIVE_INFINITY) {
+            dernierAnneau = Math.min(dernierAnneau, (long) Math.ceil(porteeMax / tailleCellule) + 1);
+        }
+        double porteeMax2 = porteeMax * porteeMax;
+        for (long r = 0; r <= dernierAnneau; r++) {
+            if (r == 0) {
+                visiterCellule(cx0, cy0, x, y, porteeMax2, filtre, tas);
+            } else {
+                for (long dx = -r; dx <= r; dx++) {
+                    visiterCellule(cx0 + dx, cy0 - r, x, y, porteeMax2, filtre, tas);
+                    visiterCellule(cx0 + dx, cy0 + r, x, y, porteeMax2, filtre, tas);
+                }
+                for (long dy = -r + 1; dy < r; dy++) {
+                    visiterCellule(cx0 - r, cy0 + dy, x, y, porteeMax2, filtre, tas);
+                    visiterCellule(cx0 + r, cy0 + dy, x, y, porteeMax2, filtre, tas);
+                }
+            }
+            // Cells of the next ring are at least r cells away from the point
+            double borne = r * tailleCellule;
+            if (tas.estPlein() && tas.pireDistance2() <= borne * borne) {
+                break;
+            }
+        }
+        return tas.trier();
+    }
+
+    /**
+     * Finds the elements within a distance of a point in the (X, Y) plane.
+     *
+     * @param x      X coordinate of the query point.
+     * @param y      Y coordinate of the query point.
+     * @param rayon  Search radius.
+     * @param filtre Only accepted elements are returned.
+     * @return The matching elements, in no particular order.
+     */
+    public List<T> dansRayon(double x, double y, double rayon, Predicate<? super T> filtre) {
+        List<T> resultat = new ArrayList<>();
+        double rayon2 = rayon * rayon;
+        for (int cx = indice(x - rayon); cx <= indice(x + rayon); cx++) {
+            for (int cy = indice(y - rayon); cy <= indice(y + rayon); cy++) {
+                Cellule<T> cellule = cellules.get(cle(cx, cy));
+                if (cellule == null) {
+                    continue;
+                }
+                for (int i = 0; i < cellule.taille; i++) {
+                    double dx = cellule.xs[i] - x;
+                    double dy = cellule.ys[i] - y;
+                    if (dx * dx + dy * dy <= rayon2 && filtre.test(cellule.get(i))) {
+                        resultat.add(cellule.get(i));
+                    }
+                }
+            }
+        }
+        return resultat;
+    }
+
+    private void visiterCellule(long cx, long cy, double x, double y, double porteeMax2,
+            Predicate<? super T> filtre, TasBorne<T> tas) {
+        if (cx < minCx || cx > maxCx || cy < minCy || cy > maxCy) {
+            return;
+        }
+        Cellule<T> cellule = cellules.get(cle((int) cx, (int) cy));
+        if (cellule == null) {
+            return;
+        }
+        double[] xs = cellule.xs;
+        double[] ys = cellule.ys;
+        for (int i = 0; i < cellule.taille; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double d2 = dx * dx + dy * dy;
+            if (d2 <= porteeMax2 && tas.accepte(d2)) {
+                T element = cellule.get(i);
+                if (filtre.test(element)) {
+                    tas.offrir(element, d2);
+                }
+            }
+        }
+    }
+
+    private void reinitialiserBornes() {
+        minCx = Integer.MAX_VALUE;
+        maxCx = Integer.MIN_VALUE;
+        minCy = Integer.MAX_VALUE;
+        maxCy = Integer.MIN_VALUE;
+    }
+
+    private void deplacer(Emplacement e, T element, double x, double y) {
+        e.x = x;
+        e.y = y;
+        long nouvelleCle = cle(x, y);
+        if (nouvelleCle != e.cle) {
+            retirerDeCellule(e);
+            e.cle = nouvelleCle;
+            ajouterDansCellule(e, element);
+        } else {
+            e.cellule.xs[e.index] = x;
+            e.cellule.ys[e.index] = y;
+        }
+    }
+
+    private void ajouterDansCellule(Emplacement e, T element) {
+        Cellule<T> cellule = cellules.get(e.cle);
+        if (cellule == null) {
+            cellule = new Cellule<>();
+            cellules.put(e.cle, cellule);
+            int cx = (int) (e.cle >> 32);
+            int cy = (int) e.cle;
+            minCx = Math.min(minCx, cx);
+            maxCx = Math.max(maxCx, cx);
+            minCy = Math.min(minCy, cy);
+            maxCy = Math.max(maxCy, cy);
+        }
+        e.cellule = cellule;
+        e.index = cellule.ajouter(element, e.x, e.y);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void retirerDeCellule(Emplacement e) {
+        Cellule<T> cellule = (Cellule<T>) e.cellule;
+        // Swap-remove keeps removal O(1)
+        T deplace = cellule.retirer(e.index);
+        if (deplace != null) {
+            emplacements.get(deplace).index = e.index;
+        }
+        if (cellule.taille == 0) {
+            cellules.remove(e.cle);
+        }
+        e.cellule = null;
+    }
+
+    private int indice(double coord) {
+        return (int) Math.floor(coord / tailleCellule);
+    }
+
+    private long cle(double x, double y) {
+        return cle(indice(x), indice(y));
+    }
+
+    private static long cle(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Max-heap keeping the k candidates nearest to a query point.
+     */
+    private static final class TasBorne<T> {
+        private final Object[] elements;
+        private final double[] distances2;
+        private int taille;
+
+        TasBorne(int k) {
+            elements = new Object[k];
+            distances2 = new double[k];
+        }
+
+        boolean estPlein() {
+            return taille == elements.length;
+        }
+
+        double pireDistance2() {
+            return distances2[0];
+        }
+
+        /** Cheap test run before the caller's filter. */
+        boolean accepte(double d2) {
+            return !estPlein() || d2 < distances2[0];
+        }
+
+        void offrir(Object element, double d2) {
+            if (!estPlein()) {
+                int i = taille++;
+                while (i > 0) {
+                    int parent = (i - 1) / 2;
+                    if (distances2[parent] >= d2) {
+                        break;
+                    }
+                    elements[i] = elements[parent];
+                    distances2[i] = distances2[parent];
+                    i = parent;
+                }
+                elements[i] = element;
+                distances2[i] = d2;
+            } else if (d2 < distances2[0]) {
+                descendre(element, d2);
+            }
+        }
+
+        private void descendre(Object element, double d2) {
+            int i = 0;
+            while (true) {
+                int enfant = 2 * i + 1;
+                if (enfant >= taille) {
+                    break;
+                }
+                if (enfant + 1 < taille && distances2[enfant + 1] > distances2[enfant]) {
+                    enfant++;
+                }
+                if (distances2[enfant] <= d2) {
+                    break;
+                }
+                elements[i] = elements[enfant];
+                distances2[i] = distances2[enfant];
+                i = enfant;
+            }
+            elements[i] = element;
+            distances2[i] = d2;
+        }
+
+        /** Empties the heap, nearest first. */
+        @SuppressWarnings("unchecked")
+        List<T> trier() {
+            Object[] tries = new Object[taille];
+            while (taille > 0) {
+                tries[taille - 1] = elements[0];
+                taille--;
+                if (taille > 0) {
+                    descendre(elements[taille], distances2[taille]);
+                }
+            }
+            List<T> resultat = new ArrayList<>(tries.length);
+            for (Object o : tries) {
+                resultat.add((T) o);
+            }
+            return resultat;
+        }
+    }
+
+    /**
+     * Open-addressing map from cell key to cell contents. Keys stay primitive
+     * so lookups in queries and moves do not box.
+     */
+    private static final class TableCellules<T> {
+        private long[] cles;
+        private Cellule<T>[] valeurs; // Null marks a free slot
+        private int taille;
+
+        TableCellules() {
+            allouer(64);
+        }
+
+        Cellule<T> get(long cle) {
+            int masque = cles.length - 1;
+            for (int i = hacher(cle) & masque;; i = (i + 1) & masque) {
+                Cellule<T> v = valeurs[i];
+                if (v == null) {
+                    return null;
+                }
+                if (cles[i] == cle) {
+                    return v;
+                }
+            }
+        }
+
+        void put(long cle, Cellule<T> valeur) {
+            if (2 * (taille + 1) > cles.length) {
+                agrandir();
+            }
+            int masque = cles.length - 1;
+            int i = hacher(cle) & masque;
+            while (valeurs[i] != null && cles[i] != cle) {
+                i = (i + 1) & masque;
+            }
+            if (valeurs[i] == null) {
+                taille++;
+            }
+            cles[i] = cle;
+            valeurs[i] = valeur;
+        }
+
+        void remove(long cle) {
+            int masque = cles.length - 1;
+            int i = hacher(cle) & masque;
+            while (valeurs[i] != null && cles[i] != cle) {
+                i = (i + 1) & masque;
+            }
+            if (valeurs[i] == null) {
+                return;
+            }
+            taille--;
+            // Backward-shift deletion keeps probe chains intact without tombstones
+            int libre = i;
+            for (int j = (i + 1) & masque; valeurs[j] != null; j = (j + 1) & masque) {
+                int ideal = hacher(cles[j]) & masque;
+                if (((j - ideal) & masque) >= ((j - libre) & masque)) {
+                    cles[libre] = cles[j];
+                    valeurs[libre] = valeurs[j];
+                    libre = j;
+                }
+            }
+            valeurs[libre] = null;
+        }
+
+        void clear() {
+            Arrays.fill(valeurs, null);
+            taille = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void allouer(int capacite) {
+            cles = new long[capacite];
+            valeurs = (Cellule<T>[]) new Cellule[capacite];
+        }
+
+        private void agrandir() {
+            long[] anciennesCles = cles;
+            Cellule<T>[] anciennesValeurs = valeurs;
+            allouer(cles.length * 2);
+            taille = 0;
+            for (int i = 0; i < anciennesCles.length; i++) {
+                if (anciennesValeurs[i] != null) {
+                    put(anciennesCles[i], anciennesValeurs[i]);
+                }
+            }
+        }
+
+        private static int hacher(long cle) {
+            long h = cle * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Route of one asset towards one target, kept up to date when islands change.
+ * The first path comes from {@link ZoneOperation#findPath}, so it benefits
+ * from the shared path cache and flow fields. When the geometry changes, a
+ * path that crosses none of the changed cells is kept as is; otherwise the
+ * route switches to a {@link PlanificateurDStarLite} that keeps its search
+ * state, and every later cut only repairs the part of the search around the
+ * changed cells. Zones searched hierarchically replan with
+ * {@link ZoneOperation#findPath}, whose planners already rebuild only the
+ * clusters around a change.
+ * <p>
+ * An instance belongs to one asset and is not thread-safe.
+ */
+public class ItineraireIncremental {
+    private final ZoneOperation zone;
+    private final Point3D cible;
+    private final boolean isMarine;
+    private long version; // Geometry version the current path was checked against
+    private PlanificateurDStarLite dstar; // Created on the first change that cuts the route
+    private int reparations;
+
+    /**
+     * Constructor for ItineraireIncremental.
+     *
+     * @param zone     The zone to route in.
+     * @param cible    The target point.
+     * @param isMarine True for marine assets, false for land vehicles.
+     */
+    public ItineraireIncremental(ZoneOperation zone, Point3D cible, boolean isMarine) {
+        this.zone = zone;
+        this.cible = cible;
+        this.isMarine = isMarine;
+        this.version = zone.getVersionGeometrie();
+    }
+
+    /**
+     * Checks whether this route leads to a target in a zone for a medium.
+     *
+     * @param zone     The zone.
+     * @param cible    The target point.
+     * @param isMarine The medium.
+     * @return True if the route can be reused.
+     */
+    public boolean mene(ZoneOperation zone, Point3D cible, boolean isMarine) {
+        return this.zone == zone && this.cible == cible && this.isMarine == isMarine;
+    }
+
+    /**
+     * Plans the path from a position.
+     *
+     * @param position The current position.
+     * @return The waypoints to the target, the target alone if unreachable.
+     */
+    public List<Point3D> chemin(Point3D position) {
+        long actuelle = zone.getVersionGeometrie();
+        List<Point3D> chemin = null;
+        if (dstar != null) {
+            List<int[]> emprises = zone.changementsDepuis(version);
+            if (emprises == null) {
+                dstar = null;
+            } else {
+                for (int[] e : emprises) {
+                    dstar.modifier(e[0], e[1], e[2], e[3]);
+                }
+                chemin = reparerDStar(position);
+            }
+        }
+        version = actuelle;
+        return chemin != null ? chemin : zone.findPath(position, cible, isMarine);
+    }
+
+    /**
+     * Checks whether the geometry changed since the path was planned.
+     *
+     * @return True if {@link #reparer} should be called.
+     */
+    public boolean estPerime() {
+        return zone.getVersionGeometrie() != version;
+    }
+
+    /**
+     * Brings a path in progress up to date with the geometry.
+     *
+     * @param position The current position.
+     * @param restant  The waypoints not reached yet.
+     * @return The new path, or null if the remaining one is still valid.
+     */
+    public List<Point3D> reparer(Point3D position, List<Point3D> restant) {
+        long actuelle = zone.getVersionGeometrie();
+        List<int[]> emprises = zone.changementsDepuis(version);
+        if (emprises == null || !zone.estAPlat() || zone.celluleArrivee(cible) < 0) {
+            // Too many changes to replay, or no flat grid to repair on
+            version = actuelle;
+            dstar = null;
+            reparations++;
+            return zone.findPath(position, cible, isMarine);
+        }
+        if (dstar != null) {
+            // Replayed on the next query, even if this path is kept
+            for (int[] e : emprises) {
+                dstar.modifier(e[0], e[1], e[2], e[3]);
+            }
+        }
+        version = actuelle;
+        if (!traverse(position, restant, emprises)) {
+            return null;
+        }
+        if (dstar == null) {
+            dstar = new PlanificateurDStarLite(zone.getLargeurGrille(), zone.getHauteurGrille(),
+                    zone.celluleArrivee(cible));
+        }
+        reparations++;
+        List<Point3D> chemin = reparerDStar(position);
+        return chemin != null ? chemin : zone.findPath(position, cible, isMarine);
+    }
+
+    /**
+     * Gets the number of times the route was replanned after a geometry change.
+     *
+     * @return The repair count.
+     */
+    public int getReparations() {
+        return reparations;
+    }
+
+    /**
+     * Gets the number of cells the incremental search expanded on its last
+     * query, 0 if the route never needed it.
+     *
+     * @return The expansion count.
+     */
+    public int getExpansions() {
+        return dstar == null ? 0 : dstar.getExpansions();
+    }
+
+    /**
+     * Runs the incremental search from a position.
+     *
+     * @return The path, or null if the search state had to be dropped.
+     */
+    private List<Point3D> reparerDStar(Point3D position) {
+        try {
+            int[] cellules = dstar.chercher(zone.celluleDepart(position), zone.getGrillePassage(isMarine));
+            return cellules == null ? ZoneOperation.cheminDirect(cible) : zone.versPoints(cellules, isMarine);
+        } catch (IllegalStateException e) {
+            System.err.println("Incremental route dropped: " + e.getMessage());
+            dstar = null;
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the rest of the route, from the current position through
+     * every remaining waypoint, touches changed cells.
+     */
+    private boolean traverse(Point3D position, List<Point3D> restant, List<int[]> emprises) {
+        int largeur = zone.getLargeurGrille();
+        IntPredicate horsEmprises = c -> {
+            int x = c % largeur;
+            int y = c / largeur;
+            for (int[] e : emprises) {
+                if (x >= e[0] && x <= e[2] && y >= e[1] && y <= e[3]) {
+                    return false;
+                }
+            }
+            return true;
+        };
+        int precedente = zone.celluleDepart(position);
+        if (!horsEmprises.test(precedente)) {
+            return true;
+        }
+        for (Point3D p : restant) {
+            int c = zone.celluleDepart(p);
+            if (!LissageChemin.visible(precedente, c, largeur, horsEmprises)) {
+                return true;
+            }
+            precedente = c;
+        }
+        return false;
+    }
+}
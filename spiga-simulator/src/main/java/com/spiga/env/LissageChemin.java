@@ -0,0 +1,98 @@
+package com.spiga.env;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Any-angle post-processing of grid paths by string pulling.
+ * The planners return one waypoint per cell, a staircase of cell centres;
+ * this keeps only the cells where the route has to turn, i.e. drops every
+ * waypoint that the previous kept one can see. Line of sight is tested on
+ * the same passability raster as the search, over every cell the straight
+ * segment touches, so a smoothed route never enters a cell the grid route
+ * would have avoided.
+ */
+final class LissageChemin {
+    /** Longest segment tested, in path steps, which bounds the cost on very long routes. */
+    static final int PORTEE_MAX = 64;
+
+    private LissageChemin() {
+    }
+
+    /**
+     * Smooths a grid path.
+     *
+     * @param cellules Every cell from start to goal, 8-connected.
+     * @param largeur  Number of grid columns.
+     * @param libre    Passability test on cell indices.
+     * @return The start, the turning cells and the goal.
+     */
+    static int[] lisser(int[] cellules, int largeur, IntPredicate libre) {
+        if (cellules.length <= 2) {
+            return cellules;
+        }
+        int dernier = cellules.length - 1;
+        int[] gardees = new int[cellules.length];
+        int n = 0;
+        gardees[n++] = cellules[0];
+        for (int ancre = 0; ancre < dernier;) {
+            // Open water: one test covers the whole reach
+            int portee = Math.min(ancre + PORTEE_MAX, dernier);
+            int suivant = portee;
+            if (portee - ancre > 1 && !visible(cellules[ancre], cellules[portee], largeur, libre)) {
+                suivant = ancre + 1;
+                while (suivant + 1 < portee && visible(cellules[ancre], cellules[suivant + 1], largeur, libre)) {
+                    suivant++;
+                }
+            }
+            gardees[n++] = cellules[suivant];
+            ancre = suivant;
+        }
+        return Arrays.copyOf(gardees, n);
+    }
+
+    /**
+     * Tests the line of sight between two cell centres by walking every cell
+     * the segment touches. Where the segment passes exactly through a cell
+     * corner, both cells beside the corner must be free. The first cell is not
+     * tested, like the start cell of a search.
+     *
+     * @param a       First cell index.
+     * @param b       Last cell index.
+     * @param largeur Number of grid columns.
+     * @param libre   Passability test on cell indices.
+     * @return True if every touched cell after the first is passable.
+     */
+    static boolean visible(int a, int b, int largeur, IntPredicate libre) {
+        int x = a % largeur;
+        int y = a / largeur;
+        int dx = Math.abs(b % largeur - x);
+        int dy = Math.abs(b / largeur - y);
+        int sx = b % largeur > x ? 1 : -1;
+        int sy = b / largeur > y ? 1 : -1;
+        for (int ix = 0, iy = 0; ix < dx || iy < dy;) {
+            // Compares where the segment leaves the cell: vertical or horizontal side
+            long horizontal = (1L + 2 * ix) * dy;
+            long vertical = (1L + 2 * iy) * dx;
+            if (horizontal == vertical) {
+                if (!libre.test(y * largeur + x + sx) || !libre.test((y + sy) * largeur + x)) {
+                    return false;
+                }
+                x += sx;
+                y += sy;
+                ix++;
+                iy++;
+            } else if (horizontal < vertical) {
+                x += sx;
+                ix++;
+            } else {
+                y += sy;
+                iy++;
+            }
+            if (!libre.test(y * largeur + x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.spiga.env;
+
+/**
+ * Search algorithm used by {@link ZoneOperation#findPath} on zones searched
+ * flat.
+ */
+public enum ModeRecherche {
+    /** Classic A*, expanding every neighbour of each cell. */
+    A_ETOILE,
+    /** Jump Point Search: scans straight and diagonal runs, optimal paths. */
+    JPS
+}
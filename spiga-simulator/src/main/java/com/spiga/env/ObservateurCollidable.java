@@ -0,0 +1,14 @@
+package com.spiga.env;
+
+/**
+ * Listener notified when a collidable object moves or changes its radius.
+ */
+@FunctionalInterface
+public interface ObservateurCollidable {
+    /**
+     * Called after the position or the radius of a collidable has changed.
+     * 
+     * @param source The collidable that changed.
+     */
+    void collidableModifie(Collidable source);
+}
@@ -11,6 +11,14 @@ public class Obstacle {
         this.radius = radius;
     }
 
+    public Point3D getPosition() {
+        return position;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
     public boolean contains(Point3D point) {
         double dx = point.getX() - position.getX();
         double dy = point.getY() - position.getY();
@@ -0,0 +1,411 @@
+package com.spiga.env;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Grid A* engine working on primitive cell indices ({@code y * largeur + x}).
+ * The g-score, parent and heap arrays are allocated once and reused between
+ * queries; a generation stamp marks which entries belong to the current search
+ * so nothing has to be cleared. The open set is an indexed binary heap with a
+ * true decrease-key.
+ * <p>
+ * {@link #chercherParSauts} runs Jump Point Search on the same workspace:
+ * straight and diagonal runs are scanned without queuing the cells along
+ * them, and only cells where a turn may be needed enter the open set.
+ * Straight runs are read 63 cells at a time from a {@link GrillePassage}.
+ * <p>
+ * An instance is not thread-safe: {@link ZoneOperation} keeps one per thread.
+ */
+class PlanificateurAStar {
+    /** Neighbour offsets, in the order the original search expanded them. */
+    static final int[] DX = { 0, 0, 1, -1, 1, 1, -1, -1 };
+    static final int[] DY = { 1, -1, 0, 0, 1, -1, 1, -1 };
+
+    private static final int FERME = -2; // Heap position of a closed cell
+
+    private int largeur;
+    private int hauteur;
+    private double[] g;
+    private double[] f;
+    private int[] parent;
+    private int[] generation;
+    private int[] positionTas; // Index in the heap, -1 if absent, FERME if closed
+    private int[] tas;
+    private int tailleTas;
+    private int generationCourante;
+    private int expansions;
+
+    /**
+     * Constructor for PlanificateurAStar.
+     *
+     * @param largeur Number of grid columns.
+     * @param hauteur Number of grid rows.
+     */
+    PlanificateurAStar(int largeur, int hauteur) {
+        redimensionner(largeur, hauteur);
+    }
+
+    /**
+     * Resizes the working arrays for a new grid.
+     *
+     * @param nouvelleLargeur Number of grid columns.
+     * @param nouvelleHauteur Number of grid rows.
+     */
+    void redimensionner(int nouvelleLargeur, int nouvelleHauteur) {
+        this.largeur = nouvelleLargeur;
+        this.hauteur = nouvelleHauteur;
+        int n = nouvelleLargeur * nouvelleHauteur;
+        this.g = new double[n];
+        this.f = new double[n];
+        this.parent = new int[n];
+        this.generation = new int[n];
+        this.positionTas = new int[n];
+        this.tas = new int[n];
+        this.generationCourante = 0;
+    }
+
+    int getLargeur() {
+        return largeur;
+    }
+
+    int getHauteur() {
+        return hauteur;
+    }
+
+    /**
+     * Gets the number of cells expanded by the last search.
+     *
+     * @return The expansion count.
+     */
+    int getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Searches a path between two cells.
+     * Moves are 8-connected with a cost of 1 per step and the heuristic is the
+     * Euclidean cell distance, as in the original implementation. The start cell
+     * itself is never tested for passability.
+     *
+     * @param depart     Start cell index.
+     * @param arrivee    Goal cell index.
+     * @param praticable Passability test on cell indices.
+     * @return The cell indices from start to goal, or null if unreachable.
+     */
+    int[] chercher(int depart, int arrivee, IntPredicate praticable) {
+        nouvelleGeneration();
+        expansions = 0;
+        tailleTas = 0;
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+
+        ouvrir(depart);
+        g[depart] = 0;
+        f[depart] = heuristique(depart, ax, ay);
+        parent[depart] = -1;
+        inserer(depart);
+
+        while (tailleTas > 0) {
+            int courant = extraireMin();
+            if (courant == arrivee) {
+                return reconstruire(courant);
+            }
+            positionTas[courant] = FERME;
+            expansions++;
+
+            int cx = courant % largeur;
+            int cy = courant / largeur;
+            double tentativeG = g[courant] + 1; // Cost 1 per step
+            for (int i = 0; i < 8; i++) {
+                int nx = cx + DX[i];
+                int ny = cy + DY[i];
+                if (nx < 0 || nx >= largeur || ny < 0 || ny >= hauteur) {
+                    continue;
+                }
+                int voisin = ny * largeur + nx;
+                boolean connu = generation[voisin] == generationCourante;
+                if (connu && positionTas[voisin] == FERME) {
+                    continue;
+                }
+                if (!praticable.test(voisin)) {
+                    continue;
+                }
+                if (!connu) {
+                    ouvrir(voisin);
+                    g[voisin] = tentativeG;
+                    f[voisin] = tentativeG + heuristique(voisin, ax, ay);
+                    parent[voisin] = courant;
+                    inserer(voisin);
+                } else if (tentativeG < g[voisin]) {
+                    f[voisin] = f[voisin] - g[voisin] + tentativeG;
+                    g[voisin] = tentativeG;
+                    parent[voisin] = courant;
+                    remonter(positionTas[voisin]); // Decrease-key
+                }
+            }
+        }
+        return null;
+    }
+
+    private void nouvelleGeneration() {
+        generationCourante++;
+        if (generationCourante == Integer.MAX_VALUE) {
+            Arrays.fill(generation, 0);
+            generationCourante = 1;
+        }
+    }
+
+    private void ouvrir(int cellule) {
+        generation[cellule] = generationCourante;
+        positionTas[cellule] = -1;
+    }
+
+    /**
+     * Searches a shortest path between two cells with Jump Point Search.
+     * Same move model as {@link #chercher}: 8 directions, a cost of 1 per step,
+     * diagonals allowed past blocked corners, start cell never tested. The
+     * heuristic is the Chebyshev distance, which is exact in open space, so
+     * the path is optimal; {@link #chercher} may return a path that is a few
+     * steps longer.
+     *
+     * @param depart  Start cell index.
+     * @param arrivee Goal cell index.
+     * @param grille  Passability of the grid, same size as this planner.
+     * @return Every cell from start to goal, or null if unreachable.
+     */
+    int[] chercherParSauts(int depart, int arrivee, GrillePassage grille) {
+        nouvelleGeneration();
+        expansions = 0;
+        tailleTas = 0;
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+        if (depart != arrivee && !grille.estLibre(arrivee)) {
+            return null;
+        }
+
+        ouvrir(depart);
+        g[depart] = 0;
+        f[depart] = chebyshev(depart, ax, ay);
+        parent[depart] = -1;
+        inserer(depart);
+
+        while (tailleTas > 0) {
+            int courant = extraireMin();
+            if (courant == arrivee) {
+                return relier(reconstruire(courant));
+            }
+            positionTas[courant] = FERME;
+            expansions++;
+
+            int cx = courant % largeur;
+            int cy = courant / largeur;
+            int p = parent[courant];
+            int dx = p < 0 ? 0 : Integer.signum(cx - p % largeur);
+            int dy = p < 0 ? 0 : Integer.signum(cy - p / largeur);
+            for (int i = 0; i < 8; i++) {
+                int ndx = DX[i];
+                int ndy = DY[i];
+                if (p >= 0 && !aExplorer(cx, cy, dx, dy, ndx, ndy, grille)) {
+                    continue;
+                }
+                int saut = sauter(cx, cy, ndx, ndy, arrivee, grille);
+                if (saut < 0) {
+                    continue;
+                }
+                boolean connu = generation[saut] == generationCourante;
+                if (connu && positionTas[saut] == FERME) {
+                    continue;
+                }
+                double tentativeG = g[courant]
+                        + Math.max(Math.abs(saut % largeur - cx), Math.abs(saut / largeur - cy));
+                if (!connu) {
+                    ouvrir(saut);
+                    g[saut] = tentativeG;
+                    f[saut] = tentativeG + chebyshev(saut, ax, ay);
+                    parent[saut] = courant;
+                    inserer(saut);
+                } else if (tentativeG < g[saut]) {
+                    f[saut] = f[saut] - g[saut] + tentativeG;
+                    g[saut] = tentativeG;
+                    parent[saut] = courant;
+                    remonter(positionTas[saut]);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a direction survives pruning at a cell reached by moving
+     * (dx, dy): the natural directions, plus the forced ones next to an
+     * obstacle.
+     */
+    private static boolean aExplorer(int x, int y, int dx, int dy, int ndx, int ndy, GrillePassage grille) {
+        if (dx != 0 && dy != 0) {
+            if ((ndx == dx && ndy == dy) || (ndx == dx && ndy == 0) || (ndx == 0 && ndy == dy)) {
+                return true;
+            }
+            if (ndx == -dx && ndy == dy) {
+                return !grille.estLibre(x - dx, y);
+            }
+            return ndx == dx && ndy == -dy && !grille.estLibre(x, y - dy);
+        }
+        if (dx != 0) {
+            if (ndx != dx) {
+                return false;
+            }
+            return ndy == 0 || !grille.estLibre(x, y + ndy);
+        }
+        if (ndy != dy) {
+            return false;
+        }
+        return ndx == 0 || !grille.estLibre(x + ndx, y);
+    }
+
+    /**
+     * Scans from a cell in one direction until the goal, a cell with a forced
+     * neighbour, or (for diagonals) a cell from which a straight scan finds
+     * one.
+     *
+     * @return The jump point, or -1 if the scan hits an obstacle or the border.
+     */
+    private int sauter(int x, int y, int dx, int dy, int arrivee, GrillePassage grille) {
+        int horizontal = dx > 0 ? GrillePassage.EST : GrillePassage.OUEST;
+        int vertical = dy > 0 ? GrillePassage.NORD : GrillePassage.SUD;
+        if (dy == 0) {
+            int pas = grille.balayer(horizontal, x, y, arrivee);
+            return pas < 0 ? -1 : y * largeur + x + pas * dx;
+        }
+        if (dx == 0) {
+            int pas = grille.balayer(vertical, x, y, arrivee);
+            return pas < 0 ? -1 : (y + pas * dy) * largeur + x;
+        }
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!grille.estLibre(x, y)) {
+                return -1;
+            }
+            int cellule = y * largeur + x;
+            if (cellule == arrivee) {
+                return cellule;
+            }
+            if ((!grille.estLibre(x - dx, y) && grille.estLibre(x - dx, y + dy))
+                    || (!grille.estLibre(x, y - dy) && grille.estLibre(x + dx, y - dy))) {
+                return cellule;
+            }
+            if (grille.balayer(horizontal, x, y, arrivee) >= 0 || grille.balayer(vertical, x, y, arrivee) >= 0) {
+                return cellule;
+            }
+        }
+    }
+
+    /**
+     * Expands jump points into every cell between them; consecutive jump
+     * points are always on a straight or diagonal line.
+     */
+    private int[] relier(int[] sauts) {
+        int longueur = 1;
+        for (int i = 1; i < sauts.length; i++) {
+            longueur += Math.max(Math.abs(sauts[i] % largeur - sauts[i - 1] % largeur),
+                    Math.abs(sauts[i] / largeur - sauts[i - 1] / largeur));
+        }
+        int[] chemin = new int[longueur];
+        int n = 0;
+        chemin[n++] = sauts[0];
+        for (int i = 1; i < sauts.length; i++) {
+            int x = sauts[i - 1] % largeur;
+            int y = sauts[i - 1] / largeur;
+            int dx = Integer.signum(sauts[i] % largeur - x);
+            int dy = Integer.signum(sauts[i] / largeur - y);
+            while (y * largeur + x != sauts[i]) {
+                x += dx;
+                y += dy;
+                chemin[n++] = y * largeur + x;
+            }
+        }
+        return chemin;
+    }
+
+    private double chebyshev(int cellule, int ax, int ay) {
+        return Math.max(Math.abs(cellule % largeur - ax), Math.abs(cellule / largeur - ay));
+    }
+
+    private double heuristique(int cellule, int ax, int ay) {
+        double dx = cellule % largeur - ax;
+        double dy = cellule / largeur - ay;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private int[] reconstruire(int arrivee) {
+        int longueur = 0;
+        for (int c = arrivee; c != -1; c = parent[c]) {
+            longueur++;
+        }
+        int[] chemin = new int[longueur];
+        for (int c = arrivee; c != -1; c = parent[c]) {
+            chemin[--longueur] = c;
+        }
+        return chemin;
+    }
+
+    // Indexed binary heap ordered by f
+
+    private void inserer(int cellule) {
+        tas[tailleTas] = cellule;
+        positionTas[cellule] = tailleTas;
+        tailleTas++;
+        remonter(tailleTas - 1);
+    }
+
+    private int extraireMin() {
+        int min = tas[0];
+        tailleTas--;
+        if (tailleTas > 0) {
+            tas[0] = tas[tailleTas];
+            positionTas[tas[0]] = 0;
+            descendre(0);
+        }
+        positionTas[min] = -1;
+        return min;
+    }
+
+    private void remonter(int i) {
+        int cellule = tas[i];
+        double cle = f[cellule];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            int cp = tas[p];
+            if (cle >= f[cp]) {
+                break;
+            }
+            tas[i] = cp;
+            positionTas[cp] = i;
+            i = p;
+        }
+        tas[i] = cellule;
+        positionTas[cellule] = i;
+    }
+
+    private void descendre(int i) {
+        int cellule = tas[i];
+        double cle = f[cellule];
+        int moitie = tailleTas >>> 1;
+        while (i < moitie) {
+            int enfant = (i << 1) + 1;
+            int droite = enfant + 1;
+            if (droite < tailleTas && f[tas[droite]] < f[tas[enfant]]) {
+                enfant = droite;
+            }
+            if (cle <= f[tas[enfant]]) {
+                break;
+            }
+            tas[i] = tas[enfant];
+            positionTas[tas[i]] = i;
+            i = enfant;
+        }
+        tas[i] = cellule;
+        positionTas[cellule] = i;
+    }
+}
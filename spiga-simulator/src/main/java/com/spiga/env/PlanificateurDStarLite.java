@@ -0,0 +1,450 @@
+package com.spiga.env;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental grid planner (D* Lite, Koenig and Likhachev) for one route: a
+ * fixed goal cell and a start that moves with the asset.
+ * The search runs backwards from the goal and its state is kept between
+ * queries, so when cells change passability only the costs around them are
+ * repaired instead of searching again. Same move model as
+ * {@link PlanificateurAStar}: 8 directions, a cost of 1 per step, start cell
+ * never tested; paths are shortest paths.
+ * <p>
+ * The state only covers the cells the search touched, in an open-addressing
+ * table, so a route costs memory in proportion to its search and not to the
+ * grid. An instance is not thread-safe; each route owns one.
+ */
+class PlanificateurDStarLite {
+    private static final int INFINI = 1 << 28;
+    private static final int VIDE = -1; // Free table slot
+
+    private final int largeur;
+    private final int hauteur;
+    private final int arrivee;
+
+    // Sparse state per touched cell, indexed by table slot
+    private int[] cellules;
+    private int[] g;
+    private int[] rhs;
+    private int[] positionTas; // Index in the heap, -1 if absent
+    private long[] cles; // Heap key, k1 in the high bits and k2 in the low 29
+    private int occupes;
+
+    private int[] tas = new int[64]; // Table slots
+    private int tailleTas;
+
+    private int km; // Sum of the heuristic shifts since the start moved
+    private int dernier = -1; // Start cell of the previous query
+    private final List<int[]> modifications = new ArrayList<>();
+    private GrillePassage grille;
+    private int depart;
+    private int expansions;
+
+    /**
+     * Constructor for PlanificateurDStarLite.
+     *
+     * @param largeur Number of grid columns.
+     * @param hauteur Number of grid rows.
+     * @param arrivee Goal cell index.
+     */
+    PlanificateurDStarLite(int largeur, int hauteur, int arrivee) {
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+        this.arrivee = arrivee;
+        allouer(256);
+    }
+
+    int getArrivee() {
+        return arrivee;
+    }
+
+    /**
+     * Records that cells changed passability; they are repaired on the next
+     * {@link #chercher}.
+     *
+     * @param x0 First column.
+     * @param y0 First row.
+     * @param x1 Last column, inclusive.
+     * @param y1 Last row, inclusive.
+     */
+    void modifier(int x0, int y0, int x1, int y1) {
+        modifications.add(new int[] { x0, y0, x1, y1 });
+    }
+
+    /**
+     * Gets the path from a start cell, searching only what the previous
+     * queries and the recorded changes left inconsistent.
+     *
+     * @param nouveauDepart Start cell index.
+     * @param grilleCourante Current passability, reflecting every change
+     *                       recorded through {@link #modifier}.
+     * @return Every cell from start to goal, or null if unreachable.
+     */
+    int[] chercher(int nouveauDepart, GrillePassage grilleCourante) {
+        this.grille = grilleCourante;
+        this.depart = nouveauDepart;
+        expansions = 0;
+        if (dernier < 0) {
+            definirRhs(arrivee, 0);
+            majSommet(arrivee);
+        } else {
+            // Keys already queued stay lower bounds by shifting new ones instead
+            km += chebyshev(dernier, depart);
+        }
+        dernier = depart;
+        for (int[] m : modifications) {
+            reparer(m[0], m[1], m[2], m[3]);
+        }
+        modifications.clear();
+        calculerPlusCourtChemin();
+        return extraire();
+    }
+
+    /**
+     * Gets the number of cells expanded by the last query.
+     */
+    int getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Recomputes the cost-to-goal estimate of every cell whose outgoing moves
+     * enter a changed cell, i.e. the changed block and its ring of neighbours.
+     */
+    private void reparer(int x0, int y0, int x1, int y1) {
+        for (int y = Math.max(0, y0 - 1); y <= Math.min(hauteur - 1, y1 + 1); y++) {
+            for (int x = Math.max(0, x0 - 1); x <= Math.min(largeur - 1, x1 + 1); x++) {
+                int u = y * largeur + x;
+                if (u != arrivee) {
+                    definirRhs(u, meilleurSuccesseur(u));
+                    majSommet(u);
+                }
+            }
+        }
+    }
+
+    private void calculerPlusCourtChemin() {
+        while (tailleTas > 0) {
+            int slot = tas[0];
+            long ancienne = cles[slot];
+            int sd = trouver(depart);
+            int gDepart = sd < 0 ? INFINI : g[sd];
+            int rhsDepart = sd < 0 ? INFINI : rhs[sd];
+            if (ancienne >= cle(depart, gDepart, rhsDepart) && rhsDepart <= gDepart) {
+                return;
+            }
+            int u = cellules[slot];
+            long nouvelle = cle(u, g[slot], rhs[slot]);
+            if (ancienne < nouvelle) {
+                cles[slot] = nouvelle;
+                descendre(0);
+                continue;
+            }
+            expansions++;
+            int ux = u % largeur;
+            int uy = u / largeur;
+            boolean libre = grille.estLibre(ux, uy);
+            if (g[slot] > rhs[slot]) {
+                g[slot] = rhs[slot];
+                retirer(slot);
+                if (libre) {
+                    int cout = g[slot] + 1;
+                    for (int i = 0; i < 8; i++) {
+                        int v = voisin(ux, uy, i);
+                        if (v >= 0 && v != arrivee && cout < rhsDe(v)) {
+                            definirRhs(v, cout);
+                            majSommet(v);
+                        }
+                    }
+                }
+            } else {
+                int ancienG = g[slot];
+                g[slot] = INFINI;
+                if (libre) {
+                    for (int i = 0; i < 8; i++) {
+                        int v = voisin(ux, uy, i);
+                        if (v >= 0 && v != arrivee && rhsDe(v) == ancienG + 1) {
+                            definirRhs(v, meilleurSuccesseur(v));
+                            majSommet(v);
+                        }
+                    }
+                }
+                if (u != arrivee) {
+                    definirRhs(u, meilleurSuccesseur(u));
+                }
+                majSommet(u);
+            }
+        }
+    }
+
+    /**
+     * Gets the best one-step lookahead cost of a cell: 1 plus the lowest g of
+     * its passable neighbours.
+     */
+    private int meilleurSuccesseur(int u) {
+        int ux = u % largeur;
+        int uy = u / largeur;
+        int meilleur = INFINI;
+        for (int i = 0; i < 8; i++) {
+            int v = voisin(ux, uy, i);
+            if (v >= 0 && grille.estLibre(v)) {
+                int s = trouver(v);
+                if (s >= 0 && g[s] + 1 < meilleur) {
+                    meilleur = g[s] + 1;
+                }
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Follows the lowest g from the start. Among equally good moves the one
+     * nearest to the goal in straight line is taken, which avoids zigzags.
+     */
+    private int[] extraire() {
+        int restant = rhsDe(depart);
+        if (depart == arrivee) {
+            return new int[] { depart };
+        }
+        if (restant >= INFINI) {
+            return null;
+        }
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+        int[] chemin = new int[restant + 1];
+        chemin[0] = depart;
+        int c = depart;
+        for (int n = 1; n <= restant; n++) {
+            int cx = c % largeur;
+            int cy = c / largeur;
+            int meilleur = -1;
+            int meilleurG = INFINI;
+            long meilleurEcart = Long.MAX_VALUE;
+            for (int i = 0; i < 8; i++) {
+                int v = voisin(cx, cy, i);
+                if (v < 0 || !grille.estLibre(v)) {
+                    continue;
+                }
+                int gv = gDe(v);
+                long ecart = (long) (v % largeur - ax) * (v % largeur - ax) + (long) (v / largeur - ay) * (v / largeur - ay);
+                if (gv < meilleurG || (gv == meilleurG && gv < INFINI && ecart < meilleurEcart)) {
+                    meilleur = v;
+                    meilleurG = gv;
+                    meilleurEcart = ecart;
+                }
+            }
+            if (meilleur < 0 || meilleurG != restant - n) {
+                throw new IllegalStateException("Inconsistent D* Lite state at cell " + c);
+            }
+            chemin[n] = meilleur;
+            c = meilleur;
+        }
+        return chemin;
+    }
+
+    private int voisin(int x, int y, int i) {
+        int nx = x + PlanificateurAStar.DX[i];
+        int ny = y + PlanificateurAStar.DY[i];
+        if (nx < 0 || nx >= largeur || ny < 0 || ny >= hauteur) {
+            return -1;
+        }
+        return ny * largeur + nx;
+    }
+
+    private int chebyshev(int a, int b) {
+        return Math.max(Math.abs(a % largeur - b % largeur), Math.abs(a / largeur - b / largeur));
+    }
+
+    private long cle(int cellule, int gc, int rhsc) {
+        int m = Math.min(gc, rhsc);
+        if (m >= INFINI) {
+            return Long.MAX_VALUE;
+        }
+        return ((long) m + chebyshev(depart, cellule) + km) << 29 | m;
+    }
+
+    /**
+     * Queues, requeues or dequeues a cell depending on its consistency.
+     */
+    private void majSommet(int u) {
+        int slot = trouver(u);
+        if (slot < 0) {
+            return;
+        }
+        if (g[slot] != rhs[slot]) {
+            long nouvelle = cle(u, g[slot], rhs[slot]);
+            if (positionTas[slot] >= 0) {
+                long ancienne = cles[slot];
+                cles[slot] = nouvelle;
+                if (nouvelle < ancienne) {
+                    remonter(positionTas[slot]);
+                } else {
+                    descendre(positionTas[slot]);
+                }
+            } else {
+                cles[slot] = nouvelle;
+                inserer(slot);
+            }
+        } else if (positionTas[slot] >= 0) {
+            retirer(slot);
+        }
+    }
+
+    // Sparse table
+
+    private int gDe(int cellule) {
+        int s = trouver(cellule);
+        return s < 0 ? INFINI : g[s];
+    }
+
+    private int rhsDe(int cellule) {
+        int s = trouver(cellule);
+        return s < 0 ? INFINI : rhs[s];
+    }
+
+    /**
+     * Sets the lookahead cost of a cell; untouched cells are only added to the
+     * table for a finite cost.
+     */
+    private void definirRhs(int cellule, int valeur) {
+        int s = trouver(cellule);
+        if (s < 0) {
+            if (valeur >= INFINI) {
+                return;
+            }
+            s = creer(cellule);
+        }
+        rhs[s] = valeur;
+    }
+
+    private int trouver(int cellule) {
+        int masque = cellules.length - 1;
+        for (int s = melanger(cellule) & masque;; s = (s + 1) & masque) {
+            if (cellules[s] == cellule) {
+                return s;
+            }
+            if (cellules[s] == VIDE) {
+                return -1;
+            }
+        }
+    }
+
+    private int creer(int cellule) {
+        if (2 * (occupes + 1) > cellules.length) {
+            agrandir();
+        }
+        int masque = cellules.length - 1;
+        int s = melanger(cellule) & masque;
+        while (cellules[s] != VIDE) {
+            s = (s + 1) & masque;
+        }
+        cellules[s] = cellule;
+        g[s] = INFINI;
+        rhs[s] = INFINI;
+        positionTas[s] = -1;
+        occupes++;
+        return s;
+    }
+
+    private static int melanger(int cellule) {
+        return cellule * 0x9E3779B9 >>> 7;
+    }
+
+    private void allouer(int capacite) {
+        cellules = new int[capacite];
+        Arrays.fill(cellules, VIDE);
+        g = new int[capacite];
+        rhs = new int[capacite];
+        positionTas = new int[capacite];
+        cles = new long[capacite];
+        occupes = 0;
+    }
+
+    private void agrandir() {
+        int[] anciennesCellules = cellules;
+        int[] ancienG = g;
+        int[] ancienRhs = rhs;
+        int[] anciennesPositions = positionTas;
+        long[] anciennesCles = cles;
+        allouer(anciennesCellules.length * 2);
+        for (int s = 0; s < anciennesCellules.length; s++) {
+            if (anciennesCellules[s] != VIDE) {
+                int n = creer(anciennesCellules[s]);
+                g[n] = ancienG[s];
+                rhs[n] = ancienRhs[s];
+                cles[n] = anciennesCles[s];
+                int p = anciennesPositions[s];
+                positionTas[n] = p;
+                if (p >= 0) {
+                    tas[p] = n;
+                }
+            }
+        }
+    }
+
+    // Indexed binary heap of table slots
+
+    private void inserer(int slot) {
+        if (tailleTas == tas.length) {
+            tas = Arrays.copyOf(tas, tas.length * 2);
+        }
+        tas[tailleTas] = slot;
+        positionTas[slot] = tailleTas;
+        tailleTas++;
+        remonter(tailleTas - 1);
+    }
+
+    private void retirer(int slot) {
+        int i = positionTas[slot];
+        positionTas[slot] = -1;
+        tailleTas--;
+        if (i < tailleTas) {
+            int dernierSlot = tas[tailleTas];
+            tas[i] = dernierSlot;
+            positionTas[dernierSlot] = i;
+            remonter(i);
+            descendre(positionTas[dernierSlot]);
+        }
+    }
+
+    private void remonter(int i) {
+        int slot = tas[i];
+        long cle = cles[slot];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            int sp = tas[p];
+            if (cle >= cles[sp]) {
+                break;
+            }
+            tas[i] = sp;
+            positionTas[sp] = i;
+            i = p;
+        }
+        tas[i] = slot;
+        positionTas[slot] = i;
+    }
+
+    private void descendre(int i) {
+        int slot = tas[i];
+        long cle = cles[slot];
+        int moitie = tailleTas >>> 1;
+        while (i < moitie) {
+            int enfant = (i << 1) + 1;
+            int droite = enfant + 1;
+            if (droite < tailleTas && cles[tas[droite]] < cles[tas[enfant]]) {
+                enfant = droite;
+            }
+            if (cle <= cles[tas[enfant]]) {
+                break;
+            }
+            tas[i] = tas[enfant];
+            positionTas[tas[i]] = i;
+            i = enfant;
+        }
+        tas[i] = slot;
+        positionTas[slot] = i;
+    }
+}
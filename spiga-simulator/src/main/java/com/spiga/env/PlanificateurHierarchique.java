@@ -0,0 +1,713 @@
+package com.spiga.env;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Hierarchical A* (HPA*) for grids too large for {@link PlanificateurAStar}.
+ * The grid is cut into square clusters. Where two neighbouring clusters share
+ * a run of passable border cells, the run gets one or two entrances: a pair of
+ * abstract nodes, one on each side, joined by a single step. Inside a cluster,
+ * the distances between its nodes come from a breadth-first search over the
+ * cluster alone. A query inserts the start and goal into their clusters, runs
+ * A* over the abstract graph, then refines each abstract edge into cells.
+ * <p>
+ * Everything is built lazily: a cluster's passability, its entrances and its
+ * internal distances are computed the first time a search reaches it, then
+ * kept. {@link #invalider} drops only the clusters around a changed area.
+ * Moves are 8-connected with a cost of 1 per step, as in the flat search, so
+ * paths are within a few steps of optimal; routes shorter than a cluster,
+ * where the abstraction would detour most, are first tried with a flat A*
+ * over the window around both ends. Searches are synchronized; one instance
+ * serves one passability function.
+ */
+class PlanificateurHierarchique {
+    /** Default cluster side, in cells. */
+    static final int TAILLE_GRAPPE_PAR_DEFAUT = 32;
+    /** Border runs at least this long get an entrance at each end. */
+    private static final int RUN_DOUBLE_ENTREE = 6;
+    /**
+     * The abstract heuristic is inflated by 1/8: in open water, many abstract
+     * routes tie within a few steps and an exact search would expand all of
+     * them. Costs at most 12.5% over the best abstract route.
+     */
+    private static final int INFLATION_HEURISTIQUE = 8;
+    private static final int INACCESSIBLE = Integer.MAX_VALUE;
+    // Reserved abstract nodes for the current query
+    private static final int DEPART = 0;
+    private static final int ARRIVEE = 1;
+
+    private final int largeur;
+    private final int hauteur;
+    private final int taille;
+    private final int grappesX;
+    private final int grappesY;
+    private final IntPredicate praticable;
+    private final Grappe[] grappes;
+    // Entrances per cluster: [2g] towards the east neighbour, [2g + 1] towards
+    // the north one. Node pairs {inside g, inside neighbour, ...}, null if not
+    // computed yet
+    private final int[][] bordures;
+
+    // Abstract nodes
+    private int[] celluleNoeud = new int[64];
+    private int[] grappeNoeud = new int[64];
+    private int[] rangNoeud = new int[64]; // Index in the cluster's node list
+    private int[] partenaire = new int[64]; // Node across the border
+    private int nbNoeuds = 2;
+    private int[] libres = new int[16];
+    private int nbLibres;
+
+    // Abstract search, stamped by generation
+    private int[] g = new int[64];
+    private int[] parent = new int[64];
+    private int[] generation = new int[64];
+    private boolean[] ferme = new boolean[64];
+    private int generationCourante;
+    private int[] tasNoeuds = new int[64];
+    private long[] tasCles = new long[64]; // f in the high half, ties go to the deepest node
+    private int tailleTas;
+    private int expansions;
+
+    // Start and goal links for the current query
+    private int[] noeudsDepart = new int[0];
+    private int[] coutsDepart = new int[0];
+    private int grappeArrivee;
+    private int[] coutsVersArrivee = new int[0]; // By rank in the goal cluster
+    private int directDepartArrivee;
+
+    // Breadth-first search inside one cluster
+    private final int[] distanceLocale;
+    private final int[] parentLocal;
+    private final int[] file;
+
+    // Flat search over the window around close start and goal
+    private final PlanificateurAStar planificateurLocal;
+    private int fenetreX0;
+    private int fenetreY0;
+    private final IntPredicate praticableFenetre;
+
+    private int grappesPreparees;
+
+    /**
+     * Constructor for PlanificateurHierarchique.
+     *
+     * @param largeur    Number of grid columns.
+     * @param hauteur    Number of grid rows.
+     * @param taille     Cluster side in cells.
+     * @param praticable Passability test on cell indices ({@code y * largeur + x}).
+     */
+    PlanificateurHierarchique(int largeur, int hauteur, int taille, IntPredicate praticable) {
+        if (largeur <= 0 || hauteur <= 0 || (long) largeur * hauteur > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + largeur + "x" + hauteur);
+        }
+        if (taille < 2) {
+            throw new IllegalArgumentException("Cluster side must be at least 2: " + taille);
+        }
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+        this.taille = taille;
+        this.praticable = praticable;
+        this.grappesX = (largeur + taille - 1) / taille;
+        this.grappesY = (hauteur + taille - 1) / taille;
+        this.grappes = new Grappe[grappesX * grappesY];
+        this.bordures = new int[2 * grappes.length][];
+        this.distanceLocale = new int[taille * taille];
+        this.parentLocal = new int[taille * taille];
+        this.file = new int[taille * taille];
+        this.planificateurLocal = new PlanificateurAStar(3 * taille, 3 * taille);
+        this.praticableFenetre = c -> praticable.test(globalFenetre(c));
+    }
+
+    /**
+     * Gets the number of abstract nodes expanded by the last search.
+     *
+     * @return The expansion count.
+     */
+    synchronized int getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Gets how many times cluster distances were computed, invalidations
+     * included.
+     *
+     * @return The number of cluster preparations.
+     */
+    synchronized int getGrappesPreparees() {
+        return grappesPreparees;
+    }
+
+    /**
+     * Searches a path between two cells. As in the flat search, the start
+     * cell itself is never tested for passability.
+     *
+     * @param depart  Start cell index.
+     * @param arrivee Goal cell index.
+     * @return The cell indices from start to goal, or null if unreachable.
+     */
+    synchronized int[] chercher(int depart, int arrivee) {
+        expansions = 0;
+        if (!praticable.test(arrivee)) {
+            return null;
+        }
+        if (depart == arrivee) {
+            return new int[] { depart };
+        }
+        int[] proche = chercherDansFenetre(depart, arrivee);
+        if (proche != null) {
+            return proche;
+        }
+        int grappeDepart = grappeDe(depart);
+        grappeArrivee = grappeDe(arrivee);
+        Grappe gd = preparer(grappeDepart);
+        Grappe ga = preparer(grappeArrivee);
+
+        // Link the start to its cluster's nodes, and the goal cluster's nodes to the goal
+        parcourir(gd, local(gd, depart), true);
+        noeudsDepart = gd.noeuds;
+        coutsDepart = new int[gd.noeuds.length];
+        for (int r = 0; r < gd.noeuds.length; r++) {
+            coutsDepart[r] = distanceLocale[local(gd, celluleNoeud[gd.noeuds[r]])];
+        }
+        directDepartArrivee = grappeDepart == grappeArrivee ? distanceLocale[local(gd, arrivee)] : INACCESSIBLE;
+        parcourir(ga, local(ga, arrivee), false);
+        coutsVersArrivee = new int[ga.noeuds.length];
+        for (int r = 0; r < ga.noeuds.length; r++) {
+            coutsVersArrivee[r] = distanceLocale[local(ga, celluleNoeud[ga.noeuds[r]])];
+        }
+
+        int[] abstrait = chercherAbstrait(arrivee);
+        return abstrait == null ? null : raffiner(abstrait, depart, arrivee);
+    }
+
+    /**
+     * Drops everything derived from a rectangle of cells, e.g. after an island
+     * was added or removed there. Clusters touching the rectangle lose their
+     * passability and entrances; their neighbours only recompute distances.
+     *
+     * @param x0 First column.
+     * @param y0 First row.
+     * @param x1 Last column.
+     * @param y1 Last row.
+     */
+    synchronized void invalider(int x0, int y0, int x1, int y1) {
+        int cx0 = Math.max(0, Math.min(x0, x1) / taille);
+        int cy0 = Math.max(0, Math.min(y0, y1) / taille);
+        int cx1 = Math.min(grappesX - 1, Math.max(x0, x1) / taille);
+        int cy1 = Math.min(grappesY - 1, Math.max(y0, y1) / taille);
+        if (cx0 > cx1 || cy0 > cy1) {
+            return;
+        }
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int gi = cy * grappesX + cx;
+                grappes[gi] = null;
+                libererBordure(2 * gi);
+                libererBordure(2 * gi + 1);
+                if (cx > 0) {
+                    libererBordure(2 * (gi - 1));
+                }
+                if (cy > 0) {
+                    libererBordure(2 * (gi - grappesX) + 1);
+                }
+            }
+        }
+        // Neighbours keep their passability but their node lists changed
+        for (int cy = Math.max(0, cy0 - 1); cy <= Math.min(grappesY - 1, cy1 + 1); cy++) {
+            for (int cx = Math.max(0, cx0 - 1); cx <= Math.min(grappesX - 1, cx1 + 1); cx++) {
+                Grappe voisine = grappes[cy * grappesX + cx];
+                if (voisine != null) {
+                    voisine.noeuds = null;
+                    voisine.distances = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the flat A* over a window of three clusters around two close cells.
+     *
+     * @return The path, or null if the ends are far apart or not connected
+     *         inside the window.
+     */
+    private int[] chercherDansFenetre(int depart, int arrivee) {
+        int sx = depart % largeur;
+        int sy = depart / largeur;
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+        if (Math.max(Math.abs(sx - ax), Math.abs(sy - ay)) > taille) {
+            return null;
+        }
+        int cote = planificateurLocal.getLargeur();
+        if (largeur < cote || hauteur < cote) {
+            return null; // Grids this small are searched flat by the caller
+        }
+        fenetreX0 = Math.max(0, Math.min(largeur - cote, (sx + ax) / 2 - cote / 2));
+        fenetreY0 = Math.max(0, Math.min(hauteur - cote, (sy + ay) / 2 - cote / 2));
+        int[] chemin = planificateurLocal.chercher((sy - fenetreY0) * cote + sx - fenetreX0,
+                (ay - fenetreY0) * cote + ax - fenetreX0, praticableFenetre);
+        if (chemin != null) {
+            for (int i = 0; i < chemin.length; i++) {
+                chemin[i] = globalFenetre(chemin[i]);
+            }
+        }
+        return chemin;
+    }
+
+    private int globalFenetre(int locale) {
+        int cote = planificateurLocal.getLargeur();
+        return (fenetreY0 + locale / cote) * largeur + fenetreX0 + locale % cote;
+    }
+
+    // Abstract search
+
+    private int[] chercherAbstrait(int arrivee) {
+        nouvelleGeneration();
+        tailleTas = 0;
+        int ax = arrivee % largeur;
+        int ay = arrivee / largeur;
+        ouvrir(DEPART, 0, -1, 0L);
+        while (tailleTas > 0) {
+            int n = extraireMin();
+            if (ferme[n]) {
+                continue; // Stale heap entry
+            }
+            if (n == ARRIVEE) {
+                return reconstruire();
+            }
+            ferme[n] = true;
+            expansions++;
+            int gn = g[n];
+            if (n == DEPART) {
+                for (int r = 0; r < noeudsDepart.length; r++) {
+                    relacher(noeudsDepart[r], gn, coutsDepart[r], n, ax, ay);
+                }
+                relacher(ARRIVEE, gn, directDepartArrivee, n, ax, ay);
+                continue;
+            }
+            relacher(partenaire[n], gn, 1, n, ax, ay);
+            Grappe grappe = preparer(grappeNoeud[n]);
+            int k = grappe.noeuds.length;
+            int ligne = rangNoeud[n] * k;
+            for (int r = 0; r < k; r++) {
+                relacher(grappe.noeuds[r], gn, grappe.distances[ligne + r], n, ax, ay);
+            }
+            if (grappeNoeud[n] == grappeArrivee) {
+                relacher(ARRIVEE, gn, coutsVersArrivee[rangNoeud[n]], n, ax, ay);
+            }
+        }
+        return null;
+    }
+
+    private void relacher(int m, int gn, int cout, int n, int ax, int ay) {
+        if (cout == INACCESSIBLE) {
+            return;
+        }
+        int tentative = gn + cout;
+        if (generation[m] == generationCourante) {
+            if (ferme[m] || tentative >= g[m]) {
+                return;
+            }
+        }
+        int h = 0;
+        if (m != ARRIVEE) {
+            int c = celluleNoeud[m];
+            h = Math.max(Math.abs(c % largeur - ax), Math.abs(c / largeur - ay));
+            h += h / INFLATION_HEURISTIQUE;
+        }
+        ouvrir(m, tentative, n, ((long) (tentative + h) << 32) - tentative);
+    }
+
+    private void ouvrir(int n, int gn, int p, long cle) {
+        if (generation[n] != generationCourante) {
+            generation[n] = generationCourante;
+            ferme[n] = false;
+        }
+        g[n] = gn;
+        parent[n] = p;
+        inserer(n, cle);
+    }
+
+    private void nouvelleGeneration() {
+        generationCourante++;
+        if (generationCourante == Integer.MAX_VALUE) {
+            Arrays.fill(generation, 0);
+            generationCourante = 1;
+        }
+    }
+
+    private int[] reconstruire() {
+        int longueur = 0;
+        for (int n = ARRIVEE; n != -1; n = parent[n]) {
+            longueur++;
+        }
+        int[] chemin = new int[longueur];
+        for (int n = ARRIVEE; n != -1; n = parent[n]) {
+            chemin[--longueur] = n;
+        }
+        return chemin;
+    }
+
+    /**
+     * Turns an abstract path into cells: border crossings are single steps,
+     * moves inside a cluster come from a breadth-first search over it.
+     */
+    private int[] raffiner(int[] abstrait, int depart, int arrivee) {
+        int[] cellules = new int[64];
+        int nb = 0;
+        cellules[nb++] = depart;
+        for (int i = 1; i < abstrait.length; i++) {
+            int a = abstrait[i - 1];
+            int b = abstrait[i];
+            int ca = a == DEPART ? depart : celluleNoeud[a];
+            int cb = b == ARRIVEE ? arrivee : celluleNoeud[b];
+            if (ca == cb) {
+                continue;
+            }
+            int gb = b == ARRIVEE ? grappeArrivee : grappeNoeud[b];
+            if (a != DEPART && partenaire[a] == b && grappeNoeud[a] != gb) {
+                cellules = agrandir(cellules, nb + 1);
+                cellules[nb++] = cb;
+                continue;
+            }
+            Grappe grappe = grappes[gb];
+            if (grappe.ouverte) {
+                // Diagonal then straight, every cell is passable
+                int x = ca % largeur;
+                int y = ca / largeur;
+                int bx = cb % largeur;
+                int by = cb / largeur;
+                cellules = agrandir(cellules, nb + Math.max(Math.abs(bx - x), Math.abs(by - y)));
+                while (x != bx || y != by) {
+                    x += Integer.signum(bx - x);
+                    y += Integer.signum(by - y);
+                    cellules[nb++] = y * largeur + x;
+                }
+                continue;
+            }
+            int origine = local(grappe, ca);
+            parcourir(grappe, origine, a == DEPART);
+            int fin = local(grappe, cb);
+            int longueur = distanceLocale[fin];
+            cellules = agrandir(cellules, nb + longueur);
+            for (int c = fin, j = nb + longueur - 1; c != origine; c = parentLocal[c], j--) {
+                cellules[j] = global(grappe, c);
+            }
+            nb += longueur;
+        }
+        return Arrays.copyOf(cellules, nb);
+    }
+
+    private static int[] agrandir(int[] tableau, int taille) {
+        return taille <= tableau.length ? tableau : Arrays.copyOf(tableau, Math.max(taille, 2 * tableau.length));
+    }
+
+    // Clusters
+
+    private int grappeDe(int cellule) {
+        return (cellule / largeur / taille) * grappesX + (cellule % largeur) / taille;
+    }
+
+    private int local(Grappe grappe, int cellule) {
+        return (cellule / largeur - grappe.y0) * grappe.largeur + cellule % largeur - grappe.x0;
+    }
+
+    private int global(Grappe grappe, int locale) {
+        return (grappe.y0 + locale / grappe.largeur) * largeur + grappe.x0 + locale % grappe.largeur;
+    }
+
+    /**
+     * Gets a cluster with its passability read from the grid.
+     */
+    private Grappe grappe(int indice) {
+        Grappe grappe = grappes[indice];
+        if (grappe == null) {
+            int x0 = (indice % grappesX) * taille;
+            int y0 = (indice / grappesX) * taille;
+            grappe = new Grappe(x0, y0, Math.min(taille, largeur - x0), Math.min(taille, hauteur - y0));
+            boolean ouverte = true;
+            for (int y = 0; y < grappe.hauteur; y++) {
+                int ligne = (y0 + y) * largeur + x0;
+                for (int x = 0; x < grappe.largeur; x++) {
+                    if (praticable.test(ligne + x)) {
+                        int bit = y * grappe.largeur + x;
+                        grappe.praticable[bit >>> 6] |= 1L << bit;
+                    } else {
+                        ouverte = false;
+                    }
+                }
+            }
+            grappe.ouverte = ouverte;
+            grappes[indice] = grappe;
+        }
+        return grappe;
+    }
+
+    /**
+     * Gets a cluster with its nodes and internal distances.
+     */
+    private Grappe preparer(int indice) {
+        Grappe grappe = grappe(indice);
+        if (grappe.noeuds != null) {
+            return grappe;
+        }
+        int cx = indice % grappesX;
+        int cy = indice / grappesX;
+        int[] est = cx + 1 < grappesX ? bordure(indice, 0) : null;
+        int[] nord = cy + 1 < grappesY ? bordure(indice, 1) : null;
+        int[] ouest = cx > 0 ? bordure(indice - 1, 0) : null;
+        int[] sud = cy > 0 ? bordure(indice - grappesX, 1) : null;
+        int k = moitie(est) + moitie(nord) + moitie(ouest) + moitie(sud);
+        int[] noeuds = new int[k];
+        int r = 0;
+        r = copierCote(est, 0, noeuds, r);
+        r = copierCote(nord, 0, noeuds, r);
+        r = copierCote(ouest, 1, noeuds, r);
+        copierCote(sud, 1, noeuds, r);
+
+        int[] distances = new int[k * k];
+        for (int i = 0; i < k; i++) {
+            rangNoeud[noeuds[i]] = i;
+            int ci = celluleNoeud[noeuds[i]];
+            if (grappe.ouverte) {
+                // No obstacle: the 8-connected distance is the Chebyshev one
+                for (int j = 0; j < k; j++) {
+                    int cj = celluleNoeud[noeuds[j]];
+                    distances[i * k + j] = Math.max(Math.abs(ci % largeur - cj % largeur),
+                            Math.abs(ci / largeur - cj / largeur));
+                }
+            } else {
+                parcourir(grappe, local(grappe, ci), false);
+                for (int j = 0; j < k; j++) {
+                    distances[i * k + j] = distanceLocale[local(grappe, celluleNoeud[noeuds[j]])];
+                }
+            }
+        }
+        grappe.noeuds = noeuds;
+        grappe.distances = distances;
+        grappesPreparees++;
+        return grappe;
+    }
+
+    private static int moitie(int[] paires) {
+        return paires == null ? 0 : paires.length / 2;
+    }
+
+    private static int copierCote(int[] paires, int cote, int[] noeuds, int r) {
+        if (paires != null) {
+            for (int i = cote; i < paires.length; i += 2) {
+                noeuds[r++] = paires[i];
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Gets the entrances between a cluster and its east (sens 0) or north
+     * (sens 1) neighbour, scanning the shared border on first use.
+     */
+    private int[] bordure(int indice, int sens) {
+        int cle = 2 * indice + sens;
+        if (bordures[cle] != null) {
+            return bordures[cle];
+        }
+        Grappe a = grappe(indice);
+        Grappe b = grappe(sens == 0 ? indice + 1 : indice + grappesX);
+        int longueur = sens == 0 ? a.hauteur : a.largeur;
+        int[] paires = new int[8];
+        int nb = 0;
+        int debut = -1;
+        for (int t = 0; t <= longueur; t++) {
+            boolean ouvert = t < longueur && (sens == 0
+                    ? a.estPraticable(a.largeur - 1, t) && b.estPraticable(0, t)
+                    : a.estPraticable(t, a.hauteur - 1) && b.estPraticable(t, 0));
+            if (ouvert && debut < 0) {
+                debut = t;
+            } else if (!ouvert && debut >= 0) {
+                int fin = t - 1;
+                paires = agrandir(paires, nb + 4);
+                if (fin - debut + 1 >= RUN_DOUBLE_ENTREE) {
+                    nb = ajouterEntree(paires, nb, a, sens, debut);
+                    nb = ajouterEntree(paires, nb, a, sens, fin);
+                } else {
+                    nb = ajouterEntree(paires, nb, a, sens, (debut + fin) / 2);
+                }
+                debut = -1;
+            }
+        }
+        bordures[cle] = Arrays.copyOf(paires, nb);
+        return bordures[cle];
+    }
+
+    private int ajouterEntree(int[] paires, int nb, Grappe a, int sens, int t) {
+        int celluleA;
+        int celluleB;
+        if (sens == 0) {
+            celluleA = (a.y0 + t) * largeur + a.x0 + a.largeur - 1;
+            celluleB = celluleA + 1;
+        } else {
+            celluleA = (a.y0 + a.hauteur - 1) * largeur + a.x0 + t;
+            celluleB = celluleA + largeur;
+        }
+        int u = nouveauNoeud(celluleA);
+        int v = nouveauNoeud(celluleB);
+        partenaire[u] = v;
+        partenaire[v] = u;
+        paires[nb] = u;
+        paires[nb + 1] = v;
+        return nb + 2;
+    }
+
+    private int nouveauNoeud(int cellule) {
+        int n;
+        if (nbLibres > 0) {
+            n = libres[--nbLibres];
+        } else {
+            n = nbNoeuds++;
+            if (n >= celluleNoeud.length) {
+                int capacite = 2 * celluleNoeud.length;
+                celluleNoeud = Arrays.copyOf(celluleNoeud, capacite);
+                grappeNoeud = Arrays.copyOf(grappeNoeud, capacite);
+                rangNoeud = Arrays.copyOf(rangNoeud, capacite);
+                partenaire = Arrays.copyOf(partenaire, capacite);
+                g = Arrays.copyOf(g, capacite);
+                parent = Arrays.copyOf(parent, capacite);
+                generation = Arrays.copyOf(generation, capacite);
+                ferme = Arrays.copyOf(ferme, capacite);
+            }
+        }
+        celluleNoeud[n] = cellule;
+        grappeNoeud[n] = grappeDe(cellule);
+        generation[n] = 0;
+        return n;
+    }
+
+    private void libererBordure(int cle) {
+        int[] paires = bordures[cle];
+        if (paires == null) {
+            return;
+        }
+        bordures[cle] = null;
+        libres = agrandir(libres, nbLibres + paires.length);
+        for (int n : paires) {
+            partenaire[n] = -1;
+            libres[nbLibres++] = n;
+        }
+    }
+
+    /**
+     * Breadth-first search over one cluster, 8-connected, filling
+     * {@link #distanceLocale} and {@link #parentLocal}.
+     *
+     * @param origine        Local start cell.
+     * @param origineLibre True if the start need not be passable.
+     */
+    private void parcourir(Grappe grappe, int origine, boolean origineLibre) {
+        int w = grappe.largeur;
+        int n = w * grappe.hauteur;
+        Arrays.fill(distanceLocale, 0, n, INACCESSIBLE);
+        if (!origineLibre && !grappe.estPraticable(origine % w, origine / w)) {
+            return;
+        }
+        distanceLocale[origine] = 0;
+        parentLocal[origine] = -1;
+        int tete = 0;
+        int queue = 0;
+        file[queue++] = origine;
+        while (tete < queue) {
+            int c = file[tete++];
+            int cx = c % w;
+            int cy = c / w;
+            int d = distanceLocale[c] + 1;
+            for (int i = 0; i < 8; i++) {
+                int nx = cx + PlanificateurAStar.DX[i];
+                int ny = cy + PlanificateurAStar.DY[i];
+                if (nx < 0 || nx >= w || ny < 0 || ny >= grappe.hauteur) {
+                    continue;
+                }
+                int v = ny * w + nx;
+                if (distanceLocale[v] == INACCESSIBLE && grappe.estPraticable(nx, ny)) {
+                    distanceLocale[v] = d;
+                    parentLocal[v] = c;
+                    file[queue++] = v;
+                }
+            }
+        }
+    }
+
+    // Binary min-heap of abstract nodes with lazy deletion
+
+    private void inserer(int n, long cle) {
+        if (tailleTas == tasNoeuds.length) {
+            tasNoeuds = Arrays.copyOf(tasNoeuds, 2 * tailleTas);
+            tasCles = Arrays.copyOf(tasCles, 2 * tailleTas);
+        }
+        int i = tailleTas++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (cle >= tasCles[p]) {
+                break;
+            }
+            tasNoeuds[i] = tasNoeuds[p];
+            tasCles[i] = tasCles[p];
+            i = p;
+        }
+        tasNoeuds[i] = n;
+        tasCles[i] = cle;
+    }
+
+    private int extraireMin() {
+        int min = tasNoeuds[0];
+        tailleTas--;
+        if (tailleTas > 0) {
+            int n = tasNoeuds[tailleTas];
+            long cle = tasCles[tailleTas];
+            int i = 0;
+            int moitie = tailleTas >>> 1;
+            while (i < moitie) {
+                int enfant = (i << 1) + 1;
+                if (enfant + 1 < tailleTas && tasCles[enfant + 1] < tasCles[enfant]) {
+                    enfant++;
+                }
+                if (cle <= tasCles[enfant]) {
+                    break;
+                }
+                tasNoeuds[i] = tasNoeuds[enfant];
+                tasCles[i] = tasCles[enfant];
+                i = enfant;
+            }
+            tasNoeuds[i] = n;
+            tasCles[i] = cle;
+        }
+        return min;
+    }
+
+    /**
+     * A square block of cells with its passability bitmap and, once prepared,
+     * its abstract nodes and their pairwise distances.
+     */
+    private static final class Grappe {
+        final int x0;
+        final int y0;
+        final int largeur;
+        final int hauteur;
+        final long[] praticable;
+        boolean ouverte; // Every cell passable
+        int[] noeuds;
+        int[] distances; // k x k, row-major by rank
+
+        Grappe(int x0, int y0, int largeur, int hauteur) {
+            this.x0 = x0;
+            this.y0 = y0;
+            this.largeur = largeur;
+            this.hauteur = hauteur;
+            this.praticable = new long[(largeur * hauteur + 63) >>> 6];
+        }
+
+        boolean estPraticable(int x, int y) {
+            int bit = y * largeur + x;
+            return (praticable[bit >>> 6] & (1L << bit)) != 0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable path stored as packed primitives.
+ * Paths found on the pathfinding grid keep one int per waypoint (the cell
+ * index) and read the cell centre on demand; other paths keep their
+ * coordinates in a flat double array. Either way a waypoint costs 4 or 24
+ * bytes instead of a {@link Point3D} object plus its reference, and a path
+ * can be shared by every asset following it, each with its own cursor.
+ * <p>
+ * As a {@link List}, {@link #get(int)} creates a new point on every call;
+ * movement code reads waypoints with {@link #getX(int)}, {@link #getY(int)}
+ * or {@link #lire(int, Point3D)} instead, which do not allocate.
+ */
+public final class Trajet extends AbstractList<Point3D> implements RandomAccess {
+    /** The empty path. */
+    public static final Trajet VIDE = new Trajet(null, new double[0], 0, 0, 0, 1);
+
+    private final int[] cellules; // Grid cells, or null
+    private final double[] coordonnees; // x, y, z per waypoint when not on the grid
+    private final double origineX;
+    private final double origineY;
+    private final double cote;
+    private final int largeur;
+
+    private Trajet(int[] cellules, double[] coordonnees, double origineX, double origineY, double cote,
+            int largeur) {
+        this.cellules = cellules;
+        this.coordonnees = coordonnees;
+        this.origineX = origineX;
+        this.origineY = origineY;
+        this.cote = cote;
+        this.largeur = largeur;
+    }
+
+    /**
+     * Wraps grid cells; waypoints are the cell centres, at altitude 0.
+     *
+     * @param cellules Cell indices ({@code y * largeur + x}); kept, not copied.
+     * @param largeur  Number of grid columns.
+     * @param origineX X coordinate of the grid corner.
+     * @param origineY Y coordinate of the grid corner.
+     * @param cote     Cell side.
+     * @return The path.
+     */
+    static Trajet deCellules(int[] cellules, int largeur, double origineX, double origineY, double cote) {
+        return new Trajet(cellules, null, origineX, origineY, cote, largeur);
+    }
+
+    /**
+     * Packs a list of points, or returns it as is if it is already packed.
+     *
+     * @param points The waypoints.
+     * @return The path.
+     */
+    public static Trajet de(List<Point3D> points) {
+        if (points instanceof Trajet) {
+            return (Trajet) points;
+        }
+        if (points.isEmpty()) {
+            return VIDE;
+        }
+        double[] coordonnees = new double[points.size() * 3];
+        int i = 0;
+        for (Point3D p : points) {
+            coordonnees[i++] = p.getX();
+            coordonnees[i++] = p.getY();
+            coordonnees[i++] = p.getZ();
+        }
+        return new Trajet(null, coordonnees, 0, 0, 0, 1);
+    }
+
+    @Override
+    public int size() {
+        return cellules != null ? cellules.length : coordonnees.length / 3;
+    }
+
+    /**
+     * Gets the X coordinate of a waypoint.
+     *
+     * @param i Waypoint index.
+     * @return The X coordinate.
+     */
+    public double getX(int i) {
+        if (cellules != null) {
+            return origineX + (cellules[i] % largeur) * cote + cote / 2;
+        }
+        return coordonnees[3 * i];
+    }
+
+    /**
+     * Gets the Y coordinate of a waypoint.
+     *
+     * @param i Waypoint index.
+     * @return The Y coordinate.
+     */
+    public double getY(int i) {
+        if (cellules != null) {
+            return origineY + (cellules[i] / largeur) * cote + cote / 2;
+        }
+        return coordonnees[3 * i + 1];
+    }
+
+    /**
+     * Gets the Z coordinate of a waypoint.
+     *
+     * @param i Waypoint index.
+     * @return The Z coordinate.
+     */
+    public double getZ(int i) {
+        if (cellules != null) {
+            if (i < 0 || i >= cellules.length) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            return 0;
+        }
+        return coordonnees[3 * i + 2];
+    }
+
+    /**
+     * Gets the memory used by the waypoints, not counting the object headers.
+     *
+     * @return The size in bytes: 4 per waypoint on the grid, 24 otherwise.
+     */
+    public long getTailleOctets() {
+        return cellules != null ? (long) cellules.length * Integer.BYTES : (long) coordonnees.length * Double.BYTES;
+    }
+
+    /**
+     * Copies a waypoint into a point, without allocating.
+     *
+     * @param i           Waypoint index.
+     * @param destination The point to write.
+     * @return The destination.
+     */
+    public Point3D lire(int i, Point3D destination) {
+        return destination.set(getX(i), getY(i), getZ(i));
+    }
+
+    @Override
+    public Point3D get(int i) {
+        return new Point3D(getX(i), getY(i), getZ(i));
+    }
+}
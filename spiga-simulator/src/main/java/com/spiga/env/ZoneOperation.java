@@ -1,8 +1,12 @@
 package com.spiga.env;
 
 import com.spiga.core.Point3D;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 /**
  * Represents the operational zone of the simulation.
@@ -17,19 +21,64 @@ public class ZoneOperation {
     private Point3D courantMarin; // 3D vector
     private List<Obstacle> obstacles;
     private List<Island> islands;
-    private static final int GRID_SIZE = 50; // 50x50 grid for 1000x1000 world (20 units per cell)
-
-    private List<Collidable> collidables;
+    private double resolutionTerrain = 5.0; // Side of a terrain raster cell
+    private volatile CarteTerrain carteTerrain; // Rebuilt lazily after island changes
+    private static final double TAILLE_CELLULE = 20; // Pathfinding cell side, a 50x50 grid for a 1000x1000 world
+    /** Largest pathfinding grid searched flat; larger zones use HPA*. */
+    static final int CELLULES_A_PLAT = 256 * 256;
+    private final int largeurGrille;
+    private final int hauteurGrille;
+    // Passability of flat grids per medium, rebuilt lazily after island changes
+    private volatile GrillePassage grilleMarine;
+    private volatile GrillePassage grilleTerrestre;
+    private volatile ModeRecherche modeRecherche = ModeRecherche.A_ETOILE;
+    private volatile boolean lissageChemins = true; // Any-angle post-processing of found paths
+    private static final double RAYON_PAR_DEFAUT = 5.0; // Radius assumed for anonymous collision queries
+
+    // Spatial hashes: cell side is twice the largest radius seen so far
+    private GrilleSpatiale<Obstacle> grilleObstacles;
+    private double rayonObstacleMax;
+    private GrilleSpatiale<Collidable> grilleCollidables;
+    private double rayonCollidableMax;
+    private List<Collidable> collidablesNonSuivis; // Cannot report their moves, checked linearly
+    private final ObservateurCollidable suiviCollidables = this::collidableModifie;
+
+    private static final int CAPACITE_CACHE_CHEMINS = 1024;
+    private final CacheChemins cacheChemins = new CacheChemins(CAPACITE_CACHE_CHEMINS);
+    private static final int CAPACITE_CACHE_CHAMPS = 8;
+    private final CacheChampsFlux cacheChampsFlux = new CacheChampsFlux(CAPACITE_CACHE_CHAMPS);
+    private volatile long versionGeometrie; // Bumped whenever islands or obstacles change
+    // Cell blocks whose passability changed, one per recent geometry version
+    private static final int TAILLE_JOURNAL = 64;
+    private static final int[] AUCUNE_CELLULE = new int[0];
+    private final ArrayDeque<int[]> journalEmprises = new ArrayDeque<>();
+
+    // One A* workspace per thread, reused across queries
+    private final ThreadLocal<PlanificateurAStar> planificateurs = ThreadLocal
+            .withInitial(() -> new PlanificateurAStar(getLargeurGrille(), getHauteurGrille()));
+    // Hierarchical planners for large zones, per medium, built on first use
+    private volatile PlanificateurHierarchique hierarchieMarine;
+    private volatile PlanificateurHierarchique hierarchieTerrestre;
 
     public ZoneOperation(Point3D minCoord, Point3D maxCoord) {
         this.minCoord = minCoord;
         this.maxCoord = maxCoord;
+        this.largeurGrille = Math.max(1, (int) Math.ceil((maxCoord.getX() - minCoord.getX()) / TAILLE_CELLULE));
+        this.hauteurGrille = Math.max(1, (int) Math.ceil((maxCoord.getY() - minCoord.getY()) / TAILLE_CELLULE));
+        if ((long) largeurGrille * hauteurGrille > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Zone too large for the pathfinding grid: " + largeurGrille + "x"
+                    + hauteurGrille + " cells");
+        }
         this.vent = new Point3D(0, 0, 0);
         this.precipitations = 0;
         this.courantMarin = new Point3D(0, 0, 0);
         this.obstacles = new ArrayList<>();
         this.islands = new ArrayList<>();
-        this.collidables = new ArrayList<>();
+        this.rayonObstacleMax = 0;
+        this.grilleObstacles = new GrilleSpatiale<>(2 * RAYON_PAR_DEFAUT);
+        this.rayonCollidableMax = RAYON_PAR_DEFAUT;
+        this.grilleCollidables = new GrilleSpatiale<>(2 * RAYON_PAR_DEFAUT);
+        this.collidablesNonSuivis = new ArrayList<>();
 
         // Define Islands
         // Island 1: Circle at (300, 300), Radius 150
@@ -92,7 +141,9 @@ public class ZoneOperation {
 
         public boolean contains(double px, double py) {
             if (isCircle) {
-                return Math.sqrt(Math.pow(px - x, 2) + Math.pow(py - y, 2)) <= w;
+                double dx = px - x;
+                double dy = py - y;
+                return dx * dx + dy * dy <= w * w;
             } else {
                 // Rectangle centered at x,y
                 return px >= x - w / 2 && px <= x + w / 2 && py >= y - h / 2 && py <= y + h / 2;
@@ -103,20 +154,305 @@ public class ZoneOperation {
     /**
      * Gets the list of islands in the zone.
      * 
-     * @return List of islands.
+     * @return Unmodifiable list of islands; use {@link #addIsland(Island)} and
+     *         {@link #removeIsland(Island)} to change it.
      */
     public List<Island> getIslands() {
-        return islands;
+        return Collections.unmodifiableList(islands);
+    }
+
+    /**
+     * Adds an island and invalidates the terrain raster.
+     * 
+     * @param island The island to add.
+     */
+    public void addIsland(Island island) {
+        islands.add(island);
+        int[] emprise = emprise(island);
+        geometrieModifiee(emprise);
+        invaliderHierarchies(emprise);
+    }
+
+    /**
+     * Removes an island and invalidates the terrain raster.
+     * 
+     * @param island The island to remove.
+     * @return True if the island was part of the zone.
+     */
+    public boolean removeIsland(Island island) {
+        boolean retire = islands.remove(island);
+        if (retire) {
+            int[] emprise = emprise(island);
+            geometrieModifiee(emprise);
+            invaliderHierarchies(emprise);
+        }
+        return retire;
+    }
+
+    /**
+     * Invalidates everything derived from the islands and obstacles, and logs
+     * which cells may have changed passability for incremental routes.
+     * 
+     * @param emprise Changed cell block {x0, y0, x1, y1}, {@link #AUCUNE_CELLULE}
+     *                if passability is unchanged, or null for the whole grid.
+     */
+    private void geometrieModifiee(int[] emprise) {
+        carteTerrain = null;
+        grilleMarine = null;
+        grilleTerrestre = null;
+        synchronized (journalEmprises) {
+            journalEmprises.addLast(emprise != null ? emprise
+                    : new int[] { 0, 0, largeurGrille - 1, hauteurGrille - 1 });
+            if (journalEmprises.size() > TAILLE_JOURNAL) {
+                journalEmprises.removeFirst();
+            }
+            versionGeometrie++;
+        }
+        // After the bump: a search that checked the old version under the cache
+        // lock has already stored its result, which is dropped here; a search
+        // that checks after the bump does not store
+        cacheChemins.vider();
+        cacheChampsFlux.vider();
+    }
+
+    /**
+     * Gets the cell blocks that may have changed passability since a geometry
+     * version, for {@link ItineraireIncremental} repairs.
+     * 
+     * @param version A version read from {@link #getVersionGeometrie()}.
+     * @return The blocks {x0, y0, x1, y1}, clamped to the grid, or null if the
+     *         log no longer goes back that far.
+     */
+    List<int[]> changementsDepuis(long version) {
+        synchronized (journalEmprises) {
+            long nombre = versionGeometrie - version;
+            if (nombre < 0 || nombre > journalEmprises.size()) {
+                return null;
+            }
+            List<int[]> emprises = new ArrayList<>();
+            java.util.Iterator<int[]> it = journalEmprises.descendingIterator();
+            for (long i = 0; i < nombre; i++) {
+                int[] e = it.next();
+                if (e.length > 0) {
+                    emprises.add(new int[] { Math.max(0, e[0]), Math.max(0, e[1]),
+                            Math.min(largeurGrille - 1, e[2]), Math.min(hauteurGrille - 1, e[3]) });
+                }
+            }
+            return emprises;
+        }
+    }
+
+    /**
+     * Gets the grid cells covered by an island, with a one-cell margin.
+     * 
+     * @return The block {x0, y0, x1, y1}, possibly outside the grid.
+     */
+    private int[] emprise(Island island) {
+        double demiLargeur = island.isCircle() ? island.getW() : island.getW() / 2;
+        double demiHauteur = island.isCircle() ? island.getW() : island.getH() / 2;
+        return new int[] { colonne(island.getX() - demiLargeur) - 1, ligne(island.getY() - demiHauteur) - 1,
+                colonne(island.getX() + demiLargeur) + 1, ligne(island.getY() + demiHauteur) + 1 };
+    }
+
+    /**
+     * Drops the parts of the hierarchical planners covered by an island, so
+     * only the clusters around it are rebuilt.
+     * 
+     * @param emprise The cell block of the island that was added or removed.
+     */
+    private void invaliderHierarchies(int[] emprise) {
+        for (PlanificateurHierarchique hierarchie : new PlanificateurHierarchique[] { hierarchieMarine,
+                hierarchieTerrestre }) {
+            if (hierarchie != null) {
+                hierarchie.invalider(emprise[0], emprise[1], emprise[2], emprise[3]);
+            }
+        }
+    }
+
+    /**
+     * Gets a counter incremented on every island or obstacle change, so callers
+     * can tell when derived data (rendered maps, stored routes) is stale.
+     * 
+     * @return The geometry version.
+     */
+    public long getVersionGeometrie() {
+        return versionGeometrie;
+    }
+
+    /**
+     * Gets the number of pathfinding grid columns.
+     * 
+     * @return The grid width in cells.
+     */
+    public int getLargeurGrille() {
+        return largeurGrille;
+    }
+
+    /**
+     * Gets the number of pathfinding grid rows.
+     * 
+     * @return The grid height in cells.
+     */
+    public int getHauteurGrille() {
+        return hauteurGrille;
+    }
+
+    /**
+     * Gets the search algorithm used by {@link #findPath(Point3D, Point3D, boolean)}.
+     * 
+     * @return The default search mode.
+     */
+    public ModeRecherche getModeRecherche() {
+        return modeRecherche;
+    }
+
+    /**
+     * Sets the search algorithm used by {@link #findPath(Point3D, Point3D, boolean)}.
+     * Only zones searched flat are affected; large zones always search
+     * hierarchically.
+     * 
+     * @param modeRecherche The default search mode.
+     */
+    public void setModeRecherche(ModeRecherche modeRecherche) {
+        if (modeRecherche == null) {
+            throw new IllegalArgumentException("Search mode must not be null");
+        }
+        this.modeRecherche = modeRecherche;
+    }
+
+    /**
+     * Checks whether found paths are smoothed.
+     * 
+     * @return True if paths keep only their turning points.
+     * @see #setLissageChemins(boolean)
+     */
+    public boolean isLissageChemins() {
+        return lissageChemins;
+    }
+
+    /**
+     * Enables or disables path smoothing. Smoothed paths keep only the cells
+     * where the route turns, joined by straight segments with a clear line of
+     * sight, and leave out the start cell, so an asset heads straight for its
+     * first turn. Unsmoothed paths list every cell centre from start to goal.
+     * Cached paths are dropped.
+     * 
+     * @param lissage True to smooth paths.
+     */
+    public void setLissageChemins(boolean lissage) {
+        this.lissageChemins = lissage;
+        cacheChemins.vider();
+    }
+
+    /**
+     * Gets the path cache used by {@link #findPath(Point3D, Point3D, boolean)},
+     * mainly to read its hit/miss counters or resize it.
+     * 
+     * @return The path cache.
+     */
+    public CacheChemins getCacheChemins() {
+        return cacheChemins;
+    }
+
+    /**
+     * Gets the flow field cache filled by
+     * {@link #preparerChampFlux(Point3D, boolean)}, mainly to read its counters
+     * or resize it.
+     * 
+     * @return The flow field cache.
+     */
+    public CacheChampsFlux getCacheChampsFlux() {
+        return cacheChampsFlux;
+    }
+
+    /**
+     * Sets the side of the terrain raster cells. Smaller cells send fewer
+     * lookups to the exact coastline test but use more memory.
+     * 
+     * @param resolution Cell side in world units.
+     */
+    public void setResolutionTerrain(double resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        this.resolutionTerrain = resolution;
+        geometrieModifiee(null);
+    }
+
+    /**
+     * Gets the terrain raster, rebuilding it if the islands changed.
+     * 
+     * @return The current raster.
+     */
+    public CarteTerrain getCarteTerrain() {
+        CarteTerrain carte = carteTerrain;
+        if (carte == null) {
+            synchronized (this) {
+                carte = carteTerrain;
+                if (carte == null) {
+                    carte = new CarteTerrain(islands, minCoord.getX(), minCoord.getY(), maxCoord.getX(),
+                            maxCoord.getY(), resolutionTerrain);
+                    carteTerrain = carte;
+                }
+            }
+        }
+        return carte;
     }
 
     public boolean isLand(Point3D p) {
+        return isLand(p.getX(), p.getY());
+    }
+
+    /**
+     * Checks if a planar position lies on an island.
+     * Answered from the terrain raster; only points near a coastline or outside
+     * the zone fall back to the exact island geometry.
+     * 
+     * @param x X coordinate.
+     * @param y Y coordinate.
+     * @return True if the position is on land.
+     */
+    public boolean isLand(double x, double y) {
+        int terrain = getCarteTerrain().classer(x, y);
+        if (terrain != CarteTerrain.INCONNU) {
+            return terrain == CarteTerrain.TERRE;
+        }
+        return isLandExact(x, y);
+    }
+
+    /**
+     * Checks a planar position against the exact island geometry.
+     * 
+     * @param x X coordinate.
+     * @param y Y coordinate.
+     * @return True if the position is on land.
+     */
+    public boolean isLandExact(double x, double y) {
         for (Island island : islands) {
-            if (island.contains(p.getX(), p.getY()))
+            if (island.contains(x, y))
                 return true;
         }
         return false;
     }
 
+    /**
+     * Gets the lower corner of the zone.
+     * 
+     * @return A copy of the minimum coordinates.
+     */
+    public Point3D getMinCoord() {
+        return new Point3D(minCoord.getX(), minCoord.getY(), minCoord.getZ());
+    }
+
+    /**
+     * Gets the upper corner of the zone.
+     * 
+     * @return A copy of the maximum coordinates.
+     */
+    public Point3D getMaxCoord() {
+        return new Point3D(maxCoord.getX(), maxCoord.getY(), maxCoord.getZ());
+    }
+
     public Point3D getVent() {
         return vent;
     }
@@ -141,17 +477,46 @@ public class ZoneOperation {
         this.courantMarin = courantMarin;
     }
 
+    /**
+     * Gets the list of static obstacles in the zone.
+     * 
+     * @return Unmodifiable list of obstacles; use {@link #addObstacle(Obstacle)}
+     *         to change it.
+     */
+    public List<Obstacle> getObstacles() {
+        return Collections.unmodifiableList(obstacles);
+    }
+
     public void addObstacle(Obstacle obstacle) {
         this.obstacles.add(obstacle);
+        if (obstacle.getRadius() > rayonObstacleMax) {
+            rayonObstacleMax = obstacle.getRadius();
+            if (2 * rayonObstacleMax > grilleObstacles.getTailleCellule()) {
+                grilleObstacles.redimensionner(2 * rayonObstacleMax);
+            }
+        }
+        grilleObstacles.inserer(obstacle, obstacle.getPosition().getX(), obstacle.getPosition().getY());
+        // Obstacles are avoided by collision checks, not by the pathfinding grid
+        geometrieModifiee(AUCUNE_CELLULE);
     }
 
     /**
      * Adds a collidable object to the zone.
+     * Objects able to report their moves are indexed in the spatial hash and
+     * kept up to date through their {@link ObservateurCollidable} callbacks.
      * 
      * @param c The collidable object.
      */
     public void addCollidable(Collidable c) {
-        this.collidables.add(c);
+        if (grilleCollidables.contient(c) || collidablesNonSuivis.contains(c)) {
+            return;
+        }
+        if (c.ajouterObservateur(suiviCollidables)) {
+            elargirGrilleCollidables(c.getRadius());
+            grilleCollidables.inserer(c, c.getX(), c.getY());
+        } else {
+            collidablesNonSuivis.add(c);
+        }
     }
 
     /**
@@ -160,7 +525,36 @@ public class ZoneOperation {
      * @param c The collidable object to remove.
      */
     public void removeCollidable(Collidable c) {
-        this.collidables.remove(c);
+        if (grilleCollidables.retirer(c)) {
+            c.retirerObservateur(suiviCollidables);
+        } else {
+            collidablesNonSuivis.remove(c);
+        }
+    }
+
+    /**
+     * Re-buckets a collidable after it moved or changed radius.
+     * 
+     * @param c The collidable that changed.
+     */
+    private void collidableModifie(Collidable c) {
+        elargirGrilleCollidables(c.getRadius());
+        grilleCollidables.deplacer(c, c.getX(), c.getY());
+    }
+
+    /**
+     * Grows the collidable grid cells so that any collision partner of a query
+     * lies in the neighbouring cells.
+     * 
+     * @param rayon Radius of a newly indexed or resized collidable.
+     */
+    private void elargirGrilleCollidables(double rayon) {
+        if (rayon > rayonCollidableMax) {
+            rayonCollidableMax = rayon;
+            if (2 * rayonCollidableMax > grilleCollidables.getTailleCellule()) {
+                grilleCollidables.redimensionner(2 * rayonCollidableMax);
+            }
+        }
     }
 
     /**
@@ -176,6 +570,7 @@ public class ZoneOperation {
     /**
      * Checks if a point collides with any obstacle or collidable object, ignoring a
      * specific object.
+     * Only the spatial hash cells neighbouring the point are examined.
      * 
      * @param point    The point to check.
      * @param ignoreMe The collidable object to ignore (usually self).
@@ -183,38 +578,24 @@ public class ZoneOperation {
      */
     public boolean isCollision(Point3D point, Collidable ignoreMe) {
         try {
+            double x = point.getX();
+            double y = point.getY();
+
             // Check static obstacles
-            for (Obstacle obs : obstacles) {
-                try {
-                    if (obs.contains(point)) {
-                        return true;
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error checking obstacle collision: " + e.getMessage());
-                }
+            if (grilleObstacles.chercher(x, y, rayonObstacleMax, obs -> toucheObstacle(obs, point))) {
+                return true;
             }
 
             // Check dynamic collidables (vehicles)
-            for (Collidable c : collidables) {
-                try {
-                    if (c == ignoreMe)
-                        continue;
-
-                    // Check if at same Z level (with small tolerance)
-                    if (Math.abs(c.getPosition().getZ() - point.getZ()) < 0.1) {
-                        double dist = Math.sqrt(
-                                Math.pow(c.getPosition().getX() - point.getX(), 2) +
-                                        Math.pow(c.getPosition().getY() - point.getY(), 2));
-
-                        // Assume default radius for the point being checked if not provided
-                        double myRadius = (ignoreMe != null) ? ignoreMe.getRadius() : 5.0;
-
-                        if (dist < (c.getRadius() + myRadius)) {
-                            return true;
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error checking collidable collision: " + e.getMessage());
+            // Assume default radius for the point being checked if not provided
+            double myRadius = (ignoreMe != null) ? ignoreMe.getRadius() : RAYON_PAR_DEFAUT;
+            if (grilleCollidables.chercher(x, y, rayonCollidableMax + myRadius,
+                    c -> c != ignoreMe && toucheCollidable(c, point, myRadius))) {
+                return true;
+            }
+            for (Collidable c : collidablesNonSuivis) {
+                if (c != ignoreMe && toucheCollidable(c, point, myRadius)) {
+                    return true;
                 }
             }
             return false;
@@ -225,6 +606,31 @@ public class ZoneOperation {
         }
     }
 
+    private boolean toucheObstacle(Obstacle obs, Point3D point) {
+        try {
+            return obs.contains(point);
+        } catch (Exception e) {
+            System.err.println("Error checking obstacle collision: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean toucheCollidable(Collidable c, Point3D point, double myRadius) {
+        try {
+            // Check if at same Z level (with small tolerance)
+            if (Math.abs(c.getZ() - point.getZ()) >= 0.1) {
+                return false;
+            }
+            double dx = c.getX() - point.getX();
+            double dy = c.getY() - point.getY();
+            double seuil = c.getRadius() + myRadius;
+            return dx * dx + dy * dy < seuil * seuil;
+        } catch (Exception e) {
+            System.err.println("Error checking collidable collision: " + e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Checks if a point is inside the zone boundaries.
      * 
@@ -246,6 +652,14 @@ public class ZoneOperation {
     // A* Pathfinding
     /**
      * Finds a path from start to end using A* algorithm.
+     * Grids up to {@link #CELLULES_A_PLAT} cells run on the calling thread's
+     * {@link PlanificateurAStar}, whose arrays are reused between queries;
+     * larger zones use a {@link PlanificateurHierarchique} per medium, which
+     * gives near-optimal paths. Results are memoised per (start cell, goal cell,
+     * medium) in the {@link CacheChemins}; found paths are packed, immutable
+     * {@link Trajet}s that may be shared with other assets. A start outside
+     * the grid is clamped onto its border. If a flow field was prepared for the
+     * goal cell and medium, the route is read from it and no search runs.
      * 
      * @param start    Starting point.
      * @param end      Ending point.
@@ -254,123 +668,233 @@ public class ZoneOperation {
      * @return A list of points representing the path.
      */
     public List<Point3D> findPath(Point3D start, Point3D end, boolean isMarine) {
+        return findPath(start, end, isMarine, modeRecherche);
+    }
+
+    /**
+     * Finds a path from start to end with a given search algorithm.
+     * Routes are cached separately per mode.
+     * 
+     * @param start    Starting point.
+     * @param end      Ending point.
+     * @param isMarine True if the vehicle is marine (avoids land), false if land
+     *                 vehicle (avoids water).
+     * @param mode     The search algorithm for this call.
+     * @return A list of points representing the path.
+     * @see #findPath(Point3D, Point3D, boolean)
+     */
+    public List<Point3D> findPath(Point3D start, Point3D end, boolean isMarine, ModeRecherche mode) {
         try {
-            // Simple grid-based A*
-            Node startNode = new Node((int) (start.getX() / 20), (int) (start.getY() / 20));
-            Node endNode = new Node((int) (end.getX() / 20), (int) (end.getY() / 20));
-
-            java.util.PriorityQueue<Node> openSet = new java.util.PriorityQueue<>(
-                    java.util.Comparator.comparingDouble(n -> n.f));
-            java.util.Set<String> closedSet = new java.util.HashSet<>();
-            java.util.Map<String, Node> allNodes = new java.util.HashMap<>();
-
-            startNode.g = 0;
-            startNode.h = heuristic(startNode, endNode);
-            startNode.f = startNode.g + startNode.h;
-            openSet.add(startNode);
-            allNodes.put(startNode.key(), startNode);
-
-            while (!openSet.isEmpty()) {
-                Node current = openSet.poll();
-                if (current.key().equals(endNode.key())) {
-                    return reconstructPath(current);
+            int arrivee = celluleArrivee(end);
+            if (arrivee < 0) {
+                return cheminDirect(end);
+            }
+            int depart = celluleDepart(start);
+
+            if (estAPlat()) {
+                ChampFlux champ = cacheChampsFlux.obtenir(CacheChampsFlux.cle(arrivee, isMarine));
+                if (champ != null) {
+                    int[] cellules = champ.chemin(depart);
+                    return cellules == null ? cheminDirect(end) : versPoints(cellules, isMarine);
                 }
+            }
 
-                closedSet.add(current.key());
-
-                for (Node neighbor : getNeighbors(current)) {
-                    if (closedSet.contains(neighbor.key()))
-                        continue;
-
-                    // Check terrain constraints
-                    Point3D p = new Point3D(neighbor.x * 20 + 10, neighbor.y * 20 + 10, 0);
-                    boolean land = isLand(p);
-                    if (isMarine && land)
-                        continue; // Marine cannot go on land
-                    if (!isMarine && !land)
-                        continue; // Land vehicle cannot go on water (assuming isMarine=false means Land vehicle)
-                    // Note: Aerial vehicles shouldn't use this pathfinder or should have
-                    // isMarine=null logic?
-                    // For now, let's assume this method is only called for Surface/Land vehicles.
-
-                    double tentativeG = current.g + 1; // Cost 1 per step
-
-                    Node existing = allNodes.get(neighbor.key());
-                    if (existing == null || tentativeG < existing.g) {
-                        neighbor.parent = current;
-                        neighbor.g = tentativeG;
-                        neighbor.h = heuristic(neighbor, endNode);
-                        neighbor.f = neighbor.g + neighbor.h;
-
-                        if (existing == null) {
-                            allNodes.put(neighbor.key(), neighbor);
-                            openSet.add(neighbor);
-                        } else {
-                            // Update existing (re-add to sort)
-                            openSet.remove(existing);
-                            existing.g = neighbor.g;
-                            existing.f = neighbor.f;
-                            existing.parent = current;
-                            openSet.add(existing);
-                        }
+            long cle = CacheChemins.cle(depart, arrivee, isMarine, mode);
+            List<Point3D> path = cacheChemins.obtenir(cle);
+            if (path == null) {
+                long version = versionGeometrie;
+                path = calculerChemin(depart, arrivee, isMarine, mode);
+                // A route searched while the islands changed is returned but not kept
+                synchronized (cacheChemins) {
+                    if (version == versionGeometrie) {
+                        cacheChemins.stocker(cle, path);
                     }
                 }
             }
-
-            // No path found, return direct line (fallback)
-            List<Point3D> fallback = new ArrayList<>();
-            fallback.add(end);
-            return fallback;
+            if (path == CacheChemins.INACCESSIBLE) {
+                // No path found, return direct line (fallback)
+                return cheminDirect(end);
+            }
+            return path;
         } catch (Exception e) {
             System.err.println("Error in pathfinding: " + e.getMessage());
             e.printStackTrace();
             // Return fallback path
-            List<Point3D> fallback = new ArrayList<>();
-            fallback.add(end);
-            return fallback;
+            return cheminDirect(end);
         }
     }
 
-    private double heuristic(Node a, Node b) {
-        return Math.sqrt(Math.pow(a.x - b.x, 2) + Math.pow(a.y - b.y, 2));
+    /**
+     * Runs A* between two cells.
+     * 
+     * @return The unmodifiable path, or {@link CacheChemins#INACCESSIBLE}.
+     */
+    private List<Point3D> calculerChemin(int depart, int arrivee, boolean isMarine, ModeRecherche mode) {
+        int[] cellules;
+        if (estAPlat()) {
+            GrillePassage grille = getGrillePassage(isMarine);
+            PlanificateurAStar planificateur = planificateurs.get();
+            cellules = mode == ModeRecherche.JPS ? planificateur.chercherParSauts(depart, arrivee, grille)
+                    : planificateur.chercher(depart, arrivee, grille::estLibre);
+        } else {
+            cellules = hierarchie(isMarine).chercher(depart, arrivee);
+        }
+        if (cellules == null) {
+            return CacheChemins.INACCESSIBLE;
+        }
+        return versPoints(cellules, isMarine);
     }
 
-    private List<Node> getNeighbors(Node n) {
-        List<Node> neighbors = new ArrayList<>();
-        int[] dx = { 0, 0, 1, -1, 1, 1, -1, -1 };
-        int[] dy = { 1, -1, 0, 0, 1, -1, 1, -1 };
-
-        for (int i = 0; i < 8; i++) {
-            int nx = n.x + dx[i];
-            int ny = n.y + dy[i];
-            if (nx >= 0 && nx < GRID_SIZE && ny >= 0 && ny < GRID_SIZE) { // Use GRID_SIZE here
-                neighbors.add(new Node(nx, ny));
+    /**
+     * Prepares a flow field towards a target: one search from the target
+     * cell over the whole grid, after which every {@link #findPath} call
+     * towards that cell for that medium reads its route from the field.
+     * Meant for group orders, where many assets share a rally point. Fields
+     * are kept in a small LRU {@link CacheChampsFlux} and dropped when the
+     * islands change. Zones above {@link #CELLULES_A_PLAT} cells keep their
+     * hierarchical search and get no field.
+     * 
+     * @param cible    The rally point.
+     * @param isMarine True for marine assets, false for land vehicles.
+     * @return True if a field is available for the target.
+     */
+    public boolean preparerChampFlux(Point3D cible, boolean isMarine) {
+        int arrivee = celluleArrivee(cible);
+        if (!estAPlat() || arrivee < 0) {
+            return false;
+        }
+        long cle = CacheChampsFlux.cle(arrivee, isMarine);
+        if (cacheChampsFlux.obtenir(cle) == null) {
+            long version = versionGeometrie;
+            ChampFlux champ = new ChampFlux(getGrillePassage(isMarine), arrivee);
+            // A field built while the islands changed is already stale
+            synchronized (cacheChampsFlux) {
+                if (version == versionGeometrie) {
+                    cacheChampsFlux.stocker(cle, champ);
+                }
             }
         }
-        return neighbors;
+        return true;
     }
 
-    private List<Point3D> reconstructPath(Node current) {
-        List<Point3D> path = new ArrayList<>();
-        while (current != null) {
-            path.add(0, new Point3D(current.x * 20 + 10, current.y * 20 + 10, 0));
-            current = current.parent;
+    /**
+     * Checks whether the grid is small enough to be searched flat rather than
+     * through the hierarchical planners.
+     */
+    boolean estAPlat() {
+        return (long) largeurGrille * hauteurGrille <= CELLULES_A_PLAT;
+    }
+
+    /**
+     * Converts a grid path to a packed path of cell centres, smoothing it if
+     * enabled.
+     * 
+     * @param cellules Every cell from start to goal.
+     * @param isMarine Medium of the path, for line-of-sight tests.
+     * @return The immutable path.
+     */
+    Trajet versPoints(int[] cellules, boolean isMarine) {
+        if (lissageChemins && cellules.length > 1) {
+            IntPredicate libre = estAPlat() ? getGrillePassage(isMarine)::estLibre : praticable(isMarine);
+            int[] lisse = LissageChemin.lisser(cellules, largeurGrille, libre);
+            // The asset is already in the start cell
+            cellules = Arrays.copyOfRange(lisse, 1, lisse.length);
         }
-        return path;
+        return Trajet.deCellules(cellules, largeurGrille, minCoord.getX(), minCoord.getY(), TAILLE_CELLULE);
     }
 
-    private static class Node {
-        int x, y;
-        double g, h, f;
-        Node parent;
+    /**
+     * Gets the hierarchical planner of a medium, creating it on first use.
+     * The zone lock is never held while a planner runs, since a search may
+     * itself rebuild the terrain raster under that lock.
+     */
+    private PlanificateurHierarchique hierarchie(boolean isMarine) {
+        PlanificateurHierarchique hierarchie = isMarine ? hierarchieMarine : hierarchieTerrestre;
+        if (hierarchie == null) {
+            synchronized (this) {
+                hierarchie = isMarine ? hierarchieMarine : hierarchieTerrestre;
+                if (hierarchie == null) {
+                    hierarchie = new PlanificateurHierarchique(largeurGrille, hauteurGrille,
+                            PlanificateurHierarchique.TAILLE_GRAPPE_PAR_DEFAUT, praticable(isMarine));
+                    if (isMarine) {
+                        hierarchieMarine = hierarchie;
+                    } else {
+                        hierarchieTerrestre = hierarchie;
+                    }
+                }
+            }
+        }
+        return hierarchie;
+    }
 
-        public Node(int x, int y) {
-            this.x = x;
-            this.y = y;
+    /**
+     * Gets the passability bitsets of the flat grid for a medium, read from
+     * the cell centres, so a search tests a bit per cell.
+     */
+    GrillePassage getGrillePassage(boolean isMarine) {
+        GrillePassage grille = isMarine ? grilleMarine : grilleTerrestre;
+        if (grille == null) {
+            grille = new GrillePassage(largeurGrille, hauteurGrille, praticable(isMarine));
+            if (isMarine) {
+                grilleMarine = grille;
+            } else {
+                grilleTerrestre = grille;
+            }
         }
+        return grille;
+    }
 
-        public String key() {
-            return x + "," + y;
+    /**
+     * Gets the passability of grid cells for a medium.
+     * Note: Aerial vehicles shouldn't use this pathfinder; isMarine=false means
+     * a land vehicle, which cannot go on water.
+     */
+    private IntPredicate praticable(boolean isMarine) {
+        return c -> isLand(centreX(c % largeurGrille), centreY(c / largeurGrille)) != isMarine;
+    }
+
+    /**
+     * Gets the cell of a route start, clamped onto the grid.
+     */
+    int celluleDepart(Point3D point) {
+        int x = Math.max(0, Math.min(largeurGrille - 1, colonne(point.getX())));
+        int y = Math.max(0, Math.min(hauteurGrille - 1, ligne(point.getY())));
+        return y * largeurGrille + x;
+    }
+
+    /**
+     * Gets the cell of a route goal.
+     * 
+     * @return The cell index, or -1 outside the grid.
+     */
+    int celluleArrivee(Point3D point) {
+        int x = colonne(point.getX());
+        int y = ligne(point.getY());
+        if (x < 0 || x >= largeurGrille || y < 0 || y >= hauteurGrille) {
+            return -1;
         }
+        return y * largeurGrille + x;
+    }
+
+    private int colonne(double x) {
+        return (int) ((x - minCoord.getX()) / TAILLE_CELLULE);
+    }
+
+    private int ligne(double y) {
+        return (int) ((y - minCoord.getY()) / TAILLE_CELLULE);
+    }
+
+    private double centreX(int colonne) {
+        return minCoord.getX() + colonne * TAILLE_CELLULE + TAILLE_CELLULE / 2;
+    }
+
+    private double centreY(int ligne) {
+        return minCoord.getY() + ligne * TAILLE_CELLULE + TAILLE_CELLULE / 2;
+    }
+
+    static List<Point3D> cheminDirect(Point3D end) {
+        List<Point3D> fallback = new ArrayList<>();
+        fallback.add(end);
+        return fallback;
     }
 }
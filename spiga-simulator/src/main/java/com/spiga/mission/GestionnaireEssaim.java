@@ -1,18 +1,63 @@
 package com.spiga.mission;
 
+import com.spiga.alerte.EmetteurAlertes;
 import com.spiga.core.ActifMobile;
 import com.spiga.core.EtatOperationnel;
+import com.spiga.core.ObservateurActif;
+import com.spiga.core.Point3D;
+import com.spiga.core.StockageFlotte;
+import com.spiga.env.GrilleSpatiale;
+import com.spiga.env.ObservateurCollidable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Manages the fleet of mobile assets.
  * Responsible for adding assets, retrieving the fleet, and suggesting available
  * assets for missions.
+ * Assets are indexed by ID, by operational state and by concrete type. The
+ * state index follows {@code setEtat} through an {@link ObservateurActif}, so
+ * lookups never scan the fleet; available assets are also ordered by
+ * autonomy, and every asset is kept in a spatial grid for nearest-neighbour
+ * queries. Like the fleet itself, the indexes are meant
+ * to be used from the simulation thread.
  */
 public class GestionnaireEssaim {
+    /** Cell size of the spatial index, in world units. */
+    public static final double TAILLE_CELLULE_SPATIALE = 50.0;
+
     private List<ActifMobile> flotte;
+    private StockageFlotte stockage; // Optional columnar store, null when disabled
+    private EmetteurAlertes emetteurAlertes; // Given to every asset, null for the shared bus
+    private final Map<String, ActifMobile> parId = new HashMap<>();
+    private final Map<ActifMobile, Integer> rangs = new IdentityHashMap<>(); // Position in flotte
+    private final Map<EtatOperationnel, Set<ActifMobile>> parEtat = new EnumMap<>(EtatOperationnel.class);
+    private final Map<Class<? extends ActifMobile>, Set<ActifMobile>> parType = new LinkedHashMap<>();
+    private final IndexAutonomie disponiblesParAutonomie = new IndexAutonomie(); // AU_SOL assets only
+    private final GrilleSpatiale<ActifMobile> grille = new GrilleSpatiale<>(TAILLE_CELLULE_SPATIALE);
+    private final ObservateurCollidable suiviPosition = c -> grille.deplacer((ActifMobile) c, c.getX(), c.getY());
+    private final ObservateurActif suiviEtat = new ObservateurActif() {
+        @Override
+        public void etatModifie(ActifMobile actif, EtatOperationnel ancien, EtatOperationnel nouveau) {
+            deplacerDansIndex(actif, ancien, nouveau);
+        }
+
+        @Override
+        public void autonomieModifiee(ActifMobile actif, double ancienne, double nouvelle) {
+            if (actif.getEtat() == EtatOperationnel.AU_SOL) {
+                disponiblesParAutonomie.deplacer(actif, ancienne);
+            }
+        }
+    };
 
     /**
      * Constructor for GestionnaireEssaim.
@@ -20,24 +65,183 @@ public class GestionnaireEssaim {
      */
     public GestionnaireEssaim() {
         this.flotte = new ArrayList<>();
+        for (EtatOperationnel etat : EtatOperationnel.values()) {
+            parEtat.put(etat, new LinkedHashSet<>());
+        }
     }
 
     /**
      * Adds a mobile asset to the fleet.
      * 
      * @param actif The asset to add.
+     * @throws IllegalArgumentException If an asset with the same ID is already
+     *                                  in the fleet.
      */
     public void ajouterActif(ActifMobile actif) {
+        if (parId.containsKey(actif.getId())) {
+            throw new IllegalArgumentException("Asset ID already in use: " + actif.getId());
+        }
+        rangs.put(actif, flotte.size());
         this.flotte.add(actif);
+        parId.put(actif.getId(), actif);
+        parEtat.get(actif.getEtat()).add(actif);
+        if (actif.getEtat() == EtatOperationnel.AU_SOL) {
+            disponiblesParAutonomie.ajouter(actif);
+        }
+        parType.computeIfAbsent(actif.getClass(), t -> new LinkedHashSet<>()).add(actif);
+        actif.ajouterObservateurActif(suiviEtat);
+        grille.inserer(actif, actif.getX(), actif.getY());
+        actif.ajouterObservateur(suiviPosition);
+        if (stockage != null) {
+            stockage.attacher(actif);
+        }
+        if (emetteurAlertes != null) {
+            actif.setEmetteurAlertes(emetteurAlertes);
+        }
+    }
+
+    /**
+     * Removes an asset from the fleet and from every index, in constant time.
+     * The last asset of the fleet takes the place of the removed one.
+     * 
+     * @param actif The asset to remove.
+     * @return True if the asset was in the fleet.
+     */
+    public boolean retirerActif(ActifMobile actif) {
+        if (parId.get(actif.getId()) != actif) {
+            return false;
+        }
+        actif.retirerObservateurActif(suiviEtat);
+        actif.retirerObservateur(suiviPosition);
+        grille.retirer(actif);
+        if (stockage != null) {
+            stockage.detacher(actif);
+        }
+        if (emetteurAlertes != null) {
+            // Otherwise the bus keeps deduplication state for every asset ever seen
+            emetteurAlertes.getBus().oublier(actif.getId());
+            actif.setEmetteurAlertes(null);
+        }
+        parId.remove(actif.getId());
+        parEtat.get(actif.getEtat()).remove(actif);
+        if (actif.getEtat() == EtatOperationnel.AU_SOL) {
+            disponiblesParAutonomie.retirer(actif, actif.getAutonomieActuelle());
+        }
+        parType.get(actif.getClass()).remove(actif);
+        // Swap-remove, as the columnar store does, so fleet order and rows stay aligned
+        int rang = rangs.remove(actif);
+        ActifMobile dernier = flotte.remove(flotte.size() - 1);
+        if (dernier != actif) {
+            flotte.set(rang, dernier);
+            rangs.put(dernier, rang);
+        }
+        return true;
+    }
+
+    /**
+     * Routes the alerts of every asset, present and future, through an
+     * emitter, e.g. the one of the engine running this fleet.
+     * 
+     * @param emetteurAlertes The emitter, or null for the shared bus.
+     */
+    public void setEmetteurAlertes(EmetteurAlertes emetteurAlertes) {
+        this.emetteurAlertes = emetteurAlertes;
+        for (ActifMobile actif : flotte) {
+            actif.setEmetteurAlertes(emetteurAlertes);
+        }
+    }
+
+    private void deplacerDansIndex(ActifMobile actif, EtatOperationnel ancien, EtatOperationnel nouveau) {
+        parEtat.get(ancien).remove(actif);
+        parEtat.get(nouveau).add(actif);
+        if (ancien == EtatOperationnel.AU_SOL) {
+            disponiblesParAutonomie.retirer(actif, actif.getAutonomieActuelle());
+        } else if (nouveau == EtatOperationnel.AU_SOL) {
+            disponiblesParAutonomie.ajouter(actif);
+        }
+    }
+
+    /**
+     * Moves the hot state of every current and future asset into a columnar
+     * {@link StockageFlotte}. Rows follow the fleet order.
+     * 
+     * @return The store.
+     */
+    public StockageFlotte activerStockageColonnes() {
+        if (stockage == null) {
+            stockage = new StockageFlotte(flotte.size());
+            for (ActifMobile actif : flotte) {
+                stockage.attacher(actif);
+            }
+        }
+        return stockage;
+    }
+
+    /**
+     * Gets the columnar store.
+     * 
+     * @return The store, or null if assets hold their own state.
+     */
+    public StockageFlotte getStockage() {
+        return stockage;
     }
 
     /**
      * Retrieves the entire fleet of assets.
      * 
-     * @return A list of all assets in the fleet.
+     * @return A read-only list of all assets in the fleet, in insertion order
+     *         except that removing an asset moves the last one into its
+     *         place.
      */
     public List<ActifMobile> getFlotte() {
-        return flotte;
+        return Collections.unmodifiableList(flotte);
+    }
+
+    /**
+     * Finds an asset by its identifier.
+     * 
+     * @param id The asset ID.
+     * @return The asset, or null if no asset has this ID.
+     */
+    public ActifMobile trouverActif(String id) {
+        return parId.get(id);
+    }
+
+    /**
+     * Gets the assets currently in a given state.
+     * 
+     * @param etat The operational state.
+     * @return A live read-only view, in the order assets entered the state.
+     */
+    public Set<ActifMobile> getActifs(EtatOperationnel etat) {
+        return Collections.unmodifiableSet(parEtat.get(etat));
+    }
+
+    /**
+     * Gets the assets of a given type, subclasses included.
+     * 
+     * @param type The asset class, e.g. {@code VehiculeTerrestre.class} or
+     *             {@code ActifAerien.class}.
+     * @return The matching assets, grouped by concrete type.
+     */
+    public List<ActifMobile> getActifs(Class<? extends ActifMobile> type) {
+        List<ActifMobile> resultat = new ArrayList<>();
+        for (Map.Entry<Class<? extends ActifMobile>, Set<ActifMobile>> entree : parType.entrySet()) {
+            if (type.isAssignableFrom(entree.getKey())) {
+                resultat.addAll(entree.getValue());
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Counts the assets currently in a given state.
+     * 
+     * @param etat The operational state.
+     * @return The number of assets.
+     */
+    public int compter(EtatOperationnel etat) {
+        return parEtat.get(etat).size();
     }
 
     /**
@@ -46,21 +250,77 @@ public class GestionnaireEssaim {
      * @return A list of available assets.
      */
     public List<ActifMobile> getActifsDisponibles() {
-        return flotte.stream()
-                .filter(a -> a.getEtat() == EtatOperationnel.AU_SOL)
-                .collect(Collectors.toList());
+        return new ArrayList<>(parEtat.get(EtatOperationnel.AU_SOL));
     }
 
     /**
      * Suggests an available asset that meets a minimum autonomy requirement.
+     * Picks the asset with the least sufficient autonomy, so fuller assets
+     * stay free for longer missions. Runs in O(log n).
      * 
      * @param minAutonomie The minimum autonomy required.
      * @return An available asset meeting the criteria, or null if none found.
      */
     public ActifMobile suggererActif(double minAutonomie) {
-        return getActifsDisponibles().stream()
-                .filter(a -> a.getAutonomieActuelle() >= minAutonomie)
-                .findFirst()
-                .orElse(null);
+        return disponiblesParAutonomie.meilleurAjustement(minAutonomie);
+    }
+
+    /**
+     * Gets the available assets with the most autonomy.
+     * 
+     * @param k Maximum number of assets.
+     * @return Up to k available assets, by decreasing autonomy.
+     */
+    public List<ActifMobile> getActifsDisponiblesLesPlusAutonomes(int k) {
+        return disponiblesParAutonomie.plusAutonomes(k);
+    }
+
+    /**
+     * Finds the assets nearest to a point in the horizontal plane.
+     * Answers from the spatial index, in time depending on the local density
+     * rather than on the fleet size.
+     * 
+     * @param point The point.
+     * @param k     Maximum number of assets.
+     * @param type  Only assets of this class or its subclasses, or null for
+     *              any type.
+     * @param etat  Only assets in this state, or null for any state.
+     * @return Up to k assets, nearest first.
+     */
+    public List<ActifMobile> plusProches(Point3D point, int k, Class<? extends ActifMobile> type,
+            EtatOperationnel etat) {
+        return grille.plusProches(point.getX(), point.getY(), k, Double.POSITIVE_INFINITY, filtre(type, etat));
+    }
+
+    /**
+     * Finds the nearest available asset of a type.
+     * 
+     * @param point The point.
+     * @param type  Only assets of this class or its subclasses, or null for
+     *              any type.
+     * @return The nearest asset on the ground, or null if none.
+     */
+    public ActifMobile plusProcheDisponible(Point3D point, Class<? extends ActifMobile> type) {
+        List<ActifMobile> resultat = plusProches(point, 1, type, EtatOperationnel.AU_SOL);
+        return resultat.isEmpty() ? null : resultat.get(0);
+    }
+
+    /**
+     * Finds the assets within a horizontal distance of a point.
+     * 
+     * @param point The point.
+     * @param rayon Search radius.
+     * @param type  Only assets of this class or its subclasses, or null for
+     *              any type.
+     * @param etat  Only assets in this state, or null for any state.
+     * @return The matching assets, in no particular order.
+     */
+    public List<ActifMobile> dansRayon(Point3D point, double rayon, Class<? extends ActifMobile> type,
+            EtatOperationnel etat) {
+        return grille.dansRayon(point.getX(), point.getY(), rayon, filtre(type, etat));
+    }
+
+    private static Predicate<ActifMobile> filtre(Class<? extends ActifMobile> type, EtatOperationnel etat) {
+        return a -> (type == null || type.isInstance(a)) && (etat == null || a.getEtat() == etat);
     }
 }
@@ -0,0 +1,109 @@
+package com.spiga.mission;
+
+import com.spiga.core.ActifMobile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Assets ordered by current autonomy.
+ * Assets with the same autonomy share a bucket and keep their insertion
+ * order, so results are deterministic. The caller reports every autonomy
+ * change with {@link #deplacer}, passing the previous value.
+ */
+public class IndexAutonomie {
+    private final NavigableMap<Double, Set<ActifMobile>> parAutonomie = new TreeMap<>();
+    private int taille;
+
+    /**
+     * Adds an asset under its current autonomy.
+     *
+     * @param actif The asset.
+     */
+    public void ajouter(ActifMobile actif) {
+        if (parAutonomie.computeIfAbsent(actif.getAutonomieActuelle(), a -> new LinkedHashSet<>()).add(actif)) {
+            taille++;
+        }
+    }
+
+    /**
+     * Removes an asset indexed under a given autonomy.
+     *
+     * @param actif     The asset.
+     * @param autonomie The autonomy it was indexed under.
+     * @return True if the asset was indexed under that autonomy.
+     */
+    public boolean retirer(ActifMobile actif, double autonomie) {
+        Set<ActifMobile> seau = parAutonomie.get(autonomie);
+        if (seau == null || !seau.remove(actif)) {
+            return false;
+        }
+        if (seau.isEmpty()) {
+            parAutonomie.remove(autonomie);
+        }
+        taille--;
+        return true;
+    }
+
+    /**
+     * Moves an asset after its autonomy changed. Assets not in the index are
+     * ignored.
+     *
+     * @param actif    The asset.
+     * @param ancienne The autonomy it was indexed under.
+     */
+    public void deplacer(ActifMobile actif, double ancienne) {
+        if (retirer(actif, ancienne)) {
+            ajouter(actif);
+        }
+    }
+
+    /**
+     * Finds the asset with the least autonomy that still meets a requirement
+     * (best fit), keeping better-equipped assets for harder missions.
+     *
+     * @param minAutonomie The minimum autonomy required.
+     * @return The asset, or null if none has enough autonomy.
+     */
+    public ActifMobile meilleurAjustement(double minAutonomie) {
+        Map.Entry<Double, Set<ActifMobile>> entree = parAutonomie.ceilingEntry(minAutonomie);
+        return entree == null ? null : entree.getValue().iterator().next();
+    }
+
+    /**
+     * Gets the assets with the most autonomy.
+     *
+     * @param k Maximum number of assets.
+     * @return Up to k assets, by decreasing autonomy.
+     */
+    public List<ActifMobile> plusAutonomes(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive or zero: " + k);
+        }
+        List<ActifMobile> resultat = new ArrayList<>(Math.min(k, taille));
+        Iterator<Set<ActifMobile>> seaux = parAutonomie.descendingMap().values().iterator();
+        while (resultat.size() < k && seaux.hasNext()) {
+            for (ActifMobile actif : seaux.next()) {
+                if (resultat.size() == k) {
+                    break;
+                }
+                resultat.add(actif);
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Gets the number of indexed assets.
+     *
+     * @return The size.
+     */
+    public int taille() {
+        return taille;
+    }
+}
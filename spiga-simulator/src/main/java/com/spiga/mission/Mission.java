@@ -1,7 +1,9 @@
 package com.spiga.mission;
 
 import com.spiga.core.ActifMobile;
+import com.spiga.core.Point3D;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class Mission {
@@ -9,6 +11,7 @@ public abstract class Mission {
     private ObjectifMission objectif;
     private StatutMission statut;
     private List<ActifMobile> actifsAssignes;
+    private Point3D cible; // Where assigned assets are sent, null if not located
 
     public Mission(String id, ObjectifMission objectif) {
         this.id = id;
@@ -77,6 +80,37 @@ public abstract class Mission {
         }
     }
 
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the assets assigned to the mission.
+     * 
+     * @return A read-only list of the assigned assets.
+     */
+    public List<ActifMobile> getActifsAssignes() {
+        return Collections.unmodifiableList(actifsAssignes);
+    }
+
+    /**
+     * Gets the mission target.
+     * 
+     * @return The target, or null if the mission has no location.
+     */
+    public Point3D getCible() {
+        return cible;
+    }
+
+    /**
+     * Sets the mission target, used by {@link AllocateurMissions}.
+     * 
+     * @param cible The target.
+     */
+    public void setCible(Point3D cible) {
+        this.cible = cible;
+    }
+
     /**
      * Returns the current status of the mission.
      * 
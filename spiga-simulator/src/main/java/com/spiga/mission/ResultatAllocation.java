@@ -0,0 +1,134 @@
+package com.spiga.mission;
+
+import com.spiga.core.ActifMobile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch allocation by {@link AllocateurMissions}: which asset
+ * goes to which mission, what it costs and how long it took to compute.
+ * Nothing is applied to missions or assets until {@link #appliquer()}.
+ */
+public class ResultatAllocation {
+    private final Map<Mission, ActifMobile> affectations;
+    private final List<Mission> nonAffectees;
+    private final double coutTotal;
+    private final long dureeCoutsNanos;
+    private final long dureeResolutionNanos;
+    private final int actifsExplores;
+    private final boolean budgetEpuise;
+
+    ResultatAllocation(Map<Mission, ActifMobile> affectations, List<Mission> nonAffectees, double coutTotal,
+            long dureeCoutsNanos, long dureeResolutionNanos, int actifsExplores, boolean budgetEpuise) {
+        this.affectations = Collections.unmodifiableMap(new LinkedHashMap<>(affectations));
+        this.nonAffectees = Collections.unmodifiableList(new ArrayList<>(nonAffectees));
+        this.coutTotal = coutTotal;
+        this.dureeCoutsNanos = dureeCoutsNanos;
+        this.dureeResolutionNanos = dureeResolutionNanos;
+        this.actifsExplores = actifsExplores;
+        this.budgetEpuise = budgetEpuise;
+    }
+
+    /**
+     * Gets the assignment.
+     *
+     * @return Asset per assigned mission, in the order missions were given.
+     */
+    public Map<Mission, ActifMobile> getAffectations() {
+        return affectations;
+    }
+
+    /**
+     * Gets the missions left without an asset: no target, or no reachable
+     * asset among the candidates.
+     *
+     * @return The unassigned missions.
+     */
+    public List<Mission> getNonAffectees() {
+        return nonAffectees;
+    }
+
+    /**
+     * Gets the sum of the travel distances of the assignment.
+     *
+     * @return The total cost.
+     */
+    public double getCoutTotal() {
+        return coutTotal;
+    }
+
+    /**
+     * Gets the time spent building the candidate costs.
+     *
+     * @return Duration in nanoseconds.
+     */
+    public long getDureeCoutsNanos() {
+        return dureeCoutsNanos;
+    }
+
+    /**
+     * Gets the time spent solving the assignment.
+     *
+     * @return Duration in nanoseconds.
+     */
+    public long getDureeResolutionNanos() {
+        return dureeResolutionNanos;
+    }
+
+    /**
+     * Gets the total solve time, cost build included.
+     *
+     * @return Duration in nanoseconds.
+     */
+    public long getDureeTotaleNanos() {
+        return dureeCoutsNanos + dureeResolutionNanos;
+    }
+
+    /**
+     * Gets the number of assets settled by the augmenting path searches; equal
+     * to the number of assigned missions when no reassignment was needed.
+     *
+     * @return The search effort.
+     */
+    public int getActifsExplores() {
+        return actifsExplores;
+    }
+
+    /**
+     * Tells whether the time budget ran out. The missions the exact search
+     * had not reached then got their nearest free candidate, so the
+     * assignment may cost more than the optimum or leave more missions
+     * unassigned.
+     *
+     * @return True if the result is a best effort within the budget.
+     */
+    public boolean isBudgetEpuise() {
+        return budgetEpuise;
+    }
+
+    /**
+     * Assigns each asset to its mission and sends it to the mission target.
+     * Missions are not started.
+     */
+    public void appliquer() {
+        for (Map.Entry<Mission, ActifMobile> entree : affectations.entrySet()) {
+            entree.getKey().assignerActif(entree.getValue());
+            entree.getValue().setTarget(entree.getKey().getCible());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResultatAllocation{" +
+                "affectees=" + affectations.size() +
+                ", nonAffectees=" + nonAffectees.size() +
+                ", coutTotal=" + coutTotal +
+                ", dureeMs=" + getDureeTotaleNanos() / 1e6 +
+                ", actifsExplores=" + actifsExplores +
+                ", budgetEpuise=" + budgetEpuise +
+                '}';
+    }
+}
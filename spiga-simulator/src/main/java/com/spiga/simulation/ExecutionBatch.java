@@ -0,0 +1,177 @@
+package com.spiga.simulation;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneLogistique;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSousMarin;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.core.VehiculeTerrestre;
+import com.spiga.env.ZoneOperation;
+import com.spiga.mission.GestionnaireEssaim;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Headless capacity run: ticks an engine back to back on the calling thread
+ * and measures it. Assets patrol: before every tick, assets that reached
+ * their target get a new one on their terrain and are refuelled when half
+ * empty, so the workload stays steady over the whole run. This runs as an
+ * engine command, so its cost is part of the measured tick, like any order
+ * coming from a user interface.
+ */
+public class ExecutionBatch {
+    private final MoteurSimulation moteur;
+    private final Random rnd;
+
+    /**
+     * Constructor for ExecutionBatch.
+     *
+     * @param moteur The engine to run; must not be started.
+     * @param graine Seed of the patrol targets.
+     */
+    public ExecutionBatch(MoteurSimulation moteur, long graine) {
+        this.moteur = moteur;
+        this.rnd = new Random(graine);
+    }
+
+    /**
+     * Fills a fleet with a reproducible mix of every asset type, each placed
+     * on a terrain it can use and registered with the zone.
+     *
+     * @param zone         The zone.
+     * @param gestionnaire The fleet manager to fill.
+     * @param taille       Number of assets.
+     * @param graine       Random seed.
+     */
+    public static void peupler(ZoneOperation zone, GestionnaireEssaim gestionnaire, int taille, long graine) {
+        if (taille < 0) {
+            throw new IllegalArgumentException("Fleet size must be positive or zero: " + taille);
+        }
+        Random rnd = new Random(graine);
+        for (int i = 0; i < taille; i++) {
+            ActifMobile actif = creerActif(zone, i % 5, "A" + i, rnd);
+            gestionnaire.ajouterActif(actif);
+            zone.addCollidable(actif);
+        }
+    }
+
+    /**
+     * Runs ticks and measures them.
+     *
+     * @param echauffement Ticks run first and not measured, to warm up the JIT.
+     * @param ticks        Number of measured ticks.
+     * @return The measurements and the final fleet state.
+     */
+    public RapportBatch executer(int echauffement, int ticks) {
+        if (echauffement < 0 || ticks <= 0) {
+            throw new IllegalArgumentException("Invalid tick counts: " + echauffement + ", " + ticks);
+        }
+        for (int i = 0; i < echauffement; i++) {
+            moteur.soumettre(this::patrouiller);
+            moteur.tick();
+        }
+        long[] durees = new long[ticks];
+        long misesAJour = 0;
+        long debut = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            moteur.soumettre(this::patrouiller);
+            long t0 = System.nanoTime();
+            moteur.tick();
+            durees[i] = System.nanoTime() - t0;
+            misesAJour += moteur.getDeplacements();
+        }
+        long total = System.nanoTime() - debut;
+        Arrays.sort(durees);
+        return new RapportBatch(ticks, misesAJour, total, percentile(durees, 0.50), percentile(durees, 0.99),
+                durees[ticks - 1], moteur.getInstantane());
+    }
+
+    /**
+     * Gets a percentile by the nearest-rank method.
+     *
+     * @param tries Sorted values.
+     * @param p     Rank between 0 and 1.
+     * @return The value.
+     */
+    static long percentile(long[] tries, double p) {
+        int rang = (int) Math.ceil(p * tries.length);
+        return tries[Math.max(0, Math.min(tries.length - 1, rang - 1))];
+    }
+
+    private void patrouiller() {
+        ZoneOperation zone = moteur.getZone();
+        for (ActifMobile actif : moteur.getGestionnaire().getFlotte()) {
+            if (actif.getTarget() == null) {
+                actif.setTarget(cibleDePatrouille(zone, actif, rnd));
+            }
+            if (actif.getAutonomieActuelle() < actif.getAutonomieMax() / 2) {
+                actif.setAutonomieActuelle(actif.getAutonomieMax());
+            }
+        }
+    }
+
+    private static ActifMobile creerActif(ZoneOperation zone, int type, String id, Random rnd) {
+        Point3D min = zone.getMinCoord();
+        Point3D max = zone.getMaxCoord();
+        switch (type) {
+            case 0:
+                return new DroneReconnaissance(id, pointAerien(min, max, rnd));
+            case 1:
+                return new DroneLogistique(id, pointAerien(min, max, rnd));
+            case 2:
+                return new VehiculeSurface(id, pointSurTerrain(zone, false, 0, rnd));
+            case 3:
+                // Down to 90% of the depth, at least 10 below the surface
+                double profondeur = 10 + rnd.nextDouble() * Math.max(0, 0.9 * (-min.getZ() - 10));
+                return new VehiculeSousMarin(id, pointSurTerrain(zone, false, -profondeur, rnd));
+            default:
+                return new VehiculeTerrestre(id, pointSurTerrain(zone, true, 0, rnd));
+        }
+    }
+
+    private static Point3D cibleDePatrouille(ZoneOperation zone, ActifMobile actif, Random rnd) {
+        if (actif instanceof VehiculeTerrestre) {
+            return pointSurTerrain(zone, true, 0, rnd);
+        }
+        if (actif instanceof VehiculeSurface || actif instanceof VehiculeSousMarin) {
+            return pointSurTerrain(zone, false, actif.getZ(), rnd);
+        }
+        Point3D min = zone.getMinCoord();
+        Point3D max = zone.getMaxCoord();
+        return new Point3D(entre(min.getX(), max.getX(), rnd), entre(min.getY(), max.getY(), rnd), actif.getZ());
+    }
+
+    /**
+     * Draws a point in the zone, between 10 units and 90% of the ceiling.
+     */
+    private static Point3D pointAerien(Point3D min, Point3D max, Random rnd) {
+        return new Point3D(entre(min.getX(), max.getX(), rnd), entre(min.getY(), max.getY(), rnd),
+                10 + rnd.nextDouble() * Math.max(0, 0.9 * (max.getZ() - 10)));
+    }
+
+    /** Draws tried before giving up on finding the requested terrain. */
+    private static final int TIRAGES_MAX = 100_000;
+
+    /**
+     * Draws random points until one lies on the requested terrain.
+     *
+     * @throws IllegalArgumentException If the zone seems to have none of it.
+     */
+    private static Point3D pointSurTerrain(ZoneOperation zone, boolean terre, double z, Random rnd) {
+        Point3D min = zone.getMinCoord();
+        Point3D max = zone.getMaxCoord();
+        for (int i = 0; i < TIRAGES_MAX; i++) {
+            double x = entre(min.getX(), max.getX(), rnd);
+            double y = entre(min.getY(), max.getY(), rnd);
+            if (zone.isLand(x, y) == terre) {
+                return new Point3D(x, y, z);
+            }
+        }
+        throw new IllegalArgumentException("No " + (terre ? "land" : "water") + " found in the zone");
+    }
+
+    private static double entre(double min, double max, Random rnd) {
+        return min + rnd.nextDouble() * (max - min);
+    }
+}
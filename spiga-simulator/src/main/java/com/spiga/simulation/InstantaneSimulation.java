@@ -0,0 +1,201 @@
+package com.spiga.simulation;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.CategorieActif;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.StockageFlotte;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable picture of the fleet at the end of a simulation tick.
+ * Values are stored column by column so readers (renderer, dashboard) sweep
+ * primitive arrays and never touch the live assets owned by the simulation
+ * thread.
+ */
+public final class InstantaneSimulation {
+    private final long numeroTick;
+    private final long horodatage;
+    private final long versionGeometrie;
+    private final String[] ids;
+    private final String[] types;
+    private final CategorieActif[] categories;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final EtatOperationnel[] etats;
+    private final double[] autonomies;
+    private final double[] autonomiesMax;
+    private volatile Map<String, Integer> indexParId; // Built on first lookup
+
+    /**
+     * Captures the state of a fleet.
+     *
+     * @param numeroTick       Number of the tick that produced this state.
+     * @param horodatage       Capture time, from {@link System#nanoTime()}.
+     * @param versionGeometrie Geometry version of the zone at capture time.
+     * @param flotte           The assets to capture.
+     */
+    public InstantaneSimulation(long numeroTick, long horodatage, long versionGeometrie,
+            List<? extends ActifMobile> flotte) {
+        this.numeroTick = numeroTick;
+        this.horodatage = horodatage;
+        this.versionGeometrie = versionGeometrie;
+        int n = flotte.size();
+        this.ids = new String[n];
+        this.types = new String[n];
+        this.categories = new CategorieActif[n];
+        this.x = new double[n];
+        this.y = new double[n];
+        this.z = new double[n];
+        this.etats = new EtatOperationnel[n];
+        this.autonomies = new double[n];
+        this.autonomiesMax = new double[n];
+        for (int i = 0; i < n; i++) {
+            ActifMobile actif = flotte.get(i);
+            ids[i] = actif.getId();
+            types[i] = actif.getClass().getSimpleName();
+            categories[i] = CategorieActif.de(actif);
+            x[i] = actif.getX();
+            y[i] = actif.getY();
+            z[i] = actif.getZ();
+            etats[i] = actif.getEtat();
+            autonomies[i] = actif.getAutonomieActuelle();
+            autonomiesMax[i] = actif.getAutonomieMax();
+        }
+    }
+
+    /**
+     * Captures the state of a fleet held in a columnar store. Numeric columns
+     * are block-copied; rows follow the store order.
+     *
+     * @param numeroTick       Number of the tick that produced this state.
+     * @param horodatage       Capture time, from {@link System#nanoTime()}.
+     * @param versionGeometrie Geometry version of the zone at capture time.
+     * @param stockage         The store to capture.
+     */
+    public InstantaneSimulation(long numeroTick, long horodatage, long versionGeometrie,
+            StockageFlotte stockage) {
+        this.numeroTick = numeroTick;
+        this.horodatage = horodatage;
+        this.versionGeometrie = versionGeometrie;
+        int n = stockage.taille();
+        this.ids = new String[n];
+        this.types = new String[n];
+        this.categories = new CategorieActif[n];
+        this.x = new double[n];
+        this.y = new double[n];
+        this.z = new double[n];
+        this.etats = new EtatOperationnel[n];
+        this.autonomies = new double[n];
+        this.autonomiesMax = new double[n];
+        stockage.copierPositions(x, y, z);
+        stockage.copierAutonomies(autonomies, autonomiesMax);
+        for (int i = 0; i < n; i++) {
+            ActifMobile actif = stockage.getActif(i);
+            ids[i] = actif.getId();
+            types[i] = actif.getClass().getSimpleName();
+            categories[i] = CategorieActif.de(actif);
+            etats[i] = stockage.getEtat(i);
+        }
+    }
+
+    /**
+     * Creates an empty snapshot, published before the first tick.
+     *
+     * @return A snapshot without assets.
+     */
+    public static InstantaneSimulation vide() {
+        return new InstantaneSimulation(0, System.nanoTime(), 0, List.of());
+    }
+
+    public long getNumeroTick() {
+        return numeroTick;
+    }
+
+    public long getHorodatage() {
+        return horodatage;
+    }
+
+    public long getVersionGeometrie() {
+        return versionGeometrie;
+    }
+
+    /**
+     * Gets the number of captured assets.
+     *
+     * @return The asset count.
+     */
+    public int taille() {
+        return ids.length;
+    }
+
+    public String getId(int i) {
+        return ids[i];
+    }
+
+    /**
+     * Gets the simple class name of an asset, e.g. "VehiculeSurface".
+     *
+     * @param i Row of the asset.
+     * @return The type name.
+     */
+    public String getType(int i) {
+        return types[i];
+    }
+
+    /**
+     * Gets the kind and medium of an asset, resolved from its class at
+     * capture time.
+     *
+     * @param i Row of the asset.
+     * @return The category.
+     */
+    public CategorieActif getCategorie(int i) {
+        return categories[i];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getZ(int i) {
+        return z[i];
+    }
+
+    public EtatOperationnel getEtat(int i) {
+        return etats[i];
+    }
+
+    public double getAutonomie(int i) {
+        return autonomies[i];
+    }
+
+    public double getAutonomieMax(int i) {
+        return autonomiesMax[i];
+    }
+
+    /**
+     * Finds the row of an asset.
+     *
+     * @param id The asset ID.
+     * @return The row, or -1 if the asset is not in this snapshot.
+     */
+    public int indexDe(String id) {
+        Map<String, Integer> index = indexParId;
+        if (index == null) {
+            index = new HashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                index.put(ids[i], i);
+            }
+            indexParId = index;
+        }
+        Integer i = index.get(id);
+        return i == null ? -1 : i;
+    }
+}
@@ -0,0 +1,282 @@
+package com.spiga.simulation;
+
+import com.spiga.alerte.BusAlertes;
+import com.spiga.alerte.EmetteurAlertes;
+import com.spiga.core.ActifMobile;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.StockageFlotte;
+import com.spiga.env.ZoneOperation;
+import com.spiga.mission.GestionnaireEssaim;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless simulation engine.
+ * Owns the zone and the fleet manager and advances them at a fixed time step
+ * on its own thread, independently of any display. After each tick it
+ * publishes an immutable {@link InstantaneSimulation} that user interfaces
+ * read; changes coming from other threads are submitted as commands and run
+ * on the simulation thread between two ticks.
+ */
+public class MoteurSimulation {
+    private final ZoneOperation zone;
+    private final GestionnaireEssaim gestionnaire;
+    private final Queue<Runnable> commandes;
+    private final TickParallele tickFlotte;
+    private final EmetteurAlertes alertes;
+    private volatile long periodeNanos;
+    private volatile InstantaneSimulation instantane;
+    private volatile boolean enMarche;
+    private Thread thread;
+    private volatile long numeroTick;
+    private volatile int deplacements; // Assets moved by the last tick
+
+    /**
+     * Constructor for MoteurSimulation. Alerts go to the shared
+     * {@link BusAlertes#getDefaut() default bus}.
+     *
+     * @param zone         The operational zone.
+     * @param gestionnaire The fleet manager.
+     * @param frequence    Tick rate in Hz, or 0 to tick as fast as possible.
+     */
+    public MoteurSimulation(ZoneOperation zone, GestionnaireEssaim gestionnaire, double frequence) {
+        this(zone, gestionnaire, frequence, BusAlertes.getDefaut());
+    }
+
+    /**
+     * Constructor for MoteurSimulation. The fleet's alerts are published on
+     * the given bus, stamped with this engine's ticks.
+     *
+     * @param zone         The operational zone.
+     * @param gestionnaire The fleet manager.
+     * @param frequence    Tick rate in Hz, or 0 to tick as fast as possible.
+     * @param bus          The bus receiving the fleet's alerts.
+     */
+    public MoteurSimulation(ZoneOperation zone, GestionnaireEssaim gestionnaire, double frequence,
+            BusAlertes bus) {
+        this.zone = zone;
+        this.gestionnaire = gestionnaire;
+        this.commandes = new ConcurrentLinkedQueue<>();
+        this.tickFlotte = TickParallele.parDefaut();
+        this.alertes = new EmetteurAlertes(bus);
+        gestionnaire.setEmetteurAlertes(alertes);
+        setFrequence(frequence);
+        this.instantane = capturer();
+    }
+
+    public ZoneOperation getZone() {
+        return zone;
+    }
+
+    public GestionnaireEssaim getGestionnaire() {
+        return gestionnaire;
+    }
+
+    public BusAlertes getBusAlertes() {
+        return alertes.getBus();
+    }
+
+    /**
+     * Sets the tick rate. Takes effect from the next tick.
+     *
+     * @param frequence Tick rate in Hz, or 0 to tick as fast as possible.
+     */
+    public void setFrequence(double frequence) {
+        if (frequence < 0 || Double.isNaN(frequence)) {
+            throw new IllegalArgumentException("Frequency must be positive or zero: " + frequence);
+        }
+        this.periodeNanos = frequence == 0 ? 0 : Math.round(1_000_000_000.0 / frequence);
+    }
+
+    /**
+     * Gets the tick rate.
+     *
+     * @return The rate in Hz, 0 when unthrottled.
+     */
+    public double getFrequence() {
+        long periode = periodeNanos;
+        return periode == 0 ? 0 : 1_000_000_000.0 / periode;
+    }
+
+    /**
+     * Sets the number of threads used to prepare asset moves. Results do not
+     * depend on this value.
+     *
+     * @param parallelisme Number of worker threads, 1 to run sequentially.
+     */
+    public void setParallelisme(int parallelisme) {
+        tickFlotte.setParallelisme(parallelisme);
+    }
+
+    public int getParallelisme() {
+        return tickFlotte.getParallelisme();
+    }
+
+    /**
+     * Gets the fixed time step.
+     *
+     * @return The step in seconds, 0 when unthrottled.
+     */
+    public double getPasDeTemps() {
+        return periodeNanos / 1_000_000_000.0;
+    }
+
+    /**
+     * Gets the snapshot published by the last tick. Safe to call from any
+     * thread.
+     *
+     * @return The latest snapshot.
+     */
+    public InstantaneSimulation getInstantane() {
+        return instantane;
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return The tick count.
+     */
+    public long getNumeroTick() {
+        return numeroTick;
+    }
+
+    /**
+     * Gets the number of assets whose move was committed by the last tick.
+     * Assets without a target, broken down, or stopped by a collision or the
+     * terrain are not counted.
+     *
+     * @return The move count.
+     */
+    public int getDeplacements() {
+        return deplacements;
+    }
+
+    public boolean isEnMarche() {
+        return enMarche;
+    }
+
+    /**
+     * Queues a change to apply on the simulation thread before the next tick.
+     * This is the only safe way for other threads to touch the zone, the fleet
+     * or an asset while the engine runs.
+     *
+     * @param commande The change to apply.
+     */
+    public void soumettre(Runnable commande) {
+        commandes.add(commande);
+    }
+
+    /**
+     * Starts ticking on a dedicated daemon thread.
+     */
+    public synchronized void demarrer() {
+        if (enMarche) {
+            return;
+        }
+        enMarche = true;
+        thread = new Thread(this::boucle, "spiga-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for the current tick to finish.
+     */
+    public synchronized void arreter() {
+        enMarche = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Runs one tick on the calling thread: pending commands, fleet movement,
+     * then snapshot publication. Must not be called while the engine thread
+     * runs.
+     */
+    public void tick() {
+        alertes.setNumeroTick(numeroTick + 1); // Alerts carry the tick being computed
+        executerCommandes();
+        avancerFlotte();
+        numeroTick++;
+        instantane = capturer();
+    }
+
+    private InstantaneSimulation capturer() {
+        StockageFlotte stockage = gestionnaire.getStockage();
+        if (stockage != null) {
+            return new InstantaneSimulation(numeroTick, System.nanoTime(), zone.getVersionGeometrie(), stockage);
+        }
+        return new InstantaneSimulation(numeroTick, System.nanoTime(), zone.getVersionGeometrie(),
+                gestionnaire.getFlotte());
+    }
+
+    private void boucle() {
+        long prochain = System.nanoTime();
+        while (enMarche) {
+            try {
+                tick();
+            } catch (Exception e) {
+                System.err.println("Error in simulation tick: " + e.getMessage());
+                e.printStackTrace();
+            }
+            long periode = periodeNanos;
+            if (periode == 0) {
+                continue;
+            }
+            prochain += periode;
+            long attente = prochain - System.nanoTime();
+            if (attente < -periode) {
+                // Too far behind: drop the missed ticks instead of bursting
+                prochain = System.nanoTime();
+            }
+            while (enMarche && (attente = prochain - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, attente);
+            }
+        }
+    }
+
+    private void executerCommandes() {
+        Runnable commande;
+        while ((commande = commandes.poll()) != null) {
+            try {
+                commande.run();
+            } catch (Exception e) {
+                System.err.println("Error running simulation command: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Moves assets towards their targets and checks for arrival.
+     */
+    private void avancerFlotte() {
+        StockageFlotte stockage = gestionnaire.getStockage();
+        if (stockage != null) {
+            // Rows follow the fleet order, so both walks commit in the same order
+            deplacements = tickFlotte.executer(stockage, zone, ActifMobile::getTarget,
+                    MoteurSimulation::arreterSiArrive);
+        } else {
+            deplacements = tickFlotte.executer(gestionnaire.getFlotte(), zone, ActifMobile::getTarget,
+                    MoteurSimulation::arreterSiArrive);
+        }
+    }
+
+    private static void arreterSiArrive(ActifMobile actif) {
+        // Stop if reached (simple check)
+        double dx = actif.getTarget().getX() - actif.getX();
+        double dy = actif.getTarget().getY() - actif.getY();
+        if (Math.sqrt(dx * dx + dy * dy) < 5.0) { // Tolerance
+            actif.setTarget(null); // Stop
+            actif.setEtat(EtatOperationnel.AU_SOL); // Reset state
+        }
+    }
+}
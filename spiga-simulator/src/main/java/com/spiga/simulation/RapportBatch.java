@@ -0,0 +1,133 @@
+package com.spiga.simulation;
+
+import com.spiga.core.EtatOperationnel;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measurements of an {@link ExecutionBatch} run and the fleet state it ended
+ * with.
+ */
+public final class RapportBatch {
+    private final int ticks;
+    private final long misesAJour;
+    private final long dureeTotale;
+    private final long p50;
+    private final long p99;
+    private final long max;
+    private final InstantaneSimulation etatFinal;
+
+    RapportBatch(int ticks, long misesAJour, long dureeTotale, long p50, long p99, long max,
+            InstantaneSimulation etatFinal) {
+        this.ticks = ticks;
+        this.misesAJour = misesAJour;
+        this.dureeTotale = dureeTotale;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.max = max;
+        this.etatFinal = etatFinal;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of asset moves over the measured ticks.
+     *
+     * @return The asset-update count.
+     */
+    public long getMisesAJour() {
+        return misesAJour;
+    }
+
+    /**
+     * Gets the wall-clock time of the measured ticks.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getDureeTotale() {
+        return dureeTotale;
+    }
+
+    public double getTicksParSeconde() {
+        return ticks * 1e9 / dureeTotale;
+    }
+
+    public double getMisesAJourParSeconde() {
+        return misesAJour * 1e9 / dureeTotale;
+    }
+
+    /**
+     * Gets the median tick latency.
+     *
+     * @return The latency in nanoseconds.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Gets the 99th percentile tick latency.
+     *
+     * @return The latency in nanoseconds.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public InstantaneSimulation getEtatFinal() {
+        return etatFinal;
+    }
+
+    /**
+     * Counts the final assets in each operational state.
+     *
+     * @return The count per state, in declaration order.
+     */
+    public Map<EtatOperationnel, Integer> compterParEtat() {
+        Map<EtatOperationnel, Integer> comptes = new EnumMap<>(EtatOperationnel.class);
+        for (int i = 0; i < etatFinal.taille(); i++) {
+            comptes.merge(etatFinal.getEtat(i), 1, Integer::sum);
+        }
+        return comptes;
+    }
+
+    /**
+     * Prints the summary, one line per figure so CI logs can be grepped.
+     *
+     * @param sortie The stream to print to.
+     */
+    public void afficher(PrintStream sortie) {
+        sortie.printf("Ticks: %d en %.3f s%n", ticks, dureeTotale / 1e9);
+        sortie.printf("Ticks/s: %.1f%n", getTicksParSeconde());
+        sortie.printf("Mises a jour d'actifs/s: %.0f%n", getMisesAJourParSeconde());
+        sortie.printf("Latence tick p50: %.3f ms%n", p50 / 1e6);
+        sortie.printf("Latence tick p99: %.3f ms%n", p99 / 1e6);
+        sortie.printf("Latence tick max: %.3f ms%n", max / 1e6);
+        sortie.printf("Flotte finale: %d actifs (tick %d)%n", etatFinal.taille(), etatFinal.getNumeroTick());
+        sortie.println(" Par etat:");
+        for (Map.Entry<EtatOperationnel, Integer> e : compterParEtat().entrySet()) {
+            sortie.printf("  %s: %d%n", e.getKey(), e.getValue());
+        }
+        Map<String, double[]> parType = new TreeMap<>(); // Count and autonomy percentage sum
+        for (int i = 0; i < etatFinal.taille(); i++) {
+            double[] cumul = parType.computeIfAbsent(etatFinal.getType(i), t -> new double[2]);
+            cumul[0]++;
+            if (etatFinal.getAutonomieMax(i) > 0) {
+                cumul[1] += etatFinal.getAutonomie(i) / etatFinal.getAutonomieMax(i) * 100;
+            }
+        }
+        sortie.println(" Par type:");
+        for (Map.Entry<String, double[]> e : parType.entrySet()) {
+            sortie.printf("  %s: %d (autonomie moyenne %.1f%%)%n", e.getKey(), (long) e.getValue()[0],
+                    e.getValue()[1] / e.getValue()[0]);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.spiga.simulation;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.Point3D;
+import com.spiga.core.StockageFlotte;
+import com.spiga.env.ZoneOperation;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Moves a fleet one step in two phases.
+ * The first phase calls {@link ActifMobile#preparerDeplacement} for every
+ * asset in parallel on a fork/join pool; it only reads the zone, so assets do
+ * not interfere. The second phase commits the moves one by one in fleet order
+ * with {@link ActifMobile#validerDeplacement}, where collisions between assets
+ * are resolved. The result is therefore the same for any number of threads,
+ * and the same as calling {@link ActifMobile#deplacer} in a loop. A fleet held
+ * in a {@link StockageFlotte} is walked row by row, in row order.
+ */
+public class TickParallele {
+    /** Below this fleet size the preparation phase runs on the calling thread. */
+    static final int SEUIL_PARALLELE = 64;
+
+    private ForkJoinPool pool; // Null when running sequentially
+    private int parallelisme;
+
+    /**
+     * Constructor for TickParallele.
+     *
+     * @param parallelisme Number of worker threads, 1 to run sequentially.
+     */
+    public TickParallele(int parallelisme) {
+        setParallelisme(parallelisme);
+    }
+
+    /**
+     * Creates a tick using every available core.
+     *
+     * @return The tick.
+     */
+    public static TickParallele parDefaut() {
+        return new TickParallele(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Changes the number of worker threads. The previous pool is shut down.
+     *
+     * @param parallelisme Number of worker threads, 1 to run sequentially.
+     */
+    public synchronized void setParallelisme(int parallelisme) {
+        if (parallelisme < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelisme);
+        }
+        fermer();
+        this.parallelisme = parallelisme;
+        this.pool = parallelisme == 1 ? null : new ForkJoinPool(parallelisme);
+    }
+
+    public synchronized int getParallelisme() {
+        return parallelisme;
+    }
+
+    /**
+     * Moves every asset that has a target one step.
+     *
+     * @param actifs          The fleet, in commit order.
+     * @param zone            The simulation zone.
+     * @param cibles          Gives the target of an asset, or null to leave it
+     *                        in place.
+     * @param apresValidation Called on the calling thread right after each
+     *                        asset's move is committed, or null.
+     * @return The number of assets that moved.
+     */
+    public int executer(List<? extends ActifMobile> actifs, ZoneOperation zone,
+            Function<? super ActifMobile, Point3D> cibles, Consumer<? super ActifMobile> apresValidation) {
+        ActifMobile[] tableau = actifs.toArray(new ActifMobile[0]);
+        return executer(tableau.length, i -> tableau[i], zone, cibles, apresValidation);
+    }
+
+    /**
+     * Moves every attached asset that has a target one step, committing them
+     * in row order. No asset may be attached or detached meanwhile.
+     *
+     * @param stockage        The store holding the fleet.
+     * @param zone            The simulation zone.
+     * @param cibles          Gives the target of an asset, or null to leave it
+     *                        in place.
+     * @param apresValidation Called on the calling thread right after each
+     *                        asset's move is committed, or null.
+     * @return The number of assets that moved.
+     */
+    public int executer(StockageFlotte stockage, ZoneOperation zone, Function<? super ActifMobile, Point3D> cibles,
+            Consumer<? super ActifMobile> apresValidation) {
+        return executer(stockage.taille(), stockage::getActif, zone, cibles, apresValidation);
+    }
+
+    private int executer(int n, IntFunction<ActifMobile> tableau, ZoneOperation zone,
+            Function<? super ActifMobile, Point3D> cibles, Consumer<? super ActifMobile> apresValidation) {
+        Point3D[] cible = new Point3D[n];
+        for (int i = 0; i < n; i++) {
+            cible[i] = cibles.apply(tableau.apply(i));
+        }
+
+        // Phase 1: compute intentions, read-only on shared state
+        ForkJoinPool p;
+        synchronized (this) {
+            p = pool;
+        }
+        if (p == null || n < SEUIL_PARALLELE) {
+            for (int i = 0; i < n; i++) {
+                preparer(tableau.apply(i), cible[i], zone);
+            }
+        } else {
+            p.submit(() -> IntStream.range(0, n).parallel()
+                    .forEach(i -> preparer(tableau.apply(i), cible[i], zone))).join();
+        }
+
+        // Phase 2: commit in fleet order
+        int deplaces = 0;
+        for (int i = 0; i < n; i++) {
+            if (cible[i] == null) {
+                continue;
+            }
+            ActifMobile actif = tableau.apply(i);
+            try {
+                if (actif.validerDeplacement(zone)) {
+                    deplaces++;
+                }
+                if (apresValidation != null) {
+                    apresValidation.accept(actif);
+                }
+            } catch (Exception e) {
+                System.err.println("Error updating asset " + actif.getId() + ": " + e.getMessage());
+            }
+        }
+        return deplaces;
+    }
+
+    /**
+     * Shuts the worker pool down. The tick falls back to sequential execution
+     * until {@link #setParallelisme(int)} is called again.
+     */
+    public synchronized void fermer() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private static void preparer(ActifMobile actif, Point3D cible, ZoneOperation zone) {
+        if (cible == null) {
+            return;
+        }
+        try {
+            actif.preparerDeplacement(cible, zone);
+        } catch (Exception e) {
+            System.err.println("Error preparing move of " + actif.getId() + ": " + e.getMessage());
+        }
+    }
+}
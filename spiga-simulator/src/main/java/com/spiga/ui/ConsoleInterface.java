@@ -1,20 +1,29 @@
 package com.spiga.ui;
 
+import com.spiga.alerte.BusAlertes;
 import com.spiga.core.*;
 import com.spiga.mission.GestionnaireEssaim;
 import com.spiga.mission.Mission;
 import com.spiga.mission.MissionReconnaissance;
 import com.spiga.env.ZoneOperation;
+import com.spiga.simulation.ExecutionBatch;
+import com.spiga.simulation.MoteurSimulation;
+import com.spiga.simulation.RapportBatch;
+import com.spiga.simulation.TickParallele;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
  * Console-based interface for the simulation.
- * Provides a text-based menu to interact with the fleet manager.
+ * Provides a text-based menu to interact with the fleet manager, or, with
+ * {@code --batch}, a non-interactive capacity run that prints only a summary.
  */
 public class ConsoleInterface {
     private GestionnaireEssaim gestionnaire;
     private Scanner scanner;
     private ZoneOperation zone;
+    private TickParallele tick;
 
     /**
      * Constructor for ConsoleInterface.
@@ -26,6 +35,7 @@ public class ConsoleInterface {
         this.scanner = new Scanner(System.in);
         // Initialize persistent zone
         this.zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        this.tick = TickParallele.parDefaut();
     }
 
     /**
@@ -193,28 +203,184 @@ public class ConsoleInterface {
                 return;
             }
 
-            for (ActifMobile actif : gestionnaire.getFlotte()) {
-                try {
-                    if (actif.getEtat() == EtatOperationnel.EN_MISSION || actif.getEtat() == EtatOperationnel.AU_SOL) {
-                        actif.deplacer(target, zone);
-                        System.out.println(actif.getId() + " déplacé vers " + actif.getPosition());
-                    }
-                } catch (Exception e) {
-                    System.out.println("Erreur lors du déplacement de " + actif.getId() + ": " + e.getMessage());
-                }
-            }
+            tick.executer(gestionnaire.getFlotte(), zone,
+                    actif -> actif.getEtat() == EtatOperationnel.EN_MISSION
+                            || actif.getEtat() == EtatOperationnel.AU_SOL ? target : null,
+                    actif -> System.out.println(actif.getId() + " déplacé vers " + actif.getPosition()));
         } catch (Exception e) {
             System.out.println("Erreur lors de la simulation: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Runs the batch mode: builds a patrol scenario, runs the ticks as fast as
+     * possible and prints the summary. The zone is 1000 x 1000 with the default
+     * islands unless {@code --zone} and {@code --ile}/{@code --ile-ronde} say
+     * otherwise; islands given on the command line replace the default ones.
+     * 
+     * @param args Command line arguments.
+     * @return The process exit code.
+     */
+    static int executerBatch(String[] args) {
+        int actifs = 1000;
+        int ticks = 1000;
+        int echauffement = 100;
+        long graine = 42;
+        int threads = 0;
+        boolean colonnes = false;
+        double largeur = 1000;
+        double hauteur = 1000;
+        List<ZoneOperation.Island> iles = null; // Default islands
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--batch":
+                        break;
+                    case "--actifs":
+                        actifs = Integer.parseInt(args[++i]);
+                        break;
+                    case "--ticks":
+                        ticks = Integer.parseInt(args[++i]);
+                        break;
+                    case "--echauffement":
+                        echauffement = Integer.parseInt(args[++i]);
+                        break;
+                    case "--graine":
+                        graine = Long.parseLong(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--colonnes":
+                        colonnes = true;
+                        break;
+                    case "--zone": {
+                        String[] dimensions = args[++i].split("x");
+                        if (dimensions.length != 2) {
+                            throw new IllegalArgumentException("Zone attendue en LARGEURxHAUTEUR: " + args[i]);
+                        }
+                        largeur = Double.parseDouble(dimensions[0]);
+                        hauteur = Double.parseDouble(dimensions[1]);
+                        break;
+                    }
+                    case "--ile":
+                    case "--ile-ronde":
+                        if (iles == null) {
+                            iles = new ArrayList<>();
+                        }
+                        iles.add(lireIle(args[i], args[++i]));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue: " + args[i]);
+                }
+            }
+            if (actifs < 0 || ticks <= 0 || echauffement < 0 || threads < 0 || !(largeur > 0)
+                    || !(hauteur > 0)) {
+                throw new IllegalArgumentException("Valeurs invalides");
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Erreur: " + e.getMessage());
+            System.err.println("Usage: --batch [--actifs N] [--ticks N] [--echauffement N] [--graine N]"
+                    + " [--threads N (0: tous les coeurs)] [--colonnes] [--zone LARGEURxHAUTEUR]"
+                    + " [--ile X,Y,LARGEUR,HAUTEUR]... [--ile-ronde X,Y,RAYON]...");
+            return 2;
+        }
+
+        ZoneOperation zone;
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        try {
+            zone = creerZoneBatch(largeur, hauteur, iles);
+            ExecutionBatch.peupler(zone, gestionnaire, actifs, graine);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erreur: " + e.getMessage());
+            return 2;
+        }
+
+        // Alerts are counted, not printed
+        BusAlertes alertes = new BusAlertes(BusAlertes.CAPACITE_PAR_DEFAUT);
+        alertes.demarrer();
+
+        if (colonnes) {
+            gestionnaire.activerStockageColonnes();
+        }
+        MoteurSimulation moteur = new MoteurSimulation(zone, gestionnaire, 0, alertes);
+        if (threads > 0) {
+            moteur.setParallelisme(threads);
+        }
+        System.out.printf("Batch: %d actifs, %d ticks (+%d d'echauffement), %d threads, graine %d,"
+                + " zone %.0fx%.0f, %d iles%n", actifs, ticks, echauffement, moteur.getParallelisme(), graine,
+                largeur, hauteur, zone.getIslands().size());
+        RapportBatch rapport = new ExecutionBatch(moteur, graine + 1).executer(echauffement, ticks);
+        rapport.afficher(System.out);
+        alertes.arreter();
+        System.out.printf("Alertes: %d publiees, %d dedupliquees, %d limitees, %d perdues%n",
+                alertes.getPubliees(), alertes.getDedupliquees(), alertes.getLimitees(), alertes.getPerdues());
+        return 0;
+    }
+
+    /**
+     * Builds the zone of a batch run, from -1000 to 1000 in altitude.
+     *
+     * @param largeur Width along X.
+     * @param hauteur Height along Y.
+     * @param iles    Islands replacing the default ones, or null to keep them.
+     * @return The zone.
+     */
+    static ZoneOperation creerZoneBatch(double largeur, double hauteur, List<ZoneOperation.Island> iles) {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(largeur, hauteur, 1000));
+        if (iles != null) {
+            for (ZoneOperation.Island ile : new ArrayList<>(zone.getIslands())) {
+                zone.removeIsland(ile);
+            }
+            for (ZoneOperation.Island ile : iles) {
+                zone.addIsland(ile);
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Reads an island option.
+     *
+     * @param option {@code --ile} for a rectangle given by its center and size,
+     *               or {@code --ile-ronde} for a circle given by its center and
+     *               radius.
+     * @param valeur Comma-separated numbers.
+     * @return The island.
+     */
+    static ZoneOperation.Island lireIle(String option, String valeur) {
+        boolean ronde = option.equals("--ile-ronde");
+        String[] parties = valeur.split(",");
+        if (parties.length != (ronde ? 3 : 4)) {
+            throw new IllegalArgumentException("Ile attendue en " + (ronde ? "X,Y,RAYON" : "X,Y,LARGEUR,HAUTEUR")
+                    + ": " + valeur);
+        }
+        double[] v = new double[parties.length];
+        for (int i = 0; i < parties.length; i++) {
+            v[i] = Double.parseDouble(parties[i].trim());
+        }
+        if (ronde) {
+            return new ZoneOperation.Island(v[0], v[1], v[2], v[2], true);
+        }
+        return new ZoneOperation.Island(v[0], v[1], v[2], v[3], false);
+    }
+
     /**
      * Main entry point for the console interface.
+     * Starts the interactive menu, or the batch mode when {@code --batch} is
+     * given.
      * 
      * @param args Command line arguments.
      */
     public static void main(String[] args) {
+        if (java.util.Arrays.asList(args).contains("--batch")) {
+            int code = executerBatch(args);
+            if (code != 0) {
+                System.exit(code);
+            }
+            return;
+        }
         GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
         ConsoleInterface console = new ConsoleInterface(gestionnaire);
         console.demarrer();
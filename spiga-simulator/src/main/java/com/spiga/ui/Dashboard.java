@@ -1,19 +1,32 @@
 package com.spiga.ui;
 
-import com.spiga.core.ActifMobile;
+import com.spiga.core.EtatOperationnel;
 import com.spiga.core.Point3D;
-import com.spiga.mission.GestionnaireEssaim;
+import com.spiga.simulation.InstantaneSimulation;
+import com.spiga.simulation.MoteurSimulation;
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 import com.spiga.mission.ObjectifMission;
 import java.util.function.BiConsumer;
 
 public class Dashboard extends VBox {
-    private GestionnaireEssaim gestionnaire;
-    private ListView<String> assetList;
+    private MoteurSimulation moteur;
+    private static final long INTERVALLE_RAFRAICHISSEMENT = 250_000_000L; // ns between list refreshes
+
+    private static final double FREQUENCE_MIN = 5; // Hz, range of the rate slider
+    private static final double FREQUENCE_MAX = 200;
+
+    private TableView<LigneActif> assetTable;
+    private final ModeleFlotte modele = new ModeleFlotte();
+    private long dernierRafraichissement;
+    private final PauseTransition rafraichissementDiffere = new PauseTransition(); // Trailing refresh
 
     private ComboBox<String> typeSelect;
     private TextField idInput;
@@ -31,21 +44,22 @@ public class Dashboard extends VBox {
     /**
      * Constructor for Dashboard.
      * 
-     * @param gestionnaire The fleet manager.
+     * @param moteur The simulation engine whose snapshots are listed.
      */
-    public Dashboard(GestionnaireEssaim gestionnaire) {
-        this(gestionnaire, null);
+    public Dashboard(MoteurSimulation moteur) {
+        this(moteur, null);
     }
 
     /**
      * Constructor for Dashboard with asset creator callback.
      * 
-     * @param gestionnaire The fleet manager.
+     * @param moteur       The simulation engine whose snapshots are listed.
      * @param assetCreator Callback for creating assets.
      */
-    public Dashboard(GestionnaireEssaim gestionnaire, AssetCreator assetCreator) {
-        this.gestionnaire = gestionnaire;
+    public Dashboard(MoteurSimulation moteur, AssetCreator assetCreator) {
+        this.moteur = moteur;
         this.assetCreator = assetCreator;
+        rafraichissementDiffere.setOnFinished(e -> rafraichir());
         this.setPadding(new Insets(10));
         this.setSpacing(10);
         this.setStyle("-fx-background-color: #f0f0f0; -fx-border-color: #ccc;");
@@ -88,16 +102,49 @@ public class Dashboard extends VBox {
         creationBox.getChildren().addAll(typeSelect, idInput, posBox, addButton);
         this.getChildren().add(creationBox);
 
-        // Asset List
+        // Simulation rate, independent of the display rate
+        Label rateLabel = new Label();
+        Slider rateSlider = new Slider(FREQUENCE_MIN, FREQUENCE_MAX,
+                Math.max(FREQUENCE_MIN, Math.min(FREQUENCE_MAX, moteur.getFrequence())));
+        rateLabel.setText(String.format("Simulation rate: %.0f Hz", rateSlider.getValue()));
+        rateSlider.valueProperty().addListener((o, avant, apres) -> {
+            double frequence = Math.round(apres.doubleValue());
+            rateLabel.setText(String.format("Simulation rate: %.0f Hz", frequence));
+            moteur.setFrequence(frequence);
+        });
+        this.getChildren().addAll(rateLabel, rateSlider);
+
+        // Asset Table: rows are kept across refreshes, cells are only built for visible rows
         this.getChildren().add(new Label("Current Assets:"));
-        assetList = new ListView<>();
-        assetList.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
-        update(); // Initial population
-        this.getChildren().add(assetList);
+        assetTable = new TableView<>(modele.getLignes());
+        assetTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        assetTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+
+        TableColumn<LigneActif, String> idColumn = new TableColumn<>("ID");
+        idColumn.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().getId()));
+        TableColumn<LigneActif, String> typeColumn = new TableColumn<>("Type");
+        typeColumn.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().getType()));
+        TableColumn<LigneActif, EtatOperationnel> etatColumn = new TableColumn<>("State");
+        etatColumn.setCellValueFactory(c -> c.getValue().etatProperty());
+        TableColumn<LigneActif, Number> autonomieColumn = new TableColumn<>("Autonomy");
+        autonomieColumn.setCellValueFactory(c -> c.getValue().autonomieProperty());
+        autonomieColumn.setCellFactory(c -> new TableCell<>() {
+            @Override
+            protected void updateItem(Number value, boolean empty) {
+                super.updateItem(value, empty);
+                setText(empty || value == null ? null : value + "%");
+            }
+        });
+        assetTable.getColumns().add(idColumn);
+        assetTable.getColumns().add(typeColumn);
+        assetTable.getColumns().add(etatColumn);
+        assetTable.getColumns().add(autonomieColumn);
+        rafraichir(); // Initial population
+        this.getChildren().add(assetTable);
 
         // Refresh Button
         Button refreshBtn = new Button("Refresh List");
-        refreshBtn.setOnAction(e -> update());
+        refreshBtn.setOnAction(e -> rafraichir());
         this.getChildren().add(refreshBtn);
 
         // Target Control
@@ -127,14 +174,14 @@ public class Dashboard extends VBox {
                 Point3D target = new Point3D(x, y, z);
 
                 // Check for selection
-                java.util.List<String> selectedItems = assetList.getSelectionModel().getSelectedItems();
+                java.util.List<LigneActif> selectedItems = assetTable.getSelectionModel().getSelectedItems();
 
                 if (!selectedItems.isEmpty()) {
                     // Group Mission Logic (Selected Assets)
                     java.util.List<String> selectedIds = new java.util.ArrayList<>();
-                    for (String item : selectedItems) {
-                        if (item != null && !item.isEmpty()) {
-                            selectedIds.add(item.split(" ")[0]);
+                    for (LigneActif item : selectedItems) {
+                        if (item != null) {
+                            selectedIds.add(item.getId());
                         }
                     }
 
@@ -206,37 +253,33 @@ public class Dashboard extends VBox {
     }
 
     /**
-     * Updates the asset list view.
+     * Updates the asset table from the latest simulation snapshot, at most
+     * every 250 ms whatever the simulation rate. A snapshot arriving sooner is
+     * applied when the interval ends, so the table still shows the last state
+     * after the simulation pauses.
      */
     public void update() {
-        // Store current selection
-        java.util.List<String> selectedItems = new java.util.ArrayList<>(
-                assetList.getSelectionModel().getSelectedItems());
-        java.util.List<String> selectedIds = new java.util.ArrayList<>();
-        for (String item : selectedItems) {
-            if (item != null && !item.isEmpty()) {
-                selectedIds.add(item.split(" ")[0]);
-            }
-        }
-
-        assetList.getItems().clear();
-        for (ActifMobile actif : gestionnaire.getFlotte()) {
-            String status = String.format("%s [%s] - %s (Autonomie: %.1f%%)",
-                    actif.getId(),
-                    actif.getClass().getSimpleName(),
-                    actif.getEtat(),
-                    (actif.getAutonomieActuelle() / actif.getAutonomieMax()) * 100);
-            assetList.getItems().add(status);
+        long ecoule = System.nanoTime() - dernierRafraichissement;
+        if (ecoule >= INTERVALLE_RAFRAICHISSEMENT) {
+            rafraichir();
+        } else if (rafraichissementDiffere.getStatus() != Animation.Status.RUNNING) {
+            rafraichissementDiffere.setDuration(Duration.millis((INTERVALLE_RAFRAICHISSEMENT - ecoule) / 1e6));
+            rafraichissementDiffere.playFromStart();
         }
+    }
 
-        // Restore selection
-        assetList.getSelectionModel().clearSelection();
-        for (int i = 0; i < assetList.getItems().size(); i++) {
-            String item = assetList.getItems().get(i);
-            String id = item.split(" ")[0];
-            if (selectedIds.contains(id)) {
-                assetList.getSelectionModel().select(i);
-            }
+    /**
+     * Applies the latest snapshot to the table rows now. Rows are matched by
+     * asset ID, so the selection follows the assets.
+     */
+    private void rafraichir() {
+        rafraichissementDiffere.stop();
+        dernierRafraichissement = System.nanoTime();
+        try {
+            modele.synchroniser(moteur.getInstantane());
+        } catch (Exception e) {
+            System.err.println("Error refreshing asset table: " + e.getMessage());
+            e.printStackTrace();
         }
     }
 
@@ -0,0 +1,116 @@
+package com.spiga.ui;
+
+import com.spiga.simulation.InstantaneSimulation;
+
+/**
+ * Smooths motion between simulation ticks for display.
+ * The renderer runs at the display rate and the simulation at its own tick
+ * rate, so a frame usually falls between two published snapshots. Positions
+ * are blended between the last two snapshots by the time elapsed since the
+ * newest one was captured, which shows the fleet one tick late but moving
+ * continuously, without extra simulation work. Nothing is extrapolated: once
+ * a full tick has elapsed, the newest positions are shown as is.
+ * <p>
+ * Rows are matched by asset ID; when both snapshots list the same assets in
+ * the same order, which is the usual case, rows are matched by index. An
+ * instance belongs to the FX thread and is not thread-safe.
+ */
+final class InterpolationInstantanes {
+    private InstantaneSimulation precedent;
+    private InstantaneSimulation courant;
+    private int[] lignePrecedente = new int[0]; // Row of each current asset in the previous snapshot, -1 if new
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double alpha = 1;
+
+    /**
+     * Records the latest snapshot; does nothing if it is already the newest.
+     *
+     * @param instantane The snapshot published by the engine.
+     */
+    void recevoir(InstantaneSimulation instantane) {
+        if (instantane == courant) {
+            return;
+        }
+        precedent = courant;
+        courant = instantane;
+        int n = instantane.taille();
+        if (x.length < n) {
+            x = new double[n];
+            y = new double[n];
+            lignePrecedente = new int[n];
+        }
+        boolean memeOrdre = precedent != null && precedent.taille() == n;
+        for (int i = 0; memeOrdre && i < n; i++) {
+            memeOrdre = precedent.getId(i).equals(instantane.getId(i));
+        }
+        for (int i = 0; i < n; i++) {
+            lignePrecedente[i] = memeOrdre ? i : precedent == null ? -1 : precedent.indexDe(instantane.getId(i));
+        }
+    }
+
+    /**
+     * Computes the positions to show at a given time.
+     *
+     * @param maintenant The frame time, from {@link System#nanoTime()}.
+     */
+    void interpoler(long maintenant) {
+        int n = courant == null ? 0 : courant.taille();
+        alpha = 1;
+        if (precedent != null) {
+            long pas = courant.getHorodatage() - precedent.getHorodatage();
+            if (pas > 0) {
+                alpha = Math.max(0, Math.min(1, (double) (maintenant - courant.getHorodatage()) / pas));
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            double cx = courant.getX(i);
+            double cy = courant.getY(i);
+            int j = lignePrecedente[i];
+            if (alpha < 1 && j >= 0) {
+                double px = precedent.getX(j);
+                double py = precedent.getY(j);
+                cx = px + (cx - px) * alpha;
+                cy = py + (cy - py) * alpha;
+            }
+            x[i] = cx;
+            y[i] = cy;
+        }
+    }
+
+    /**
+     * Gets the newest snapshot, whose rows the positions follow.
+     *
+     * @return The snapshot, or null before the first one.
+     */
+    InstantaneSimulation getCourant() {
+        return courant;
+    }
+
+    /**
+     * Gets the X positions computed by the last {@link #interpoler(long)}.
+     *
+     * @return A buffer indexed by row of the newest snapshot.
+     */
+    double[] getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y positions computed by the last {@link #interpoler(long)}.
+     *
+     * @return A buffer indexed by row of the newest snapshot.
+     */
+    double[] getY() {
+        return y;
+    }
+
+    /**
+     * Checks whether the last frame was still between two snapshots.
+     *
+     * @return True if later frames at the same snapshot would differ.
+     */
+    boolean enTransition() {
+        return alpha < 1;
+    }
+}
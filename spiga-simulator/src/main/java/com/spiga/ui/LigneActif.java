@@ -0,0 +1,80 @@
+package com.spiga.ui;
+
+import com.spiga.core.EtatOperationnel;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * One row of the dashboard fleet table.
+ * A row lives as long as its asset is in the snapshots, so the table keeps
+ * its selection and scroll position across refreshes; only the properties
+ * whose value changed fire events.
+ */
+public final class LigneActif {
+    private final String id;
+    private final String type;
+    private final ObjectProperty<EtatOperationnel> etat = new SimpleObjectProperty<>(this, "etat");
+    private final DoubleProperty autonomie = new SimpleDoubleProperty(this, "autonomie"); // Percent
+    long generation; // Last refresh that found the asset
+
+    LigneActif(String id, String type) {
+        this.id = id;
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public EtatOperationnel getEtat() {
+        return etat.get();
+    }
+
+    public ReadOnlyObjectProperty<EtatOperationnel> etatProperty() {
+        return etat;
+    }
+
+    /**
+     * Gets the remaining autonomy, in percent of the maximum, to 0.1.
+     *
+     * @return The autonomy percentage.
+     */
+    public double getAutonomie() {
+        return autonomie.get();
+    }
+
+    public ReadOnlyDoubleProperty autonomieProperty() {
+        return autonomie;
+    }
+
+    /**
+     * Copies the values of a snapshot row, leaving unchanged properties alone.
+     *
+     * @param etat         The operational state.
+     * @param autonomie    The remaining autonomy.
+     * @param autonomieMax The maximum autonomy.
+     * @return True if a displayed value changed.
+     */
+    boolean mettreAJour(EtatOperationnel etat, double autonomie, double autonomieMax) {
+        boolean change = false;
+        if (this.etat.get() != etat) {
+            this.etat.set(etat);
+            change = true;
+        }
+        // Rounded to what the table shows, so sub-display drift fires nothing
+        double pourcentage = autonomieMax > 0 ? Math.round(autonomie / autonomieMax * 1000) / 10.0 : 0;
+        if (this.autonomie.get() != pourcentage) {
+            this.autonomie.set(pourcentage);
+            change = true;
+        }
+        return change;
+    }
+}
@@ -0,0 +1,202 @@
+package com.spiga.ui;
+
+import com.spiga.core.CategorieActif;
+import com.spiga.simulation.InstantaneSimulation;
+import java.util.Arrays;
+
+/**
+ * Sorts the assets of a snapshot into what one frame has to draw.
+ * Assets outside the viewport are dropped; the rest are grouped by
+ * {@link CategorieActif} so the renderer sets each fill once per category.
+ * When clustering is on, the screen is split into square cells and every cell
+ * holding at least {@link #SEUIL_AMAS} assets is drawn as one cluster glyph
+ * instead of its assets.
+ * <p>
+ * Buffers are kept between frames, so sorting a frame does not allocate
+ * once they have grown to the fleet size. An instance belongs to the FX
+ * thread and is not thread-safe.
+ */
+final class LotsRendu {
+    private static final int CATEGORIES = CategorieActif.values().length;
+
+    /** Minimum number of assets in a screen cell for a cluster glyph. */
+    static final int SEUIL_AMAS = 4;
+    /** Margin around the viewport, in pixels, so glyphs crossing an edge are kept. */
+    static final double MARGE = 20;
+
+    private final int[][] lots = new int[CATEGORIES][16];
+    private final int[] tailles = new int[CATEGORIES];
+
+    private int[] celluleParActif = new int[16]; // Screen cell of each asset, -1 if culled
+    private int[] comptes = new int[0];
+    private double[] sommesX = new double[0];
+    private double[] sommesY = new double[0];
+    private int[] amas = new int[16]; // Cells shown as clusters
+    private int nombreAmas;
+    private int colonnes;
+    private int visibles;
+
+    /**
+     * Sorts a snapshot for a viewport.
+     *
+     * @param instantane The snapshot to draw.
+     * @param x          World X of each row, e.g. interpolated positions.
+     * @param y          World Y of each row.
+     * @param origineX   World X at the left edge of the viewport.
+     * @param origineY   World Y at the top edge of the viewport.
+     * @param echelle    Pixels per world unit.
+     * @param largeur    Viewport width in pixels.
+     * @param hauteur    Viewport height in pixels.
+     * @param tailleAmas Side of the clustering cells in pixels, 0 to draw every
+     *                   asset.
+     */
+    void trier(InstantaneSimulation instantane, double[] x, double[] y, double origineX, double origineY,
+            double echelle, double largeur, double hauteur, int tailleAmas) {
+        int n = instantane.taille();
+        if (celluleParActif.length < n) {
+            celluleParActif = new int[n];
+        }
+        Arrays.fill(tailles, 0);
+        nombreAmas = 0;
+        visibles = 0;
+
+        boolean regrouper = tailleAmas > 0;
+        int lignes = 0;
+        colonnes = 0;
+        if (regrouper) {
+            colonnes = (int) Math.ceil((largeur + 2 * MARGE) / tailleAmas);
+            lignes = (int) Math.ceil((hauteur + 2 * MARGE) / tailleAmas);
+            int cellules = colonnes * lignes;
+            if (comptes.length < cellules) {
+                comptes = new int[cellules];
+                sommesX = new double[cellules];
+                sommesY = new double[cellules];
+            } else {
+                Arrays.fill(comptes, 0, cellules, 0);
+                Arrays.fill(sommesX, 0, cellules, 0);
+                Arrays.fill(sommesY, 0, cellules, 0);
+            }
+        }
+
+        // First pass: culling, and counts per screen cell
+        for (int i = 0; i < n; i++) {
+            double sx = (x[i] - origineX) * echelle;
+            double sy = (y[i] - origineY) * echelle;
+            if (sx < -MARGE || sy < -MARGE || sx > largeur + MARGE || sy > hauteur + MARGE) {
+                celluleParActif[i] = -1;
+                continue;
+            }
+            visibles++;
+            if (!regrouper) {
+                celluleParActif[i] = 0;
+                continue;
+            }
+            int cx = Math.min((int) ((sx + MARGE) / tailleAmas), colonnes - 1);
+            int cy = Math.min((int) ((sy + MARGE) / tailleAmas), lignes - 1);
+            int c = cy * colonnes + cx;
+            celluleParActif[i] = c;
+            comptes[c]++;
+            sommesX[c] += sx;
+            sommesY[c] += sy;
+        }
+
+        // Second pass: assets in sparse cells go to their category batch
+        for (int i = 0; i < n; i++) {
+            int c = celluleParActif[i];
+            if (c < 0) {
+                continue;
+            }
+            if (regrouper && comptes[c] < 0) {
+                continue; // Cluster already recorded
+            }
+            if (regrouper && comptes[c] >= SEUIL_AMAS) {
+                // First asset of the cluster: records the cell, marked by a negative count
+                if (nombreAmas == amas.length) {
+                    amas = Arrays.copyOf(amas, 2 * nombreAmas);
+                }
+                amas[nombreAmas++] = c;
+                comptes[c] = -comptes[c];
+                continue;
+            }
+            ajouter(instantane.getCategorie(i).ordinal(), i);
+        }
+    }
+
+    private void ajouter(int categorie, int i) {
+        int[] lot = lots[categorie];
+        if (tailles[categorie] == lot.length) {
+            lot = Arrays.copyOf(lot, 2 * lot.length);
+            lots[categorie] = lot;
+        }
+        lot[tailles[categorie]++] = i;
+    }
+
+    /**
+     * Gets the rows of the assets of one category to draw individually.
+     *
+     * @param categorie The category.
+     * @return A buffer whose first {@link #taille(CategorieActif)} entries are
+     *         valid.
+     */
+    int[] lot(CategorieActif categorie) {
+        return lots[categorie.ordinal()];
+    }
+
+    /**
+     * Gets the number of assets of one category to draw individually.
+     *
+     * @param categorie The category.
+     * @return The asset count.
+     */
+    int taille(CategorieActif categorie) {
+        return tailles[categorie.ordinal()];
+    }
+
+    /**
+     * Gets the number of assets inside the viewport, clustered or not.
+     *
+     * @return The visible asset count.
+     */
+    int getVisibles() {
+        return visibles;
+    }
+
+    /**
+     * Gets the number of cluster glyphs.
+     *
+     * @return The cluster count.
+     */
+    int getNombreAmas() {
+        return nombreAmas;
+    }
+
+    /**
+     * Gets the number of assets in a cluster.
+     *
+     * @param k Cluster index.
+     * @return The asset count.
+     */
+    int getTailleAmas(int k) {
+        return -comptes[amas[k]];
+    }
+
+    /**
+     * Gets the screen X of a cluster, the mean of its assets.
+     *
+     * @param k Cluster index.
+     * @return The X coordinate in pixels.
+     */
+    double getXAmas(int k) {
+        return sommesX[amas[k]] / getTailleAmas(k);
+    }
+
+    /**
+     * Gets the screen Y of a cluster, the mean of its assets.
+     *
+     * @param k Cluster index.
+     * @return The Y coordinate in pixels.
+     */
+    double getYAmas(int k) {
+        return sommesY[amas[k]] / getTailleAmas(k);
+    }
+}
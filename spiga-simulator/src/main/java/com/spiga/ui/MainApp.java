@@ -3,6 +3,7 @@ package com.spiga.ui;
 import com.spiga.core.Point3D;
 import com.spiga.env.ZoneOperation;
 import com.spiga.mission.GestionnaireEssaim;
+import com.spiga.simulation.MoteurSimulation;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
@@ -12,6 +13,7 @@ public class MainApp extends Application {
 
     private GestionnaireEssaim gestionnaire;
     private ZoneOperation zone;
+    private MoteurSimulation moteur;
     private SimulationView simulationView;
     private Dashboard dashboard;
 
@@ -47,9 +49,13 @@ public class MainApp extends Application {
         gestionnaire.ajouterActif(c1);
         zone.addCollidable(c1);
 
+        // Simulation runs on its own thread at 10 Hz; the UI only reads snapshots
+        // and submits changes as engine commands
+        moteur = new MoteurSimulation(zone, gestionnaire, 10);
+
         // Initialize UI Components
-        simulationView = new SimulationView(zone, gestionnaire);
-        dashboard = new Dashboard(gestionnaire);
+        simulationView = new SimulationView(moteur);
+        dashboard = new Dashboard(moteur);
 
         simulationView.setOnUpdate(() -> dashboard.update());
 
@@ -58,58 +64,53 @@ public class MainApp extends Application {
             // Optional: Set target for ALL assets or currently selected?
             // For now, let's make "Set Target" button set target for ALL assets for
             // convenience
-            for (com.spiga.core.ActifMobile actif : gestionnaire.getFlotte()) {
-                actif.setTarget(target);
-            }
+            moteur.soumettre(() -> {
+                for (com.spiga.core.ActifMobile actif : gestionnaire.getFlotte()) {
+                    actif.setTarget(target);
+                }
+            });
             System.out.println("Global target set to: " + target);
         });
 
         // Handle Group Mission Creation
-        dashboard.setOnCreateGroupMission((ids, target) -> {
+        dashboard.setOnCreateGroupMission((ids, target) -> moteur.soumettre(() -> {
             com.spiga.mission.Mission mission = new com.spiga.mission.MissionReconnaissance(
                     "Mission-" + System.currentTimeMillis());
             mission.setObjectif(com.spiga.mission.ObjectifMission.RECONNAISSANCE); // Default for now
 
             System.out.println("Creating group mission for assets: " + ids);
 
+            boolean marins = false;
+            boolean terrestres = false;
             for (String id : ids) {
                 // Find asset by ID
-                com.spiga.core.ActifMobile asset = gestionnaire.getFlotte().stream()
-                        .filter(a -> a.getId().equals(id))
-                        .findFirst()
-                        .orElse(null);
+                com.spiga.core.ActifMobile asset = gestionnaire.trouverActif(id);
 
                 if (asset != null) {
                     mission.assignerActif(asset);
                     asset.setTarget(target); // Set individual target for movement
+                    marins |= asset instanceof com.spiga.core.ActifMarin;
+                    terrestres |= asset instanceof com.spiga.core.VehiculeTerrestre;
                     System.out.println("Assigned " + id + " to mission.");
                 }
             }
+            // Assets plan their routes on the next tick: one flow field per medium
+            // serves the whole group
+            if (marins) {
+                zone.preparerChampFlux(target, true);
+            }
+            if (terrestres) {
+                zone.preparerChampFlux(target, false);
+            }
 
             mission.demarrer();
-        });
+        }));
 
         // Handle Asset Creation with Validation
         dashboard.setAssetCreator((type, id, pos) -> {
             // Validation Logic
             boolean isMarine = type.contains("Surface") || type.contains("SousMarin");
             boolean isLandVehicle = type.contains("VehiculeTerrestre");
-            boolean isLand = zone.isLand(pos);
-
-            if (isMarine && isLand) {
-                javafx.scene.control.Alert alert = new javafx.scene.control.Alert(
-                        javafx.scene.control.Alert.AlertType.ERROR);
-                alert.setContentText("Marine assets cannot spawn on land!");
-                alert.showAndWait();
-                return;
-            }
-            if (isLandVehicle && !isLand) {
-                javafx.scene.control.Alert alert = new javafx.scene.control.Alert(
-                        javafx.scene.control.Alert.AlertType.ERROR);
-                alert.setContentText("Land vehicles cannot spawn in sea!");
-                alert.showAndWait();
-                return;
-            }
 
             com.spiga.core.ActifMobile asset = null;
             switch (type) {
@@ -131,10 +132,25 @@ public class MainApp extends Application {
             }
 
             if (asset != null) {
-                gestionnaire.ajouterActif(asset);
-                zone.addCollidable(asset); // Register for collision detection
-                dashboard.update(); // Immediate update
-                System.out.println("Added asset: " + id);
+                com.spiga.core.ActifMobile nouvelActif = asset;
+                // The terrain is read on the simulation thread, which rebuilds it
+                // when islands change
+                moteur.soumettre(() -> {
+                    boolean isLand = zone.isLand(pos);
+                    if (isMarine && isLand) {
+                        javafx.application.Platform.runLater(
+                                () -> showError("Marine assets cannot spawn on land!"));
+                        return;
+                    }
+                    if (isLandVehicle && !isLand) {
+                        javafx.application.Platform.runLater(
+                                () -> showError("Land vehicles cannot spawn in sea!"));
+                        return;
+                    }
+                    gestionnaire.ajouterActif(nouvelActif);
+                    zone.addCollidable(nouvelActif); // Register for collision detection
+                    System.out.println("Added asset: " + id);
+                });
             }
         });
 
@@ -148,9 +164,32 @@ public class MainApp extends Application {
         primaryStage.show();
 
         // Start Simulation Loop
+        moteur.demarrer();
         simulationView.startSimulation();
     }
 
+    /**
+     * Shows an error dialog. Must run on the FX thread.
+     *
+     * @param message Text of the dialog.
+     */
+    private void showError(String message) {
+        javafx.scene.control.Alert alert = new javafx.scene.control.Alert(
+                javafx.scene.control.Alert.AlertType.ERROR);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
+    /**
+     * Stops the simulation thread when the window closes.
+     */
+    @Override
+    public void stop() {
+        if (moteur != null) {
+            moteur.arreter();
+        }
+    }
+
     /**
      * Main entry point for the application.
      * 
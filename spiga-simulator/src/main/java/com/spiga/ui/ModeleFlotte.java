@@ -0,0 +1,93 @@
+package com.spiga.ui;
+
+import com.spiga.simulation.InstantaneSimulation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Observable fleet rows kept in step with the simulation snapshots.
+ * Each refresh diffs the snapshot against the rows: existing rows are updated
+ * in place, new assets are appended in one batch and vanished ones removed in
+ * one batch, so a steady fleet produces property changes only and the list
+ * itself never fires.
+ * <p>
+ * Must be used from the FX thread once bound to a table.
+ */
+final class ModeleFlotte {
+    private final ObservableList<LigneActif> lignes = FXCollections.observableArrayList();
+    private final Map<String, LigneActif> parId = new HashMap<>();
+    private long generation;
+    private long dernierTick = -1;
+    private int modifications; // Rows whose values changed on the last refresh
+
+    /**
+     * Brings the rows up to date with a snapshot.
+     *
+     * @param instantane The snapshot.
+     * @return False if the snapshot was already applied.
+     */
+    boolean synchroniser(InstantaneSimulation instantane) {
+        if (instantane.getNumeroTick() == dernierTick) {
+            return false;
+        }
+        dernierTick = instantane.getNumeroTick();
+        generation++;
+        modifications = 0;
+        List<LigneActif> nouvelles = new ArrayList<>();
+        for (int i = 0; i < instantane.taille(); i++) {
+            String id = instantane.getId(i);
+            LigneActif ligne = parId.get(id);
+            if (ligne == null) {
+                ligne = new LigneActif(id, instantane.getType(i));
+                parId.put(id, ligne);
+                nouvelles.add(ligne);
+            }
+            ligne.generation = generation;
+            if (ligne.mettreAJour(instantane.getEtat(i), instantane.getAutonomie(i),
+                    instantane.getAutonomieMax(i))) {
+                modifications++;
+            }
+        }
+        if (parId.size() > instantane.taille()) {
+            // Some assets left the fleet; removeAll fires one change, removeIf one per row.
+            // It calls contains once per row, hence a hash set rather than a list.
+            Set<LigneActif> parties = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (LigneActif ligne : lignes) {
+                if (ligne.generation != generation) {
+                    parties.add(ligne);
+                }
+            }
+            lignes.removeAll(parties);
+            parId.values().removeIf(l -> l.generation != generation);
+        }
+        if (!nouvelles.isEmpty()) {
+            lignes.addAll(nouvelles);
+        }
+        return true;
+    }
+
+    ObservableList<LigneActif> getLignes() {
+        return lignes;
+    }
+
+    /**
+     * Finds the row of an asset.
+     *
+     * @param id The asset ID.
+     * @return The row, or null if the asset is not listed.
+     */
+    LigneActif ligne(String id) {
+        return parId.get(id);
+    }
+
+    int getModifications() {
+        return modifications;
+    }
+}
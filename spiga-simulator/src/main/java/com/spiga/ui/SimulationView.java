@@ -1,37 +1,112 @@
 package com.spiga.ui;
 
 import com.spiga.core.ActifMobile;
+import com.spiga.core.CategorieActif;
 import com.spiga.core.Point3D;
+import com.spiga.env.Obstacle;
 import com.spiga.env.ZoneOperation;
-import com.spiga.mission.GestionnaireEssaim;
+import com.spiga.simulation.InstantaneSimulation;
+import com.spiga.simulation.MoteurSimulation;
 import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Canvas view of the simulation.
+ * Only reads the snapshots published by the {@link MoteurSimulation}; move
+ * orders are submitted to the engine as commands.
+ * <p>
+ * The map is drawn on two stacked canvases: water, islands and obstacles on a
+ * background canvas repainted only when the zone geometry version changes,
+ * and the assets on a transparent canvas above it, repainted every frame.
+ * <p>
+ * The view pans by dragging and zooms with the scroll wheel. Each frame only
+ * draws the assets inside the viewport, batched by type through
+ * {@link LotsRendu}. Zoomed out, crowded screen cells are drawn as cluster
+ * glyphs, and ids and detailed shapes are only drawn when zoomed in or when
+ * few assets are on screen.
+ * <p>
+ * Frames follow the display refresh, not the simulation rate: between two
+ * ticks, positions are interpolated from the last two snapshots by
+ * {@link InterpolationInstantanes}.
+ */
 public class SimulationView extends Pane {
+    private MoteurSimulation moteur;
     private ZoneOperation zone;
-    private GestionnaireEssaim gestionnaire;
-    private Canvas canvas;
+    private Canvas fond; // Static layer: water, islands, obstacles
+    private Canvas canvas; // Dynamic layer: assets
+    private long versionFond = -1; // Geometry version drawn on the background
     private AnimationTimer timer;
 
-    private java.util.List<ActifMobile> selectedAssets = new java.util.ArrayList<>();
-    private final double SCALE = 0.9; // 1000 world -> 900 canvas
+    private java.util.Set<String> selectedAssets = new java.util.LinkedHashSet<>(); // Selected IDs
+    private static final double ECHELLE_INITIALE = 0.9; // 1000 world -> 900 canvas
+    private static final double ECHELLE_MIN = 0.05;
+    private static final double ECHELLE_MAX = 20;
+    private static final double ECHELLE_DETAIL = 2.0; // Labels and no clusters from this zoom
+    private static final int SEUIL_DETAIL = 300; // Labels below this many assets on screen
+    private static final int TAILLE_AMAS = 24; // Clustering cell side, in pixels
+
+    private double echelle = ECHELLE_INITIALE; // Pixels per world unit
+    private double origineX; // World point at the top-left corner
+    private double origineY;
+    private double dernierX; // Last mouse position while dragging
+    private double dernierY;
+    private final LotsRendu lots = new LotsRendu();
+    private final double[] polygoneX = new double[4]; // Reused vertices of asset glyphs
+    private final double[] polygoneY = new double[4];
+    private final InterpolationInstantanes interpolation = new InterpolationInstantanes();
 
-    public SimulationView(ZoneOperation zone, GestionnaireEssaim gestionnaire) {
-        this.zone = zone;
-        this.gestionnaire = gestionnaire;
-        this.canvas = new Canvas(900, 900); // Square canvas
-        getChildren().add(canvas);
+    /**
+     * Constructor for SimulationView.
+     * 
+     * @param moteur The simulation engine to display.
+     */
+    public SimulationView(MoteurSimulation moteur) {
+        this.moteur = moteur;
+        this.zone = moteur.getZone();
+        this.fond = new Canvas(900, 900); // Square canvas
+        this.canvas = new Canvas(900, 900);
+        getChildren().addAll(fond, canvas); // Assets on top, and receive the clicks
 
         // Redraw on resize
         widthProperty().addListener(evt -> draw());
         heightProperty().addListener(evt -> draw());
 
+        // Pan by dragging, zoom around the cursor with the wheel
+        canvas.setOnMousePressed(e -> {
+            dernierX = e.getX();
+            dernierY = e.getY();
+        });
+        canvas.setOnMouseDragged(e -> {
+            origineX -= (e.getX() - dernierX) / echelle;
+            origineY -= (e.getY() - dernierY) / echelle;
+            dernierX = e.getX();
+            dernierY = e.getY();
+            invaliderVue();
+        });
+        canvas.setOnScroll(e -> {
+            if (e.getDeltaY() == 0) {
+                return;
+            }
+            double facteur = e.getDeltaY() > 0 ? 1.25 : 1 / 1.25;
+            double wx = origineX + e.getX() / echelle;
+            double wy = origineY + e.getY() / echelle;
+            echelle = Math.max(ECHELLE_MIN, Math.min(ECHELLE_MAX, echelle * facteur));
+            origineX = wx - e.getX() / echelle;
+            origineY = wy - e.getY() / echelle;
+            invaliderVue();
+        });
+
         // Handle Mouse Events
         canvas.setOnMouseClicked(e -> {
             try {
+                if (!e.isStillSincePress()) {
+                    return; // End of a pan
+                }
                 double mx = e.getX();
                 double my = e.getY();
 
@@ -54,6 +129,14 @@ public class SimulationView extends Pane {
         });
     }
 
+    /**
+     * Redraws both layers after a pan or zoom.
+     */
+    private void invaliderVue() {
+        versionFond = -1;
+        draw();
+    }
+
     private Runnable onUpdate;
 
     /**
@@ -65,23 +148,29 @@ public class SimulationView extends Pane {
         this.onUpdate = onUpdate;
     }
 
-    private long lastUpdate = 0;
+    private long lastTick = -1;
 
     /**
-     * Starts the simulation animation timer.
+     * Starts the render timer. The simulation itself runs on the engine thread
+     * at its own rate; a frame is drawn on every display pulse while assets are
+     * between two snapshots, and the update callback runs once per new
+     * snapshot.
      */
     public void startSimulation() {
         timer = new AnimationTimer() {
             @Override
             public void handle(long now) {
                 try {
-                    if (now - lastUpdate >= 100_000_000) { // Update every 100ms (10 FPS)
-                        update();
+                    InstantaneSimulation instantane = moteur.getInstantane();
+                    boolean nouveau = instantane.getNumeroTick() != lastTick;
+                    if (nouveau || interpolation.enTransition()) {
                         draw();
+                    }
+                    if (nouveau) {
+                        lastTick = instantane.getNumeroTick();
                         if (onUpdate != null) {
                             onUpdate.run();
                         }
-                        lastUpdate = now;
                     }
                 } catch (Exception e) {
                     System.err.println("Error in animation timer: " + e.getMessage());
@@ -99,23 +188,26 @@ public class SimulationView extends Pane {
             // multi-select or toggle)
             // For now, let's implement simple toggle behavior
 
-            if (gestionnaire.getFlotte() == null) {
+            // Hit test against the positions on screen
+            InstantaneSimulation instantane = interpolation.getCourant();
+            if (instantane == null) {
                 return false;
             }
-
-            for (ActifMobile actif : gestionnaire.getFlotte()) {
+            double[] positionsX = interpolation.getX();
+            double[] positionsY = interpolation.getY();
+            for (int i = 0; i < instantane.taille(); i++) {
                 // Map world to canvas
-                double x = actif.getPosition().getX() * SCALE;
-                double y = actif.getPosition().getY() * SCALE;
+                double x = (positionsX[i] - origineX) * echelle;
+                double y = (positionsY[i] - origineY) * echelle;
 
                 // Simple hit detection (radius 20 for easier clicking)
                 if (Math.abs(mx - x) < 20 && Math.abs(my - y) < 20) {
-                    if (selectedAssets.contains(actif)) {
-                        selectedAssets.remove(actif);
-                        System.out.println("Deselected: " + actif.getId());
+                    String id = instantane.getId(i);
+                    if (selectedAssets.remove(id)) {
+                        System.out.println("Deselected: " + id);
                     } else {
-                        selectedAssets.add(actif);
-                        System.out.println("Selected: " + actif.getId());
+                        selectedAssets.add(id);
+                        System.out.println("Selected: " + id);
                     }
                     draw();
                     clickedOnAsset = true;
@@ -151,35 +243,13 @@ public class SimulationView extends Pane {
                 return;
 
             // Map canvas back to world
-            double wx = mx / SCALE;
-            double wy = my / SCALE;
+            double wx = origineX + mx / echelle;
+            double wy = origineY + my / echelle;
 
-            for (ActifMobile asset : selectedAssets) {
-                try {
-                    double wz = asset.getPosition().getZ(); // Keep current altitude/depth
-
-                    // Constraints
-                    // 1. Marine assets cannot go on land
-                    if (asset instanceof com.spiga.core.ActifMarin) {
-                        if (zone.isLand(new Point3D(wx, wy, 0))) {
-                            System.out.println("Cannot move marine asset " + asset.getId() + " to land!");
-                            continue;
-                        }
-                    }
-                    // 2. Land vehicles cannot go into water
-                    if (asset instanceof com.spiga.core.VehiculeTerrestre) {
-                        if (!zone.isLand(new Point3D(wx, wy, 0))) {
-                            System.out.println("Cannot move land vehicle " + asset.getId() + " to water!");
-                            continue;
-                        }
-                    }
-
-                    asset.setTarget(new Point3D(wx, wy, wz));
-                    System.out.println("Moving " + asset.getId() + " to " + wx + ", " + wy);
-                } catch (Exception e) {
-                    System.err.println("Error moving asset " + asset.getId() + ": " + e.getMessage());
-                }
-            }
+            // The terrain is read on the simulation thread, which rebuilds it
+            // when islands change
+            List<String> ids = new ArrayList<>(selectedAssets);
+            moteur.soumettre(() -> deplacerSelection(ids, wx, wy));
         } catch (Exception e) {
             System.err.println("Error handling move command: " + e.getMessage());
             e.printStackTrace();
@@ -187,145 +257,277 @@ public class SimulationView extends Pane {
     }
 
     /**
-     * Updates the state of all assets.
-     * Moves assets towards their targets and checks for arrival.
+     * Sends the given assets to a point. Runs on the simulation thread.
+     *
+     * @param ids Identifiers of the assets to move.
+     * @param wx  Target X coordinate.
+     * @param wy  Target Y coordinate.
      */
-    private void update() {
-        try {
-            if (gestionnaire.getFlotte() == null) {
-                return;
-            }
-
-            for (ActifMobile actif : gestionnaire.getFlotte()) {
-                try {
-                    if (actif.getTarget() != null) {
-                        actif.deplacer(actif.getTarget(), zone);
-
-                        // Stop if reached (simple check)
-                        double dx = actif.getTarget().getX() - actif.getPosition().getX();
-                        double dy = actif.getTarget().getY() - actif.getPosition().getY();
-                        if (Math.sqrt(dx * dx + dy * dy) < 5.0) { // Tolerance
-                            actif.setTarget(null); // Stop
-                            actif.setEtat(com.spiga.core.EtatOperationnel.AU_SOL); // Reset state
-                        }
+    private void deplacerSelection(List<String> ids, double wx, double wy) {
+        boolean targetIsLand = zone.isLand(wx, wy);
+        if (ids.size() > 1) {
+            // Only land vehicles may go to land and only marine assets to water:
+            // the group shares one flow field instead of searching per asset
+            zone.preparerChampFlux(new Point3D(wx, wy, 0), !targetIsLand);
+        }
+        for (String id : ids) {
+            try {
+                ActifMobile asset = moteur.getGestionnaire().trouverActif(id);
+                if (asset == null) {
+                    continue;
+                }
+                CategorieActif.Milieu milieu = CategorieActif.de(asset).getMilieu();
+
+                // Constraints
+                // 1. Marine assets cannot go on land
+                if (milieu == CategorieActif.Milieu.MARIN) {
+                    if (targetIsLand) {
+                        System.out.println("Cannot move marine asset " + id + " to land!");
+                        continue;
                     }
-                } catch (Exception e) {
-                    System.err.println("Error updating asset " + actif.getId() + ": " + e.getMessage());
                 }
+                // 2. Land vehicles cannot go into water
+                if (milieu == CategorieActif.Milieu.TERRESTRE) {
+                    if (!targetIsLand) {
+                        System.out.println("Cannot move land vehicle " + id + " to water!");
+                        continue;
+                    }
+                }
+
+                asset.setTarget(new Point3D(wx, wy, asset.getZ())); // Keep current altitude/depth
+                System.out.println("Moving " + id + " to " + wx + ", " + wy);
+            } catch (Exception e) {
+                System.err.println("Error moving asset " + id + ": " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.err.println("Error in update loop: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
     /**
-     * Draws the simulation state on the canvas.
-     * Renders the map (water, islands) and assets.
+     * Draws the simulation state.
+     * Repaints the map layer if the zone geometry or the view changed, then the
+     * visible assets.
      */
     private void draw() {
         try {
-            GraphicsContext gc = canvas.getGraphicsContext2D();
+            if (zone.getVersionGeometrie() != versionFond) {
+                drawBackground();
+            }
 
-            // Clear background (Water)
-            gc.setFill(Color.LIGHTBLUE);
-            gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+            // Positions between the last two ticks
+            interpolation.recevoir(moteur.getInstantane());
+            interpolation.interpoler(System.nanoTime());
+            InstantaneSimulation instantane = interpolation.getCourant();
+            double[] positionsX = interpolation.getX();
+            double[] positionsY = interpolation.getY();
+
+            // Visible assets, by type, with crowded cells folded into clusters
+            boolean regrouper = echelle < ECHELLE_DETAIL;
+            lots.trier(instantane, positionsX, positionsY, origineX, origineY, echelle, canvas.getWidth(),
+                    canvas.getHeight(), regrouper ? TAILLE_AMAS : 0);
+            int individuels = 0;
+            for (CategorieActif c : CategorieActif.values()) {
+                individuels += lots.taille(c);
+            }
+            boolean detail = !regrouper || individuels <= SEUIL_DETAIL;
 
-            // Draw Islands
-            gc.setFill(Color.LIGHTGREEN);
-            if (zone.getIslands() != null) {
-                for (ZoneOperation.Island island : zone.getIslands()) {
+            // Draw Assets, one fill per batch
+            gc.setStroke(Color.BLACK);
+            for (CategorieActif c : CategorieActif.values()) {
+                int[] lot = lots.lot(c);
+                int taille = lots.taille(c);
+                gc.setFill(getColorForCategory(c));
+                for (int k = 0; k < taille; k++) {
+                    int i = lot[k];
+                    double x = (positionsX[i] - origineX) * echelle;
+                    double y = (positionsY[i] - origineY) * echelle;
                     try {
-                        if (island.isCircle()) {
-                            gc.fillOval(island.getX() * SCALE - (island.getW() * SCALE),
-                                    island.getY() * SCALE - (island.getW() * SCALE),
-                                    island.getW() * SCALE * 2, island.getW() * SCALE * 2);
+                        if (detail) {
+                            drawAsset(gc, c, x, y);
                         } else {
-                            gc.fillRect(island.getX() * SCALE, island.getY() * SCALE, island.getW() * SCALE,
-                                    island.getH() * SCALE);
+                            // One small square per asset
+                            gc.fillRect(x - 3, y - 3, 6, 6);
                         }
                     } catch (Exception e) {
-                        System.err.println("Error drawing island: " + e.getMessage());
+                        System.err.println("Error drawing asset " + instantane.getId(i) + ": " + e.getMessage());
+                    }
+                }
+                if (detail && c == CategorieActif.TERRESTRE) {
+                    gc.setFill(Color.BLACK);
+                    for (int k = 0; k < taille; k++) {
+                        int i = lot[k];
+                        drawWheels(gc, (positionsX[i] - origineX) * echelle, (positionsY[i] - origineY) * echelle);
                     }
                 }
             }
-
-            // Draw Assets
-            if (gestionnaire.getFlotte() != null) {
-                for (ActifMobile actif : gestionnaire.getFlotte()) {
-                    try {
-                        drawAsset(gc, actif);
-                    } catch (Exception e) {
-                        System.err.println("Error drawing asset " + actif.getId() + ": " + e.getMessage());
+            if (detail) {
+                // Labels in a second pass, all with the same fill
+                gc.setFill(Color.BLACK);
+                for (CategorieActif c : CategorieActif.values()) {
+                    int[] lot = lots.lot(c);
+                    for (int k = 0; k < lots.taille(c); k++) {
+                        int i = lot[k];
+                        gc.fillText(instantane.getId(i), (positionsX[i] - origineX) * echelle + 12,
+                                (positionsY[i] - origineY) * echelle);
                     }
                 }
             }
+            drawClusters(gc, lots.getNombreAmas() <= SEUIL_DETAIL);
+
+            // Selection rings, also around assets folded into a cluster
+            gc.setStroke(Color.RED);
+            gc.setLineWidth(2);
+            for (String id : selectedAssets) {
+                int i = instantane.indexDe(id);
+                if (i >= 0) {
+                    double x = (positionsX[i] - origineX) * echelle;
+                    double y = (positionsY[i] - origineY) * echelle;
+                    gc.strokeOval(x - 15, y - 15, 30, 30);
+                }
+            }
+            gc.setLineWidth(1);
         } catch (Exception e) {
             System.err.println("Error in draw method: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
-    private void drawAsset(GraphicsContext gc, ActifMobile actif) {
-        double x = actif.getPosition().getX() * SCALE;
-        double y = actif.getPosition().getY() * SCALE;
-        String type = actif.getClass().getSimpleName();
+    /**
+     * Draws the static layer (water, islands, obstacles) on the background
+     * canvas. The lists are copied first since the engine thread may change
+     * them; if that races, the version is left stale and the next frame retries.
+     */
+    private void drawBackground() {
+        long version = zone.getVersionGeometrie();
+        List<ZoneOperation.Island> islands;
+        List<Obstacle> obstacles;
+        try {
+            islands = new ArrayList<>(zone.getIslands());
+            obstacles = new ArrayList<>(zone.getObstacles());
+        } catch (Exception e) {
+            System.err.println("Error reading zone geometry: " + e.getMessage());
+            return;
+        }
+        GraphicsContext gc = fond.getGraphicsContext2D();
+
+        // Water
+        gc.setFill(Color.LIGHTBLUE);
+        gc.fillRect(0, 0, fond.getWidth(), fond.getHeight());
 
-        gc.setFill(getColorForType(actif));
+        // The map is drawn in world units through the view transform
+        gc.save();
+        gc.scale(echelle, echelle);
+        gc.translate(-origineX, -origineY);
 
-        if (selectedAssets.contains(actif)) {
-            gc.setStroke(Color.RED);
-            gc.setLineWidth(2);
-            gc.strokeOval(x - 15, y - 15, 30, 30);
+        // Islands
+        gc.setFill(Color.LIGHTGREEN);
+        for (ZoneOperation.Island island : islands) {
+            try {
+                if (island.isCircle()) {
+                    gc.fillOval(island.getX() - island.getW(), island.getY() - island.getW(),
+                            island.getW() * 2, island.getW() * 2);
+                } else {
+                    gc.fillRect(island.getX(), island.getY(), island.getW(), island.getH());
+                }
+            } catch (Exception e) {
+                System.err.println("Error drawing island: " + e.getMessage());
+            }
+        }
+
+        // Obstacles
+        gc.setFill(Color.GRAY);
+        for (Obstacle obstacle : obstacles) {
+            double r = obstacle.getRadius();
+            gc.fillOval(obstacle.getPosition().getX() - r, obstacle.getPosition().getY() - r, 2 * r, 2 * r);
+        }
+        gc.restore();
+        versionFond = version;
+    }
+
+    /**
+     * Draws the cluster glyphs: a disc growing with the number of assets.
+     *
+     * @param gc      The asset layer.
+     * @param compter Whether to write the asset count on each disc.
+     */
+    private void drawClusters(GraphicsContext gc, boolean compter) {
+        gc.setFill(Color.rgb(40, 40, 90, 0.7));
+        for (int k = 0; k < lots.getNombreAmas(); k++) {
+            double r = Math.min(6 + 2 * Math.log(lots.getTailleAmas(k)), TAILLE_AMAS / 2.0);
+            gc.fillOval(lots.getXAmas(k) - r, lots.getYAmas(k) - r, 2 * r, 2 * r);
+        }
+        if (compter) {
+            gc.setFill(Color.WHITE);
+            for (int k = 0; k < lots.getNombreAmas(); k++) {
+                gc.fillText(Integer.toString(lots.getTailleAmas(k)), lots.getXAmas(k) - 6, lots.getYAmas(k) + 4);
+            }
         }
+    }
 
-        if (type.contains("Reconnaissance")) {
+    /**
+     * Draws the body of an asset with the current fill, which the caller sets
+     * once per category, and a black stroke. Wheels and labels are drawn in
+     * later passes so the fill does not change per asset.
+     */
+    private void drawAsset(GraphicsContext gc, CategorieActif categorie, double x, double y) {
+        if (categorie == CategorieActif.RECONNAISSANCE) {
             // Triangle for plane
-            gc.fillPolygon(new double[] { x, x - 10, x + 10 }, new double[] { y - 10, y + 10, y + 10 }, 3);
-        } else if (type.contains("Logistique")) {
+            polygoneX[0] = x;
+            polygoneX[1] = x - 10;
+            polygoneX[2] = x + 10;
+            polygoneY[0] = y - 10;
+            polygoneY[1] = y + 10;
+            polygoneY[2] = y + 10;
+            gc.fillPolygon(polygoneX, polygoneY, 3);
+        } else if (categorie == CategorieActif.LOGISTIQUE) {
             // Square/Quad for drone
             gc.fillRect(x - 8, y - 8, 16, 16);
             // Rotors
-            gc.setStroke(Color.BLACK);
             gc.strokeOval(x - 12, y - 12, 10, 10);
             gc.strokeOval(x + 2, y - 12, 10, 10);
             gc.strokeOval(x - 12, y + 2, 10, 10);
             gc.strokeOval(x + 2, y + 2, 10, 10);
-        } else if (type.contains("Surface")) {
+        } else if (categorie == CategorieActif.SURFACE) {
             // Boat shape
-            gc.fillPolygon(new double[] { x - 12, x + 12, x + 6, x - 6 }, new double[] { y - 6, y - 6, y + 6, y + 6 },
-                    4);
-        } else if (type.contains("SousMarin")) {
+            polygoneX[0] = x - 12;
+            polygoneX[1] = x + 12;
+            polygoneX[2] = x + 6;
+            polygoneX[3] = x - 6;
+            polygoneY[0] = y - 6;
+            polygoneY[1] = y - 6;
+            polygoneY[2] = y + 6;
+            polygoneY[3] = y + 6;
+            gc.fillPolygon(polygoneX, polygoneY, 4);
+        } else if (categorie == CategorieActif.SOUS_MARIN) {
             // Ellipse for sub
             gc.fillOval(x - 14, y - 7, 28, 14);
             // Periscope
             gc.strokeLine(x, y - 7, x, y - 14);
-        } else if (type.contains("Terrestre")) {
+        } else if (categorie == CategorieActif.TERRESTRE) {
             // Car shape (Rectangle)
             gc.fillRect(x - 10, y - 6, 20, 12);
-            // Wheels
-            gc.setFill(Color.BLACK);
-            gc.fillOval(x - 8, y + 6, 4, 4);
-            gc.fillOval(x + 4, y + 6, 4, 4);
-            gc.fillOval(x - 8, y - 8, 4, 4);
-            gc.fillOval(x + 4, y - 8, 4, 4);
         } else {
             gc.fillOval(x - 5, y - 5, 10, 10);
         }
+    }
 
-        gc.setFill(Color.BLACK);
-        gc.fillText(actif.getId(), x + 12, y);
+    private void drawWheels(GraphicsContext gc, double x, double y) {
+        gc.fillOval(x - 8, y + 6, 4, 4);
+        gc.fillOval(x + 4, y + 6, 4, 4);
+        gc.fillOval(x - 8, y - 8, 4, 4);
+        gc.fillOval(x + 4, y - 8, 4, 4);
     }
 
-    private Color getColorForType(ActifMobile actif) {
-        String type = actif.getClass().getSimpleName();
-        if (type.contains("Reconnaissance"))
+    private Color getColorForCategory(CategorieActif categorie) {
+        if (categorie == CategorieActif.RECONNAISSANCE)
             return Color.BLUE;
-        if (type.contains("Logistique"))
+        if (categorie == CategorieActif.LOGISTIQUE)
             return Color.GREEN;
-        if (type.contains("Surface"))
+        if (categorie == CategorieActif.SURFACE)
             return Color.ORANGE;
-        if (type.contains("SousMarin"))
+        if (categorie == CategorieActif.SOUS_MARIN)
             return Color.DARKBLUE;
         return Color.RED;
     }
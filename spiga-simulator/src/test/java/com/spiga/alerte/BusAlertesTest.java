@@ -0,0 +1,117 @@
+package com.spiga.alerte;
+
+import com.spiga.core.TypeAlerte;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BusAlertesTest {
+
+    @Test
+    public void testDeduplicationParActifEtParType() {
+        BusAlertes bus = new BusAlertes(64);
+        List<EvenementAlerte> recus = new ArrayList<>();
+        bus.abonner(recus::add);
+
+        assertTrue(bus.publier("D1", null, TypeAlerte.COLLISION_IMMINENTE, 1, 2, 3));
+        assertFalse(bus.publier("D1", null, TypeAlerte.COLLISION_IMMINENTE, 1, 2, 3));
+        // Other type, other asset: not duplicates
+        assertTrue(bus.publier("D1", null, TypeAlerte.BATTERIE_FAIBLE, 1, 2, 3));
+        assertTrue(bus.publier("D2", null, TypeAlerte.COLLISION_IMMINENTE, 1, 2, 3));
+        assertEquals(1, bus.getDedupliquees());
+
+        // Forgetting the asset resets its window
+        bus.oublier("D1");
+        assertTrue(bus.publier("D1", null, TypeAlerte.COLLISION_IMMINENTE, 1, 2, 3));
+
+        assertEquals(4, bus.drainer());
+        assertEquals(4, recus.size());
+    }
+
+    @Test
+    public void testFenetreNulleTransmetTout() {
+        BusAlertes bus = new BusAlertes(64);
+        bus.setFenetreDeduplication(TypeAlerte.COLLISION_IMMINENTE, 0, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bus.publier("C1", "TERRESTRE", TypeAlerte.COLLISION_IMMINENTE, 0, 0, 0));
+        }
+        assertEquals(10, bus.getPubliees());
+        assertThrows(IllegalArgumentException.class,
+                () -> bus.setFenetreDeduplication(TypeAlerte.CONDITIONS_METEO_EXTREMES, -1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLimitationDeDebit() {
+        BusAlertes bus = new BusAlertes(64);
+        bus.setDebitMax(0.001, 5); // One alert every 1000 s after a burst of 5
+        for (int i = 0; i < 20; i++) {
+            bus.publier("A" + i, null, TypeAlerte.BATTERIE_FAIBLE, 0, 0, 0);
+        }
+        assertEquals(5, bus.getPubliees());
+        assertEquals(15, bus.getLimitees());
+
+        bus.setDebitMax(0, 1);
+        assertTrue(bus.publier("B", null, TypeAlerte.BATTERIE_FAIBLE, 0, 0, 0));
+    }
+
+    @Test
+    public void testAbonnesTypesEtErreurs() {
+        BusAlertes bus = new BusAlertes(64);
+        List<EvenementAlerte> collisions = new ArrayList<>();
+        List<EvenementAlerte> tous = new ArrayList<>();
+        bus.abonner(TypeAlerte.COLLISION_IMMINENTE, collisions::add);
+        bus.abonner(e -> {
+            throw new IllegalStateException("subscriber failure");
+        });
+        bus.abonner(tous::add);
+
+        bus.publier("S1", "SURFACE", TypeAlerte.COLLISION_IMMINENTE, 42, 10, 20, 0);
+        bus.publier("S1", "SURFACE", TypeAlerte.BATTERIE_FAIBLE, 42, 10, 20, 0);
+        assertEquals(2, bus.drainer());
+
+        assertEquals(1, collisions.size());
+        assertEquals(2, tous.size(), "A failing subscriber must not stop the others");
+        EvenementAlerte e = collisions.get(0);
+        assertEquals("S1", e.getIdActif());
+        assertEquals(42, e.getNumeroTick());
+        assertEquals(20, e.getY(), 1e-9);
+        assertEquals("ALERTE SURFACE S1: COLLISION_IMMINENTE", e.formater());
+
+        bus.desabonner(collisions::add); // Different instance: no effect
+        bus.publier("S2", null, TypeAlerte.COLLISION_IMMINENTE, 0, 0, 0);
+        bus.drainer();
+        assertEquals(2, collisions.size());
+        assertEquals("ALERTE [S2]: COLLISION_IMMINENTE", tous.get(2).formater());
+    }
+
+    @Test
+    public void testTamponPleinPerdSansBloquer() {
+        BusAlertes bus = new BusAlertes(2);
+        assertTrue(bus.publier("A", null, TypeAlerte.BATTERIE_FAIBLE, 0, 0, 0));
+        assertTrue(bus.publier("B", null, TypeAlerte.BATTERIE_FAIBLE, 0, 0, 0));
+        assertFalse(bus.publier("C", null, TypeAlerte.BATTERIE_FAIBLE, 0, 0, 0));
+        assertEquals(1, bus.getPerdues());
+    }
+
+    @Test
+    public void testConsommateurEnArrierePlan() throws InterruptedException {
+        BusAlertes bus = new BusAlertes(64);
+        List<EvenementAlerte> recus = new ArrayList<>();
+        bus.abonner(e -> {
+            synchronized (recus) {
+                recus.add(e);
+            }
+        });
+        bus.demarrer();
+        assertTrue(bus.isEnMarche());
+        for (int i = 0; i < 10; i++) {
+            bus.publier("A" + i, null, TypeAlerte.SORTIE_ZONE, 0, 0, 0);
+        }
+        bus.arreter();
+        assertFalse(bus.isEnMarche());
+        assertEquals(10, recus.size());
+        assertEquals(10, bus.getDistribuees());
+    }
+}
@@ -0,0 +1,86 @@
+package com.spiga.alerte;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TamponCirculaireTest {
+
+    @Test
+    public void testPleinEtVide() {
+        TamponCirculaire<Integer> tampon = new TamponCirculaire<>(3);
+        assertEquals(4, tampon.capacite());
+        assertNull(tampon.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(tampon.offer(i));
+        }
+        assertFalse(tampon.offer(99), "Full ring must refuse without blocking");
+        assertEquals(4, tampon.taille());
+
+        assertEquals(0, tampon.poll());
+        assertTrue(tampon.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, tampon.poll());
+        }
+        assertNull(tampon.poll());
+        assertEquals(0, tampon.taille());
+    }
+
+    @Test
+    public void testCapaciteInvalide() {
+        assertThrows(IllegalArgumentException.class, () -> new TamponCirculaire<Integer>(0));
+    }
+
+    @Test
+    public void testProducteursEtConsommateursConcurrents() throws InterruptedException {
+        final int producteurs = 4;
+        final int parProducteur = 50_000;
+        final int total = producteurs * parProducteur;
+        TamponCirculaire<Integer> tampon = new TamponCirculaire<>(1024);
+        BitSet recus = new BitSet(total);
+        AtomicInteger doublons = new AtomicInteger();
+        AtomicInteger nbRecus = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producteurs; p++) {
+            final int base = p * parProducteur;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < parProducteur; i++) {
+                    while (!tampon.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            threads.add(new Thread(() -> {
+                while (nbRecus.get() < total) {
+                    Integer v = tampon.poll();
+                    if (v == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    synchronized (recus) {
+                        if (recus.get(v)) {
+                            doublons.incrementAndGet();
+                        }
+                        recus.set(v);
+                    }
+                    nbRecus.incrementAndGet();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join(30_000);
+        }
+
+        assertEquals(0, doublons.get());
+        assertEquals(total, recus.cardinality());
+        assertNull(tampon.poll());
+    }
+}
@@ -1,6 +1,7 @@
 package com.spiga.core;
 
 import com.spiga.env.ZoneOperation;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,4 +39,18 @@ public class ActifAerienTest {
 
         assertTrue(drone.getAutonomieActuelle() < initialAutonomy);
     }
+
+    @Test
+    public void testTrajetNeSuitPasLeDeplacement() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, 0), new Point3D(1000, 1000, 1000));
+        ActifAerien drone = new DroneReconnaissance("D1", new Point3D(0, 0, 0));
+        List<Point3D> trajet = drone.calculerTrajet(new Point3D(100, 0, 0));
+
+        drone.deplacer(new Point3D(100, 0, 0), zone);
+
+        // The start of the route is where the drone was, not where it is
+        assertEquals(0.0, trajet.get(0).getX(), 1e-9);
+        drone.getPosition().setX(500);
+        assertEquals(100.0, drone.getX(), 0.01);
+    }
 }
@@ -0,0 +1,36 @@
+package com.spiga.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategorieActifTest {
+
+    /** A marine asset class the user interfaces know nothing about. */
+    private static class Vedette extends ActifMarin {
+        Vedette(String id, Point3D position) {
+            super(id, position, 80.0, 50.0);
+        }
+    }
+
+    @Test
+    public void testCategorieParClasse() {
+        Point3D p = new Point3D(0, 0, 0);
+        assertEquals(CategorieActif.RECONNAISSANCE, CategorieActif.de(new DroneReconnaissance("D", p)));
+        assertEquals(CategorieActif.LOGISTIQUE, CategorieActif.de(new DroneLogistique("L", p)));
+        assertEquals(CategorieActif.SURFACE, CategorieActif.de(new VehiculeSurface("S", p)));
+        assertEquals(CategorieActif.SOUS_MARIN, CategorieActif.de(new VehiculeSousMarin("M", p)));
+        assertEquals(CategorieActif.TERRESTRE, CategorieActif.de(new VehiculeTerrestre("T", p)));
+    }
+
+    @Test
+    public void testMilieuDesSousClassesInconnues() {
+        CategorieActif categorie = CategorieActif.de(new Vedette("V", new Point3D(0, 0, 0)));
+        assertEquals(CategorieActif.MARIN, categorie);
+        assertEquals(CategorieActif.Milieu.MARIN, categorie.getMilieu());
+        // Subclasses keep the kind of their parent, whatever their name
+        assertEquals(CategorieActif.SURFACE, CategorieActif.de(new VehiculeSurface("S", new Point3D(0, 0, 0)) {
+        }));
+        assertEquals(CategorieActif.Milieu.TERRESTRE, CategorieActif.TERRESTRE.getMilieu());
+        assertEquals(CategorieActif.Milieu.AERIEN, CategorieActif.LOGISTIQUE.getMilieu());
+    }
+}
@@ -0,0 +1,95 @@
+package com.spiga.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Point3DTest {
+
+    private static void assertPoint(double x, double y, double z, Point3D p) {
+        assertEquals(x, p.getX(), 1e-9);
+        assertEquals(y, p.getY(), 1e-9);
+        assertEquals(z, p.getZ(), 1e-9);
+    }
+
+    @Test
+    public void testOperationsCreentUnNouveauPoint() {
+        Point3D a = new Point3D(1, 2, 3);
+        Point3D b = new Point3D(4, 6, 8);
+
+        assertPoint(5, 8, 11, a.add(b));
+        assertPoint(3, 4, 5, b.sub(a));
+        assertPoint(2, 4, 6, a.scale(2));
+        assertPoint(2.5, 4, 5.5, a.lerp(b, 0.5));
+        assertEquals(4 + 12 + 24, a.dot(b), 1e-9);
+        // Operands are left untouched
+        assertPoint(1, 2, 3, a);
+        assertPoint(4, 6, 8, b);
+    }
+
+    @Test
+    public void testVariantesAvecDestination() {
+        Point3D a = new Point3D(1, 2, 3);
+        Point3D b = new Point3D(4, 6, 8);
+        Point3D dest = new Point3D(0, 0, 0);
+
+        assertSame(dest, a.add(b, dest));
+        assertPoint(5, 8, 11, dest);
+        // Destination may alias an operand
+        assertSame(a, a.sub(b, a));
+        assertPoint(-3, -4, -5, a);
+        assertSame(a, a.scale(-1, a));
+        assertPoint(3, 4, 5, a);
+        assertSame(b, a.lerp(b, 1, b));
+        assertPoint(4, 6, 8, b);
+        assertPoint(13, 14, 15, a.translate(10, 10, 10));
+    }
+
+    @Test
+    public void testDistancesEtNormalisation() {
+        Point3D a = new Point3D(0, 0, 0);
+        Point3D b = new Point3D(3, 4, 12);
+
+        assertEquals(169, a.distanceSquared(b), 1e-9);
+        assertEquals(13, a.distance(b), 1e-9);
+        assertEquals(5, a.distanceXY(b), 1e-9);
+        assertEquals(13, b.length(), 1e-9);
+        assertEquals(1, b.normalize().length(), 1e-9);
+        assertPoint(0, 0, 0, a.normalize());
+    }
+
+    @Test
+    public void testStepTowardSansDepasserLaCible() {
+        Point3D ici = new Point3D(0, 0, 0);
+        Point3D pas = new Point3D(0, 0, 0);
+
+        ici.stepToward(new Point3D(100, 0, 0), 30, pas);
+        assertPoint(30, 0, 0, pas);
+
+        ici.stepToward(new Point3D(3, 4, 0), 30, pas);
+        assertPoint(3, 4, 0, pas);
+
+        ici.stepToward(ici, 30, pas);
+        assertPoint(0, 0, 0, pas);
+
+        // Target used as destination
+        Point3D cible = new Point3D(0, 60, 80);
+        assertSame(cible, ici.stepToward(cible, 50, cible));
+        assertPoint(0, 30, 40, cible);
+    }
+
+    @Test
+    public void testSetPositionCopieLesCoordonnees() {
+        Point3D depart = new Point3D(10, 10, 50);
+        ActifMobile drone = new DroneReconnaissance("D1", depart);
+        Point3D nouvelle = new Point3D(20, 20, 50);
+        drone.setPosition(nouvelle);
+        nouvelle.setX(999);
+        assertEquals(20, drone.getX(), 1e-9);
+        assertEquals(10, depart.getX(), 1e-9);
+
+        ActifMobile car = new VehiculeTerrestre("C1", new Point3D(300, 300, 7));
+        assertEquals(0, car.getZ(), 1e-9);
+        car.setPosition(310, 300, 5);
+        assertEquals(0, car.getZ(), 1e-9);
+    }
+}
@@ -0,0 +1,121 @@
+package com.spiga.core;
+
+import com.spiga.env.ZoneOperation;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StockageFlotteTest {
+
+    @Test
+    public void testActifCommeVueSurUneLigne() {
+        StockageFlotte stockage = new StockageFlotte(0);
+        ActifMobile drone = new DroneReconnaissance("D1", new Point3D(10, 20, 50));
+        assertEquals(0, stockage.attacher(drone));
+        assertSame(stockage, drone.getStockage());
+
+        drone.setPosition(new Point3D(30, 40, 60));
+        drone.setAutonomieActuelle(12);
+        drone.setEtat(EtatOperationnel.EN_MISSION);
+        assertEquals(30, stockage.getX(0), 1e-9);
+        assertEquals(40, stockage.getY(0), 1e-9);
+        assertEquals(60, stockage.getZ(0), 1e-9);
+        assertEquals(12, stockage.getAutonomie(0), 1e-9);
+        assertEquals(EtatOperationnel.EN_MISSION, stockage.getEtat(0));
+        assertEquals(drone.getVitesseMax(), stockage.getVitesseMax(0), 1e-9);
+
+        // getPosition hands out a copy of the row
+        drone.getPosition().setX(999);
+        assertEquals(30, drone.getX(), 1e-9);
+
+        assertThrows(IllegalStateException.class, () -> new StockageFlotte(1).attacher(drone));
+    }
+
+    @Test
+    public void testDetacherRestaureEtCompacte() {
+        StockageFlotte stockage = new StockageFlotte(2);
+        List<ActifMobile> actifs = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ActifMobile a = new VehiculeSurface("S" + i, new Point3D(i, i, 0));
+            stockage.attacher(a);
+            actifs.add(a);
+        }
+        ActifMobile premier = actifs.get(0);
+        premier.setPosition(5, 6, 0);
+        premier.setAutonomieActuelle(3);
+        premier.setEtat(EtatOperationnel.EN_PANNE);
+
+        assertTrue(stockage.detacher(premier));
+        assertFalse(stockage.detacher(premier));
+        assertNull(premier.getStockage());
+        assertEquals(5, premier.getX(), 1e-9);
+        assertEquals(6, premier.getY(), 1e-9);
+        assertEquals(3, premier.getAutonomieActuelle(), 1e-9);
+        assertEquals(EtatOperationnel.EN_PANNE, premier.getEtat());
+        assertEquals(actifs.get(1).getVitesseMax(), premier.getVitesseMax(), 1e-9);
+
+        // Detached, the asset writes its own state again
+        premier.setPosition(7, 8, 0);
+        assertEquals(7, premier.getX(), 1e-9);
+        assertEquals(39, stockage.getX(0), 1e-9); // Row 0 now belongs to the last asset
+
+        // The last row moved into the freed slot and still reads its own state
+        ActifMobile dernier = actifs.get(39);
+        assertEquals(0, dernier.getLigneStockage());
+        assertEquals(39, dernier.getX(), 1e-9);
+        assertEquals(39, stockage.taille());
+        assertEquals(39, stockage.compter(EtatOperationnel.AU_SOL));
+    }
+
+    @Test
+    public void testDeplacementIdentiqueAvecOuSansStockage() {
+        double[] sans = simuler(false);
+        double[] avec = simuler(true);
+        assertArrayEquals(sans, avec);
+    }
+
+    private static double[] simuler(boolean colonnes) {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        zone.addIsland(new ZoneOperation.Island(500, 500, 100, 100, true));
+        List<ActifMobile> flotte = List.of(
+                new DroneReconnaissance("R", new Point3D(10, 10, 50)),
+                new VehiculeSurface("S", new Point3D(300, 500, 0)),
+                new VehiculeSousMarin("M", new Point3D(700, 500, -50)),
+                new VehiculeTerrestre("T", new Point3D(480, 480, 0)));
+        StockageFlotte stockage = new StockageFlotte(flotte.size());
+        for (ActifMobile a : flotte) {
+            if (colonnes) {
+                stockage.attacher(a);
+            }
+            zone.addCollidable(a);
+        }
+        Point3D[] cibles = { new Point3D(900, 900, 50), new Point3D(800, 500, 0),
+                new Point3D(200, 500, -50), new Point3D(540, 540, 0) };
+        for (int t = 0; t < 40; t++) {
+            for (int i = 0; i < flotte.size(); i++) {
+                flotte.get(i).deplacer(cibles[i], zone);
+            }
+        }
+        double[] etat = new double[flotte.size() * 4];
+        for (int i = 0; i < flotte.size(); i++) {
+            etat[i * 4] = flotte.get(i).getX();
+            etat[i * 4 + 1] = flotte.get(i).getY();
+            etat[i * 4 + 2] = flotte.get(i).getAutonomieActuelle();
+            etat[i * 4 + 3] = flotte.get(i).getEtat().ordinal();
+        }
+        return etat;
+    }
+
+    @Test
+    public void testTailleDesColonnes() {
+        int n = 1_000;
+        StockageFlotte stockage = new StockageFlotte(n);
+        for (int i = 0; i < n; i++) {
+            stockage.attacher(new DroneReconnaissance("D" + i, new Point3D(i, 0, 50)));
+        }
+        assertEquals(n, stockage.taille());
+        assertEquals((long) n * StockageFlotte.getOctetsParLigne(), stockage.getTailleOctets());
+        assertEquals(n, stockage.compter(EtatOperationnel.AU_SOL));
+    }
+}
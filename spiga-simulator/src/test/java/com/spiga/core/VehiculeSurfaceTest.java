@@ -26,4 +26,32 @@ public class VehiculeSurfaceTest {
         assertTrue(ship.getPosition().getY() > 500);
         assertEquals(0, ship.getPosition().getZ(), 0.1);
     }
+
+    @Test
+    public void testTrajetLisseSansArretAuxWaypoints() {
+        int lisse = ticksJusquA(new Point3D(980, 700, 0), true);
+        int brut = ticksJusquA(new Point3D(980, 700, 0), false);
+        assertTrue(lisse > 0 && brut > 0, "Target not reached");
+        assertTrue(lisse < brut, "Smoothed route took " + lisse + " ticks, raw route " + brut);
+    }
+
+    /**
+     * Sails around the islands from the west edge.
+     *
+     * @return The ticks needed to reach the target, or -1.
+     */
+    private int ticksJusquA(Point3D target, boolean lissage) {
+        ZoneOperation z = new ZoneOperation(new Point3D(0, 0, 0), new Point3D(1000, 1000, 1000));
+        z.setLissageChemins(lissage);
+        VehiculeSurface s = new VehiculeSurface("S2", new Point3D(20, 300, 0));
+        s.setTarget(target);
+        for (int tick = 1; tick <= 2000; tick++) {
+            s.deplacer(target, z);
+            assertFalse(z.isLand(s.getPosition()), "Ship ran aground at " + s.getPosition());
+            if (s.getPosition().distance(target) < 15) {
+                return tick;
+            }
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,103 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSurface;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheCheminsTest {
+
+    private ZoneOperation zone;
+
+    @BeforeEach
+    public void setUp() {
+        zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+    }
+
+    @Test
+    public void testEvictionLRU() {
+        CacheChemins cache = new CacheChemins(2);
+        List<Point3D> a = List.of(new Point3D(1, 1, 0));
+        List<Point3D> b = List.of(new Point3D(2, 2, 0));
+        List<Point3D> c = List.of(new Point3D(3, 3, 0));
+        cache.stocker(1L, a);
+        cache.stocker(2L, b);
+        assertSame(a, cache.obtenir(1L)); // 1 becomes most recently used
+        cache.stocker(3L, c);
+
+        assertEquals(2, cache.taille());
+        assertNull(cache.obtenir(2L));
+        assertSame(a, cache.obtenir(1L));
+        assertSame(c, cache.obtenir(3L));
+        assertEquals(3, cache.getSucces());
+        assertEquals(1, cache.getEchecs());
+
+        cache.setCapacite(1);
+        assertEquals(1, cache.taille());
+        assertSame(c, cache.obtenir(3L));
+    }
+
+    @Test
+    public void testCleDistingueLeMilieu() {
+        assertNotEquals(CacheChemins.cle(10, 20, true), CacheChemins.cle(10, 20, false));
+        assertNotEquals(CacheChemins.cle(10, 20, true), CacheChemins.cle(20, 10, true));
+        assertNotEquals(CacheChemins.cle(10, 20, true), CacheChemins.cle(10, 20, true, ModeRecherche.JPS));
+        assertNotEquals(CacheChemins.cle(10, 20, false, ModeRecherche.JPS), CacheChemins.cle(10, 20, true, ModeRecherche.JPS));
+    }
+
+    @Test
+    public void testCheminPartageEntreRequetes() {
+        List<Point3D> premier = zone.findPath(new Point3D(100, 100, 0), new Point3D(500, 500, 0), true);
+        // Same cells, different positions inside them
+        List<Point3D> second = zone.findPath(new Point3D(105, 102, 0), new Point3D(510, 515, 0), true);
+
+        assertSame(premier, second);
+        assertEquals(1, zone.getCacheChemins().getSucces());
+        assertThrows(UnsupportedOperationException.class, () -> premier.remove(0));
+    }
+
+    @Test
+    public void testInvalidationSurChangementDeGeometrie() {
+        List<Point3D> avant = zone.findPath(new Point3D(100, 100, 0), new Point3D(500, 500, 0), true);
+        zone.addObstacle(new Obstacle(new Point3D(900, 900, 0), 5));
+        assertEquals(0, zone.getCacheChemins().taille());
+
+        List<Point3D> apres = zone.findPath(new Point3D(100, 100, 0), new Point3D(500, 500, 0), true);
+        assertNotSame(avant, apres);
+        zone.addIsland(new ZoneOperation.Island(900, 100, 50, 50, true));
+        assertEquals(0, zone.getCacheChemins().taille());
+    }
+
+    @Test
+    public void testDestinationInaccessibleMemorisee() {
+        Point3D end = new Point3D(700, 700, 0);
+        List<Point3D> path = zone.findPath(new Point3D(300, 300, 0), end, false);
+        assertEquals(List.of(end), path);
+        // The unreachable marker is cached but the fallback uses the exact target
+        Point3D autreEnd = new Point3D(705, 705, 0);
+        assertEquals(List.of(autreEnd), zone.findPath(new Point3D(300, 300, 0), autreEnd, false));
+        assertEquals(1, zone.getCacheChemins().getSucces());
+    }
+
+    @Test
+    public void testConsommationIndependanteParActif() {
+        VehiculeSurface s1 = new VehiculeSurface("S1", new Point3D(100, 100, 0));
+        VehiculeSurface s2 = new VehiculeSurface("S2", new Point3D(100, 100, 0));
+        List<Point3D> path = zone.findPath(s1.getPosition(), new Point3D(500, 500, 0), true);
+        s1.setCurrentPath(path);
+        s2.setCurrentPath(path);
+
+        s1.avancerWaypoint();
+        s1.avancerWaypoint();
+        assertEquals(path.size() - 2, s1.getCurrentPath().size());
+        assertEquals(path.size(), s2.getCurrentPath().size());
+        // The packed path is shared, each asset reads it at its own cursor
+        assertSame(path, Trajet.de(path));
+        assertEquals(path.get(0).getX(), s2.getProchainWaypoint().getX());
+        assertEquals(path.get(0).getY(), s2.getProchainWaypoint().getY());
+        assertEquals(path.get(2).getX(), s1.getProchainWaypoint().getX());
+        assertEquals(path.get(2).getY(), s1.getProchainWaypoint().getY());
+    }
+}
@@ -0,0 +1,88 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CarteTerrainTest {
+
+    private ZoneOperation zone;
+
+    @BeforeEach
+    public void setUp() {
+        zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+    }
+
+    @Test
+    public void testRasterConformeALaGeometrie() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            double x = random.nextDouble() * 1100 - 50;
+            double y = random.nextDouble() * 1100 - 50;
+            assertEquals(zone.isLandExact(x, y), zone.isLand(x, y), "Mismatch at " + x + ", " + y);
+        }
+    }
+
+    @Test
+    public void testPointsSurLeLittoral() {
+        // Exactly on the circle and rectangle boundaries (closed shapes)
+        assertTrue(zone.isLand(450, 300));
+        assertTrue(zone.isLand(300, 150));
+        assertTrue(zone.isLand(600, 550));
+        assertTrue(zone.isLand(800, 850));
+        assertFalse(zone.isLand(450.01, 300));
+        assertFalse(zone.isLand(599.99, 700));
+    }
+
+    @Test
+    public void testLaPlupartDesCellulesSontDecidees() {
+        CarteTerrain carte = zone.getCarteTerrain();
+        int inconnues = 0;
+        for (int cy = 0; cy < carte.getHauteur(); cy++) {
+            for (int cx = 0; cx < carte.getLargeur(); cx++) {
+                double x = (cx + 0.5) * carte.getResolution();
+                double y = (cy + 0.5) * carte.getResolution();
+                if (carte.classer(x, y) == CarteTerrain.INCONNU) {
+                    inconnues++;
+                }
+            }
+        }
+        int total = carte.getLargeur() * carte.getHauteur();
+        assertTrue(inconnues < total / 20, "Too many coastal cells: " + inconnues + " / " + total);
+        assertTrue(carte.getTailleOctets() < 16 * 1024);
+    }
+
+    @Test
+    public void testReconstructionApresModificationDesIles() {
+        assertFalse(zone.isLand(100, 100));
+        CarteTerrain avant = zone.getCarteTerrain();
+
+        ZoneOperation.Island ile = new ZoneOperation.Island(100, 100, 40, 40, false);
+        zone.addIsland(ile);
+        assertNotSame(avant, zone.getCarteTerrain());
+        assertTrue(zone.isLand(100, 100));
+
+        assertTrue(zone.removeIsland(ile));
+        assertFalse(zone.isLand(100, 100));
+    }
+
+    @Test
+    public void testResolutionConfigurable() {
+        zone.setResolutionTerrain(1.0);
+        assertEquals(1.0, zone.getCarteTerrain().getResolution());
+        assertEquals(1000, zone.getCarteTerrain().getLargeur());
+        assertTrue(zone.isLand(300, 300));
+        assertThrows(IllegalArgumentException.class, () -> zone.setResolutionTerrain(0));
+    }
+
+    @Test
+    public void testIlesNonModifiablesDirectement() {
+        List<ZoneOperation.Island> iles = zone.getIslands();
+        assertEquals(2, iles.size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> iles.add(new ZoneOperation.Island(0, 0, 1, 1, true)));
+    }
+}
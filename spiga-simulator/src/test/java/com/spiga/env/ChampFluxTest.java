@@ -0,0 +1,94 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChampFluxTest {
+
+    private ZoneOperation zone;
+
+    @BeforeEach
+    public void setUp() {
+        zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+    }
+
+    @Test
+    public void testUneRecherchePourTouteLaFlotte() {
+        Point3D rallye = new Point3D(50, 950, 0);
+        assertTrue(zone.preparerChampFlux(rallye, true));
+        CacheChampsFlux cache = zone.getCacheChampsFlux();
+        long succes = cache.getSucces();
+        // Same islands, no field: every route is searched
+        ZoneOperation temoin = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        // Compares step counts
+        zone.setLissageChemins(false);
+        temoin.setLissageChemins(false);
+
+        Random random = new Random(3);
+        int servis = 0;
+        for (int i = 0; i < 1000; i++) {
+            Point3D depart = new Point3D(random.nextDouble() * 1000, random.nextDouble() * 1000, 0);
+            if (zone.isLand(depart)) {
+                continue;
+            }
+            List<Point3D> chemin = zone.findPath(depart, rallye, true);
+            servis++;
+            // Shortest in steps, like a search of its own
+            List<Point3D> reference = temoin.findPath(depart, rallye, true, ModeRecherche.JPS);
+            assertEquals(reference.size(), chemin.size(), "Field route is not a shortest path from " + depart);
+            // The start cell centre may be on the coast, the rest must be at sea
+            for (Point3D p : chemin.subList(1, chemin.size())) {
+                assertFalse(zone.isLand(p), "Sea route crosses land at " + p);
+            }
+        }
+        assertTrue(servis > 500);
+        assertEquals(1, cache.getConstructions());
+        assertEquals(servis, cache.getSucces() - succes);
+    }
+
+    @Test
+    public void testDepartBloque() {
+        boolean[] bloque = new boolean[100];
+        for (int y = 0; y < 9; y++) {
+            bloque[y * 10 + 5] = true;
+        }
+        GrillePassage grille = new GrillePassage(10, 10, c -> !bloque[c]);
+        ChampFlux champ = new ChampFlux(grille, 9);
+        // Around the wall through its gap on the last row
+        int[] chemin = champ.chemin(0);
+        assertEquals(0, chemin[0]);
+        assertEquals(9, chemin[chemin.length - 1]);
+        assertEquals(champ.distance(0) + 1, chemin.length);
+        // A start on the wall steps off it first
+        int[] depuisLeMur = champ.chemin(5);
+        assertNotNull(depuisLeMur);
+        assertFalse(bloque[depuisLeMur[1]]);
+        // A blocked goal is reached by nobody
+        assertNull(new ChampFlux(grille, 15).chemin(0));
+    }
+
+    @Test
+    public void testEvictionEtInvalidation() {
+        CacheChampsFlux cache = zone.getCacheChampsFlux();
+        cache.setCapacite(2);
+        zone.preparerChampFlux(new Point3D(50, 50, 0), true);
+        zone.preparerChampFlux(new Point3D(950, 50, 0), true);
+        zone.preparerChampFlux(new Point3D(50, 950, 0), true);
+        assertEquals(2, cache.taille());
+        assertEquals(3, cache.getConstructions());
+
+        zone.addIsland(new ZoneOperation.Island(500, 100, 40, 40, true));
+        assertEquals(0, cache.taille());
+        assertThrows(IllegalArgumentException.class, () -> cache.setCapacite(0));
+    }
+
+    @Test
+    public void testCibleHorsGrille() {
+        assertFalse(zone.preparerChampFlux(new Point3D(5000, 5000, 0), true));
+        assertEquals(0, zone.getCacheChampsFlux().taille());
+    }
+}
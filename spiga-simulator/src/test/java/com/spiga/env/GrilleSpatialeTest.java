@@ -0,0 +1,163 @@
+package com.spiga.env;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GrilleSpatialeTest {
+
+    @Test
+    public void testInsertionDeplacementRetrait() {
+        GrilleSpatiale<String> grille = new GrilleSpatiale<>(10);
+        grille.inserer("A", 5, 5);
+        grille.inserer("B", 6, 6);
+        grille.inserer("C", 95, 95);
+        assertEquals(3, grille.taille());
+
+        assertTrue(grille.chercher(0, 0, 10, "B"::equals));
+        assertFalse(grille.chercher(0, 0, 10, "C"::equals));
+
+        grille.deplacer("C", 4, 4);
+        assertTrue(grille.chercher(0, 0, 10, "C"::equals));
+
+        assertTrue(grille.retirer("A"));
+        assertFalse(grille.retirer("A"));
+        assertFalse(grille.chercher(0, 0, 10, "A"::equals));
+        // Swap-remove must keep the remaining elements reachable
+        assertTrue(grille.chercher(0, 0, 10, "B"::equals));
+        assertTrue(grille.chercher(0, 0, 10, "C"::equals));
+        assertEquals(2, grille.taille());
+    }
+
+    @Test
+    public void testCoordonneesNegatives() {
+        GrilleSpatiale<String> grille = new GrilleSpatiale<>(10);
+        grille.inserer("N", -3, -3);
+        assertTrue(grille.chercher(1, 1, 5, "N"::equals));
+        assertFalse(grille.chercher(50, 50, 5, "N"::equals));
+    }
+
+    @Test
+    public void testRedimensionnement() {
+        GrilleSpatiale<String> grille = new GrilleSpatiale<>(10);
+        grille.inserer("A", 45, 45);
+        grille.redimensionner(100);
+        assertEquals(100, grille.getTailleCellule());
+        assertTrue(grille.chercher(0, 0, 1, "A"::equals));
+    }
+
+    @Test
+    public void testSuiviDesDeplacements() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, 0), new Point3D(1000, 1000, 1000));
+        ActifMobile drone = new DroneReconnaissance("D1", new Point3D(100, 100, 50));
+        zone.addCollidable(drone);
+
+        assertTrue(zone.isCollision(new Point3D(105, 100, 50)));
+        drone.setPosition(new Point3D(800, 800, 50));
+        assertFalse(zone.isCollision(new Point3D(105, 100, 50)));
+        assertTrue(zone.isCollision(new Point3D(805, 800, 50)));
+
+        // A larger radius must still be found from neighbouring cells
+        drone.setRadius(60);
+        assertTrue(zone.isCollision(new Point3D(860, 800, 50)));
+
+        zone.removeCollidable(drone);
+        assertFalse(zone.isCollision(new Point3D(800, 800, 50)));
+        drone.setPosition(new Point3D(100, 100, 50));
+        assertFalse(zone.isCollision(new Point3D(100, 100, 50)));
+    }
+
+    @Test
+    public void testCandidatsParRequeteIndependantsDeLaTaille() {
+        // Fleets of constant density: a scan would compare each query with
+        // every element, the grid only with its neighbourhood
+        double candidatsPetite = candidatsParRequete(100);
+        double candidatsGrande = candidatsParRequete(50_000);
+        assertTrue(candidatsPetite <= 9, "candidates=" + candidatsPetite);
+        assertTrue(candidatsGrande <= 9, "candidates=" + candidatsGrande);
+        assertTrue(candidatsGrande <= candidatsPetite * 1.5,
+                "Per-query work should not grow with the fleet: " + candidatsPetite + " -> " + candidatsGrande);
+    }
+
+    /**
+     * Places n elements on a square lattice of spacing 20 and returns the mean
+     * number of elements the grid hands to the predicate for a collision-sized
+     * query around each of them.
+     */
+    private double candidatsParRequete(int n) {
+        int cote = (int) Math.ceil(Math.sqrt(n));
+        double espacement = 20;
+        GrilleSpatiale<Integer> grille = new GrilleSpatiale<>(espacement);
+        double[][] positions = new double[n][];
+        for (int i = 0; i < n; i++) {
+            positions[i] = new double[] { 50 + (i % cote) * espacement + 1, 50 + (i / cote) * espacement + 1 };
+            grille.inserer(i, positions[i][0], positions[i][1]);
+        }
+        long[] candidats = new long[1];
+        for (double[] p : positions) {
+            grille.chercher(p[0], p[1], espacement / 2, e -> {
+                candidats[0]++;
+                return false;
+            });
+        }
+        return (double) candidats[0] / n;
+    }
+
+    @Test
+    public void testPlusProchesCommeUnParcoursComplet() {
+        GrilleSpatiale<double[]> grille = new GrilleSpatiale<>(25);
+        List<double[]> points = new ArrayList<>();
+        Random rnd = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            double[] p = { rnd.nextDouble() * 1000 - 200, rnd.nextDouble() * 1000 - 200, i % 3 };
+            points.add(p);
+            grille.inserer(p, p[0], p[1]);
+        }
+        for (int q = 0; q < 50; q++) {
+            double x = rnd.nextDouble() * 1400 - 400;
+            double y = rnd.nextDouble() * 1400 - 400;
+            int k = 1 + rnd.nextInt(20);
+            Comparator<double[]> parDistance = Comparator.comparingDouble(p -> (p[0] - x) * (p[0] - x)
+                    + (p[1] - y) * (p[1] - y));
+            List<double[]> attendus = points.stream().filter(p -> p[2] == 0).sorted(parDistance).limit(k)
+                    .toList();
+            assertEquals(attendus, grille.plusProches(x, y, k, Double.POSITIVE_INFINITY, p -> p[2] == 0));
+        }
+    }
+
+    @Test
+    public void testPlusProchesLimites() {
+        GrilleSpatiale<String> grille = new GrilleSpatiale<>(10);
+        assertTrue(grille.plusProches(0, 0, 3, Double.POSITIVE_INFINITY, s -> true).isEmpty());
+        grille.inserer("A", 0, 0);
+        grille.inserer("B", 30, 0);
+        grille.inserer("C", 500, 500);
+
+        // Fewer matches than k: everything, nearest first
+        assertEquals(List.of("B", "A", "C"), grille.plusProches(40, 0, 10, Double.POSITIVE_INFINITY, s -> true));
+        assertEquals(List.of("B", "A"), grille.plusProches(40, 0, 10, 50, s -> true));
+        assertTrue(grille.plusProches(40, 0, 0, 50, s -> true).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> grille.plusProches(0, 0, -1, 1, s -> true));
+
+        grille.deplacer("C", 35, 0);
+        assertEquals(List.of("C"), grille.plusProches(40, 0, 1, Double.POSITIVE_INFINITY, s -> true));
+    }
+
+    @Test
+    public void testDansRayon() {
+        GrilleSpatiale<String> grille = new GrilleSpatiale<>(10);
+        grille.inserer("A", 0, 0);
+        grille.inserer("B", 7, 7);
+        grille.inserer("C", 11, 0);
+        List<String> resultat = grille.dansRayon(0, 0, 10, s -> true);
+        assertEquals(2, resultat.size());
+        assertTrue(resultat.containsAll(List.of("A", "B")));
+        assertEquals(List.of("B"), grille.dansRayon(0, 0, 10, "B"::equals));
+    }
+}
@@ -0,0 +1,110 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItineraireIncrementalTest {
+
+    private ZoneOperation zone;
+    private final Point3D depart = new Point3D(20, 300, 0);
+    private final Point3D cible = new Point3D(980, 700, 0);
+
+    @BeforeEach
+    public void setUp() {
+        zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+    }
+
+    private void verifierEnMer(List<Point3D> chemin) {
+        assertEquals(zone.celluleArrivee(cible), zone.celluleArrivee(chemin.get(chemin.size() - 1)));
+        for (Point3D p : chemin.subList(1, chemin.size())) {
+            assertFalse(zone.isLand(p), "Sea route crosses land at " + p);
+        }
+    }
+
+    @Test
+    public void testCheminNonTouche() {
+        ItineraireIncremental itineraire = new ItineraireIncremental(zone, cible, true);
+        List<Point3D> chemin = itineraire.chemin(depart);
+        assertFalse(itineraire.estPerime());
+
+        // Far from the route
+        zone.addIsland(new ZoneOperation.Island(900, 80, 40, 40, true));
+        assertTrue(itineraire.estPerime());
+        assertNull(itineraire.reparer(depart, chemin));
+        assertFalse(itineraire.estPerime());
+        assertEquals(0, itineraire.getReparations());
+    }
+
+    @Test
+    public void testReparationsSuccessives() {
+        zone.setLissageChemins(false); // Compares step counts
+        ItineraireIncremental itineraire = new ItineraireIncremental(zone, cible, true);
+        List<Point3D> chemin = itineraire.chemin(depart);
+
+        for (int obstacle = 0; obstacle < 3; obstacle++) {
+            // Drop an island on the middle of the remaining route
+            Point3D milieu = chemin.get(chemin.size() / 2);
+            zone.addIsland(new ZoneOperation.Island(milieu.getX(), milieu.getY(), 60, 60, true));
+            List<Point3D> repare = itineraire.reparer(depart, chemin);
+            assertNotNull(repare, "Route crosses the new island and must be repaired");
+            verifierEnMer(repare);
+            // As short as a fresh search on the new geometry
+            assertEquals(zone.findPath(depart, cible, true, ModeRecherche.JPS).size(), repare.size());
+            chemin = repare;
+        }
+        assertEquals(3, itineraire.getReparations());
+        assertTrue(itineraire.getExpansions() > 0);
+    }
+
+    @Test
+    public void testFlotteSansTempeteDeReplanification() {
+        Random random = new Random(5);
+        List<ItineraireIncremental> itineraires = new ArrayList<>();
+        List<Point3D> departs = new ArrayList<>();
+        List<List<Point3D>> chemins = new ArrayList<>();
+        while (itineraires.size() < 200) {
+            Point3D p = new Point3D(random.nextDouble() * 1000, random.nextDouble() * 1000, 0);
+            if (zone.isLand(p)) {
+                continue;
+            }
+            ItineraireIncremental itineraire = new ItineraireIncremental(zone, cible, true);
+            departs.add(p);
+            chemins.add(itineraire.chemin(p));
+            itineraires.add(itineraire);
+        }
+
+        zone.addIsland(new ZoneOperation.Island(850, 650, 30, 30, true));
+        int replanifies = 0;
+        for (int i = 0; i < itineraires.size(); i++) {
+            List<Point3D> repare = itineraires.get(i).reparer(departs.get(i), chemins.get(i));
+            if (repare != null) {
+                replanifies++;
+                verifierEnMer(repare);
+            } else {
+                for (Point3D p : chemins.get(i).subList(1, chemins.get(i).size())) {
+                    assertFalse(zone.isLand(p), "Kept route crosses the new island at " + p);
+                }
+            }
+        }
+        assertTrue(replanifies > 0 && replanifies < itineraires.size(),
+                replanifies + " of " + itineraires.size() + " routes replanned");
+    }
+
+    @Test
+    public void testJournalDepasse() {
+        ItineraireIncremental itineraire = new ItineraireIncremental(zone, cible, true);
+        List<Point3D> chemin = itineraire.chemin(depart);
+        for (int i = 0; i < 70; i++) {
+            zone.addObstacle(new Obstacle(new Point3D(10, 10, 0), 1));
+        }
+        // Too old to replay: planned again from scratch
+        List<Point3D> nouveau = itineraire.reparer(depart, chemin);
+        assertEquals(chemin.size(), nouveau.size());
+        assertEquals(1, itineraire.getReparations());
+    }
+}
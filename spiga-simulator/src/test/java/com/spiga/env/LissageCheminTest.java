@@ -0,0 +1,114 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LissageCheminTest {
+
+    private static final int COTE = 120;
+
+    @Test
+    public void testEscalierEnMerOuverte() {
+        // A staircase of 60 steps in open water collapses to its two ends
+        int[] escalier = new int[61];
+        for (int i = 0; i <= 60; i++) {
+            escalier[i] = (i / 2) * COTE + (i + 1) / 2;
+        }
+        assertArrayEquals(new int[] { escalier[0], escalier[60] }, LissageChemin.lisser(escalier, COTE, c -> true));
+    }
+
+    @Test
+    public void testLigneDeVue() {
+        boolean[] bloque = new boolean[COTE * COTE];
+        bloque[5 * COTE + 5] = true;
+        assertFalse(LissageChemin.visible(0, 10 * COTE + 10, COTE, c -> !bloque[c]));
+        assertEquals(!touche(0, 0, 9, 10, 5, 5), LissageChemin.visible(0, 10 * COTE + 9, COTE, c -> !bloque[c]));
+        // Exactly through a corner: both cells beside it must be free
+        bloque[5 * COTE + 5] = false;
+        bloque[1 * COTE + 0] = true;
+        assertFalse(LissageChemin.visible(0, 2 * COTE + 2, COTE, c -> !bloque[c]));
+        // The first cell is never tested
+        assertTrue(LissageChemin.visible(1 * COTE, 1 * COTE + 8, COTE, c -> !bloque[c]));
+    }
+
+    /** Brute force: does the segment between two cell centres cross a cell? */
+    private static boolean touche(int x0, int y0, int x1, int y1, int cx, int cy) {
+        for (int i = 0; i <= 10000; i++) {
+            double t = i / 10000.0;
+            double x = x0 + 0.5 + (x1 - x0) * t;
+            double y = y0 + 0.5 + (y1 - y0) * t;
+            if (Math.floor(x) == cx && Math.floor(y) == cy) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testCheminsLissesValides() {
+        Random random = new Random(13);
+        PlanificateurAStar astar = new PlanificateurAStar(COTE, COTE);
+        for (int carte = 0; carte < 5; carte++) {
+            boolean[] bloque = new boolean[COTE * COTE];
+            for (int b = 0; b < 40; b++) {
+                int cx = random.nextInt(COTE);
+                int cy = random.nextInt(COTE);
+                int r = 2 + random.nextInt(6);
+                for (int y = Math.max(0, cy - r); y < Math.min(COTE, cy + r); y++) {
+                    for (int x = Math.max(0, cx - r); x < Math.min(COTE, cx + r); x++) {
+                        bloque[y * COTE + x] = true;
+                    }
+                }
+            }
+            for (int requete = 0; requete < 40; requete++) {
+                int depart = random.nextInt(bloque.length);
+                int arrivee = random.nextInt(bloque.length);
+                int[] chemin = astar.chercher(depart, arrivee, c -> !bloque[c]);
+                if (chemin == null) {
+                    continue;
+                }
+                int[] lisse = LissageChemin.lisser(chemin, COTE, c -> !bloque[c]);
+                assertEquals(depart, lisse[0]);
+                assertEquals(arrivee, lisse[lisse.length - 1]);
+                assertTrue(lisse.length <= chemin.length);
+                for (int i = 1; i < lisse.length; i++) {
+                    int a = lisse[i - 1];
+                    int b = lisse[i];
+                    // Adjacent steps of the grid path are kept as they are
+                    boolean voisins = Math.abs(a % COTE - b % COTE) <= 1 && Math.abs(a / COTE - b / COTE) <= 1;
+                    assertTrue(voisins || LissageChemin.visible(a, b, COTE, c -> !bloque[c]),
+                            "Segment " + a + " -> " + b + " crosses a blocked cell");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCheminsDeLaZone() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        Point3D depart = new Point3D(20, 300, 0);
+        Point3D arrivee = new Point3D(980, 700, 0);
+        List<Point3D> lisse = zone.findPath(depart, arrivee, true);
+        zone.setLissageChemins(false);
+        List<Point3D> brut = zone.findPath(depart, arrivee, true);
+        assertTrue(lisse.size() * 5 < brut.size(), lisse.size() + " waypoints, " + brut.size() + " unsmoothed");
+        assertEquals(brut.get(brut.size() - 1).getX(), lisse.get(lisse.size() - 1).getX());
+        assertEquals(brut.get(brut.size() - 1).getY(), lisse.get(lisse.size() - 1).getY());
+        // Sampled along every segment, the route stays in cells whose centre is at sea
+        Point3D precedent = brut.get(0);
+        for (Point3D p : lisse) {
+            for (int i = 0; i <= 50; i++) {
+                double t = i / 50.0;
+                double x = precedent.getX() + (p.getX() - precedent.getX()) * t;
+                double y = precedent.getY() + (p.getY() - precedent.getY()) * t;
+                double cx = Math.floor(x / 20) * 20 + 10;
+                double cy = Math.floor(y / 20) * 20 + 10;
+                assertFalse(zone.isLand(cx, cy), "Smoothed route crosses land near " + x + ", " + y);
+            }
+            precedent = p;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlanificateurAStarTest {
+
+    private ZoneOperation zone;
+
+    @BeforeEach
+    public void setUp() {
+        zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        zone.setLissageChemins(false); // Compares raw cell paths
+    }
+
+    @Test
+    public void testMemesCheminsQueLaReference() {
+        Random random = new Random(42);
+        for (int i = 0; i < 400; i++) {
+            boolean marine = random.nextBoolean();
+            Point3D start = pointAleatoire(random, marine);
+            Point3D end = pointAleatoire(random, marine);
+            List<Point3D> attendu = AStarReference.findPath(zone, start, end, marine);
+            List<Point3D> obtenu = zone.findPath(start, end, marine);
+            assertEquals(coordonnees(attendu), coordonnees(obtenu),
+                    "Path differs for " + start + " -> " + end + " marine=" + marine);
+        }
+    }
+
+    @Test
+    public void testDestinationInaccessible() {
+        // Island 2 is not connected to island 1 by land
+        Point3D start = new Point3D(300, 300, 0);
+        Point3D end = new Point3D(700, 700, 0);
+        List<Point3D> path = zone.findPath(start, end, false);
+        assertEquals(1, path.size());
+        assertSame(end, path.get(0));
+    }
+
+    @Test
+    public void testReutilisationEntreRequetes() {
+        PlanificateurAStar astar = new PlanificateurAStar(10, 10);
+        int[] premier = astar.chercher(0, 99, c -> true);
+        assertNotNull(premier);
+        assertEquals(10, premier.length);
+        // A wall on column 5 except the last row forces a detour on the next query
+        int[] second = astar.chercher(0, 9, c -> c % 10 != 5 || c / 10 == 9);
+        assertNotNull(second);
+        assertEquals(9, second[second.length - 1]);
+        for (int c : second) {
+            assertTrue(c % 10 != 5 || c / 10 == 9);
+        }
+        assertNull(astar.chercher(0, 9, c -> c % 10 != 5));
+    }
+
+    @Test
+    public void testSautsOptimaux() {
+        Random random = new Random(9);
+        int cote = 150;
+        PlanificateurAStar astar = new PlanificateurAStar(cote, cote);
+        for (int carte = 0; carte < 10; carte++) {
+            // From open water to a maze, rows wider than a 64-bit word
+            double densite = 0.05 + 0.03 * carte;
+            boolean[] bloque = new boolean[cote * cote];
+            for (int c = 0; c < bloque.length; c++) {
+                bloque[c] = random.nextDouble() < densite;
+            }
+            GrillePassage grille = new GrillePassage(cote, cote, c -> !bloque[c]);
+            for (int requete = 0; requete < 40; requete++) {
+                int depart = random.nextInt(bloque.length);
+                int arrivee = random.nextInt(bloque.length);
+                int optimum = distanceOptimale(bloque, cote, depart, arrivee);
+                int[] sauts = astar.chercherParSauts(depart, arrivee, grille);
+                int[] classique = astar.chercher(depart, arrivee, c -> !bloque[c]);
+                assertEquals(optimum < 0, sauts == null);
+                assertEquals(classique == null, sauts == null);
+                if (sauts == null) {
+                    continue;
+                }
+                assertEquals(optimum + 1, sauts.length, "JPS path is not optimal");
+                assertTrue(sauts.length <= classique.length);
+                assertEquals(depart, sauts[0]);
+                assertEquals(arrivee, sauts[sauts.length - 1]);
+                for (int i = 1; i < sauts.length; i++) {
+                    assertFalse(bloque[sauts[i]]);
+                    int dx = Math.abs(sauts[i] % cote - sauts[i - 1] % cote);
+                    int dy = Math.abs(sauts[i] / cote - sauts[i - 1] / cote);
+                    assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testModeRechercheDeLaZone() {
+        Point3D start = new Point3D(20, 300, 0);
+        Point3D end = new Point3D(980, 700, 0);
+        List<Point3D> classique = zone.findPath(start, end, true);
+        List<Point3D> sauts = zone.findPath(start, end, true, ModeRecherche.JPS);
+        assertTrue(sauts.size() <= classique.size());
+        for (Point3D p : sauts) {
+            assertFalse(zone.isLand(p));
+        }
+        zone.setModeRecherche(ModeRecherche.JPS);
+        assertSame(sauts, zone.findPath(start, end, true));
+        assertThrows(IllegalArgumentException.class, () -> zone.setModeRecherche(null));
+    }
+
+    /** Breadth-first distance in steps, or -1 if unreachable. */
+    static int distanceOptimale(boolean[] bloque, int cote, int depart, int arrivee) {
+        int[] distance = new int[bloque.length];
+        java.util.Arrays.fill(distance, -1);
+        java.util.ArrayDeque<Integer> file = new java.util.ArrayDeque<>();
+        distance[depart] = 0;
+        file.add(depart);
+        while (!file.isEmpty()) {
+            int c = file.poll();
+            if (c == arrivee) {
+                return distance[c];
+            }
+            for (int i = 0; i < 8; i++) {
+                int nx = c % cote + PlanificateurAStar.DX[i];
+                int ny = c / cote + PlanificateurAStar.DY[i];
+                int v = ny * cote + nx;
+                if (nx >= 0 && nx < cote && ny >= 0 && ny < cote && distance[v] < 0 && !bloque[v]) {
+                    distance[v] = distance[c] + 1;
+                    file.add(v);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private Point3D pointAleatoire(Random random, boolean marine) {
+        while (true) {
+            Point3D p = new Point3D(random.nextDouble() * 1000, random.nextDouble() * 1000, 0);
+            if (zone.isLand(p) != marine) {
+                return p;
+            }
+        }
+    }
+
+    private static List<String> coordonnees(List<Point3D> path) {
+        List<String> res = new ArrayList<>();
+        for (Point3D p : path) {
+            res.add(p.getX() + "," + p.getY());
+        }
+        return res;
+    }
+
+    /**
+     * The original object-based A*, kept as an oracle for the indexed engine.
+     */
+    private static class AStarReference {
+        static List<Point3D> findPath(ZoneOperation zone, Point3D start, Point3D end, boolean isMarine) {
+            Node startNode = new Node((int) (start.getX() / 20), (int) (start.getY() / 20));
+            Node endNode = new Node((int) (end.getX() / 20), (int) (end.getY() / 20));
+
+            java.util.PriorityQueue<Node> openSet = new java.util.PriorityQueue<>(
+                    java.util.Comparator.comparingDouble(n -> n.f));
+            java.util.Set<String> closedSet = new java.util.HashSet<>();
+            java.util.Map<String, Node> allNodes = new java.util.HashMap<>();
+
+            startNode.g = 0;
+            startNode.h = heuristic(startNode, endNode);
+            startNode.f = startNode.g + startNode.h;
+            openSet.add(startNode);
+            allNodes.put(startNode.key(), startNode);
+
+            while (!openSet.isEmpty()) {
+                Node current = openSet.poll();
+                if (current.key().equals(endNode.key())) {
+                    List<Point3D> path = new ArrayList<>();
+                    while (current != null) {
+                        path.add(0, new Point3D(current.x * 20 + 10, current.y * 20 + 10, 0));
+                        current = current.parent;
+                    }
+                    return path;
+                }
+                closedSet.add(current.key());
+                for (Node neighbor : getNeighbors(current)) {
+                    if (closedSet.contains(neighbor.key()))
+                        continue;
+                    boolean land = zone.isLand(new Point3D(neighbor.x * 20 + 10, neighbor.y * 20 + 10, 0));
+                    if (isMarine && land)
+                        continue;
+                    if (!isMarine && !land)
+                        continue;
+                    double tentativeG = current.g + 1;
+                    Node existing = allNodes.get(neighbor.key());
+                    if (existing == null || tentativeG < existing.g) {
+                        neighbor.parent = current;
+                        neighbor.g = tentativeG;
+                        neighbor.h = heuristic(neighbor, endNode);
+                        neighbor.f = neighbor.g + neighbor.h;
+                        if (existing == null) {
+                            allNodes.put(neighbor.key(), neighbor);
+                            openSet.add(neighbor);
+                        } else {
+                            openSet.remove(existing);
+                            existing.g = neighbor.g;
+                            existing.f = neighbor.f;
+                            existing.parent = current;
+                            openSet.add(existing);
+                        }
+                    }
+                }
+            }
+            List<Point3D> fallback = new ArrayList<>();
+            fallback.add(end);
+            return fallback;
+        }
+
+        private static double heuristic(Node a, Node b) {
+            return Math.sqrt(Math.pow(a.x - b.x, 2) + Math.pow(a.y - b.y, 2));
+        }
+
+        private static List<Node> getNeighbors(Node n) {
+            List<Node> neighbors = new ArrayList<>();
+            int[] dx = { 0, 0, 1, -1, 1, 1, -1, -1 };
+            int[] dy = { 1, -1, 0, 0, 1, -1, 1, -1 };
+            for (int i = 0; i < 8; i++) {
+                int nx = n.x + dx[i];
+                int ny = n.y + dy[i];
+                if (nx >= 0 && nx < 50 && ny >= 0 && ny < 50) {
+                    neighbors.add(new Node(nx, ny));
+                }
+            }
+            return neighbors;
+        }
+
+        private static class Node {
+            int x, y;
+            double g, h, f;
+            Node parent;
+
+            Node(int x, int y) {
+                this.x = x;
+                this.y = y;
+            }
+
+            String key() {
+                return x + "," + y;
+            }
+        }
+    }
+}
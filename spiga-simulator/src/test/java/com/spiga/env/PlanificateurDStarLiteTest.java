@@ -0,0 +1,100 @@
+package com.spiga.env;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlanificateurDStarLiteTest {
+
+    private static final int COTE = 100;
+
+    private static void verifierChemin(int[] chemin, int depart, int arrivee, boolean[] bloque) {
+        assertEquals(depart, chemin[0]);
+        assertEquals(arrivee, chemin[chemin.length - 1]);
+        for (int i = 1; i < chemin.length; i++) {
+            assertFalse(bloque[chemin[i]], "Path crosses a blocked cell");
+            int dx = Math.abs(chemin[i] % COTE - chemin[i - 1] % COTE);
+            int dy = Math.abs(chemin[i] / COTE - chemin[i - 1] / COTE);
+            assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0, "Steps must be 8-connected");
+        }
+    }
+
+    @Test
+    public void testReparationsOptimales() {
+        Random random = new Random(11);
+        for (int carte = 0; carte < 6; carte++) {
+            boolean[] bloque = new boolean[COTE * COTE];
+            for (int c = 0; c < bloque.length; c++) {
+                bloque[c] = random.nextDouble() < 0.1 + 0.05 * carte;
+            }
+            int arrivee = random.nextInt(bloque.length);
+            bloque[arrivee] = false;
+            PlanificateurDStarLite dstar = new PlanificateurDStarLite(COTE, COTE, arrivee);
+            int depart = random.nextInt(bloque.length);
+
+            for (int etape = 0; etape < 30; etape++) {
+                GrillePassage grille = new GrillePassage(COTE, COTE, c -> !bloque[c]);
+                int[] chemin = dstar.chercher(depart, grille);
+                int optimum = PlanificateurAStarTest.distanceOptimale(bloque, COTE, depart, arrivee);
+                assertEquals(optimum < 0, chemin == null, "Reachability differs");
+                if (chemin == null) {
+                    break;
+                }
+                assertEquals(optimum + 1, chemin.length, "Repaired path is not optimal");
+                verifierChemin(chemin, depart, arrivee, bloque);
+
+                // Move a few steps along the route, then toggle a block of cells
+                depart = chemin[Math.min(3, chemin.length - 1)];
+                int x0 = random.nextInt(COTE - 4);
+                int y0 = random.nextInt(COTE - 4);
+                boolean fermer = random.nextBoolean();
+                for (int y = y0; y < y0 + 4; y++) {
+                    for (int x = x0; x < x0 + 4; x++) {
+                        if (y * COTE + x != arrivee) {
+                            bloque[y * COTE + x] = fermer;
+                        }
+                    }
+                }
+                dstar.modifier(x0, y0, x0 + 3, y0 + 3);
+            }
+        }
+    }
+
+    @Test
+    public void testReparationLocale() {
+        // Open grid, route along row 50, then a wall dropped across it
+        boolean[] bloque = new boolean[COTE * COTE];
+        int depart = 50 * COTE + 5;
+        int arrivee = 50 * COTE + 95;
+        PlanificateurDStarLite dstar = new PlanificateurDStarLite(COTE, COTE, arrivee);
+        assertEquals(91, dstar.chercher(depart, new GrillePassage(COTE, COTE, c -> !bloque[c])).length);
+        int initiales = dstar.getExpansions();
+
+        for (int y = 45; y <= 55; y++) {
+            bloque[y * COTE + 60] = true;
+        }
+        dstar.modifier(60, 45, 60, 55);
+        int[] detour = dstar.chercher(depart, new GrillePassage(COTE, COTE, c -> !bloque[c]));
+        assertEquals(PlanificateurAStarTest.distanceOptimale(bloque, COTE, depart, arrivee) + 1, detour.length);
+        verifierChemin(detour, depart, arrivee, bloque);
+        assertTrue(dstar.getExpansions() < initiales,
+                "Repair expanded " + dstar.getExpansions() + " cells, first search " + initiales);
+
+        // A change away from the route costs almost nothing
+        bloque[5 * COTE + 5] = true;
+        dstar.modifier(5, 5, 5, 5);
+        assertEquals(detour.length, dstar.chercher(depart, new GrillePassage(COTE, COTE, c -> !bloque[c])).length);
+        assertTrue(dstar.getExpansions() < 20);
+    }
+
+    @Test
+    public void testArriveeBloquee() {
+        boolean[] bloque = new boolean[COTE * COTE];
+        bloque[COTE * 10 + 10] = true;
+        PlanificateurDStarLite dstar = new PlanificateurDStarLite(COTE, COTE, COTE * 10 + 10);
+        assertNull(dstar.chercher(0, new GrillePassage(COTE, COTE, c -> !bloque[c])));
+        bloque[COTE * 10 + 10] = false;
+        dstar.modifier(10, 10, 10, 10);
+        assertEquals(11, dstar.chercher(0, new GrillePassage(COTE, COTE, c -> !bloque[c])).length);
+    }
+}
@@ -0,0 +1,116 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlanificateurHierarchiqueTest {
+
+    private static final int COTE = 120;
+
+    /** Random blobs of blocked cells, about a quarter of the grid. */
+    private static boolean[] carteAleatoire(Random rnd) {
+        boolean[] bloque = new boolean[COTE * COTE];
+        for (int b = 0; b < 60; b++) {
+            int cx = rnd.nextInt(COTE);
+            int cy = rnd.nextInt(COTE);
+            int r = 2 + rnd.nextInt(8);
+            for (int y = Math.max(0, cy - r); y < Math.min(COTE, cy + r); y++) {
+                for (int x = Math.max(0, cx - r); x < Math.min(COTE, cx + r); x++) {
+                    bloque[y * COTE + x] = true;
+                }
+            }
+        }
+        return bloque;
+    }
+
+    private static void verifierChemin(int[] chemin, int depart, int arrivee, boolean[] bloque) {
+        assertEquals(depart, chemin[0]);
+        assertEquals(arrivee, chemin[chemin.length - 1]);
+        for (int i = 1; i < chemin.length; i++) {
+            assertFalse(bloque[chemin[i]], "Path crosses a blocked cell");
+            int dx = Math.abs(chemin[i] % COTE - chemin[i - 1] % COTE);
+            int dy = Math.abs(chemin[i] / COTE - chemin[i - 1] / COTE);
+            assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0, "Steps must be 8-connected");
+        }
+    }
+
+    @Test
+    public void testCheminsProchesDeLOptimum() {
+        Random rnd = new Random(7);
+        for (int carte = 0; carte < 5; carte++) {
+            boolean[] bloque = carteAleatoire(rnd);
+            PlanificateurHierarchique hpa = new PlanificateurHierarchique(COTE, COTE, 16, c -> !bloque[c]);
+            PlanificateurAStar astar = new PlanificateurAStar(COTE, COTE);
+            for (int requete = 0; requete < 60; requete++) {
+                int depart = rnd.nextInt(COTE * COTE);
+                int arrivee = rnd.nextInt(COTE * COTE);
+                if (bloque[depart]) {
+                    continue;
+                }
+                int[] reference = astar.chercher(depart, arrivee, c -> !bloque[c]);
+                int[] chemin = hpa.chercher(depart, arrivee);
+                assertEquals(reference == null, chemin == null, "Reachability differs");
+                if (chemin != null) {
+                    verifierChemin(chemin, depart, arrivee, bloque);
+                    assertTrue(chemin.length <= reference.length * 1.3 + 2,
+                            "Path of " + chemin.length + " cells, flat A* found " + reference.length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidationLocale() {
+        // A wall across the grid, then a gap opened in it
+        boolean[] bloque = new boolean[COTE * COTE];
+        for (int y = 0; y < COTE; y++) {
+            bloque[y * COTE + 60] = true;
+        }
+        PlanificateurHierarchique hpa = new PlanificateurHierarchique(COTE, COTE, 16, c -> !bloque[c]);
+        int depart = 10 * COTE + 10;
+        int arrivee = 10 * COTE + 110;
+        assertNull(hpa.chercher(depart, arrivee));
+
+        bloque[100 * COTE + 60] = false;
+        hpa.invalider(60, 100, 60, 100);
+        int[] chemin = hpa.chercher(depart, arrivee);
+        assertNotNull(chemin);
+        verifierChemin(chemin, depart, arrivee, bloque);
+        int preparees = hpa.getGrappesPreparees();
+
+        bloque[100 * COTE + 60] = true;
+        hpa.invalider(60, 100, 60, 100);
+        assertNull(hpa.chercher(depart, arrivee));
+        // Only the clusters around the gap were rebuilt
+        assertTrue(hpa.getGrappesPreparees() - preparees <= 9);
+    }
+
+    @Test
+    public void testGrandeZone() {
+        // 10 000 x 10 000 cells of 20 units
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(200000, 200000, 1000));
+        assertEquals(10000, zone.getLargeurGrille());
+        zone.setLissageChemins(false); // Checks the refined cell path
+        zone.addIsland(new ZoneOperation.Island(100000, 100000, 20000, 20000, true));
+
+        Point3D depart = new Point3D(1000, 1000, 0);
+        Point3D arrivee = new Point3D(199000, 199000, 0);
+        List<Point3D> chemin = zone.findPath(depart, arrivee, true);
+        assertTrue(chemin.size() > 9000, "Expected a refined route, got " + chemin.size() + " points");
+        for (Point3D p : chemin) {
+            assertFalse(zone.isLand(p), "Sea route crosses land at " + p);
+        }
+
+        // An island added on the route forces a detour
+        ZoneOperation.Island barrage = new ZoneOperation.Island(150000, 150000, 10000, 10000, true);
+        zone.addIsland(barrage);
+        List<Point3D> detour = zone.findPath(depart, arrivee, true);
+        assertNotEquals(chemin, detour);
+        for (Point3D p : detour) {
+            assertFalse(zone.isLand(p), "Sea route crosses land at " + p);
+        }
+    }
+}
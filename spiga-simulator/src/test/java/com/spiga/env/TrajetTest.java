@@ -0,0 +1,76 @@
+package com.spiga.env;
+
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSurface;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrajetTest {
+
+    @Test
+    public void testCellules() {
+        // 10-column grid of 20-unit cells from (100, 200)
+        Trajet trajet = Trajet.deCellules(new int[] { 0, 11, 25 }, 10, 100, 200, 20);
+        assertEquals(3, trajet.size());
+        assertEquals(110, trajet.getX(0));
+        assertEquals(210, trajet.getY(0));
+        assertEquals(130, trajet.getX(1));
+        assertEquals(230, trajet.getY(1));
+        assertEquals(210, trajet.get(2).getX());
+        assertEquals(250, trajet.get(2).getY());
+        assertEquals(0, trajet.getZ(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> trajet.getZ(3));
+        assertThrows(UnsupportedOperationException.class, () -> trajet.add(new Point3D(0, 0, 0)));
+    }
+
+    @Test
+    public void testPoints() {
+        List<Point3D> points = List.of(new Point3D(1, 2, 3), new Point3D(4, 5, 6));
+        Trajet trajet = Trajet.de(points);
+        assertEquals(2, trajet.size());
+        Point3D lu = new Point3D(0, 0, 0);
+        assertSame(lu, trajet.lire(1, lu));
+        assertEquals(4, lu.getX());
+        assertEquals(5, lu.getY());
+        assertEquals(6, lu.getZ());
+        assertSame(trajet, Trajet.de(trajet));
+        assertSame(Trajet.VIDE, Trajet.de(List.of()));
+    }
+
+    @Test
+    public void testCurseurParActif() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        zone.setLissageChemins(false);
+        List<Point3D> chemin = zone.findPath(new Point3D(100, 100, 0), new Point3D(500, 500, 0), true);
+        assertTrue(chemin instanceof Trajet);
+        VehiculeSurface s = new VehiculeSurface("S1", new Point3D(100, 100, 0));
+        s.setCurrentPath(chemin);
+        Point3D premier = s.getProchainWaypoint();
+        s.avancerWaypoint();
+        // Same reused point, now holding the next waypoint
+        assertSame(premier, s.getProchainWaypoint());
+        assertEquals(chemin.get(1).getX(), premier.getX());
+        assertEquals(chemin.size() - 1, s.getCurrentPath().size());
+    }
+
+    @Test
+    public void testDispositionCompacte() {
+        // A grid path holds the given int array, one int per waypoint
+        int[] cellules = new int[100];
+        Trajet trajet = Trajet.deCellules(cellules, 10, 0, 0, 20);
+        assertEquals(100, trajet.size());
+        assertEquals(400, trajet.getTailleOctets());
+        cellules[0] = 3;
+        assertEquals(70, trajet.getX(0));
+
+        // Other paths hold three doubles per waypoint
+        assertEquals(48, Trajet.de(List.of(new Point3D(1, 2, 3), new Point3D(4, 5, 6))).getTailleOctets());
+
+        // Routes found on the grid come packed as cells
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        zone.setLissageChemins(false);
+        List<Point3D> chemin = zone.findPath(new Point3D(100, 100, 0), new Point3D(500, 500, 0), true);
+        assertEquals(4L * chemin.size(), ((Trajet) chemin).getTailleOctets());
+    }
+}
@@ -62,4 +62,17 @@ public class ZoneOperationTest {
         assertTrue(zone.isCollision(new Point3D(500, 500, 50)));
         assertFalse(zone.isCollision(new Point3D(600, 600, 50)));
     }
+
+    @Test
+    public void testObstaclesChangentLaGeometrie() {
+        long version = zone.getVersionGeometrie();
+        Obstacle obs = new Obstacle(new Point3D(500, 500, 50), 10);
+        zone.addObstacle(obs);
+
+        // The rendered map is redrawn from this list when the version moves
+        assertTrue(zone.getVersionGeometrie() > version);
+        assertEquals(1, zone.getObstacles().size());
+        assertSame(obs, zone.getObstacles().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> zone.getObstacles().clear());
+    }
 }
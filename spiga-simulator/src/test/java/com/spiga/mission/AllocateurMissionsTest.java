@@ -0,0 +1,184 @@
+package com.spiga.mission;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneLogistique;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeTerrestre;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AllocateurMissionsTest {
+
+    private static Mission mission(String id, double x, double y) {
+        Mission mission = new MissionReconnaissance(id);
+        mission.setCible(new Point3D(x, y, 0));
+        return mission;
+    }
+
+    private static ActifMobile drone(String id, double x, double y) {
+        return new DroneLogistique(id, new Point3D(x, y, 0));
+    }
+
+    private static double distance(ActifMobile a, Mission m) {
+        return Math.hypot(a.getX() - m.getCible().getX(), a.getY() - m.getCible().getY());
+    }
+
+    /** Best total over every injective assignment, by brute force. */
+    private static double optimum(List<Mission> missions, List<ActifMobile> actifs, int i, boolean[] pris) {
+        if (i == missions.size()) {
+            return 0;
+        }
+        double meilleur = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < actifs.size(); j++) {
+            if (!pris[j]) {
+                pris[j] = true;
+                meilleur = Math.min(meilleur,
+                        distance(actifs.get(j), missions.get(i)) + optimum(missions, actifs, i + 1, pris));
+                pris[j] = false;
+            }
+        }
+        return meilleur;
+    }
+
+    @Test
+    public void testAffectationOptimaleSurPetitsCas() {
+        Random rnd = new Random(3);
+        AllocateurMissions allocateur = new AllocateurMissions();
+        allocateur.setCandidatsParMission(8);
+        for (int essai = 0; essai < 20; essai++) {
+            List<Mission> missions = new ArrayList<>();
+            List<ActifMobile> actifs = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                missions.add(mission("M" + i, rnd.nextDouble() * 100, rnd.nextDouble() * 100));
+            }
+            for (int j = 0; j < 8; j++) {
+                actifs.add(drone("D" + j, rnd.nextDouble() * 100, rnd.nextDouble() * 100));
+            }
+            ResultatAllocation resultat = allocateur.allouer(missions, actifs);
+            assertEquals(6, resultat.getAffectations().size());
+            assertEquals(6, resultat.getAffectations().values().stream().distinct().count());
+            assertEquals(optimum(missions, actifs, 0, new boolean[8]), resultat.getCoutTotal(), 1e-3);
+        }
+    }
+
+    @Test
+    public void testConflitResoluGlobalement() {
+        // Greedy in mission order would give D1 to M1 and send D2 far to M2
+        Mission m1 = mission("M1", 10, 0);
+        Mission m2 = mission("M2", 0, 0);
+        ActifMobile d1 = drone("D1", 5, 0);
+        ActifMobile d2 = drone("D2", 30, 0);
+        ResultatAllocation resultat = new AllocateurMissions().allouer(List.of(m1, m2), List.of(d1, d2));
+        assertSame(d2, resultat.getAffectations().get(m1));
+        assertSame(d1, resultat.getAffectations().get(m2));
+        assertEquals(25, resultat.getCoutTotal(), 1e-3);
+    }
+
+    @Test
+    public void testPenaliteNonAffectation() {
+        // Serving M0 shifts every other mission by one asset: 40 in total
+        List<Mission> missions = List.of(mission("M0", 0, 0), mission("M1", 10, 0), mission("M2", 20, 0),
+                mission("M3", 30, 0));
+        List<ActifMobile> actifs = List.of(drone("D1", 10, 0), drone("D2", 20, 0), drone("D3", 30, 0),
+                drone("D4", 40, 0));
+        AllocateurMissions allocateur = new AllocateurMissions();
+        allocateur.setCompatibilite((m, a) -> distance(a, m) <= 10.5);
+
+        // By default every mission that can be served is
+        ResultatAllocation resultat = allocateur.allouer(missions, actifs);
+        assertTrue(resultat.getNonAffectees().isEmpty());
+        assertEquals(40, resultat.getCoutTotal(), 1e-3);
+
+        allocateur.setPenaliteNonAffectation(AllocateurMissions.PENALITE_ECONOME);
+        resultat = allocateur.allouer(missions, actifs);
+        assertEquals(List.of(missions.get(0)), resultat.getNonAffectees());
+        assertEquals(0, resultat.getCoutTotal(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> allocateur.setPenaliteNonAffectation(1));
+    }
+
+    @Test
+    public void testFaisabiliteEnergetiqueEtCompatibilite() {
+        Mission loin = mission("M1", 500, 0);
+        ActifMobile faible = drone("D1", 0, 0);
+        faible.setAutonomieActuelle(2); // 500 units at speed 80: 7 steps
+        ActifMobile plein = drone("D2", 0, 10);
+        ActifMobile terrestre = new VehiculeTerrestre("C1", new Point3D(490, 0, 0));
+        AllocateurMissions allocateur = new AllocateurMissions();
+        allocateur.setCompatibilite((m, a) -> !(a instanceof VehiculeTerrestre));
+
+        ResultatAllocation resultat = allocateur.allouer(List.of(loin), List.of(faible, plein, terrestre));
+        assertSame(plein, resultat.getAffectations().get(loin));
+
+        plein.setAutonomieActuelle(0);
+        resultat = allocateur.allouer(List.of(loin, new MissionReconnaissance("Sans cible")),
+                List.of(faible, plein, terrestre));
+        assertTrue(resultat.getAffectations().isEmpty());
+        assertEquals(2, resultat.getNonAffectees().size());
+    }
+
+    @Test
+    public void testPlusDeMissionsQueDActifsEtApplication() {
+        List<Mission> missions = List.of(mission("M1", 0, 0), mission("M2", 50, 0), mission("M3", 100, 0));
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(45, 0, 0));
+        ActifMobile d2 = new DroneReconnaissance("D2", new Point3D(105, 0, 0));
+        ResultatAllocation resultat = new AllocateurMissions().allouer(missions, List.of(d1, d2));
+        assertEquals(List.of(missions.get(0)), resultat.getNonAffectees());
+
+        resultat.appliquer();
+        assertEquals(List.of(d1), missions.get(1).getActifsAssignes());
+        assertSame(missions.get(2).getCible(), d2.getTarget());
+    }
+
+    @Test
+    public void testGrandeInstance() {
+        Random rnd = new Random(11);
+        List<Mission> missions = new ArrayList<>();
+        List<ActifMobile> actifs = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            missions.add(mission("M" + i, rnd.nextDouble() * 1000, rnd.nextDouble() * 1000));
+            actifs.add(drone("D" + i, rnd.nextDouble() * 1000, rnd.nextDouble() * 1000));
+        }
+        ResultatAllocation resultat = new AllocateurMissions().allouer(missions, actifs);
+        int affectees = resultat.getAffectations().size();
+        assertEquals(affectees, resultat.getAffectations().values().stream().distinct().count());
+        assertTrue(affectees > 4900, "Only " + affectees + " missions assigned");
+        assertTrue(resultat.getDureeTotaleNanos() > 0);
+        assertFalse(Collections.disjoint(actifs, resultat.getAffectations().values()));
+        assertFalse(resultat.isBudgetEpuise());
+    }
+
+    @Test
+    public void testBudgetDeTemps() {
+        Random rnd = new Random(11);
+        List<Mission> missions = new ArrayList<>();
+        List<ActifMobile> actifs = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            missions.add(mission("M" + i, rnd.nextDouble() * 1000, rnd.nextDouble() * 1000));
+            actifs.add(drone("D" + i, rnd.nextDouble() * 1000, rnd.nextDouble() * 1000));
+        }
+        AllocateurMissions allocateur = new AllocateurMissions();
+        ResultatAllocation exact = allocateur.allouer(missions, actifs);
+
+        // No time at all: nothing is even listed
+        ResultatAllocation rien = allocateur.allouer(missions, actifs, 0);
+        assertTrue(rien.isBudgetEpuise());
+        assertTrue(rien.getAffectations().isEmpty());
+        assertEquals(missions.size(), rien.getNonAffectees().size());
+
+        // Whatever the budget cuts, the result stays a valid assignment
+        ResultatAllocation partiel = allocateur.allouer(missions, actifs, 2_000_000);
+        int affectees = partiel.getAffectations().size();
+        assertEquals(affectees, partiel.getAffectations().values().stream().distinct().count());
+        assertEquals(missions.size(), affectees + partiel.getNonAffectees().size());
+
+        ResultatAllocation large = allocateur.allouer(missions, actifs, 60_000_000_000L);
+        assertFalse(large.isBudgetEpuise());
+        assertEquals(exact.getCoutTotal(), large.getCoutTotal(), 1e-6);
+        assertThrows(IllegalArgumentException.class, () -> allocateur.allouer(missions, actifs, -1));
+    }
+}
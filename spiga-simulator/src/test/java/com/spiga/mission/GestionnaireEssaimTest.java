@@ -1,11 +1,18 @@
 package com.spiga.mission;
 
+import com.spiga.alerte.BusAlertes;
+import com.spiga.alerte.EmetteurAlertes;
+import com.spiga.core.ActifAerien;
 import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneLogistique;
 import com.spiga.core.DroneReconnaissance;
 import com.spiga.core.EtatOperationnel;
 import com.spiga.core.Point3D;
+import com.spiga.core.TypeAlerte;
+import com.spiga.core.VehiculeTerrestre;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class GestionnaireEssaimTest {
@@ -64,4 +71,165 @@ public class GestionnaireEssaimTest {
         suggested = gestionnaire.suggererActif(120);
         assertNull(suggested);
     }
+
+    @Test
+    public void testIndexSuiventLesChangementsDEtat() {
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(0, 0, 0));
+        ActifMobile d2 = new DroneLogistique("D2", new Point3D(0, 0, 0));
+        ActifMobile c1 = new VehiculeTerrestre("C1", new Point3D(0, 0, 0));
+        gestionnaire.ajouterActif(d1);
+        gestionnaire.ajouterActif(d2);
+        gestionnaire.ajouterActif(c1);
+
+        assertSame(d2, gestionnaire.trouverActif("D2"));
+        assertNull(gestionnaire.trouverActif("X"));
+        assertEquals(3, gestionnaire.compter(EtatOperationnel.AU_SOL));
+
+        d1.setEtat(EtatOperationnel.EN_MISSION);
+        c1.setEtat(EtatOperationnel.EN_PANNE);
+        assertEquals(1, gestionnaire.compter(EtatOperationnel.AU_SOL));
+        assertTrue(gestionnaire.getActifs(EtatOperationnel.EN_MISSION).contains(d1));
+        assertTrue(gestionnaire.getActifs(EtatOperationnel.EN_PANNE).contains(c1));
+        assertEquals("D2", gestionnaire.getActifsDisponibles().get(0).getId());
+
+        assertEquals(2, gestionnaire.getActifs(ActifAerien.class).size());
+        assertEquals(1, gestionnaire.getActifs(VehiculeTerrestre.class).size());
+        assertEquals(3, gestionnaire.getActifs(ActifMobile.class).size());
+
+        assertTrue(gestionnaire.retirerActif(d1));
+        assertFalse(gestionnaire.retirerActif(d1));
+        d1.setEtat(EtatOperationnel.AU_SOL); // No longer tracked
+        assertEquals(1, gestionnaire.compter(EtatOperationnel.AU_SOL));
+        assertEquals(0, gestionnaire.compter(EtatOperationnel.EN_MISSION));
+        assertNull(gestionnaire.trouverActif("D1"));
+        assertEquals(2, gestionnaire.getFlotte().size());
+    }
+
+    @Test
+    public void testIdentifiantEnDouble() {
+        gestionnaire.ajouterActif(new DroneReconnaissance("D1", new Point3D(0, 0, 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> gestionnaire.ajouterActif(new DroneLogistique("D1", new Point3D(0, 0, 0))));
+        assertEquals(1, gestionnaire.getFlotte().size());
+    }
+
+    @Test
+    public void testIndexAvecStockageColonnes() {
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(0, 0, 0));
+        gestionnaire.ajouterActif(d1);
+        gestionnaire.activerStockageColonnes();
+        ActifMobile d2 = new DroneReconnaissance("D2", new Point3D(0, 0, 0));
+        gestionnaire.ajouterActif(d2);
+
+        d2.setEtat(EtatOperationnel.EN_MISSION);
+        assertEquals(1, gestionnaire.compter(EtatOperationnel.EN_MISSION));
+        assertEquals(1, gestionnaire.getStockage().compter(EtatOperationnel.EN_MISSION));
+
+        assertTrue(gestionnaire.retirerActif(d1));
+        assertNull(d1.getStockage());
+        assertEquals(1, gestionnaire.getStockage().taille());
+    }
+
+    @Test
+    public void testSuggestionSuitLAutonomieEtLEtat() {
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(0, 0, 0));
+        ActifMobile d2 = new DroneReconnaissance("D2", new Point3D(0, 0, 0));
+        ActifMobile d3 = new DroneReconnaissance("D3", new Point3D(0, 0, 0));
+        gestionnaire.ajouterActif(d1);
+        gestionnaire.ajouterActif(d2);
+        gestionnaire.ajouterActif(d3);
+        d1.setAutonomieActuelle(40);
+        d2.setAutonomieActuelle(50); // d3 stays full at 60
+
+        // Best fit: least autonomy that is enough
+        assertSame(d1, gestionnaire.suggererActif(30));
+        assertSame(d2, gestionnaire.suggererActif(45));
+        assertEquals(List.of(d3, d2), gestionnaire.getActifsDisponiblesLesPlusAutonomes(2));
+
+        // In mission: no longer available, draining is ignored
+        d1.setEtat(EtatOperationnel.EN_MISSION);
+        d1.setAutonomieActuelle(35);
+        assertSame(d2, gestionnaire.suggererActif(30));
+
+        // Back on the ground with its new autonomy
+        d1.setEtat(EtatOperationnel.AU_SOL);
+        assertSame(d1, gestionnaire.suggererActif(30));
+        d1.recharger(100);
+        assertSame(d2, gestionnaire.suggererActif(30));
+
+        gestionnaire.retirerActif(d3);
+        assertEquals(List.of(d1, d2), gestionnaire.getActifsDisponiblesLesPlusAutonomes(5));
+    }
+
+    @Test
+    public void testPlusProchesParTypeEtEtat() {
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(100, 100, 50));
+        ActifMobile d2 = new DroneLogistique("D2", new Point3D(300, 100, 50));
+        ActifMobile c1 = new VehiculeTerrestre("C1", new Point3D(120, 100, 0));
+        gestionnaire.ajouterActif(d1);
+        gestionnaire.ajouterActif(d2);
+        gestionnaire.ajouterActif(c1);
+        Point3D cible = new Point3D(108, 100, 0);
+
+        assertEquals(List.of(d1, c1, d2), gestionnaire.plusProches(cible, 5, null, null));
+        assertSame(d1, gestionnaire.plusProcheDisponible(cible, ActifAerien.class));
+        assertSame(c1, gestionnaire.plusProcheDisponible(cible, VehiculeTerrestre.class));
+
+        // State filter and moves are followed
+        d1.setEtat(EtatOperationnel.EN_MISSION);
+        assertSame(d2, gestionnaire.plusProcheDisponible(cible, ActifAerien.class));
+        d2.setPosition(new Point3D(900, 900, 50));
+        List<ActifMobile> proches = gestionnaire.dansRayon(cible, 50, null, null);
+        assertEquals(2, proches.size());
+        assertTrue(proches.containsAll(List.of(d1, c1)));
+        assertEquals(List.of(d1), gestionnaire.dansRayon(cible, 50, null, EtatOperationnel.EN_MISSION));
+
+        gestionnaire.retirerActif(c1);
+        c1.setPosition(new Point3D(110, 100, 0));
+        assertNull(gestionnaire.plusProcheDisponible(cible, VehiculeTerrestre.class));
+    }
+
+    @Test
+    public void testRetraitOublieLesAlertesDeLActif() {
+        BusAlertes bus = new BusAlertes(64);
+        GestionnaireEssaim flotte = new GestionnaireEssaim();
+        flotte.setEmetteurAlertes(new EmetteurAlertes(bus));
+        ActifMobile drone = new DroneReconnaissance("D9", new Point3D(0, 0, 50));
+        flotte.ajouterActif(drone);
+        drone.notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
+        drone.notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
+        assertEquals(1, bus.getDedupliquees());
+
+        // Removed then back: its old alerts no longer count as repeats
+        flotte.retirerActif(drone);
+        flotte.ajouterActif(drone);
+        drone.notifierEtatCritique(TypeAlerte.BATTERIE_FAIBLE);
+        assertEquals(2, bus.getPubliees());
+        assertEquals(1, bus.getDedupliquees());
+    }
+
+    @Test
+    public void testRetraitEchangeAvecLeDernier() {
+        GestionnaireEssaim flotte = new GestionnaireEssaim();
+        ActifMobile[] drones = new ActifMobile[4];
+        for (int i = 0; i < drones.length; i++) {
+            drones[i] = new DroneReconnaissance("R" + i, new Point3D(10 * i, 0, 50));
+            flotte.ajouterActif(drones[i]);
+        }
+        flotte.activerStockageColonnes();
+
+        assertTrue(flotte.retirerActif(drones[1]));
+        assertEquals(List.of(drones[0], drones[3], drones[2]), flotte.getFlotte());
+        // Store rows follow the fleet order
+        for (int i = 0; i < 3; i++) {
+            assertSame(flotte.getFlotte().get(i), flotte.getStockage().getActif(i));
+        }
+        assertTrue(flotte.retirerActif(drones[2]));
+        assertTrue(flotte.retirerActif(drones[0]));
+        assertEquals(List.of(drones[3]), flotte.getFlotte());
+        assertFalse(flotte.retirerActif(drones[0]));
+        flotte.ajouterActif(drones[1]);
+        assertTrue(flotte.retirerActif(drones[3]));
+        assertEquals(List.of(drones[1]), flotte.getFlotte());
+    }
 }
@@ -0,0 +1,64 @@
+package com.spiga.mission;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexAutonomieTest {
+
+    private static ActifMobile creer(String id, double autonomie) {
+        ActifMobile actif = new DroneReconnaissance(id, new Point3D(0, 0, 0));
+        actif.setAutonomieActuelle(autonomie);
+        return actif;
+    }
+
+    @Test
+    public void testMeilleurAjustementEtPlusAutonomes() {
+        IndexAutonomie index = new IndexAutonomie();
+        ActifMobile a = creer("A", 30);
+        ActifMobile b = creer("B", 60);
+        ActifMobile c = creer("C", 60);
+        ActifMobile d = creer("D", 90);
+        index.ajouter(a);
+        index.ajouter(b);
+        index.ajouter(c);
+        index.ajouter(d);
+        assertEquals(4, index.taille());
+
+        assertSame(a, index.meilleurAjustement(0));
+        assertSame(b, index.meilleurAjustement(31), "Ties keep insertion order");
+        assertSame(d, index.meilleurAjustement(90));
+        assertNull(index.meilleurAjustement(90.5));
+
+        assertEquals(List.of(d, b, c), index.plusAutonomes(3));
+        assertEquals(4, index.plusAutonomes(10).size());
+        assertTrue(index.plusAutonomes(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.plusAutonomes(-1));
+    }
+
+    @Test
+    public void testDeplacerEtRetirer() {
+        IndexAutonomie index = new IndexAutonomie();
+        ActifMobile a = creer("A", 30);
+        ActifMobile b = creer("B", 60);
+        index.ajouter(a);
+        index.ajouter(b);
+
+        b.setAutonomieActuelle(10);
+        index.deplacer(b, 60);
+        assertSame(b, index.meilleurAjustement(0));
+        assertSame(a, index.meilleurAjustement(11));
+
+        assertFalse(index.retirer(a, 99), "Wrong key must not remove");
+        assertTrue(index.retirer(a, 30));
+        assertNull(index.meilleurAjustement(11));
+        assertEquals(1, index.taille());
+
+        // Unknown assets are ignored
+        index.deplacer(a, 30);
+        assertEquals(1, index.taille());
+    }
+}
@@ -0,0 +1,104 @@
+package com.spiga.simulation;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeTerrestre;
+import com.spiga.env.ZoneOperation;
+import com.spiga.mission.GestionnaireEssaim;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecutionBatchTest {
+
+    @Test
+    public void testPercentile() {
+        long[] tries = new long[100];
+        for (int i = 0; i < tries.length; i++) {
+            tries[i] = i + 1;
+        }
+        assertEquals(50, ExecutionBatch.percentile(tries, 0.50));
+        assertEquals(99, ExecutionBatch.percentile(tries, 0.99));
+        assertEquals(1, ExecutionBatch.percentile(tries, 0));
+        assertEquals(7, ExecutionBatch.percentile(new long[] { 7 }, 0.99));
+    }
+
+    @Test
+    public void testScenarioReproductible() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        GestionnaireEssaim a = new GestionnaireEssaim();
+        GestionnaireEssaim b = new GestionnaireEssaim();
+        ExecutionBatch.peupler(zone, a, 50, 7);
+        ExecutionBatch.peupler(new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000)), b, 50,
+                7);
+        assertEquals(50, a.getFlotte().size());
+        for (int i = 0; i < 50; i++) {
+            ActifMobile x = a.getFlotte().get(i);
+            ActifMobile y = b.getFlotte().get(i);
+            assertEquals(x.getClass(), y.getClass());
+            assertEquals(x.getX(), y.getX());
+            assertEquals(x.getY(), y.getY());
+        }
+        // Every type on its own terrain
+        assertEquals(10, a.getActifs(VehiculeTerrestre.class).size());
+        for (ActifMobile t : a.getActifs(VehiculeTerrestre.class)) {
+            assertTrue(zone.isLand(t.getX(), t.getY()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ExecutionBatch.peupler(zone, a, -1, 7));
+    }
+
+    @Test
+    public void testRapport() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        ExecutionBatch.peupler(zone, gestionnaire, 100, 42);
+        MoteurSimulation moteur = new MoteurSimulation(zone, gestionnaire, 0);
+        moteur.setParallelisme(1);
+
+        RapportBatch rapport = new ExecutionBatch(moteur, 43).executer(5, 20);
+        assertEquals(20, rapport.getTicks());
+        assertEquals(25, moteur.getNumeroTick());
+        // Assets that arrive, collide or are refused by the terrain do not move every tick
+        assertTrue(rapport.getMisesAJour() > 1_000);
+        assertTrue(rapport.getMisesAJour() < 2_000);
+        assertTrue(rapport.getP50() > 0);
+        assertTrue(rapport.getP50() <= rapport.getP99());
+        assertTrue(rapport.getP99() <= rapport.getMax());
+        assertTrue(rapport.getTicksParSeconde() > 0);
+        assertEquals(rapport.getMisesAJour() / 20.0 * rapport.getTicksParSeconde(),
+                rapport.getMisesAJourParSeconde(), 1e-6);
+
+        // Patrolling assets are all under way
+        Map<EtatOperationnel, Integer> parEtat = rapport.compterParEtat();
+        assertEquals(100, parEtat.values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(parEtat.getOrDefault(EtatOperationnel.EN_MISSION, 0) > 50);
+
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        rapport.afficher(new PrintStream(octets, true));
+        String texte = octets.toString();
+        assertTrue(texte.contains("Ticks/s:"));
+        assertTrue(texte.contains("Latence tick p99:"));
+        assertTrue(texte.contains("VehiculeSurface: 20"));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutionBatch(moteur, 1).executer(0, 0));
+    }
+
+    @Test
+    public void testFlotteDansLesBornesDeLaZone() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(200, 250, -200), new Point3D(800, 900, 300));
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        ExecutionBatch.peupler(zone, gestionnaire, 50, 11);
+        for (ActifMobile actif : gestionnaire.getFlotte()) {
+            assertTrue(actif.getX() >= 200 && actif.getX() <= 800, actif.getId() + " x=" + actif.getX());
+            assertTrue(actif.getY() >= 250 && actif.getY() <= 900, actif.getId() + " y=" + actif.getY());
+            assertTrue(actif.getZ() >= -200 && actif.getZ() <= 300, actif.getId() + " z=" + actif.getZ());
+        }
+
+        // Without land, ground vehicles cannot be placed
+        ZoneOperation mer = new ZoneOperation(new Point3D(2000, 2000, -200), new Point3D(2500, 2500, 300));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExecutionBatch.peupler(mer, new GestionnaireEssaim(), 5, 11));
+    }
+}
@@ -0,0 +1,144 @@
+package com.spiga.simulation;
+
+import com.spiga.alerte.BusAlertes;
+import com.spiga.alerte.EvenementAlerte;
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.Point3D;
+import com.spiga.core.TypeAlerte;
+import com.spiga.env.ZoneOperation;
+import com.spiga.mission.GestionnaireEssaim;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoteurSimulationTest {
+
+    private ZoneOperation zone;
+    private GestionnaireEssaim gestionnaire;
+    private ActifMobile drone;
+    private MoteurSimulation moteur;
+
+    @BeforeEach
+    public void setUp() {
+        zone = new ZoneOperation(new Point3D(0, 0, 0), new Point3D(1000, 1000, 1000));
+        gestionnaire = new GestionnaireEssaim();
+        drone = new DroneReconnaissance("D1", new Point3D(100, 100, 50));
+        gestionnaire.ajouterActif(drone);
+        zone.addCollidable(drone);
+        moteur = new MoteurSimulation(zone, gestionnaire, 0);
+    }
+
+    @Test
+    public void testTickDeplaceVersLaCibleEtPublieUnInstantane() {
+        drone.setTarget(new Point3D(400, 100, 50));
+        InstantaneSimulation initial = moteur.getInstantane();
+
+        moteur.tick();
+        InstantaneSimulation apresUnTick = moteur.getInstantane();
+        assertEquals(1, apresUnTick.getNumeroTick());
+        assertEquals(220, apresUnTick.getX(0), 1e-9);
+        assertEquals(1, moteur.getDeplacements());
+        assertEquals(EtatOperationnel.EN_MISSION, apresUnTick.getEtat(0));
+
+        moteur.tick();
+        moteur.tick();
+        // Published snapshots never change afterwards
+        assertEquals(100, initial.getX(0), 1e-9);
+        assertEquals(220, apresUnTick.getX(0), 1e-9);
+
+        // Arrived: target cleared and asset back on the ground
+        assertNull(drone.getTarget());
+        assertEquals(EtatOperationnel.AU_SOL, moteur.getInstantane().getEtat(0));
+        assertEquals(400, moteur.getInstantane().getX(0), 1e-9);
+    }
+
+    @Test
+    public void testActifEnPanneNonCompteCommeDeplace() {
+        drone.setTarget(new Point3D(400, 100, 50));
+        drone.setEtat(EtatOperationnel.EN_PANNE);
+
+        moteur.tick();
+        assertEquals(0, moteur.getDeplacements());
+        assertEquals(100, moteur.getInstantane().getX(0), 1e-9);
+    }
+
+    @Test
+    public void testCommandesExecuteesAuTickSuivant() {
+        ActifMobile d2 = new DroneReconnaissance("D2", new Point3D(500, 500, 50));
+        moteur.soumettre(() -> gestionnaire.ajouterActif(d2));
+        assertEquals(1, gestionnaire.getFlotte().size());
+
+        moteur.tick();
+        assertEquals(2, moteur.getInstantane().taille());
+        assertEquals(1, moteur.getInstantane().indexDe("D2"));
+        assertEquals(-1, moteur.getInstantane().indexDe("X"));
+    }
+
+    @Test
+    public void testBoucleSurSonPropreThread() throws InterruptedException {
+        moteur.setFrequence(200);
+        assertEquals(0.005, moteur.getPasDeTemps(), 1e-9);
+        moteur.demarrer();
+        assertTrue(moteur.isEnMarche());
+        long limite = System.currentTimeMillis() + 5000;
+        while (moteur.getNumeroTick() < 5 && System.currentTimeMillis() < limite) {
+            Thread.sleep(5);
+        }
+        moteur.arreter();
+        assertFalse(moteur.isEnMarche());
+        long ticks = moteur.getNumeroTick();
+        assertTrue(ticks >= 5, "Engine should have ticked, got " + ticks);
+        Thread.sleep(50);
+        assertEquals(ticks, moteur.getNumeroTick());
+    }
+
+    @Test
+    public void testFrequenceInvalide() {
+        assertThrows(IllegalArgumentException.class, () -> moteur.setFrequence(-1));
+    }
+
+    @Test
+    public void testFrequence() {
+        moteur.setFrequence(200);
+        assertEquals(200, moteur.getFrequence(), 1e-6);
+        assertEquals(0.005, moteur.getPasDeTemps(), 1e-9);
+        moteur.setFrequence(5);
+        assertEquals(5, moteur.getFrequence(), 1e-6);
+        moteur.setFrequence(0);
+        assertEquals(0, moteur.getFrequence());
+    }
+
+    @Test
+    public void testDeuxMoteursSurUnBusGardentLeurNumeroDeTick() {
+        BusAlertes bus = new BusAlertes(64);
+        List<EvenementAlerte> recues = new ArrayList<>();
+        bus.abonner(recues::add);
+        MoteurSimulation premier = new MoteurSimulation(zone, gestionnaire, 0, bus);
+        GestionnaireEssaim autreFlotte = new GestionnaireEssaim();
+        ActifMobile autreDrone = new DroneReconnaissance("D2", new Point3D(500, 500, 50));
+        autreFlotte.ajouterActif(autreDrone);
+        MoteurSimulation second = new MoteurSimulation(zone, autreFlotte, 0, bus);
+        assertSame(bus, second.getBusAlertes());
+
+        for (int i = 0; i < 3; i++) {
+            premier.tick();
+        }
+        second.tick();
+        drone.notifierEtatCritique(TypeAlerte.COLLISION_IMMINENTE);
+        autreDrone.notifierEtatCritique(TypeAlerte.COLLISION_IMMINENTE);
+        bus.drainer();
+
+        assertEquals(2, recues.size());
+        assertEquals(3, recues.get(0).getNumeroTick());
+        assertEquals(1, recues.get(1).getNumeroTick());
+
+        // An asset leaving the fleet goes back to the shared bus
+        gestionnaire.retirerActif(drone);
+        drone.notifierEtatCritique(TypeAlerte.SORTIE_ZONE);
+        assertEquals(0, bus.drainer());
+    }
+}
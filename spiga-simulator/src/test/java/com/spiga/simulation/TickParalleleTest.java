@@ -0,0 +1,166 @@
+package com.spiga.simulation;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.DroneLogistique;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.Point3D;
+import com.spiga.core.StockageFlotte;
+import com.spiga.core.VehiculeSousMarin;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.core.VehiculeTerrestre;
+import com.spiga.env.ZoneOperation;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickParalleleTest {
+
+    private static final int TAILLE_FLOTTE = 2000;
+    private static final int TICKS = 25;
+
+    private static ZoneOperation creerZone() {
+        ZoneOperation zone = new ZoneOperation(new Point3D(0, 0, -1000), new Point3D(1000, 1000, 1000));
+        zone.addIsland(new ZoneOperation.Island(300, 300, 150, 150, true));
+        zone.addIsland(new ZoneOperation.Island(650, 200, 200, 120, false));
+        return zone;
+    }
+
+    /**
+     * Builds the same mixed, densely packed fleet for a given seed, so moves
+     * regularly conflict during the commit phase.
+     */
+    private static List<ActifMobile> creerFlotte(ZoneOperation zone, long graine) {
+        Random rnd = new Random(graine);
+        List<ActifMobile> flotte = new ArrayList<>();
+        for (int i = 0; i < TAILLE_FLOTTE; i++) {
+            double x = rnd.nextInt(100) * 10 + 2;
+            double y = rnd.nextInt(100) * 10 + 2;
+            ActifMobile actif;
+            switch (i % 5) {
+                case 0:
+                    actif = new DroneReconnaissance("R" + i, new Point3D(x, y, 50));
+                    break;
+                case 1:
+                    actif = new DroneLogistique("L" + i, new Point3D(x, y, 10));
+                    break;
+                case 2:
+                    actif = new VehiculeSurface("S" + i, new Point3D(x, y, 0));
+                    break;
+                case 3:
+                    actif = new VehiculeSousMarin("M" + i, new Point3D(x, y, -50));
+                    break;
+                default:
+                    actif = new VehiculeTerrestre("T" + i, new Point3D(300 + rnd.nextInt(100) - 50, 300, 0));
+                    break;
+            }
+            actif.setTarget(new Point3D(rnd.nextInt(1000), rnd.nextInt(1000), actif.getPosition().getZ()));
+            flotte.add(actif);
+            zone.addCollidable(actif);
+        }
+        return flotte;
+    }
+
+    private static double[] etat(List<ActifMobile> flotte) {
+        double[] etat = new double[flotte.size() * 5];
+        for (int i = 0; i < flotte.size(); i++) {
+            ActifMobile a = flotte.get(i);
+            etat[i * 5] = a.getPosition().getX();
+            etat[i * 5 + 1] = a.getPosition().getY();
+            etat[i * 5 + 2] = a.getPosition().getZ();
+            etat[i * 5 + 3] = a.getAutonomieActuelle();
+            etat[i * 5 + 4] = a.getEtat().ordinal();
+        }
+        return etat;
+    }
+
+    private static double[] simuler(int parallelisme) {
+        ZoneOperation zone = creerZone();
+        List<ActifMobile> flotte = creerFlotte(zone, 42);
+        TickParallele tick = new TickParallele(parallelisme);
+        try {
+            for (int t = 0; t < TICKS; t++) {
+                tick.executer(flotte, zone, ActifMobile::getTarget, null);
+            }
+        } finally {
+            tick.fermer();
+        }
+        return etat(flotte);
+    }
+
+    @Test
+    public void testResultatIndependantDuNombreDeThreads() {
+        // Reference: the plain sequential loop
+        ZoneOperation zone = creerZone();
+        List<ActifMobile> flotte = creerFlotte(zone, 42);
+        for (int t = 0; t < TICKS; t++) {
+            for (ActifMobile actif : flotte) {
+                actif.deplacer(actif.getTarget(), zone);
+            }
+        }
+        double[] reference = etat(flotte);
+
+        assertArrayEquals(reference, simuler(1));
+        assertArrayEquals(reference, simuler(8));
+        assertArrayEquals(reference, simuler(32));
+    }
+
+    @Test
+    public void testParcoursDesLignesDuStockage() {
+        double[] reference = simuler(8);
+
+        ZoneOperation zone = creerZone();
+        List<ActifMobile> flotte = creerFlotte(zone, 42);
+        StockageFlotte stockage = new StockageFlotte(flotte.size());
+        for (ActifMobile actif : flotte) {
+            stockage.attacher(actif);
+        }
+        TickParallele tick = new TickParallele(8);
+        try {
+            for (int t = 0; t < TICKS; t++) {
+                tick.executer(stockage, zone, ActifMobile::getTarget, null);
+            }
+        } finally {
+            tick.fermer();
+        }
+        assertArrayEquals(reference, etat(flotte));
+    }
+
+    @Test
+    public void testConflitResoluDansLOrdreDeLaFlotte() {
+        ZoneOperation zone = creerZone();
+        // Both drones propose the same free spot; the first in fleet order wins
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(800, 800, 50));
+        ActifMobile d2 = new DroneReconnaissance("D2", new Point3D(800, 900, 50));
+        zone.addCollidable(d1);
+        zone.addCollidable(d2);
+        Point3D rendezVous = new Point3D(800, 850, 50);
+
+        int deplaces = new TickParallele(1).executer(List.of(d1, d2), zone, a -> rendezVous, null);
+
+        assertEquals(1, deplaces, "The move refused by the collision is not counted");
+        assertEquals(850, d1.getPosition().getY(), 1e-9);
+        assertEquals(900, d2.getPosition().getY(), 1e-9);
+        assertEquals(EtatOperationnel.EN_MISSION, d2.getEtat());
+    }
+
+    @Test
+    public void testSansCibleAucunDeplacement() {
+        ZoneOperation zone = creerZone();
+        ActifMobile d1 = new DroneReconnaissance("D1", new Point3D(800, 800, 50));
+        List<ActifMobile> vus = new ArrayList<>();
+
+        assertEquals(0, new TickParallele(4).executer(List.of(d1), zone, a -> null, vus::add));
+
+        assertEquals(800, d1.getPosition().getX(), 1e-9);
+        assertEquals(EtatOperationnel.AU_SOL, d1.getEtat());
+        assertTrue(vus.isEmpty());
+    }
+
+    @Test
+    public void testParallelismeInvalide() {
+        assertThrows(IllegalArgumentException.class, () -> new TickParallele(0));
+    }
+}
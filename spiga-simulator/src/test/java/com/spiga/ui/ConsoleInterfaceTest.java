@@ -0,0 +1,37 @@
+package com.spiga.ui;
+
+import com.spiga.env.ZoneOperation;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsoleInterfaceTest {
+
+    @Test
+    public void testZoneDuBatch() {
+        ZoneOperation parDefaut = ConsoleInterface.creerZoneBatch(1000, 1000, null);
+        assertEquals(2, parDefaut.getIslands().size());
+
+        ZoneOperation zone = ConsoleInterface.creerZoneBatch(5000, 3000, List.of(
+                ConsoleInterface.lireIle("--ile-ronde", "4000,2000,300"),
+                ConsoleInterface.lireIle("--ile", "1000, 1000, 400, 200")));
+        assertEquals(5000, zone.getMaxCoord().getX());
+        assertEquals(3000, zone.getMaxCoord().getY());
+        assertEquals(2, zone.getIslands().size());
+        assertTrue(zone.isLand(4000, 2250));
+        assertTrue(zone.isLand(1150, 1050));
+        assertFalse(zone.isLand(300, 300)); // Default island replaced
+        assertFalse(zone.isLand(1000, 1150));
+
+        assertThrows(IllegalArgumentException.class, () -> ConsoleInterface.lireIle("--ile", "1,2,3"));
+        assertThrows(IllegalArgumentException.class, () -> ConsoleInterface.lireIle("--ile-ronde", "1,2,a"));
+    }
+
+    @Test
+    public void testBatchSurUneZoneDonnee() {
+        assertEquals(0, ConsoleInterface.executerBatch(new String[] { "--batch", "--actifs", "20", "--ticks", "3",
+                "--echauffement", "0", "--threads", "1", "--zone", "2000x2000", "--ile-ronde", "1500,1500,200" }));
+        assertEquals(2, ConsoleInterface.executerBatch(new String[] { "--batch", "--zone", "2000" }));
+        assertEquals(2, ConsoleInterface.executerBatch(new String[] { "--batch", "--zone", "0x100" }));
+    }
+}
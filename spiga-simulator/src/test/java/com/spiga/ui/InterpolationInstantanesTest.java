@@ -0,0 +1,61 @@
+package com.spiga.ui;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.simulation.InstantaneSimulation;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InterpolationInstantanesTest {
+
+    @Test
+    public void testEntreDeuxTicks() {
+        List<ActifMobile> flotte = new ArrayList<>();
+        flotte.add(new VehiculeSurface("S1", new Point3D(100, 100, 0)));
+        flotte.add(new VehiculeSurface("S2", new Point3D(500, 500, 0)));
+        InterpolationInstantanes interpolation = new InterpolationInstantanes();
+
+        // A lone snapshot is shown as is
+        interpolation.recevoir(new InstantaneSimulation(1, 1_000, 0, flotte));
+        interpolation.interpoler(1_000);
+        assertEquals(100, interpolation.getX()[0]);
+        assertFalse(interpolation.enTransition());
+
+        // Next tick 100 ns later: S1 moved by 20 on X
+        flotte.get(0).setPosition(new Point3D(120, 100, 0));
+        interpolation.recevoir(new InstantaneSimulation(2, 1_100, 0, flotte));
+        interpolation.interpoler(1_100);
+        assertEquals(100, interpolation.getX()[0], 1e-9);
+        assertTrue(interpolation.enTransition());
+        interpolation.interpoler(1_125);
+        assertEquals(105, interpolation.getX()[0], 1e-9);
+        assertEquals(100, interpolation.getY()[0], 1e-9);
+        assertEquals(500, interpolation.getX()[1], 1e-9);
+
+        // A full tick later the newest position holds, without extrapolation
+        interpolation.interpoler(1_500);
+        assertEquals(120, interpolation.getX()[0], 1e-9);
+        assertFalse(interpolation.enTransition());
+    }
+
+    @Test
+    public void testLignesDeplaceesOuNouvelles() {
+        List<ActifMobile> flotte = new ArrayList<>();
+        flotte.add(new VehiculeSurface("S1", new Point3D(100, 100, 0)));
+        flotte.add(new VehiculeSurface("S2", new Point3D(500, 500, 0)));
+        InterpolationInstantanes interpolation = new InterpolationInstantanes();
+        interpolation.recevoir(new InstantaneSimulation(1, 0, 0, flotte));
+
+        // S1 leaves, S2 moves to row 0, S3 appears
+        flotte.remove(0);
+        flotte.get(0).setPosition(new Point3D(600, 500, 0));
+        flotte.add(new VehiculeSurface("S3", new Point3D(300, 300, 0)));
+        interpolation.recevoir(new InstantaneSimulation(2, 100, 0, flotte));
+        interpolation.interpoler(150);
+        assertEquals(550, interpolation.getX()[0], 1e-9);
+        assertEquals(300, interpolation.getX()[1], 1e-9);
+    }
+}
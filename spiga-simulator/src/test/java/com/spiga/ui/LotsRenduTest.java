@@ -0,0 +1,109 @@
+package com.spiga.ui;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.CategorieActif;
+import com.spiga.core.DroneReconnaissance;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.core.VehiculeTerrestre;
+import com.spiga.simulation.InstantaneSimulation;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LotsRenduTest {
+
+    @Test
+    public void testCullingEtLotsParType() {
+        List<ActifMobile> flotte = List.of(
+                new DroneReconnaissance("D1", new Point3D(100, 100, 50)),
+                new VehiculeSurface("S1", new Point3D(200, 200, 0)),
+                new VehiculeTerrestre("T1", new Point3D(300, 100, 0)),
+                new VehiculeSurface("S2", new Point3D(900, 900, 0)));
+        InstantaneSimulation instantane = new InstantaneSimulation(1, 0, 0, flotte);
+        LotsRendu lots = new LotsRendu();
+
+        // Viewport over world [0, 500] at 1 pixel per unit: S2 is off screen
+        trier(lots, instantane, 0, 0, 1, 500, 500, 0);
+        assertEquals(3, lots.getVisibles());
+        assertEquals(1, lots.taille(CategorieActif.RECONNAISSANCE));
+        assertEquals(0, lots.lot(CategorieActif.RECONNAISSANCE)[0]);
+        assertEquals(1, lots.taille(CategorieActif.SURFACE));
+        assertEquals(1, lots.lot(CategorieActif.SURFACE)[0]);
+        assertEquals(1, lots.taille(CategorieActif.TERRESTRE));
+        assertEquals(0, lots.getNombreAmas());
+
+        // Panned and zoomed onto S2 only
+        trier(lots, instantane, 800, 800, 4, 500, 500, 0);
+        assertEquals(1, lots.getVisibles());
+        assertEquals(3, lots.lot(CategorieActif.SURFACE)[0]);
+        assertEquals(0, lots.taille(CategorieActif.RECONNAISSANCE));
+    }
+
+    @Test
+    public void testAmasDesZonesDenses() {
+        List<ActifMobile> flotte = new ArrayList<>();
+        // Five boats in one 24-pixel cell, two lone ones
+        for (int i = 0; i < 5; i++) {
+            flotte.add(new VehiculeSurface("S" + i, new Point3D(102 + i, 102 + i, 0)));
+        }
+        flotte.add(new VehiculeSurface("A", new Point3D(400, 400, 0)));
+        flotte.add(new VehiculeSurface("B", new Point3D(405, 402, 0)));
+        InstantaneSimulation instantane = new InstantaneSimulation(1, 0, 0, flotte);
+        LotsRendu lots = new LotsRendu();
+
+        trier(lots, instantane, 0, 0, 1, 500, 500, 24);
+        assertEquals(7, lots.getVisibles());
+        assertEquals(1, lots.getNombreAmas());
+        assertEquals(5, lots.getTailleAmas(0));
+        assertEquals(104, lots.getXAmas(0), 1e-9);
+        assertEquals(104, lots.getYAmas(0), 1e-9);
+        assertEquals(2, lots.taille(CategorieActif.SURFACE));
+
+        // Without clustering every asset is drawn
+        trier(lots, instantane, 0, 0, 1, 500, 500, 0);
+        assertEquals(0, lots.getNombreAmas());
+        assertEquals(7, lots.taille(CategorieActif.SURFACE));
+    }
+
+    @Test
+    public void testGrandeFlotteRegroupee() {
+        Random rnd = new Random(42);
+        List<ActifMobile> flotte = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            Point3D p = new Point3D(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000, 0);
+            flotte.add(i % 2 == 0 ? new VehiculeSurface("S" + i, p) : new DroneReconnaissance("D" + i, p));
+        }
+        InstantaneSimulation instantane = new InstantaneSimulation(1, 0, 0, flotte);
+        LotsRendu lots = new LotsRendu();
+
+        // Default view; the sorting time is measured by LotsRenduBenchmark
+        trier(lots, instantane, 0, 0, 0.9, 900, 900, 24);
+        int individuels = 0;
+        for (CategorieActif c : CategorieActif.values()) {
+            individuels += lots.taille(c);
+        }
+        assertEquals(50_000, lots.getVisibles());
+        // Every visible asset is either in a cluster or in a batch
+        int dansAmas = 0;
+        for (int k = 0; k < lots.getNombreAmas(); k++) {
+            dansAmas += lots.getTailleAmas(k);
+        }
+        assertEquals(50_000, dansAmas + individuels);
+        // One glyph per screen cell at most: far fewer draw calls than assets
+        assertTrue(lots.getNombreAmas() + individuels < 2_000);
+    }
+
+    private static void trier(LotsRendu lots, InstantaneSimulation instantane, double origineX, double origineY,
+            double echelle, double largeur, double hauteur, int tailleAmas) {
+        double[] x = new double[instantane.taille()];
+        double[] y = new double[instantane.taille()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = instantane.getX(i);
+            y[i] = instantane.getY(i);
+        }
+        lots.trier(instantane, x, y, origineX, origineY, echelle, largeur, hauteur, tailleAmas);
+    }
+}
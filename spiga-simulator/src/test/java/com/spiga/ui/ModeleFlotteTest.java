@@ -0,0 +1,98 @@
+package com.spiga.ui;
+
+import com.spiga.core.ActifMobile;
+import com.spiga.core.EtatOperationnel;
+import com.spiga.core.Point3D;
+import com.spiga.core.VehiculeSurface;
+import com.spiga.simulation.InstantaneSimulation;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModeleFlotteTest {
+
+    @Test
+    public void testLignesStablesEtMisesAJourEnPlace() {
+        List<ActifMobile> flotte = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            flotte.add(new VehiculeSurface("S" + i, new Point3D(100 * i, 100, 0)));
+        }
+        ModeleFlotte modele = new ModeleFlotte();
+        assertTrue(modele.synchroniser(new InstantaneSimulation(1, 0, 0, flotte)));
+        assertEquals(3, modele.getLignes().size());
+        LigneActif s1 = modele.ligne("S1");
+        assertEquals("VehiculeSurface", s1.getType());
+        assertEquals(100.0, s1.getAutonomie());
+
+        int[] evenementsListe = new int[1];
+        modele.getLignes().addListener((ListChangeListener<LigneActif>) c -> evenementsListe[0]++);
+        int[] evenementsEtat = new int[1];
+        s1.etatProperty().addListener((o, avant, apres) -> evenementsEtat[0]++);
+
+        // Same tick again: nothing to do
+        assertFalse(modele.synchroniser(new InstantaneSimulation(1, 0, 0, flotte)));
+
+        // Only S1 changes: same row object, one property event, no list event
+        ActifMobile actif = flotte.get(1);
+        actif.setAutonomieActuelle(actif.getAutonomieMax() / 2);
+        actif.setEtat(EtatOperationnel.EN_MISSION);
+        assertTrue(modele.synchroniser(new InstantaneSimulation(2, 0, 0, flotte)));
+        assertSame(s1, modele.ligne("S1"));
+        assertEquals(50.0, s1.getAutonomie());
+        assertEquals(EtatOperationnel.EN_MISSION, s1.getEtat());
+        assertEquals(1, modele.getModifications());
+        assertEquals(1, evenementsEtat[0]);
+        assertEquals(0, evenementsListe[0]);
+
+        // Steady fleet: no change at all
+        modele.synchroniser(new InstantaneSimulation(3, 0, 0, flotte));
+        assertEquals(0, modele.getModifications());
+        assertEquals(0, evenementsListe[0]);
+    }
+
+    @Test
+    public void testArriveesEtDeparts() {
+        List<ActifMobile> flotte = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            flotte.add(new VehiculeSurface("S" + i, new Point3D(100 * i, 100, 0)));
+        }
+        ModeleFlotte modele = new ModeleFlotte();
+        modele.synchroniser(new InstantaneSimulation(1, 0, 0, flotte));
+        LigneActif s3 = modele.ligne("S3");
+
+        flotte.remove(0);
+        flotte.add(new VehiculeSurface("S9", new Point3D(900, 100, 0)));
+        modele.synchroniser(new InstantaneSimulation(2, 0, 0, flotte));
+        assertEquals(4, modele.getLignes().size());
+        assertNull(modele.ligne("S0"));
+        assertSame(s3, modele.ligne("S3"));
+        assertEquals("S9", modele.getLignes().get(3).getId());
+        assertFalse(modele.getLignes().stream().anyMatch(l -> l.getId().equals("S0")));
+    }
+
+    @Test
+    public void testDepartsEnUnSeulEvenement() {
+        List<ActifMobile> flotte = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            flotte.add(new VehiculeSurface("S" + i, new Point3D(50 * i, 100, 0)));
+        }
+        ModeleFlotte modele = new ModeleFlotte();
+        modele.synchroniser(new InstantaneSimulation(1, 0, 0, flotte));
+        int[] evenements = new int[1];
+        modele.getLignes().addListener((ListChangeListener<LigneActif>) c -> evenements[0]++);
+
+        // Four scattered departures
+        flotte.remove(8);
+        flotte.remove(5);
+        flotte.remove(2);
+        flotte.remove(0);
+        modele.synchroniser(new InstantaneSimulation(2, 0, 0, flotte));
+
+        assertEquals(1, evenements[0]);
+        assertEquals(6, modele.getLignes().size());
+        assertEquals("S1", modele.getLignes().get(0).getId());
+        assertNull(modele.ligne("S5"));
+    }
+}